@@ -81,6 +81,7 @@ public TestSuite getWritingTestSuite() {
         suite.setDescription("This suite tests uow/writing performance.");
 
         suite.addTest(new InsertBatchUnitOfWorkComparisonTest());
+        suite.addTest(new EmulatedPipelinedBatchWritingComparisonTest());
 
         return suite;
     }
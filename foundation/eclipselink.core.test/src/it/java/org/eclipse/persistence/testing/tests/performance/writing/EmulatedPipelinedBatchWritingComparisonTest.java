@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.performance.writing;
+
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.framework.PerformanceComparisonTestCase;
+import org.eclipse.persistence.testing.models.performance.Address;
+import org.eclipse.persistence.testing.models.performance.SmallProject;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedDriver;
+
+/**
+ * Compares JDBC batch writing to pipelined batch writing, inserting addresses and projects
+ * (independent tables, so their batches can execute concurrently).
+ * The emulated database adds a latency to each statement execution, so the test measures
+ * the overlap of batch execution, not the database.
+ */
+public class EmulatedPipelinedBatchWritingComparisonTest extends PerformanceComparisonTestCase {
+    /** Emulated database latency in milliseconds. */
+    public static final long LATENCY = 2;
+
+    /** Ids are assigned, as the emulated database does not support sequencing. */
+    protected long nextId = 1;
+
+    public EmulatedPipelinedBatchWritingComparisonTest() {
+        setDescription("Compares JDBC batch writing to pipelined batch writing, with emulated database latency.");
+        addPipelinedBatchWritingTest();
+    }
+
+    @Override
+    public void setup() {
+        Session session = buildEmulatedSession();
+        getExecutor().swapSession(session);
+        EmulatedDriver.latency = LATENCY;
+        getSession().getLogin().cacheAllStatements();
+        getSession().getLogin().useBatchWriting();
+        getSession().getLogin().setMaxBatchWritingSize(10);
+    }
+
+    @Override
+    public void reset() throws Throwable {
+        EmulatedDriver.latency = 0;
+        getSession().getLogin().dontCacheAllStatements();
+        getSession().getLogin().dontUseBatchWriting();
+        getSession().getLogin().setUsesPipelinedBatchWriting(false);
+        getExecutor().resetSession();
+        super.reset();
+    }
+
+    /**
+     * Insert 50 addresses and 50 projects with JDBC batch writing.
+     */
+    @Override
+    public void test() {
+        UnitOfWork uow = getSession().acquireUnitOfWork();
+        for (int index = 0; index < 50; index++) {
+            Address address = new Address();
+            address.setId(this.nextId++);
+            address.setCity("NewCity");
+            address.setStreet("1111 Mountain Blvd. Floor 13, suite " + index);
+            address.setCountry("Canada");
+            uow.registerObject(address);
+            SmallProject project = new SmallProject();
+            project.setId(this.nextId++);
+            project.setName("NewProject " + index);
+            uow.registerObject(project);
+        }
+        uow.commit();
+        getSession().getIdentityMapAccessor().initializeAllIdentityMaps();
+    }
+
+    /**
+     * Insert the objects with pipelined batch writing.
+     */
+    public void addPipelinedBatchWritingTest() {
+        PerformanceComparisonTestCase test = new PerformanceComparisonTestCase() {
+            @Override
+            public void test() {
+                getSession().getLogin().setUsesPipelinedBatchWriting(true);
+                EmulatedPipelinedBatchWritingComparisonTest.this.test();
+                getSession().getLogin().setUsesPipelinedBatchWriting(false);
+            }
+        };
+        test.setName("PipelinedBatchWritingInsertTest");
+        test.setAllowableDecrease(-50);
+        addTest(test);
+    }
+}
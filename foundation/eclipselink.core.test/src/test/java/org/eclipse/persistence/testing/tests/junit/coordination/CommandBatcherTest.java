@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.coordination;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.CommandBatch;
+import org.eclipse.persistence.internal.sessions.coordination.CommandBatcher;
+import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.coordination.TransportManager;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.junit.Test;
+
+public class CommandBatcherTest {
+
+    static final List<Integer> executed = new CopyOnWriteArrayList<>();
+
+    public static class RecordingCommand extends Command {
+        private final int value;
+
+        public RecordingCommand(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public void executeWithSession(AbstractSession session) {
+            executed.add(this.value);
+        }
+    }
+
+    /** Transport that only holds the connections added by the test. */
+    static class LoopbackTransportManager extends TransportManager {
+        LoopbackTransportManager(RemoteCommandManager rcm) {
+            this.rcm = rcm;
+            initialize();
+        }
+
+        @Override
+        public RemoteConnection createConnection(ServiceId serviceId) {
+            return null;
+        }
+
+        @Override
+        public void createLocalConnection() {
+        }
+
+        @Override
+        public void removeLocalConnection() {
+        }
+    }
+
+    /** Connection that delivers commands, serialized like a real transport, to another command manager. */
+    static class LoopbackConnection extends RemoteConnection {
+        final RemoteCommandManager receiver;
+        final List<Command> received = new CopyOnWriteArrayList<>();
+
+        LoopbackConnection(RemoteCommandManager receiver) {
+            this.receiver = receiver;
+            this.serviceId = receiver.getServiceId();
+        }
+
+        @Override
+        public Object executeCommand(Command command) {
+            Command copy = (Command)JavaSerializer.instance.deserialize(JavaSerializer.instance.serialize(command, null), null);
+            this.received.add(copy);
+            this.receiver.processCommandFromRemoteConnection(copy);
+            return null;
+        }
+
+        @Override
+        public Object executeCommand(byte[] command) {
+            Command copy = (Command)JavaSerializer.instance.deserialize(command, null);
+            this.received.add(copy);
+            this.receiver.processCommandFromRemoteConnection(copy);
+            return null;
+        }
+    }
+
+    private static RemoteCommandManager commandManager() {
+        AbstractSession session = (AbstractSession)new Project(new DatabaseLogin()).createDatabaseSession();
+        RemoteCommandManager rcm = new RemoteCommandManager(session);
+        rcm.setTransportManager(new LoopbackTransportManager(rcm));
+        return rcm;
+    }
+
+    @Test
+    public void commandsArePropagatedInBatches() throws Exception {
+        executed.clear();
+        RemoteCommandManager sender = commandManager();
+        RemoteCommandManager receiver = commandManager();
+        LoopbackConnection connection = new LoopbackConnection(receiver);
+        sender.getTransportManager().getConnectionsToExternalServices().put(receiver.getServiceId().getId(), connection);
+        sender.setCommandBatchSize(10);
+        sender.setCommandBatchDelay(1000);
+        sender.setShouldCompressCommandBatches(true);
+
+        for (int index = 0; index < 25; index++) {
+            sender.propagateCommand(new RecordingCommand(index));
+        }
+        CommandBatcher batcher = sender.getCommandBatcher();
+        long deadline = System.currentTimeMillis() + 10000;
+        while ((executed.size() < 25) && (System.currentTimeMillis() < deadline)) {
+            Thread.sleep(10);
+        }
+        sender.shutdown();
+
+        List<Integer> expected = new ArrayList<>();
+        for (int index = 0; index < 25; index++) {
+            expected.add(index);
+        }
+        assertEquals(expected, executed);
+        for (Command command : connection.received) {
+            assertTrue(command instanceof CommandBatch);
+            assertTrue(((CommandBatch)command).isCompressed());
+        }
+        assertTrue(connection.received.size() < 25);
+        assertEquals(25, batcher.getQueuedCommands());
+        assertEquals(25, batcher.getSentCommands());
+        assertEquals(connection.received.size(), batcher.getBatches());
+    }
+
+    @Test
+    public void batchPayloadRoundTrip() {
+        RemoteCommandManager rcm = commandManager();
+        List<byte[]> commands = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            commands.add((byte[])JavaSerializer.instance.serialize(new RecordingCommand(index), null));
+        }
+        for (boolean compress : new boolean[] {false, true}) {
+            CommandBatch batch = CommandBatch.buildBatch(commands, compress);
+            List<Command> result = batch.getCommands(rcm);
+            assertEquals(3, result.size());
+            assertEquals(2, ((RecordingCommand)result.get(2)).value);
+        }
+    }
+
+    /** Batcher that does not start its sender thread so the queued commands can be coalesced by the test. */
+    static class TestBatcher extends CommandBatcher {
+        TestBatcher(RemoteCommandManager rcm) {
+            super(rcm, 10, 0, 10, false);
+        }
+
+        @Override
+        protected void start() {
+        }
+
+        List<byte[]> coalesceQueue() {
+            List<PendingCommand> commands = new ArrayList<>();
+            this.queue.drainTo(commands);
+            return coalesce(commands);
+        }
+    }
+
+    private static MergeChangeSetCommand update(ClassDescriptor descriptor, Object id, String... attributes) {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        ObjectChangeSet objectChanges = new ObjectChangeSet(id, descriptor, null, changeSet, false);
+        for (String attribute : attributes) {
+            DirectToFieldChangeRecord record = new DirectToFieldChangeRecord(objectChanges);
+            record.setAttribute(attribute);
+            objectChanges.addChange(record);
+        }
+        changeSet.getAllChangeSets().put(objectChanges, objectChanges);
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        return command;
+    }
+
+    private static MergeChangeSetCommand delete(ClassDescriptor descriptor, Object id) {
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        ObjectChangeSet objectChanges = new ObjectChangeSet(id, descriptor, null, changeSet, false);
+        changeSet.getDeletedObjects().put(objectChanges, objectChanges);
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        return command;
+    }
+
+    @Test
+    public void supersededChangesAreCoalesced() {
+        ClassDescriptor descriptor = new ClassDescriptor();
+        descriptor.setJavaClass(String.class);
+        TestBatcher batcher = new TestBatcher(commandManager());
+        byte[][] bytes = new byte[6][];
+        for (int index = 0; index < bytes.length; index++) {
+            bytes[index] = new byte[] {(byte)index};
+        }
+        batcher.enqueue(update(descriptor, 1L, "name"), bytes[0]);
+        batcher.enqueue(update(descriptor, 1L, "name", "salary"), bytes[1]);
+        batcher.enqueue(update(descriptor, 1L, "salary"), bytes[2]);
+        batcher.enqueue(update(descriptor, 2L, "name"), bytes[3]);
+        batcher.enqueue(delete(descriptor, 2L), bytes[4]);
+        batcher.enqueue(new RecordingCommand(0), bytes[5]);
+
+        // The first update is superseded by the second, the update of 2 by its deletion;
+        // the second update of 1 still has the last name change.
+        assertEquals(Arrays.asList(bytes[1], bytes[2], bytes[4], bytes[5]), batcher.coalesceQueue());
+
+        // Changes to optimistically locked objects are always sent.
+        descriptor.useVersionLocking("VERSION");
+        batcher.enqueue(update(descriptor, 1L, "name"), bytes[0]);
+        batcher.enqueue(update(descriptor, 1L, "name"), bytes[1]);
+        assertEquals(Arrays.asList(bytes[0], bytes[1]), batcher.coalesceQueue());
+    }
+
+    @Test
+    public void fullQueuePropagatesDirectly() {
+        executed.clear();
+        RemoteCommandManager sender = commandManager();
+        RemoteCommandManager receiver = commandManager();
+        sender.getTransportManager().getConnectionsToExternalServices().put(receiver.getServiceId().getId(), new LoopbackConnection(receiver));
+        TestBatcher batcher = new TestBatcher(sender);
+        batcher.setOfferTimeout(0);
+        for (int index = 0; index < 11; index++) {
+            batcher.enqueue(new RecordingCommand(index), (byte[])JavaSerializer.instance.serialize(new RecordingCommand(index), null));
+        }
+        assertEquals(Collections.singletonList(10), executed);
+        assertEquals(1, batcher.getQueueFullWaits());
+        assertEquals(1, batcher.getDirectCommands());
+        assertEquals(10, batcher.getQueueDepth());
+        assertFalse(batcher.getQueuedCommands() > 10);
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.exceptions.OptimisticLockException;
+import org.eclipse.persistence.internal.databaseaccess.BatchWritingMechanism;
+import org.eclipse.persistence.internal.databaseaccess.BulkUpdateBatchWritingMechanism;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.PipelinedBatchWritingMechanism;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.platform.database.MySQLPlatform;
+import org.eclipse.persistence.queries.DeleteObjectQuery;
+import org.eclipse.persistence.queries.InsertObjectQuery;
+import org.eclipse.persistence.queries.ModifyQuery;
+import org.eclipse.persistence.queries.SQLCall;
+import org.eclipse.persistence.queries.UpdateObjectQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BulkUpdateBatchWritingTest {
+
+    static final String UPDATE = "UPDATE ORDERS SET STATUS = ?, VERSION = ? WHERE ((ID = ?) AND (VERSION = ?))";
+    static final String BULK_UPDATE = "UPDATE ORDERS SET STATUS = CASE ID WHEN ? THEN ? WHEN ? THEN ? END,"
+            + " VERSION = CASE ID WHEN ? THEN ? WHEN ? THEN ? END"
+            + " WHERE (((ID = ?) AND (VERSION = ?))) OR (((ID = ?) AND (VERSION = ?)))";
+
+    static class Order {}
+
+    /** The SQL of each statement execution, and the number of parameters bound. */
+    final List<String> executions = new ArrayList<>();
+
+    /** The number of rows of an update statement not updated, as if their version changed. */
+    int staleRows;
+
+    AbstractSession session;
+    DatabaseAccessor accessor;
+
+    @Before
+    public void setUp() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.setPlatform(new MySQLPlatform());
+        login.useBatchWriting();
+        login.useJDBCBatchWriting();
+        login.setUsesBulkUpdateBatchWriting(true);
+        session = (AbstractSession)new Project(login).createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+
+        // Accessor with a connection emulating a database.
+        Connection connection = (Connection)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class}, (instance, method, args) -> {
+            if (method.getName().equals("prepareStatement")) {
+                return statement((String)args[0]);
+            }
+            return null;
+        });
+        accessor = new DatabaseAccessor(connection) {
+            {
+                setLogin(BulkUpdateBatchWritingTest.this.session.getDatasourceLogin());
+            }
+
+            @Override
+            public synchronized void incrementCallCount(AbstractSession session) {
+                this.callCount++;
+            }
+        };
+        accessor.setDatasourcePlatform((DatabasePlatform)login.getPlatform());
+    }
+
+    /**
+     * Return a statement recording its executions.
+     */
+    PreparedStatement statement(String sql) {
+        int[] state = new int[2];
+        return (PreparedStatement)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {PreparedStatement.class}, (instance, method, args) -> {
+            if (method.getName().startsWith("set") && (args != null) && (args.length > 1)) {
+                // Parameter binding.
+                state[0] = Math.max(state[0], (Integer)args[0]);
+                return null;
+            }
+            switch (method.getName()) {
+                case "addBatch":
+                    state[1]++;
+                    return null;
+                case "executeUpdate":
+                    executions.add(sql + " " + state[0]);
+                    return sql.split(" OR ").length - staleRows;
+                case "executeBatch":
+                    executions.add("batch " + sql + " " + state[1]);
+                    int[] rowCounts = new int[state[1]];
+                    Arrays.fill(rowCounts, 1);
+                    return rowCounts;
+                case "getUpdateCount":
+                    return 0;
+                case "hashCode":
+                    return System.identityHashCode(instance);
+                case "equals":
+                    return instance == args[0];
+                default:
+                    return null;
+            }
+        });
+    }
+
+    SQLCall call(ClassDescriptor descriptor, ModifyQuery query, String sql, Object... values) {
+        query.setDescriptor(descriptor);
+        SQLCall call = new SQLCall(sql);
+        call.setQuery(query);
+        call.setUsesBinding(true);
+        call.returnNothing();
+        call.setHasOptimisticLock(true);
+        call.setParameters(new ArrayList<>(Arrays.asList(values)));
+        return call;
+    }
+
+    ClassDescriptor descriptor() {
+        ClassDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Order.class);
+        descriptor.addTableName("ORDERS");
+        descriptor.addPrimaryKeyFieldName("ORDERS.ID");
+        return descriptor;
+    }
+
+    BatchWritingMechanism mechanism() {
+        BatchWritingMechanism mechanism = accessor.getActiveBatchWritingMechanism(session);
+        assertTrue(mechanism instanceof BulkUpdateBatchWritingMechanism);
+        return mechanism;
+    }
+
+    @Test
+    public void updatesAreExecutedAsBulkUpdates() {
+        BatchWritingMechanism mechanism = mechanism();
+        ClassDescriptor descriptor = descriptor();
+        for (int index = 0; index < 2; index++) {
+            mechanism.appendCall(session, call(descriptor, new UpdateObjectQuery(), UPDATE, "SHIPPED", 2, index, 1));
+        }
+        mechanism.executeBatchedStatements(session);
+        assertEquals(Arrays.asList(BULK_UPDATE + " 12"), executions);
+        assertEquals(0, accessor.getCallCount());
+    }
+
+    @Test
+    public void largeBatchesAreSplitByMaxParameters() {
+        session.getPlatform().setMaxBulkUpdateParameters(12);
+        BatchWritingMechanism mechanism = mechanism();
+        ClassDescriptor descriptor = descriptor();
+        for (int index = 0; index < 5; index++) {
+            mechanism.appendCall(session, call(descriptor, new UpdateObjectQuery(), UPDATE, "SHIPPED", 2, index, 1));
+        }
+        mechanism.executeBatchedStatements(session);
+        assertEquals(Arrays.asList(BULK_UPDATE + " 12", BULK_UPDATE + " 12", UPDATE + " 4"), executions);
+    }
+
+    @Test
+    public void staleRowsRaiseOptimisticLockException() {
+        staleRows = 1;
+        BatchWritingMechanism mechanism = mechanism();
+        ClassDescriptor descriptor = descriptor();
+        for (int index = 0; index < 2; index++) {
+            mechanism.appendCall(session, call(descriptor, new UpdateObjectQuery(new Order()), UPDATE, "SHIPPED", 2, index, 1));
+        }
+        try {
+            mechanism.executeBatchedStatements(session);
+            fail("Expected optimistic lock failure");
+        } catch (OptimisticLockException expected) {
+            assertEquals(OptimisticLockException.STATEMENT_NOT_EXECUTED_IN_BATCH_WITH_PARAMETERS_LIST, expected.getErrorCode());
+        }
+    }
+
+    @Test
+    public void otherStatementsUseJDBCBatches() {
+        BatchWritingMechanism mechanism = mechanism();
+        // The same object updated twice.
+        ClassDescriptor descriptor = descriptor();
+        mechanism.appendCall(session, call(descriptor, new UpdateObjectQuery(), UPDATE, "SHIPPED", 2, 1, 1));
+        mechanism.appendCall(session, call(descriptor, new UpdateObjectQuery(), UPDATE, "DELIVERED", 3, 1, 2));
+        // Composite primary key.
+        ClassDescriptor composite = descriptor();
+        composite.addPrimaryKeyFieldName("ORDERS.REGION");
+        String compositeUpdate = "UPDATE ORDERS SET STATUS = ? WHERE ((ID = ?) AND (REGION = ?))";
+        mechanism.appendCall(session, call(composite, new UpdateObjectQuery(), compositeUpdate, "SHIPPED", 1, 1));
+        mechanism.appendCall(session, call(composite, new UpdateObjectQuery(), compositeUpdate, "SHIPPED", 2, 1));
+        // Not an update.
+        String insert = "INSERT INTO ORDERS (ID, STATUS) VALUES (?, ?)";
+        mechanism.appendCall(session, call(descriptor, new InsertObjectQuery(), insert, 1, "NEW"));
+        mechanism.appendCall(session, call(descriptor, new InsertObjectQuery(), insert, 2, "NEW"));
+        mechanism.executeBatchedStatements(session);
+        assertEquals(Arrays.asList("batch " + UPDATE + " 2", "batch " + compositeUpdate + " 2", "batch " + insert + " 2"), executions);
+    }
+
+    @Test
+    public void combinedModesCompose() {
+        session.getPlatform().setUsesMultiRowInsertBatchWriting(true);
+        session.getPlatform().setUsesPipelinedBatchWriting(true);
+        BatchWritingMechanism mechanism = mechanism();
+        assertTrue(mechanism instanceof PipelinedBatchWritingMechanism);
+        ClassDescriptor descriptor = descriptor();
+        String insert = "INSERT INTO ORDERS (ID, STATUS) VALUES (?, ?)";
+        String delete = "DELETE FROM ORDERS WHERE (ID = ?)";
+        for (int index = 0; index < 2; index++) {
+            mechanism.appendCall(session, call(descriptor, new InsertObjectQuery(), insert, index, "NEW"));
+        }
+        for (int index = 0; index < 2; index++) {
+            mechanism.appendCall(session, call(descriptor, new UpdateObjectQuery(), UPDATE, "SHIPPED", 2, index, 1));
+        }
+        for (int index = 0; index < 2; index++) {
+            mechanism.appendCall(session, call(descriptor, new DeleteObjectQuery(), delete, index));
+        }
+        mechanism.executeBatchedStatements(session);
+        // Multi-row inserts, bulk updates, and the other batches pipelined.
+        assertEquals(Arrays.asList(insert + ", (?, ?) 4", BULK_UPDATE + " 12", "batch " + delete + " 2"), executions);
+        assertTrue(((PipelinedBatchWritingMechanism)mechanism).getPendingBatches().isEmpty());
+
+        // Without bulk updates, the updates are pipelined.
+        executions.clear();
+        session.getPlatform().setUsesBulkUpdateBatchWriting(false);
+        mechanism = accessor.getActiveBatchWritingMechanism(session);
+        for (int index = 0; index < 2; index++) {
+            mechanism.appendCall(session, call(descriptor, new UpdateObjectQuery(), UPDATE, "SHIPPED", 2, index, 1));
+        }
+        mechanism.executeBatchedStatements(session);
+        assertEquals(Arrays.asList("batch " + UPDATE + " 2"), executions);
+    }
+}
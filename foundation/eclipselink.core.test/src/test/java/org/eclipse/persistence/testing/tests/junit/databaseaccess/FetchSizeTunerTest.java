@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.FetchSizeTuner;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.platform.database.OraclePlatform;
+import org.eclipse.persistence.queries.SQLCall;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Test;
+
+public class FetchSizeTunerTest {
+
+    static final String SELECT = "SELECT ID, STATUS FROM ORDERS WHERE (CUSTOMER_ID = ?)";
+
+    @Test
+    public void fetchSizeFollowsTheTypicalResult() {
+        FetchSizeTuner tuner = new FetchSizeTuner();
+        assertEquals(0, tuner.getFetchSize(SELECT, 2));
+        tuner.record(SELECT, 500);
+        assertEquals(501, tuner.getFetchSize(SELECT, 2));
+        // Smaller results move the average down.
+        for (int index = 0; index < 40; index++) {
+            tuner.record(SELECT, 100);
+        }
+        assertEquals(101, tuner.getFetchSize(SELECT, 2));
+        FetchSizeTuner.Statistics statistics = tuner.getStatistics(SELECT);
+        assertEquals(41, statistics.getExecutions());
+        assertEquals(500, statistics.getMaxRows());
+        assertEquals(100, statistics.getAverageRows());
+    }
+
+    @Test
+    public void smallResultsKeepTheDriverDefault() {
+        FetchSizeTuner tuner = new FetchSizeTuner();
+        tuner.record(SELECT, 3);
+        assertEquals(0, tuner.getFetchSize(SELECT, 2));
+        tuner.record(SELECT, 0);
+        assertEquals(0, tuner.getFetchSize(SELECT, 2));
+    }
+
+    @Test
+    public void fetchSizeIsBoundedByTheMemoryBudget() {
+        FetchSizeTuner tuner = new FetchSizeTuner(64 * 1024, 10);
+        tuner.record(SELECT, 100000);
+        // 64KB of 4 columns of 64 bytes.
+        assertEquals(256, tuner.getFetchSize(SELECT, 4));
+        // Unknown columns are estimated.
+        assertEquals(64, tuner.getFetchSize(SELECT, 0));
+        // Never less than the minimum tuned fetch size.
+        assertEquals(FetchSizeTuner.MIN_TUNED_FETCH_SIZE, tuner.getFetchSize(SELECT, 1000));
+    }
+
+    @Test
+    public void learnedStatementsAreBounded() {
+        FetchSizeTuner tuner = new FetchSizeTuner(FetchSizeTuner.DEFAULT_MEMORY_BUDGET, 2);
+        tuner.record("SELECT 1", 50);
+        tuner.record("SELECT 2", 50);
+        tuner.record("SELECT 3", 50);
+        tuner.record("SELECT 1", 50);
+        assertEquals(2, tuner.getStatementCount());
+        assertNull(tuner.getStatistics("SELECT 3"));
+        assertEquals(2, tuner.getStatistics("SELECT 1").getExecutions());
+    }
+
+    @Test
+    public void platformCreatesTheTunerWhenEnabled() {
+        OraclePlatform platform = new OraclePlatform();
+        assertNull(platform.getFetchSizeTuner());
+        platform.setUsesFetchSizeAutotuning(true);
+        platform.setFetchSizeAutotuningMemoryBudget(1024 * 1024);
+        FetchSizeTuner tuner = platform.getFetchSizeTuner();
+        assertNotNull(tuner);
+        assertSame(tuner, platform.getFetchSizeTuner());
+        assertEquals(1024 * 1024, tuner.getMemoryBudget());
+        OraclePlatform copy = new OraclePlatform();
+        platform.copyInto(copy);
+        assertEquals(true, copy.usesFetchSizeAutotuning());
+        assertEquals(1024 * 1024, copy.getFetchSizeAutotuningMemoryBudget());
+    }
+
+    @Test
+    public void tunedFetchSizeIsResetOnCachedStatements() throws Exception {
+        DatabaseLogin login = new DatabaseLogin();
+        login.cacheAllStatements();
+        login.bindAllParameters();
+        DatabasePlatform platform = (DatabasePlatform)login.getPlatform();
+        platform.setUsesFetchSizeAutotuning(true);
+        platform.getFetchSizeTuner().record(SELECT, 500);
+        AbstractSession session = (AbstractSession)new Project(login).createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+        // Accessor that is not connected to a database.
+        DatabaseAccessor accessor = new DatabaseAccessor() {
+            @Override
+            public synchronized void incrementCallCount(AbstractSession session) {
+                this.callCount++;
+            }
+        };
+        accessor.setDatasourcePlatform(platform);
+        List<Integer> fetchSizes = new ArrayList<>();
+        PreparedStatement statement = (PreparedStatement)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {PreparedStatement.class}, (instance, method, args) -> {
+            if (method.getName().equals("setFetchSize")) {
+                fetchSizes.add((Integer)args[0]);
+            } else if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(instance);
+            } else if (method.getName().equals("equals")) {
+                return instance == args[0];
+            }
+            return null;
+        });
+        accessor.incrementCallCount(session);
+        accessor.releaseStatement(statement, SELECT, null, session);
+
+        SQLCall call = new SQLCall(SELECT);
+        assertSame(statement, call.prepareStatement(accessor, null, session));
+        assertTrue(call.isResultSetFetchSizeTuned());
+        accessor.incrementCallCount(session);
+        accessor.releaseStatement(statement, SELECT, call, session);
+        assertEquals(List.of(501, 0), fetchSizes);
+
+        // The cached statement is reused without a tuned fetch size, and keeps the driver default.
+        platform.getFetchSizeTuner().clear();
+        SQLCall next = new SQLCall(SELECT);
+        assertSame(statement, next.prepareStatement(accessor, null, session));
+        assertFalse(next.isResultSetFetchSizeTuned());
+        accessor.incrementCallCount(session);
+        accessor.releaseStatement(statement, SELECT, next, session);
+        assertEquals(List.of(501, 0), fetchSizes);
+    }
+}
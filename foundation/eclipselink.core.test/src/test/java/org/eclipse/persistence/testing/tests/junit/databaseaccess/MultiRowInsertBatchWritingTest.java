@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.ReturningPolicy;
+import org.eclipse.persistence.internal.databaseaccess.BatchWritingMechanism;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.MultiRowInsertBatchWritingMechanism;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.platform.database.MySQLPlatform;
+import org.eclipse.persistence.queries.DataModifyQuery;
+import org.eclipse.persistence.queries.InsertObjectQuery;
+import org.eclipse.persistence.queries.ModifyQuery;
+import org.eclipse.persistence.queries.SQLCall;
+import org.eclipse.persistence.sequencing.NativeSequence;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MultiRowInsertBatchWritingTest {
+
+    static final String INSERT = "INSERT INTO ORDERS (ID, TOTAL) VALUES (?, ?)";
+
+    static class Order {}
+
+    /** The SQL of each statement execution, and the number of parameters bound. */
+    final List<String> executions = new ArrayList<>();
+
+    AbstractSession session;
+    DatabaseAccessor accessor;
+
+    @Before
+    public void setUp() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.setPlatform(new MySQLPlatform());
+        login.useBatchWriting();
+        login.useJDBCBatchWriting();
+        login.setUsesMultiRowInsertBatchWriting(true);
+        session = (AbstractSession)new Project(login).createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+
+        // Accessor with a connection emulating a database.
+        Connection connection = (Connection)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class}, (instance, method, args) -> {
+            if (method.getName().equals("prepareStatement")) {
+                return statement((String)args[0]);
+            }
+            return null;
+        });
+        accessor = new DatabaseAccessor(connection) {
+            {
+                setLogin(MultiRowInsertBatchWritingTest.this.session.getDatasourceLogin());
+            }
+
+            @Override
+            public synchronized void incrementCallCount(AbstractSession session) {
+                this.callCount++;
+            }
+        };
+        accessor.setDatasourcePlatform((DatabasePlatform)login.getPlatform());
+    }
+
+    /**
+     * Return a statement recording its executions.
+     */
+    PreparedStatement statement(String sql) {
+        int[] state = new int[2];
+        return (PreparedStatement)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {PreparedStatement.class}, (instance, method, args) -> {
+            if (method.getName().startsWith("set") && (args != null) && (args.length > 1)) {
+                // Parameter binding.
+                state[0] = Math.max(state[0], (Integer)args[0]);
+                return null;
+            }
+            switch (method.getName()) {
+                case "addBatch":
+                    state[1]++;
+                    return null;
+                case "executeUpdate":
+                    executions.add(sql + " " + state[0]);
+                    return 1;
+                case "executeBatch":
+                    executions.add("batch " + sql + " " + state[1]);
+                    int[] rowCounts = new int[state[1]];
+                    Arrays.fill(rowCounts, 1);
+                    return rowCounts;
+                case "getUpdateCount":
+                    return 0;
+                case "hashCode":
+                    return System.identityHashCode(instance);
+                case "equals":
+                    return instance == args[0];
+                default:
+                    return null;
+            }
+        });
+    }
+
+    SQLCall call(ClassDescriptor descriptor, String sql, Object... values) {
+        ModifyQuery query = new InsertObjectQuery();
+        if (descriptor == null) {
+            query = new DataModifyQuery();
+        } else {
+            query.setDescriptor(descriptor);
+        }
+        SQLCall call = new SQLCall(sql);
+        call.setQuery(query);
+        call.setUsesBinding(true);
+        call.returnNothing();
+        call.setParameters(new ArrayList<>(Arrays.asList(values)));
+        return call;
+    }
+
+    ClassDescriptor descriptor() {
+        ClassDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Order.class);
+        return descriptor;
+    }
+
+    BatchWritingMechanism mechanism() {
+        BatchWritingMechanism mechanism = accessor.getActiveBatchWritingMechanism(session);
+        assertTrue(mechanism instanceof MultiRowInsertBatchWritingMechanism);
+        return mechanism;
+    }
+
+    @Test
+    public void insertsAreExecutedAsMultiRowInserts() {
+        BatchWritingMechanism mechanism = mechanism();
+        ClassDescriptor descriptor = descriptor();
+        for (int index = 0; index < 3; index++) {
+            mechanism.appendCall(session, call(descriptor, INSERT, index, 10));
+        }
+        mechanism.executeBatchedStatements(session);
+        assertEquals(Arrays.asList(INSERT + ", (?, ?), (?, ?) 6"), executions);
+        assertEquals(0, accessor.getCallCount());
+    }
+
+    @Test
+    public void largeBatchesAreSplitByMaxParameters() {
+        session.getPlatform().setMaxMultiRowInsertParameters(4);
+        BatchWritingMechanism mechanism = mechanism();
+        ClassDescriptor descriptor = descriptor();
+        for (int index = 0; index < 5; index++) {
+            mechanism.appendCall(session, call(descriptor, INSERT, index, 10));
+        }
+        mechanism.executeBatchedStatements(session);
+        assertEquals(Arrays.asList(INSERT + ", (?, ?) 4", INSERT + ", (?, ?) 4", INSERT + " 2"), executions);
+    }
+
+    @Test
+    public void otherStatementsUseJDBCBatches() {
+        BatchWritingMechanism mechanism = mechanism();
+        // Values are read back after the insert.
+        ClassDescriptor returning = descriptor();
+        returning.setReturningPolicy(new ReturningPolicy());
+        mechanism.appendCall(session, call(returning, INSERT, 1, 10));
+        mechanism.appendCall(session, call(returning, INSERT, 2, 10));
+        // Identity sequencing.
+        ClassDescriptor identity = descriptor();
+        identity.setSequenceNumberName("ORDER_SEQ");
+        identity.setSequenceNumberFieldName("ORDERS.ID");
+        identity.setSequence(new NativeSequence("ORDER_SEQ") {
+            @Override
+            public boolean shouldAcquireValueAfterInsert() {
+                return true;
+            }
+        });
+        String identityInsert = "INSERT INTO ORDERS (TOTAL) VALUES (?)";
+        mechanism.appendCall(session, call(identity, identityInsert, 10));
+        mechanism.appendCall(session, call(identity, identityInsert, 10));
+        // Not an insert.
+        String update = "UPDATE ORDERS SET TOTAL = ? WHERE (ID = ?)";
+        mechanism.appendCall(session, call(null, update, 10, 1));
+        mechanism.appendCall(session, call(null, update, 10, 2));
+        mechanism.executeBatchedStatements(session);
+        assertEquals(Arrays.asList("batch " + INSERT + " 2", "batch " + identityInsert + " 2", "batch " + update + " 2"), executions);
+    }
+}
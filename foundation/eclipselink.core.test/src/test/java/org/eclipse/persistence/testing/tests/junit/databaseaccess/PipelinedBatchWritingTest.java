@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.BatchWritingMechanism;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.PipelinedBatchWritingMechanism;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.queries.InsertObjectQuery;
+import org.eclipse.persistence.queries.SQLCall;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PipelinedBatchWritingTest {
+
+    static class Order {}
+    static class OrderLine {}
+    static class Customer {}
+
+    /** The start and end of each batch execution, by SQL. */
+    final List<String> events = Collections.synchronizedList(new ArrayList<>());
+    final AtomicInteger executing = new AtomicInteger();
+    final AtomicInteger maxExecuting = new AtomicInteger();
+    final Set<String> failingSQL = Collections.synchronizedSet(new HashSet<>());
+
+    AbstractSession session;
+    DatabaseAccessor accessor;
+
+    @Before
+    public void setUp() {
+        DatabaseLogin login = new DatabaseLogin();
+        login.useBatchWriting();
+        login.useJDBCBatchWriting();
+        login.setUsesPipelinedBatchWriting(true);
+        session = (AbstractSession)new Project(login).createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+        // Order lines reference orders, customers are independent.
+        Map<Class<?>, Set<Class<?>>> dependencies = new HashMap<>();
+        dependencies.put(Order.class, new HashSet<>(Arrays.asList(OrderLine.class)));
+        dependencies.put(OrderLine.class, new HashSet<>(Arrays.asList(Order.class)));
+        dependencies.put(Customer.class, new HashSet<>());
+        session.getCommitManager().setCommitOrderDependencies(dependencies);
+
+        // Accessor with a connection emulating a database.
+        Connection connection = (Connection)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class}, (instance, method, args) -> {
+            if (method.getName().equals("prepareStatement")) {
+                return statement((String)args[0]);
+            }
+            return null;
+        });
+        accessor = new DatabaseAccessor(connection) {
+            {
+                setLogin(PipelinedBatchWritingTest.this.session.getDatasourceLogin());
+            }
+
+            @Override
+            public synchronized void incrementCallCount(AbstractSession session) {
+                this.callCount++;
+            }
+        };
+        accessor.setDatasourcePlatform((DatabasePlatform)login.getPlatform());
+    }
+
+    /**
+     * Return a statement that takes some time to execute its batch, recording its execution.
+     */
+    PreparedStatement statement(String sql) {
+        int[] batchSize = new int[1];
+        return (PreparedStatement)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {PreparedStatement.class}, (instance, method, args) -> {
+            switch (method.getName()) {
+                case "addBatch":
+                    batchSize[0]++;
+                    return null;
+                case "executeBatch":
+                    events.add("start " + sql);
+                    maxExecuting.accumulateAndGet(executing.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(100);
+                    } finally {
+                        executing.decrementAndGet();
+                    }
+                    events.add("end " + sql);
+                    if (failingSQL.contains(sql)) {
+                        throw new SQLException("failed");
+                    }
+                    int[] rowCounts = new int[batchSize[0]];
+                    Arrays.fill(rowCounts, 1);
+                    return rowCounts;
+                case "getUpdateCount":
+                    return 0;
+                case "hashCode":
+                    return System.identityHashCode(instance);
+                case "equals":
+                    return instance == args[0];
+                default:
+                    return null;
+            }
+        });
+    }
+
+    SQLCall call(Class<?> type, String sql, Object value) {
+        ClassDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(type);
+        InsertObjectQuery query = new InsertObjectQuery();
+        query.setDescriptor(descriptor);
+        SQLCall call = new SQLCall(sql);
+        call.setQuery(query);
+        call.setUsesBinding(true);
+        call.setParameters(new ArrayList<>(Arrays.asList(value)));
+        return call;
+    }
+
+    BatchWritingMechanism mechanism() {
+        BatchWritingMechanism mechanism = accessor.getActiveBatchWritingMechanism(session);
+        assertTrue(mechanism instanceof PipelinedBatchWritingMechanism);
+        return mechanism;
+    }
+
+    @Test
+    public void independentBatchesExecuteConcurrently() {
+        BatchWritingMechanism mechanism = mechanism();
+        mechanism.appendCall(session, call(Order.class, "INSERT INTO ORDERS VALUES (?)", 1));
+        mechanism.appendCall(session, call(Order.class, "INSERT INTO ORDERS VALUES (?)", 2));
+        mechanism.appendCall(session, call(Customer.class, "INSERT INTO CUSTOMER VALUES (?)", 1));
+        mechanism.appendCall(session, call(Customer.class, "INSERT INTO CUSTOMER VALUES (?)", 2));
+        mechanism.executeBatchedStatements(session);
+        assertEquals(4, events.size());
+        assertEquals(2, maxExecuting.get());
+        assertTrue(((PipelinedBatchWritingMechanism)mechanism).getPendingBatches().isEmpty());
+        assertEquals(0, accessor.getCallCount());
+    }
+
+    @Test
+    public void dependentBatchesExecuteInOrder() {
+        BatchWritingMechanism mechanism = mechanism();
+        mechanism.appendCall(session, call(Order.class, "INSERT INTO ORDERS VALUES (?)", 1));
+        mechanism.appendCall(session, call(OrderLine.class, "INSERT INTO ORDER_LINE VALUES (?)", 1));
+        mechanism.appendCall(session, call(Order.class, "UPDATE ORDERS SET TOTAL = ?", 1));
+        mechanism.executeBatchedStatements(session);
+        assertEquals(Arrays.asList(
+                "start INSERT INTO ORDERS VALUES (?)", "end INSERT INTO ORDERS VALUES (?)",
+                "start INSERT INTO ORDER_LINE VALUES (?)", "end INSERT INTO ORDER_LINE VALUES (?)",
+                "start UPDATE ORDERS SET TOTAL = ?", "end UPDATE ORDERS SET TOTAL = ?"), events);
+        assertEquals(1, maxExecuting.get());
+        assertEquals(0, accessor.getCallCount());
+    }
+
+    @Test
+    public void failuresAreRaisedAndSkipDependentBatches() {
+        failingSQL.add("INSERT INTO ORDERS VALUES (?)");
+        BatchWritingMechanism mechanism = mechanism();
+        mechanism.appendCall(session, call(Order.class, "INSERT INTO ORDERS VALUES (?)", 1));
+        mechanism.appendCall(session, call(OrderLine.class, "INSERT INTO ORDER_LINE VALUES (?)", 1));
+        mechanism.appendCall(session, call(Customer.class, "INSERT INTO CUSTOMER VALUES (?)", 1));
+        try {
+            mechanism.executeBatchedStatements(session);
+            fail("Expected batch failure");
+        } catch (DatabaseException expected) {
+            assertEquals("failed", expected.getInternalException().getMessage());
+        }
+        assertFalse(events.contains("start INSERT INTO ORDER_LINE VALUES (?)"));
+        assertTrue(events.contains("end INSERT INTO CUSTOMER VALUES (?)"));
+        assertTrue(((PipelinedBatchWritingMechanism)mechanism).getPendingBatches().isEmpty());
+        assertEquals(0, accessor.getCallCount());
+    }
+}
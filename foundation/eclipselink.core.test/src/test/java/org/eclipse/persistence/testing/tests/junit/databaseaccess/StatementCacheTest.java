@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.StatementCache;
+import org.eclipse.persistence.internal.databaseaccess.StatementCache.Key;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.queries.SQLCall;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Test;
+
+public class StatementCacheTest {
+
+    /** Statements that record being closed. */
+    static final Set<Statement> closed = new HashSet<>();
+
+    static PreparedStatement statement(Class<? extends PreparedStatement> type) {
+        Object[] proxy = new Object[1];
+        proxy[0] = Proxy.newProxyInstance(StatementCacheTest.class.getClassLoader(), new Class<?>[] {type}, (instance, method, args) -> {
+            if (method.getName().equals("close")) {
+                closed.add((Statement)proxy[0]);
+            } else if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(instance);
+            } else if (method.getName().equals("equals")) {
+                return instance == args[0];
+            }
+            return null;
+        });
+        return (PreparedStatement)proxy[0];
+    }
+
+    static PreparedStatement statement() {
+        return statement(PreparedStatement.class);
+    }
+
+    @Test
+    public void leastRecentlyUsedIsEvicted() {
+        StatementCache cache = new StatementCache(StatementCache.LRU);
+        Statement[] statements = new Statement[3];
+        for (int index = 0; index < 3; index++) {
+            Key key = StatementCache.buildKey("SELECT " + index, false);
+            assertNull(cache.acquire(key));
+            statements[index] = statement();
+            assertNull(cache.release(key, statements[index], 3, 0));
+        }
+        // Use the first statement, so the second is the least recently used.
+        Key first = StatementCache.buildKey("SELECT 0", false);
+        assertSame(statements[0], cache.acquire(first));
+        assertNull(cache.release(first, statements[0], 3, 0));
+
+        Key key = StatementCache.buildKey("SELECT 3", false);
+        assertNull(cache.acquire(key));
+        assertSame(statements[1], cache.release(key, statement(), 3, 0));
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getHits());
+        assertEquals(4, cache.getMisses());
+        assertEquals(1, cache.getEvictions());
+        assertEquals(0.2, cache.getHitRate(), 0.0001);
+        assertEquals(1, cache.getStatistics("SELECT 1").getEvictions());
+        assertEquals(1, cache.getStatistics("SELECT 0").getHits());
+    }
+
+    @Test
+    public void frequentlyUsedStatementsAreKept() {
+        StatementCache cache = new StatementCache(StatementCache.LFU);
+        Key hot = StatementCache.buildKey("SELECT HOT", false);
+        Statement hotStatement = statement();
+        cache.acquire(hot);
+        cache.release(hot, hotStatement, 2, 0);
+        for (int index = 0; index < 10; index++) {
+            assertSame(hotStatement, cache.acquire(hot));
+            cache.release(hot, hotStatement, 2, 0);
+        }
+        // A scan of statements used once never evicts the frequently used statement.
+        for (int index = 0; index < 100; index++) {
+            Key key = StatementCache.buildKey("SELECT " + index, false);
+            cache.acquire(key);
+            Statement evicted = cache.release(key, statement(), 2, 0);
+            assertNotEquals(hotStatement, evicted);
+        }
+        assertSame(hotStatement, cache.acquire(hot));
+        assertEquals(StatementCache.LFU, cache.getPolicy());
+        assertEquals(11, cache.getStatistics("SELECT HOT").getHits());
+        assertEquals("SELECT HOT", cache.getStatistics().get(0).getSQLString());
+    }
+
+    @Test
+    public void hotStatementsArePinned() {
+        StatementCache cache = new StatementCache(StatementCache.LRU);
+        Key hot = StatementCache.buildKey("SELECT HOT", false);
+        Statement hotStatement = statement();
+        cache.acquire(hot);
+        cache.release(hot, hotStatement, 4, 1);
+        for (int index = 0; index < 3; index++) {
+            cache.acquire(hot);
+            cache.release(hot, hotStatement, 4, 1);
+        }
+        assertTrue(cache.isPinned("SELECT HOT"));
+        for (int index = 0; index < 100; index++) {
+            Key key = StatementCache.buildKey("SELECT " + index, false);
+            cache.acquire(key);
+            assertNotEquals(hotStatement, cache.release(key, statement(), 4, 1));
+        }
+        assertEquals(4, cache.size());
+        assertTrue(cache.isPinned("SELECT HOT"));
+        assertFalse(cache.isPinned("SELECT 99"));
+        assertSame(hotStatement, cache.acquire(hot));
+    }
+
+    @Test
+    public void keysIncludeStatementType() {
+        SQLCall call = new SQLCall("SELECT 1");
+        SQLCall scrollable = new SQLCall("SELECT 1");
+        scrollable.setIsResultSetScrollable(true);
+        scrollable.setResultSetType(ResultSet.TYPE_SCROLL_INSENSITIVE);
+        scrollable.setResultSetConcurrency(ResultSet.CONCUR_READ_ONLY);
+        assertEquals(StatementCache.buildKey(call), StatementCache.buildKey("SELECT 1", false));
+        assertNotEquals(StatementCache.buildKey(call), StatementCache.buildKey(scrollable));
+        assertNotEquals(StatementCache.buildKey("SELECT 1", false), StatementCache.buildKey("SELECT 1", true));
+        assertEquals(StatementCache.buildKey("SELECT 1", true), StatementCache.buildKey("SELECT 1", null, statement(CallableStatement.class)));
+
+        StatementCache cache = new StatementCache(StatementCache.LRU);
+        Statement statement = statement();
+        cache.release(StatementCache.buildKey(call), statement, 10, 0);
+        assertNull(cache.acquire(StatementCache.buildKey(scrollable)));
+        assertSame(statement, cache.get("SELECT 1"));
+        // A second statement for the same key is not cached.
+        Statement duplicate = statement();
+        assertSame(duplicate, cache.release(StatementCache.buildKey(call), duplicate, 10, 0));
+        assertSame(statement, cache.acquire(StatementCache.buildKey(call)));
+    }
+
+    @Test
+    public void accessorClosesEvictedStatements() throws Exception {
+        closed.clear();
+        DatabaseLogin login = new DatabaseLogin();
+        login.cacheAllStatements();
+        login.setStatementCacheSize(2);
+        login.setStatementCachePolicy(StatementCache.LFU);
+        AbstractSession session = (AbstractSession)new Project(login).createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+        // Accessor that is not connected to a database.
+        DatabaseAccessor accessor = new DatabaseAccessor() {
+            @Override
+            public synchronized void incrementCallCount(AbstractSession session) {
+                this.callCount++;
+            }
+        };
+        accessor.setDatasourcePlatform((DatabasePlatform)login.getPlatform());
+
+        PreparedStatement[] statements = new PreparedStatement[3];
+        for (int index = 0; index < 3; index++) {
+            statements[index] = statement();
+            accessor.incrementCallCount(session);
+            accessor.releaseStatement(statements[index], "SELECT " + index, null, session);
+            assertEquals(0, accessor.getCallCount());
+        }
+        assertEquals(StatementCache.LFU, accessor.getCachedStatements().getPolicy());
+        assertEquals(2, accessor.getCachedStatements().size());
+        assertEquals(1, closed.size());
+        assertTrue(closed.contains(statements[0]));
+        assertSame(statements[2], accessor.prepareStatement("SELECT 2", session, false));
+
+        accessor.clearStatementCache(session);
+        assertTrue(closed.contains(statements[1]));
+        assertEquals(0, accessor.getCachedStatements().size());
+        assertEquals(1, accessor.getCachedStatements().getHits());
+    }
+
+    /** Accessor using the statement cache through the protected map based API of its subclasses. */
+    static class MapStatementCacheAccessor extends DatabaseAccessor {
+        @SuppressWarnings("deprecation")
+        Map<String, Statement> statementCache() {
+            return getStatementCache();
+        }
+
+        @SuppressWarnings("deprecation")
+        void statementCache(Hashtable<String, Statement> statements) {
+            setStatementCache(statements);
+        }
+
+        @Override
+        public synchronized void incrementCallCount(AbstractSession session) {
+            this.callCount++;
+        }
+    }
+
+    @Test
+    public void deprecatedMapStatementCache() throws Exception {
+        DatabaseLogin login = new DatabaseLogin();
+        login.cacheAllStatements();
+        AbstractSession session = (AbstractSession)new Project(login).createDatabaseSession();
+        session.setLogLevel(SessionLog.OFF);
+        MapStatementCacheAccessor accessor = new MapStatementCacheAccessor();
+        accessor.setDatasourcePlatform((DatabasePlatform)login.getPlatform());
+        PreparedStatement statement = statement();
+        Hashtable<String, Statement> statements = new Hashtable<>();
+        statements.put("SELECT 1", statement);
+        accessor.statementCache(statements);
+
+        Map<String, Statement> statementCache = accessor.statementCache();
+        assertSame(statement, statementCache.get("SELECT 1"));
+        assertEquals(1, statementCache.size());
+        assertSame(statement, accessor.prepareStatement("SELECT 1", session, false));
+        // The view is backed by the cache.
+        assertNull(statementCache.get("SELECT 1"));
+        accessor.releaseStatement(statement, "SELECT 1", null, session);
+        assertSame(statement, statementCache.get("SELECT 1"));
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.descriptors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.descriptors.GeneratedAttributeAccessor;
+import org.eclipse.persistence.internal.descriptors.GeneratedObjectAccessor;
+import org.eclipse.persistence.internal.descriptors.ObjectAccessorGenerator;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Test;
+
+public class ObjectAccessorGeneratorTest {
+
+    public static class Item {
+        private String name;
+        private int quantity;
+        private long[] sizes;
+        private Object tag;
+        private static String category;
+        private final String code = "A";
+
+        private Item() {
+        }
+    }
+
+    public static class SpecialItem extends Item {
+        private boolean special;
+    }
+
+    public abstract static class AbstractItem {
+        protected char grade;
+    }
+
+    @Test
+    public void accessesDeclaredInstanceVariables() throws Exception {
+        GeneratedObjectAccessor accessor = ObjectAccessorGenerator.getAccessor(Item.class);
+        assertNotNull(accessor);
+        assertSame(accessor, ObjectAccessorGenerator.getAccessor(Item.class));
+        assertTrue(accessor.isInstantiable());
+        // Static and final variables are not accessed.
+        assertEquals(4, accessor.getFields().length);
+        assertEquals(-1, accessor.indexOf(Item.class.getDeclaredField("category")));
+        assertEquals(-1, accessor.indexOf(Item.class.getDeclaredField("code")));
+
+        Item item = (Item)accessor.newInstance();
+        int name = accessor.indexOf(Item.class.getDeclaredField("name"));
+        int quantity = accessor.indexOf(Item.class.getDeclaredField("quantity"));
+        int sizes = accessor.indexOf(Item.class.getDeclaredField("sizes"));
+        int tag = accessor.indexOf(Item.class.getDeclaredField("tag"));
+        accessor.set(item, name, "Bolt");
+        accessor.set(item, quantity, 12);
+        accessor.set(item, sizes, new long[] {3L, 4L});
+        accessor.set(item, tag, 7L);
+        assertEquals("Bolt", item.name);
+        assertEquals(12, item.quantity);
+        assertArrayEquals(new long[] {3L, 4L}, item.sizes);
+        assertEquals("Bolt", accessor.get(item, name));
+        assertEquals(12, accessor.get(item, quantity));
+        assertEquals(7L, accessor.get(item, tag));
+        try {
+            accessor.set(item, quantity, null);
+            fail("Expected null primitive failure");
+        } catch (NullPointerException expected) {
+        }
+        try {
+            accessor.get(item, 4);
+            fail("Expected invalid index failure");
+        } catch (IndexOutOfBoundsException expected) {
+        }
+    }
+
+    @Test
+    public void abstractClassIsNotInstantiable() {
+        GeneratedObjectAccessor accessor = ObjectAccessorGenerator.getAccessor(AbstractItem.class);
+        assertFalse(accessor.isInstantiable());
+        assertEquals(1, accessor.getFields().length);
+        assertNull(ObjectAccessorGenerator.getAccessor(Runnable.class));
+    }
+
+    @Test
+    public void descriptorUsesGeneratedAccessors() {
+        Project project = new Project(new DatabaseLogin());
+        ClassDescriptor descriptor = new ClassDescriptor();
+        descriptor.setJavaClass(SpecialItem.class);
+        descriptor.setTableName("ITEM");
+        descriptor.setPrimaryKeyFieldName("NAME");
+        descriptor.addDirectMapping("name", "NAME");
+        descriptor.addDirectMapping("quantity", "QUANTITY");
+        descriptor.addDirectMapping("special", "SPECIAL");
+        descriptor.setUsesGeneratedAccessors(true);
+        project.addDescriptor(descriptor);
+        DatabaseSessionImpl session = (DatabaseSessionImpl)project.createDatabaseSession();
+        session.initializeDescriptors();
+
+        DirectToFieldMapping name = (DirectToFieldMapping)descriptor.getMappingForAttributeName("name");
+        DirectToFieldMapping quantity = (DirectToFieldMapping)descriptor.getMappingForAttributeName("quantity");
+        DirectToFieldMapping special = (DirectToFieldMapping)descriptor.getMappingForAttributeName("special");
+        assertTrue(name.getAttributeAccessor() instanceof GeneratedAttributeAccessor);
+        assertTrue(special.getAttributeAccessor() instanceof GeneratedAttributeAccessor);
+        // The inherited variable is accessed by the accessor of its declaring class.
+        assertSame(ObjectAccessorGenerator.getAccessor(Item.class), ((GeneratedAttributeAccessor)name.getAttributeAccessor()).getObjectAccessor());
+        assertSame(ObjectAccessorGenerator.getAccessor(SpecialItem.class), descriptor.getInstantiationPolicy().getObjectAccessor());
+
+        SpecialItem item = (SpecialItem)descriptor.getObjectBuilder().buildNewInstance();
+        name.setAttributeValueInObject(item, "Nut");
+        special.setAttributeValueInObject(item, Boolean.TRUE);
+        quantity.setAttributeValueInObject(item, 5);
+        assertEquals("Nut", name.getAttributeValueFromObject(item));
+        assertEquals(Boolean.TRUE, special.getAttributeValueFromObject(item));
+        // Null into a primitive and values to convert are handled by reflection, null is ignored.
+        quantity.setAttributeValueInObject(item, null);
+        assertEquals(5, ((Item)item).quantity);
+        quantity.setAttributeValueInObject(item, "9");
+        assertEquals(9, ((Item)item).quantity);
+    }
+
+    @Test
+    public void descriptorUsesReflectionByDefault() {
+        Project project = new Project(new DatabaseLogin());
+        ClassDescriptor descriptor = new ClassDescriptor();
+        descriptor.setJavaClass(SpecialItem.class);
+        descriptor.setTableName("ITEM");
+        descriptor.setPrimaryKeyFieldName("NAME");
+        descriptor.addDirectMapping("name", "NAME");
+        project.addDescriptor(descriptor);
+        DatabaseSessionImpl session = (DatabaseSessionImpl)project.createDatabaseSession();
+        session.initializeDescriptors();
+
+        assertFalse(descriptor.usesGeneratedAccessors());
+        assertFalse(descriptor.getMappingForAttributeName("name").getAttributeAccessor() instanceof GeneratedAttributeAccessor);
+        assertNull(descriptor.getInstantiationPolicy().getObjectAccessor());
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
+import org.junit.Test;
+
+public class ConcurrentFixedCacheTest {
+
+    @Test
+    public void leastFrequentlyUsedEntryIsEvicted() {
+        // The sample covers the whole cache, so the least frequently used entry is evicted.
+        ConcurrentFixedCache cache = new ConcurrentFixedCache(3);
+        cache.put("hot", 1);
+        cache.put("warm", 2);
+        for (int index = 0; index < 5; index++) {
+            cache.get("hot");
+        }
+        cache.get("warm");
+        // Queries used once, as built by concatenating values, only evict each other.
+        for (int index = 0; index < 10; index++) {
+            cache.put("cold" + index, index);
+        }
+        assertEquals(3, cache.size());
+        assertNotNull(cache.get("hot"));
+        assertNotNull(cache.get("warm"));
+        assertNotNull(cache.get("cold9"));
+        assertNull(cache.get("cold0"));
+        assertEquals(9, cache.getEvictions());
+        assertEquals(9, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.9, cache.getHitRate(), 0);
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getEvictions());
+    }
+
+    @Test
+    public void mostMissedKeysAreTracked() {
+        ConcurrentFixedCache cache = new ConcurrentFixedCache(1, true);
+        for (int index = 0; index < 3; index++) {
+            for (String query : new String[] {"a", "b", "c"}) {
+                if (cache.get(query) == null) {
+                    cache.put(query, query);
+                }
+            }
+        }
+        cache.get("c");
+        Map<Object, Integer> mostMissed = cache.getMostMissedKeys(10);
+        // The cached key is not reported.
+        assertEquals(2, mostMissed.size());
+        assertTrue(mostMissed.containsKey("a"));
+        assertTrue(mostMissed.containsKey("b"));
+        assertEquals(3, (int) mostMissed.get("a"));
+        assertEquals(1, cache.getMostMissedKeys(1).size());
+
+        assertTrue(new ConcurrentFixedCache(1).getMostMissedKeys(10).isEmpty());
+    }
+
+    @Test
+    public void zeroSizeDisablesCache() {
+        ConcurrentFixedCache cache = new ConcurrentFixedCache(0);
+        cache.put("a", 1);
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void evictionSamplesAConstantNumberOfEntries() {
+        AtomicInteger lookups = new AtomicInteger();
+        ConcurrentFixedCache cache = new ConcurrentFixedCache(10000) {
+            @Override
+            protected int getFrequency(Object key) {
+                lookups.incrementAndGet();
+                return super.getFrequency(key);
+            }
+        };
+        for (int index = 0; index < 10000; index++) {
+            cache.put("query" + index, index);
+        }
+        cache.get("query0");
+        assertEquals(0, lookups.get());
+        // Once full, each put evicts one entry, sampling at most the sample size entries, not the whole cache.
+        for (int index = 0; index < 1000; index++) {
+            cache.put("other" + index, index);
+        }
+        assertEquals(10000, cache.size());
+        assertEquals(1000, cache.getEvictions());
+        assertTrue(lookups.get() <= (1000 * cache.getSampleSize()));
+        // The most frequently used entry of each sample is kept.
+        assertNotNull(cache.get("query0"));
+    }
+
+    @Test
+    public void concurrentPutsKeepTheSize() throws InterruptedException {
+        ConcurrentFixedCache cache = new ConcurrentFixedCache(100);
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            String prefix = "thread" + thread + "-";
+            threads.add(new Thread(() -> {
+                try {
+                    for (int index = 0; index < 10000; index++) {
+                        cache.put(prefix + index, index);
+                        cache.get(prefix + (index / 2));
+                    }
+                } catch (Throwable failure) {
+                    synchronized (failures) {
+                        failures.add(failure);
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(failures.toString(), failures.isEmpty());
+        // A put does not wait for the eviction of another thread, the evicting thread removes the excess entries.
+        assertTrue(cache.size() <= 100);
+        assertEquals(40000 - cache.size(), cache.getEvictions());
+    }
+}
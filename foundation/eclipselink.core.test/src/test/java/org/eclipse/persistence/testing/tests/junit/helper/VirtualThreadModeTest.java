@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VirtualThreadModeTest {
+
+    private static final int THREADS = 200;
+    private static final int ITERATIONS = 200;
+
+    /** Exposes the lock used in virtual thread mode. */
+    static class TestCacheKey extends CacheKey {
+        TestCacheKey() {
+            super(1L);
+        }
+
+        Object getMonitorLock() {
+            return this.monitorLock;
+        }
+    }
+
+    /** Pool of accessors that are not connected to a database. */
+    static class TestPool extends ConcurrentConnectionPool {
+        TestPool(int max) {
+            super("test", new DatabaseLogin(), 0, max, max, createSession());
+        }
+
+        @Override
+        protected Accessor buildConnection() {
+            DatabaseAccessor connection = new DatabaseAccessor();
+            connection.setPool(this);
+            return connection;
+        }
+    }
+
+    static ServerSession createSession() {
+        ServerSession session = (ServerSession)new Project(new DatabaseLogin()).createServerSession();
+        session.setLogLevel(SessionLog.OFF);
+        return session;
+    }
+
+    @Before
+    public void setUp() {
+        //This kind of setup is for test purpose only. Standard way is via persistence.xml properties or system properties.
+        ConcurrencyUtil.SINGLETON.setVirtualThreadMode(true);
+    }
+
+    @After
+    public void tearDown() {
+        ConcurrencyUtil.SINGLETON.setVirtualThreadMode(false);
+    }
+
+    @Test
+    public void lockModeIsFixedAtCreation() {
+        assertNotNull(new TestCacheKey().getMonitorLock());
+        ConcurrencyUtil.SINGLETON.setVirtualThreadMode(false);
+        assertNull(new TestCacheKey().getMonitorLock());
+    }
+
+    @Test
+    public void waitWhileAcquiredReturnsOnRelease() throws Exception {
+        CacheKey cacheKey = new TestCacheKey();
+        cacheKey.acquire();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> waiting = executor.submit(() -> {
+                cacheKey.waitWhileAcquired(0);
+                return cacheKey.isAcquired();
+            });
+            Thread.sleep(20);
+            assertFalse(waiting.isDone());
+            cacheKey.release();
+            assertFalse(waiting.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void writeLocksAreExclusive() throws Exception {
+        runContended(Executors.newFixedThreadPool(32));
+    }
+
+    /**
+     * Run the cache key and connection pool paths from virtual threads and check no virtual thread
+     * was pinned to its carrier. Only runs on a JVM supporting virtual threads.
+     */
+    @Test
+    public void virtualThreadsAreNotPinned() throws Exception {
+        ExecutorService executor;
+        try {
+            executor = (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException unsupported) {
+            Assume.assumeTrue("Virtual threads are not supported by this JVM", false);
+            return;
+        }
+        Path file = Files.createTempFile("virtual-thread-mode", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+            recording.start();
+            runContended(executor);
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> pinned = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getEventType().getName().equals("jdk.VirtualThreadPinned")) {
+                    pinned.add(event);
+                }
+            }
+            assertTrue(pinned.toString(), pinned.isEmpty());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Have many threads take read and write locks on one cache key, and connections from a small pool,
+     * checking that a write lock is never shared.
+     */
+    private void runContended(ExecutorService executor) throws Exception {
+        CacheKey cacheKey = new TestCacheKey();
+        TestPool pool = new TestPool(4);
+        pool.startUp();
+        AtomicBoolean isShared = new AtomicBoolean();
+        int[] writes = new int[1];
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                results.add(executor.submit(() -> {
+                    for (int index = 0; index < ITERATIONS; index++) {
+                        if ((index % 4) == 0) {
+                            cacheKey.acquireReadLock();
+                            try {
+                                if (cacheKey.getActiveThread() != null) {
+                                    isShared.set(true);
+                                }
+                            } finally {
+                                cacheKey.releaseReadLock();
+                            }
+                        } else {
+                            cacheKey.acquire();
+                            try {
+                                int value = writes[0];
+                                Thread.yield();
+                                writes[0] = value + 1;
+                            } finally {
+                                cacheKey.release();
+                            }
+                        }
+                        Accessor connection = pool.acquireConnection();
+                        pool.releaseConnection(connection);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(120, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertFalse(isShared.get());
+        assertEquals(THREADS * ITERATIONS * 3 / 4, writes[0]);
+        assertFalse(cacheKey.isAcquired());
+        assertEquals(0, cacheKey.getNumberOfReaders());
+        assertEquals(0, pool.getNumberOfConnectionsInUse());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Test;
+
+public class CacheKeyTest {
+
+    @Test
+    public void creationThreadOnlyRecordedWithExtendedLogging() {
+        assertNull(new CacheKey(1).getCreationThread());
+
+        Project project = new Project(new DatabaseLogin());
+        Project otherProject = new Project(new DatabaseLogin());
+        FullIdentityMap map = new FullIdentityMap(10, null, (AbstractSession) project.createDatabaseSession(), false);
+        FullIdentityMap otherMap = new FullIdentityMap(10, null, (AbstractSession) otherProject.createDatabaseSession(), false);
+        assertNull(map.put(1, new Object(), null, 0).getCreationThread());
+
+        project.setAllowExtendedCacheLogging(true);
+        CacheKey cacheKey = map.put(2, new Object(), null, 0);
+        assertNotNull(cacheKey.getCreationThread());
+        assertEquals(Thread.currentThread().getId(), cacheKey.getCreationThread().getId());
+        assertEquals(Thread.currentThread().getName(), cacheKey.getCreationThread().getName());
+        assertEquals(Thread.currentThread().hashCode(), cacheKey.getCreationThread().getHashCode());
+        // Extended logging of a project does not record the creation thread for the other projects.
+        assertNull(otherMap.put(2, new Object(), null, 0).getCreationThread());
+
+        project.setAllowExtendedCacheLogging(false);
+        assertNull(map.put(3, new Object(), null, 0).getCreationThread());
+    }
+
+    @Test
+    public void lockCounters() {
+        CacheKey cacheKey = new CacheKey(1, new Object(), null, 0, false);
+        cacheKey.acquire();
+        cacheKey.acquire();
+        assertEquals(2, cacheKey.getDepth());
+        assertTrue(cacheKey.isAcquired());
+        cacheKey.release();
+        cacheKey.release();
+        assertEquals(0, cacheKey.getDepth());
+        assertFalse(cacheKey.isAcquired());
+
+        cacheKey.acquireReadLock();
+        cacheKey.acquireReadLock();
+        assertEquals(2, cacheKey.getNumberOfReaders());
+        assertFalse(cacheKey.acquireNoWait());
+        cacheKey.releaseReadLock();
+        cacheKey.releaseReadLock();
+        assertEquals(0, cacheKey.getNumberOfReaders());
+        assertEquals(2, cacheKey.getTotalNumberOfKeysAcquiredForReading());
+        assertEquals(2, cacheKey.getTotalNumberOfKeysReleasedForReading());
+        assertTrue(cacheKey.acquireNoWait());
+        cacheKey.release();
+    }
+}
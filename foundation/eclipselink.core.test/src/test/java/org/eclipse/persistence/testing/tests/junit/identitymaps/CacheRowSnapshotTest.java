@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.identitymaps.CacheRowSnapshot;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CacheRowSnapshotTest {
+
+    public static class Item {
+        private long id;
+        private String name;
+        private long version;
+    }
+
+    /** Snapshot validating the versions against a map of the versions in the database. */
+    static class VersionedSnapshot extends CacheRowSnapshot {
+        final Map<Object, Object> databaseVersions = new HashMap<>();
+
+        VersionedSnapshot(AbstractSession session, File file) {
+            super(session, file);
+        }
+
+        @Override
+        protected RestoreBatch buildBatch(ClassDescriptor descriptor, Vector<DatabaseField> fields) {
+            return new RestoreBatch(descriptor, fields) {
+                @Override
+                protected Map<Object, Object> selectVersions(List<Object> primaryKeys) {
+                    Map<Object, Object> versions = new HashMap<>();
+                    for (Object primaryKey : primaryKeys) {
+                        if (databaseVersions.containsKey(primaryKey)) {
+                            versions.put(primaryKey, databaseVersions.get(primaryKey));
+                        }
+                    }
+                    return versions;
+                }
+            };
+        }
+    }
+
+    private AbstractSession session;
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        session = (AbstractSession)new Project(new DatabaseLogin()).createDatabaseSession();
+        file = File.createTempFile("cache-row-snapshot", ".bin");
+        file.delete();
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void missingFileIsIgnored() throws Exception {
+        assertEquals(-1, session.getIdentityMapAccessor().restoreCacheSnapshot(file));
+    }
+
+    @Test
+    public void otherFileIsIgnored() throws Exception {
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        }
+        assertEquals(-1, session.getIdentityMapAccessor().restoreCacheSnapshot(file));
+    }
+
+    @Test
+    public void writeAndRestoreEmptyCache() throws Exception {
+        assertEquals(0, session.getIdentityMapAccessor().writeCacheSnapshot(file));
+        assertTrue(file.exists());
+        assertFalse(new File(file.getPath() + ".tmp").exists());
+        assertEquals(0, session.getIdentityMapAccessor().restoreCacheSnapshot(file));
+    }
+
+    @Test
+    public void onlyVersionedClassesAreSupported() {
+        ClassDescriptor descriptor = new ClassDescriptor();
+        descriptor.setJavaClass(Object.class);
+        assertFalse(CacheRowSnapshot.isSnapshotSupported(descriptor));
+        descriptor.useVersionLocking("VERSION");
+        assertTrue(CacheRowSnapshot.isSnapshotSupported(descriptor));
+        descriptor.descriptorIsAggregate();
+        assertFalse(CacheRowSnapshot.isSnapshotSupported(descriptor));
+    }
+
+    static Item item(long id, String name, long version) {
+        Item item = new Item();
+        item.id = id;
+        item.name = name;
+        item.version = version;
+        return item;
+    }
+
+    @Test
+    public void writeAndRestoreCurrentVersions() throws Exception {
+        Project project = new Project(new DatabaseLogin());
+        ClassDescriptor descriptor = new ClassDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.setTableName("ITEM");
+        descriptor.setPrimaryKeyFieldName("ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("name", "NAME");
+        descriptor.addDirectMapping("version", "VERSION");
+        descriptor.useVersionLocking("VERSION", false);
+        project.addDescriptor(descriptor);
+        DatabaseSessionImpl session = (DatabaseSessionImpl)project.createDatabaseSession();
+        session.initializeDescriptors();
+        for (long id = 1; id <= 3; id++) {
+            session.getIdentityMapAccessorInstance().putInIdentityMap(item(id, "item " + id, 1L), id, null, id * 1000, descriptor);
+        }
+
+        VersionedSnapshot snapshot = new VersionedSnapshot(session, file);
+        snapshot.setBatchSize(2);
+        assertEquals(3, snapshot.write());
+        session.getIdentityMapAccessor().initializeAllIdentityMaps();
+
+        // The second item was updated and the third deleted since the snapshot.
+        snapshot.databaseVersions.put(1L, 1L);
+        snapshot.databaseVersions.put(2L, 2L);
+        assertEquals(1, snapshot.restore());
+        Item restored = (Item)session.getIdentityMapAccessor().getFromIdentityMap(1L, Item.class);
+        assertEquals(1L, restored.id);
+        assertEquals("item 1", restored.name);
+        assertEquals(1L, restored.version);
+        assertEquals(1000, session.getIdentityMapAccessorInstance().getCacheKeyForObject(1L, Item.class, descriptor, false).getReadTime());
+        assertNull(session.getIdentityMapAccessor().getFromIdentityMap(2L, Item.class));
+        assertNull(session.getIdentityMapAccessor().getFromIdentityMap(3L, Item.class));
+    }
+}
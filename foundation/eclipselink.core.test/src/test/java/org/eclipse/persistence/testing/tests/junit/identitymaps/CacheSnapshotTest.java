@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.persistence.config.CacheIsolationType;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.identitymaps.CachePreloader;
+import org.eclipse.persistence.internal.identitymaps.CacheSnapshot;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ReadQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CacheSnapshotTest {
+
+    public static class Item {
+        private long id;
+        private String name;
+    }
+
+    static final Pattern AFTER_KEY = Pattern.compile("ID > (\\d+)");
+
+    /** Session reading pages of items from a table of ids 1 to size, without a database. */
+    static class ItemSession extends DatabaseSessionImpl {
+        final int size;
+        final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch blockedPage;
+        CachePreloader blockUntilCancelled;
+
+        ItemSession(Project project, int size) {
+            super(project);
+            this.size = size;
+        }
+
+        @Override
+        public Object executeQuery(DatabaseQuery query) {
+            query.checkPrepare(this, new DatabaseRecord());
+            String sql = query.getSQLString();
+            this.statements.add(sql);
+            if (this.statements.size() > this.size) {
+                throw new IllegalStateException("The pages do not advance: " + sql);
+            }
+            Matcher matcher = AFTER_KEY.matcher(sql);
+            long after = matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+            Vector<Item> items = new Vector<>();
+            for (long id = after + 1; (id <= this.size) && (items.size() < ((ReadQuery)query).getMaxRows()); id++) {
+                Item item = new Item();
+                item.id = id;
+                item.name = "item " + id;
+                items.add(item);
+            }
+            if ((this.blockUntilCancelled != null) && (this.statements.size() == 2)) {
+                this.blockedPage.countDown();
+                long timeout = System.currentTimeMillis() + 10000;
+                while (!this.blockUntilCancelled.isCancelled() && (System.currentTimeMillis() < timeout)) {
+                    Thread.onSpinWait();
+                }
+            }
+            return items;
+        }
+    }
+
+    /** Records the progress events of the preload. */
+    static class ProgressListener extends SessionEventAdapter {
+        final List<Object> progress = Collections.synchronizedList(new ArrayList<>());
+        volatile Object preloadClasses;
+        volatile Object total;
+
+        @Override
+        public void preCachePreload(SessionEvent event) {
+            this.preloadClasses = event.getResult();
+        }
+
+        @Override
+        public void cachePreloadProgress(SessionEvent event) {
+            this.progress.add(event.getResult());
+        }
+
+        @Override
+        public void postCachePreload(SessionEvent event) {
+            this.total = event.getResult();
+        }
+    }
+
+    static ItemSession itemSession(int size) {
+        DatabaseLogin login = new DatabaseLogin();
+        // Print the keys in the statements.
+        ((DatabasePlatform)login.getPlatform()).setShouldBindLiterals(false);
+        Project project = new Project(login);
+        ClassDescriptor descriptor = new ClassDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.setTableName("ITEM");
+        descriptor.setPrimaryKeyFieldName("ID");
+        descriptor.addDirectMapping("id", "ID");
+        descriptor.addDirectMapping("name", "NAME");
+        descriptor.getCachePolicy().setShouldPreload(true);
+        project.addDescriptor(descriptor);
+        ItemSession session = new ItemSession(project, size);
+        session.initializeDescriptors();
+        return session;
+    }
+
+    private AbstractSession session;
+
+    @Before
+    public void setUp() {
+        session = (AbstractSession)new Project(new DatabaseLogin()).createDatabaseSession();
+    }
+
+    @Test
+    public void writeAndRead() throws Exception {
+        CacheSnapshot snapshot = new CacheSnapshot();
+        List<Object> keys = new ArrayList<>();
+        keys.add(3L);
+        keys.add(1L);
+        keys.add(2L);
+        snapshot.addKeys("org.example.Employee", keys);
+        List<Object> compositeKeys = new ArrayList<>();
+        compositeKeys.add(new CacheId(new Object[] {1L, "A"}));
+        snapshot.addKeys("org.example.Address", compositeKeys);
+        assertEquals(4, snapshot.getSize());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        snapshot.write(bytes);
+        CacheSnapshot read = CacheSnapshot.read(new ByteArrayInputStream(bytes.toByteArray()), session);
+        assertNotNull(read);
+        assertEquals(4, read.getSize());
+        // Most recently read first order is kept.
+        assertEquals(keys, read.getKeys("org.example.Employee"));
+        assertEquals(compositeKeys.get(0), read.getKeys("org.example.Address").get(0));
+        assertNull(read.getKeys("org.example.Project"));
+    }
+
+    @Test
+    public void incompatibleVersionIsIgnored() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeInt(Integer.MAX_VALUE);
+        out.writeInt(0);
+        out.flush();
+        assertNull(CacheSnapshot.read(new ByteArrayInputStream(bytes.toByteArray()), session));
+    }
+
+    @Test
+    public void missingFileIsIgnored() throws Exception {
+        File file = File.createTempFile("cache-snapshot", ".bin");
+        assertTrue(file.delete());
+        assertNull(CacheSnapshot.read(file, session));
+        try {
+            CacheSnapshot snapshot = new CacheSnapshot();
+            List<Object> keys = new ArrayList<>();
+            keys.add(1L);
+            snapshot.addKeys("org.example.Employee", keys);
+            snapshot.write(file);
+            assertEquals(keys, CacheSnapshot.read(file, session).getKeys("org.example.Employee"));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void shouldPreload() {
+        ClassDescriptor descriptor = new ClassDescriptor();
+        descriptor.setJavaClass(Object.class);
+        assertFalse(CachePreloader.shouldPreload(descriptor));
+        descriptor.getCachePolicy().setShouldPreload(true);
+        assertTrue(CachePreloader.shouldPreload(descriptor));
+        descriptor.getCachePolicy().setCacheIsolation(CacheIsolationType.ISOLATED);
+        assertFalse(CachePreloader.shouldPreload(descriptor));
+    }
+
+    @Test
+    public void preloadPagesByKey() {
+        ItemSession session = itemSession(5);
+        ProgressListener listener = new ProgressListener();
+        session.getEventManager().addListener(listener);
+        CachePreloader preloader = new CachePreloader(session);
+        preloader.setBatchSize(2);
+        preloader.run();
+
+        assertTrue(preloader.isComplete());
+        assertFalse(preloader.isCancelled());
+        assertEquals(5, preloader.getLoadedCount());
+        assertEquals(3, session.statements.size());
+        // Each page starts after the last key of the previous page.
+        assertFalse(AFTER_KEY.matcher(session.statements.get(0)).find());
+        assertTrue(session.statements.get(1).contains("ID > 2"));
+        assertTrue(session.statements.get(2).contains("ID > 4"));
+        for (String sql : session.statements) {
+            assertTrue(sql, sql.contains("ORDER BY ID ASC"));
+        }
+        assertEquals(List.of(Item.class), new ArrayList<>((Collection<?>)listener.preloadClasses));
+        assertEquals(List.of(2L, 4L, 5L), listener.progress);
+        assertEquals(5L, listener.total);
+    }
+
+    @Test
+    public void preloadIsCancelledOnLogout() throws Exception {
+        ItemSession session = itemSession(10);
+        ProgressListener listener = new ProgressListener();
+        session.getEventManager().addListener(listener);
+        CachePreloader preloader = new CachePreloader(session);
+        preloader.setBatchSize(2);
+        preloader.setThreads(1);
+        session.blockedPage = new CountDownLatch(1);
+        session.blockUntilCancelled = preloader;
+        preloader.start();
+        assertTrue(session.blockedPage.await(10, TimeUnit.SECONDS));
+        assertFalse(preloader.isComplete());
+
+        session.getEventManager().preLogout(session);
+        assertTrue(preloader.isComplete());
+        assertTrue(preloader.isCancelled());
+        // The page being read when cancelled completes, no other page is read.
+        assertEquals(4, preloader.getLoadedCount());
+        assertEquals(2, session.statements.size());
+        assertEquals(List.of(2L, 4L), listener.progress);
+        assertEquals(4L, listener.total);
+    }
+}
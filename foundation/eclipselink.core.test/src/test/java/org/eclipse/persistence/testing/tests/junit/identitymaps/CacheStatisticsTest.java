@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.eclipse.persistence.descriptors.CachePolicy;
+import org.eclipse.persistence.descriptors.CacheStatistics;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.junit.Test;
+
+public class CacheStatisticsTest {
+
+    @Test
+    public void countersAndRatios() {
+        CacheStatistics statistics = new CacheStatistics();
+        assertEquals(0, statistics.getHitRatio(), 0);
+        assertEquals(0, statistics.getAverageLockWaitTime());
+        statistics.recordHit();
+        statistics.recordHit();
+        statistics.recordHit();
+        statistics.recordMiss();
+        statistics.recordLockWait(100);
+        statistics.recordLockWait(300);
+        assertEquals(3, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+        assertEquals(0.75, statistics.getHitRatio(), 0);
+        assertEquals(2, statistics.getLockWaits());
+        assertEquals(400, statistics.getLockWaitTime());
+        assertEquals(200, statistics.getAverageLockWaitTime());
+        statistics.reset();
+        assertEquals(0, statistics.getHits());
+        assertEquals(0, statistics.getLockWaitTime());
+    }
+
+    @Test
+    public void hotKeys() {
+        CacheStatistics statistics = new CacheStatistics(2);
+        for (int index = 0; index < 100; index++) {
+            statistics.recordHotKey(1L);
+            if (index % 2 == 0) {
+                statistics.recordHotKey(2L);
+            }
+            // Keys hit once should be aged out of the bounded table.
+            statistics.recordHotKey(1000L + index);
+        }
+        Map<Object, Long> hotKeys = statistics.getHotKeys();
+        assertEquals(2, hotKeys.size());
+        Iterator<Object> keys = hotKeys.keySet().iterator();
+        assertEquals(1L, keys.next());
+        assertEquals(2L, keys.next());
+        assertFalse(new CacheStatistics().shouldSampleHotKey());
+        assertTrue(new CacheStatistics().getHotKeys().isEmpty());
+    }
+
+    @Test
+    public void cachePolicySettings() {
+        CachePolicy policy = new CachePolicy();
+        assertFalse(policy.shouldRecordStatistics());
+        assertNull(policy.getStatistics());
+        policy.setStatisticsHotKeySize(5);
+        policy.setShouldRecordStatistics(true);
+        assertEquals(5, policy.getStatistics().getHotKeySize());
+        // Clones do not share statistics.
+        assertNotSame(policy.getStatistics(), policy.clone().getStatistics());
+        policy.setShouldRecordStatistics(false);
+        assertNull(policy.getStatistics());
+    }
+
+    @Test
+    public void identityMapRecording() {
+        ClassDescriptor descriptor = new ClassDescriptor();
+        descriptor.setJavaClass(Object.class);
+        descriptor.getCachePolicy().setShouldRecordStatistics(true);
+        CacheStatistics statistics = descriptor.getCachePolicy().getStatistics();
+        CacheIdentityMap map = new CacheIdentityMap(2, descriptor, null, false);
+        map.put(1L, new Object(), null, 0);
+        map.put(2L, new Object(), null, 0);
+        map.put(3L, new Object(), null, 0);
+        assertEquals(3, statistics.getPuts());
+        assertEquals(1, statistics.getEvictions());
+
+        CacheKey cacheKey = map.getCacheKey(3L, false);
+        cacheKey.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+        cacheKey.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+        assertEquals(1, statistics.getInvalidations());
+    }
+}
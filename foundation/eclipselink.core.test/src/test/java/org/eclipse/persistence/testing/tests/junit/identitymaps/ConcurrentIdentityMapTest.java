@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.ConcurrentCacheKey;
+import org.eclipse.persistence.internal.identitymaps.ConcurrentIdentityMap;
+import org.junit.Test;
+
+public class ConcurrentIdentityMapTest {
+
+    @Test
+    public void putAndGet() {
+        ConcurrentIdentityMap map = new ConcurrentIdentityMap(10, null, null, false);
+        Object object = new Object();
+        CacheKey cacheKey = map.put(1, object, null, 0);
+        assertTrue(cacheKey instanceof ConcurrentCacheKey);
+        assertSame(object, map.get(1));
+        assertEquals(1, map.getSize());
+        map.remove(1, object);
+        assertEquals(0, map.getSize());
+    }
+
+    @Test
+    public void readLockWithoutWriter() {
+        ConcurrentIdentityMap map = new ConcurrentIdentityMap(10, null, null, false);
+        map.put(1, new Object(), null, 0);
+        CacheKey cacheKey = map.acquireReadLockOnCacheKey(1);
+        assertEquals(1, cacheKey.getNumberOfReaders());
+        assertTrue(cacheKey.acquireReadLockNoWait());
+        assertEquals(2, cacheKey.getNumberOfReaders());
+        cacheKey.releaseReadLock();
+        cacheKey.releaseReadLock();
+        assertEquals(0, cacheKey.getNumberOfReaders());
+    }
+
+    @Test
+    public void writerExcludesReaders() throws Exception {
+        ConcurrentIdentityMap map = new ConcurrentIdentityMap(10, null, null, false);
+        map.put(1, new Object(), null, 0);
+        final CacheKey cacheKey = map.acquireLock(1, false, false);
+        final AtomicBoolean readerAcquired = new AtomicBoolean();
+        final CountDownLatch done = new CountDownLatch(1);
+        Thread reader = new Thread(() -> {
+            assertFalse(cacheKey.acquireReadLockNoWait());
+            cacheKey.acquireReadLock();
+            readerAcquired.set(true);
+            cacheKey.releaseReadLock();
+            done.countDown();
+        });
+        reader.start();
+        assertFalse(done.await(200, TimeUnit.MILLISECONDS));
+        assertFalse(readerAcquired.get());
+        cacheKey.release();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(readerAcquired.get());
+    }
+
+    @Test
+    public void readerExcludesWriter() throws Exception {
+        ConcurrentIdentityMap map = new ConcurrentIdentityMap(10, null, null, false);
+        map.put(1, new Object(), null, 0);
+        final CacheKey cacheKey = map.acquireReadLockOnCacheKey(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            assertFalse(cacheKey.acquireNoWait());
+            cacheKey.acquire();
+            cacheKey.release();
+            done.countDown();
+        });
+        writer.start();
+        assertFalse(done.await(200, TimeUnit.MILLISECONDS));
+        cacheKey.releaseReadLock();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(0, ((ConcurrentCacheKey)cacheKey).getPendingWriters());
+    }
+
+    @Test
+    public void concurrentReadersAndWriters() throws Exception {
+        final ConcurrentIdentityMap map = new ConcurrentIdentityMap(10, null, null, false);
+        map.put(1, new Object(), null, 0);
+        final CacheKey cacheKey = map.getCacheKey(1, false);
+        final AtomicInteger owners = new AtomicInteger();
+        final AtomicBoolean failed = new AtomicBoolean();
+        Thread[] threads = new Thread[8];
+        for (int index = 0; index < threads.length; index++) {
+            final boolean isWriter = (index % 4) == 0;
+            threads[index] = new Thread(() -> {
+                for (int count = 0; count < 2000; count++) {
+                    if (isWriter) {
+                        cacheKey.acquire();
+                        if (owners.getAndAdd(1000) != 0) {
+                            failed.set(true);
+                        }
+                        owners.addAndGet(-1000);
+                        cacheKey.release();
+                    } else {
+                        cacheKey.acquireReadLock();
+                        if (owners.incrementAndGet() >= 1000) {
+                            failed.set(true);
+                        }
+                        owners.decrementAndGet();
+                        cacheKey.releaseReadLock();
+                    }
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join(60000);
+        }
+        assertFalse(failed.get());
+        assertEquals(0, cacheKey.getNumberOfReaders());
+        assertFalse(cacheKey.isAcquired());
+    }
+}
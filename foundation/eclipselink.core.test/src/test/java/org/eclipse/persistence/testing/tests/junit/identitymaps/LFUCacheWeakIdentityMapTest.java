@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.persistence.internal.identitymaps.FrequencySketch;
+import org.eclipse.persistence.internal.identitymaps.LFUCacheWeakIdentityMap;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
+import org.junit.Test;
+
+public class LFUCacheWeakIdentityMapTest {
+
+    @Test
+    public void sketchCountsFrequency() {
+        FrequencySketch sketch = new FrequencySketch(100);
+        assertEquals(0, sketch.frequency(1L));
+        for (int count = 0; count < 5; count++) {
+            sketch.increment(1L);
+        }
+        assertTrue(sketch.frequency(1L) >= 5);
+        for (int count = 0; count < 100; count++) {
+            sketch.increment(1L);
+        }
+        assertTrue(sketch.frequency(1L) <= FrequencySketch.MAX_FREQUENCY);
+    }
+
+    @Test
+    public void sketchAges() {
+        FrequencySketch sketch = new FrequencySketch(10);
+        for (int count = 0; count < 10; count++) {
+            sketch.increment(1L);
+        }
+        // Reaching the sample size halves the counters.
+        for (long key = 100; key < 200; key++) {
+            sketch.increment(key);
+        }
+        assertTrue(sketch.frequency(1L) < 10);
+    }
+
+    @Test
+    public void putAndGet() {
+        LFUCacheWeakIdentityMap map = new LFUCacheWeakIdentityMap(10, null, null, false);
+        Object object = new Object();
+        map.put(1, object, null, 0);
+        assertSame(object, map.get(1));
+        assertEquals(1, map.getSubCacheSize());
+        assertNull(map.get(2));
+        // Lookups are not accesses, the access is recorded when the object is used.
+        assertEquals(0, map.getHitCount());
+        assertEquals(0, map.getMissCount());
+        map.getCacheKey(1, false).updateAccess();
+        assertEquals(1, map.getHitCount());
+        map.remove(1, object);
+        assertEquals(0, map.getSubCacheSize());
+        assertEquals(0, map.getSize());
+    }
+
+    @Test
+    public void subCacheBoundedByMaxSize() {
+        LFUCacheWeakIdentityMap map = new LFUCacheWeakIdentityMap(100, null, null, false);
+        for (int index = 0; index < 1000; index++) {
+            map.put(index, new Object(), null, 0);
+        }
+        assertEquals(100, map.getSubCacheSize());
+        assertEquals(900, map.getEvictionCount());
+        map.updateMaxSize(50);
+        assertEquals(50, map.getSubCacheSize());
+    }
+
+    @Test
+    public void scanDoesNotEvictFrequentlyUsed() {
+        LFUCacheWeakIdentityMap map = new LFUCacheWeakIdentityMap(100, null, null, false);
+        Object[] hot = new Object[50];
+        for (int index = 0; index < hot.length; index++) {
+            hot[index] = new Object();
+            map.put(index, hot[index], null, 0);
+        }
+        for (int count = 0; count < 10; count++) {
+            for (int index = 0; index < hot.length; index++) {
+                map.getCacheKey(index, false).updateAccess();
+            }
+        }
+        // Scan of objects read once, more than the sub-cache size.
+        for (int index = 1000; index < 2000; index++) {
+            map.put(index, new Object(), null, 0);
+        }
+        int resident = 0;
+        for (int index = 0; index < hot.length; index++) {
+            LFUCacheWeakIdentityMap.LFUCacheKey cacheKey = (LFUCacheWeakIdentityMap.LFUCacheKey)map.getCacheKey(index, false);
+            assertNotNull(cacheKey);
+            if (cacheKey.isInSubCache()) {
+                resident++;
+            }
+        }
+        assertEquals(hot.length, resident);
+        assertEquals(100, map.getSubCacheSize());
+    }
+
+    @Test
+    public void accessesAreCountedOnce() {
+        LFUCacheWeakIdentityMap map = new LFUCacheWeakIdentityMap(10, null, null, false);
+        Object[] objects = new Object[20];
+        for (int index = 0; index < objects.length; index++) {
+            objects[index] = new Object();
+            map.put(index, objects[index], null, 0);
+        }
+        assertEquals(0, map.getHitCount() + map.getMissCount());
+        int resident = 0;
+        for (int index = 0; index < objects.length; index++) {
+            if (((LFUCacheWeakIdentityMap.LFUCacheKey)map.getCacheKey(index, false)).isInSubCache()) {
+                resident++;
+            }
+        }
+        assertEquals(10, resident);
+        for (int index = 0; index < objects.length; index++) {
+            map.getCacheKey(index, false).updateAccess();
+        }
+        // The objects not in the sub-cache are admitted back, so some residents may be evicted before their access.
+        assertEquals(objects.length, map.getHitCount() + map.getMissCount());
+        assertTrue(map.getMissCount() >= objects.length - resident);
+    }
+
+    @Test
+    public void profilerCountsLookups() {
+        AbstractSession session = (AbstractSession)new Project(new DatabaseLogin()).createDatabaseSession();
+        PerformanceMonitor profiler = new PerformanceMonitor();
+        session.setProfiler(profiler);
+        LFUCacheWeakIdentityMap map = new LFUCacheWeakIdentityMap(10, null, session, false);
+        Object object = new Object();
+        map.put(1, object, null, 0);
+        map.getCacheKey(1, false).updateAccess();
+        map.acquireLock(1, true, false).release();
+        assertNull(profiler.getOperationTime(SessionProfiler.IdentityMapHits));
+        assertSame(object, map.get(1));
+        assertNull(map.get(2));
+        assertEquals(1L, profiler.getOperationTime(SessionProfiler.IdentityMapHits));
+        assertEquals(1L, profiler.getOperationTime(SessionProfiler.IdentityMapMisses));
+    }
+}
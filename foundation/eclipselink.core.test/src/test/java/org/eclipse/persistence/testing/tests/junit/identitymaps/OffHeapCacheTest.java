@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.identitymaps.OffHeapCache;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OffHeapCacheTest {
+
+    private ClassDescriptor descriptor;
+    private DatabaseField id;
+    private DatabaseField name;
+    private DatabaseField salary;
+    private DatabaseField started;
+
+    @Before
+    public void setUp() {
+        id = new DatabaseField("EMP.ID");
+        name = new DatabaseField("EMP.NAME");
+        salary = new DatabaseField("EMP.SALARY");
+        started = new DatabaseField("EMP.STARTED");
+        List<DatabaseField> fields = new ArrayList<>();
+        fields.add(id);
+        fields.add(name);
+        fields.add(salary);
+        fields.add(started);
+        descriptor = new ClassDescriptor();
+        descriptor.setJavaClass(Object.class);
+        descriptor.setFields(fields);
+    }
+
+    private DatabaseRecord buildRow(long key, String value) {
+        DatabaseRecord row = new DatabaseRecord();
+        row.put(id, key);
+        row.put(name, value);
+        row.put(salary, new BigDecimal("1234.50"));
+        row.put(started, new Timestamp(1000000L));
+        return row;
+    }
+
+    @Test
+    public void putAndGet() {
+        OffHeapCache cache = new OffHeapCache(descriptor, 1024 * 1024, null);
+        assertTrue(cache.put(1L, buildRow(1L, "Bob"), 42L));
+        OffHeapCache.Entry entry = cache.get(1L);
+        assertNotNull(entry);
+        assertEquals(42L, entry.getReadTime());
+        assertEquals(1L, entry.getRecord().get(id));
+        assertEquals("Bob", entry.getRecord().get(name));
+        assertEquals(new BigDecimal("1234.50"), entry.getRecord().get(salary));
+        assertEquals(new Timestamp(1000000L), entry.getRecord().get(started));
+        assertEquals(1, cache.getHitCount());
+        assertNull(cache.get(2L));
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void nullValues() {
+        OffHeapCache cache = new OffHeapCache(descriptor, 1024 * 1024, null);
+        DatabaseRecord row = buildRow(1L, null);
+        assertTrue(cache.put(1L, row, 0));
+        assertTrue(cache.get(1L).getRecord().containsKey(name));
+        assertNull(cache.get(1L).getRecord().get(name));
+    }
+
+    @Test
+    public void replaceAndRemove() {
+        OffHeapCache cache = new OffHeapCache(descriptor, 1024 * 1024, null);
+        cache.put(1L, buildRow(1L, "Bob"), 0);
+        long used = cache.getBytesUsed();
+        // Same row is not stored twice.
+        cache.put(1L, buildRow(1L, "Bob"), 0);
+        assertEquals(used, cache.getBytesUsed());
+        cache.put(1L, buildRow(1L, "Jim"), 0);
+        assertEquals("Jim", cache.get(1L).getRecord().get(name));
+        assertEquals(1, cache.getSize());
+        cache.remove(1L);
+        assertNull(cache.get(1L));
+        cache.put(2L, buildRow(2L, "Sue"), 0);
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getBytesAllocated());
+    }
+
+    @Test
+    public void incompleteRowIsNotStored() {
+        OffHeapCache cache = new OffHeapCache(descriptor, 1024 * 1024, null);
+        cache.put(1L, buildRow(1L, "Bob"), 0);
+        DatabaseRecord row = new DatabaseRecord();
+        row.put(id, 1L);
+        assertFalse(cache.put(1L, row, 0));
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    public void evictsOldestSegment() {
+        OffHeapCache cache = new OffHeapCache(descriptor, 16 * 1024, null);
+        for (long key = 0; key < 2000; key++) {
+            cache.put(key, buildRow(key, "Employee " + key), 0);
+        }
+        assertTrue(cache.getBytesAllocated() <= cache.getMaxSize());
+        assertTrue(cache.getEvictionCount() > 0);
+        assertTrue(cache.getSize() < 2000);
+        assertNull(cache.get(0L));
+        assertEquals("Employee 1999", cache.get(1999L).getRecord().get(name));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.internal.identitymaps.IdentityMapManager;
+import org.eclipse.persistence.internal.identitymaps.QueryResultsCacheBudget;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Test;
+
+public class QueryResultsCacheBudgetTest {
+
+    @Test
+    public void leastRecentlyUsedResultsAreEvicted() {
+        QueryResultsCacheBudget budget = new QueryResultsCacheBudget(300);
+        assertTrue(budget.put("a", 1, 100, 0).isEmpty());
+        assertTrue(budget.put("b", 1, 100, 0).isEmpty());
+        assertTrue(budget.put("c", 1, 100, 0).isEmpty());
+        budget.recordAccess("a", 1, true);
+
+        List<QueryResultsCacheBudget.Entry> evicted = budget.put("d", 1, 100, 0);
+        assertEquals(1, evicted.size());
+        assertEquals("b", evicted.get(0).getQueryKey());
+        assertEquals(300, budget.getSize());
+        assertEquals(3, budget.getEntryCount());
+        assertEquals(1, budget.getEvictions());
+
+        // Replacing a result only accounts for the new size.
+        assertTrue(budget.put("a", 1, 50, 0).isEmpty());
+        assertEquals(250, budget.getSize());
+    }
+
+    @Test
+    public void queryQuotaEvictsOwnResults() {
+        QueryResultsCacheBudget budget = new QueryResultsCacheBudget(0);
+        budget.put("other", 1, 1000, 0);
+        budget.put("quota", 1, 100, 250);
+        budget.put("quota", 2, 100, 250);
+        List<QueryResultsCacheBudget.Entry> evicted = budget.put("quota", 3, 100, 250);
+        assertEquals(1, evicted.size());
+        assertEquals(1, evicted.get(0).getParameters());
+        assertEquals(1200, budget.getSize());
+
+        // Results larger than the quota are not cached.
+        evicted = budget.put("quota", 4, 300, 250);
+        assertEquals(1, evicted.size());
+        assertEquals(4, evicted.get(0).getParameters());
+        assertEquals(1, budget.getRejections());
+
+        Map<Object, Long> largest = budget.getLargestQueries(2);
+        Iterator<Object> queries = largest.keySet().iterator();
+        assertEquals("other", queries.next());
+        assertEquals("quota", queries.next());
+        assertEquals(Long.valueOf(200), largest.get("quota"));
+
+        budget.remove("other");
+        assertEquals(200, budget.getSize());
+        budget.clear();
+        assertEquals(0, budget.getSize());
+    }
+
+    @Test
+    public void estimateSize() {
+        long empty = QueryResultsCacheBudget.estimateSize(Collections.emptyList(), null);
+        List<String> strings = new ArrayList<>();
+        for (int index = 0; index < 1000; index++) {
+            strings.add("value" + index);
+        }
+        long large = QueryResultsCacheBudget.estimateSize(strings, null);
+        assertTrue(large > empty + (1000 * 8));
+        assertTrue(QueryResultsCacheBudget.estimateSize(null, null) > 0);
+    }
+
+    @Test
+    public void managerEvictsFromQueryCaches() {
+        Project project = new Project(new DatabaseLogin());
+        AbstractSession session = (AbstractSession)project.createDatabaseSession();
+        IdentityMapManager manager = session.getIdentityMapAccessorInstance().getIdentityMapManager();
+        ReadAllQuery query = new ReadAllQuery(String.class);
+        query.setName("quota");
+        query.cacheQueryResults();
+        long resultSize = QueryResultsCacheBudget.estimateSize("result", session);
+        query.getQueryResultsCachePolicy().setMaximumCachedBytes(resultSize * 2);
+
+        List<Object> first = Collections.singletonList(1);
+        manager.putQueryResult(query, first, "result");
+        manager.putQueryResult(query, Collections.singletonList(2), "result");
+        assertNotNull(manager.getQueryResult(query, first, true));
+        manager.putQueryResult(query, Collections.singletonList(3), "result");
+        assertNull(manager.getQueryResult(query, Collections.singletonList(2), true));
+        assertNotNull(manager.getQueryResult(query, first, true));
+
+        QueryResultsCacheBudget budget = manager.getQueryResultsCacheBudget();
+        assertEquals(2, budget.getEntryCount());
+        manager.clearQueryCache(query);
+        assertEquals(0, budget.getSize());
+    }
+
+    @Test
+    public void resultsDroppedByQueryCacheAreReleased() {
+        Project project = new Project(new DatabaseLogin());
+        AbstractSession session = (AbstractSession)project.createDatabaseSession();
+        IdentityMapManager manager = session.getIdentityMapAccessorInstance().getIdentityMapManager();
+        ReadAllQuery query = new ReadAllQuery(String.class);
+        query.setName("maximumCachedResults");
+        query.cacheQueryResults();
+        query.getQueryResultsCachePolicy().setMaximumCachedResults(2);
+        long resultSize = QueryResultsCacheBudget.estimateSize("result", session);
+        query.getQueryResultsCachePolicy().setMaximumCachedBytes(resultSize * 100);
+
+        for (int index = 0; index < 5; index++) {
+            manager.putQueryResult(query, Collections.singletonList(index), "result");
+        }
+        assertNull(manager.getQueryResult(query, Collections.singletonList(0), true));
+        assertNotNull(manager.getQueryResult(query, Collections.singletonList(4), true));
+
+        QueryResultsCacheBudget budget = manager.getQueryResultsCacheBudget();
+        assertEquals(2, budget.getEntryCount());
+        assertEquals(resultSize * 2, budget.getSize());
+        assertEquals(0, budget.getEvictions());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.identitymaps.IdentityMapManager;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.mappings.DirectToFieldMapping;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Before;
+import org.junit.Test;
+
+public class QueryResultsDependencyTest {
+
+    private IdentityMapManager manager;
+
+    @Before
+    public void setUp() {
+        AbstractSession session = (AbstractSession)new Project(new DatabaseLogin()).createDatabaseSession();
+        manager = session.getIdentityMapAccessorInstance().getIdentityMapManager();
+    }
+
+    private ReadAllQuery cachedQuery(String name, Set<String> attributes) {
+        ReadAllQuery query = new ReadAllQuery(String.class);
+        query.setName(name);
+        query.cacheQueryResults();
+        QueryResultsCachePolicy policy = query.getQueryResultsCachePolicy();
+        policy.getInvalidationClasses().add(String.class);
+        if (attributes != null) {
+            policy.setShouldTrackDependencies(true);
+            policy.getInvalidationAttributes().put(String.class, attributes);
+        }
+        manager.putQueryResult(query, null, name);
+        return query;
+    }
+
+    private static Set<String> attributes(String... names) {
+        Set<String> attributes = new HashSet<>();
+        for (String name : names) {
+            attributes.add(name);
+        }
+        return attributes;
+    }
+
+    @Test
+    public void onlyDependentResultsAreInvalidated() {
+        ReadAllQuery byName = cachedQuery("byName", attributes("name"));
+        ReadAllQuery bySalary = cachedQuery("bySalary", attributes("salary"));
+        ReadAllQuery untracked = cachedQuery("untracked", null);
+        assertTrue(manager.hasQueryResultsDependencies());
+
+        manager.invalidateQueryCache(String.class, attributes("salary", "version"));
+        assertNotNull(manager.getQueryResult(byName, null, true));
+        assertNull(manager.getQueryResult(bySalary, null, true));
+        assertNull(manager.getQueryResult(untracked, null, true));
+
+        // Unknown changes, such as inserts, invalidate all results of the class.
+        manager.invalidateQueryCache(String.class, null);
+        assertNull(manager.getQueryResult(byName, null, true));
+    }
+
+    @Test
+    public void noDependenciesWithoutTracking() {
+        cachedQuery("untracked", null);
+        assertFalse(manager.hasQueryResultsDependencies());
+        manager.clearQueryCache();
+        assertFalse(manager.hasQueryResultsDependencies());
+    }
+
+    @Test
+    public void policyRecordsMappings() {
+        ClassDescriptor descriptor = new ClassDescriptor();
+        descriptor.setJavaClass(String.class);
+        DirectToFieldMapping mapping = new DirectToFieldMapping();
+        mapping.setAttributeName("name");
+        mapping.setDescriptor(descriptor);
+
+        QueryResultsCachePolicy policy = new QueryResultsCachePolicy();
+        policy.addInvalidationAttribute(mapping);
+        Map<Class<?>, Set<String>> expected = new HashMap<>();
+        expected.put(String.class, attributes("name"));
+        assertEquals(expected, policy.getInvalidationAttributes());
+        assertEquals(0, policy.clone().getInvalidationAttributes().size());
+
+        // A mapping that cannot be tracked makes the dependencies unknown.
+        policy.addInvalidationAttribute(null);
+        assertNull(policy.getInvalidationAttributes());
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.queries.QueryPlanCache;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Before;
+import org.junit.Test;
+
+public class QueryPlanCacheTest {
+
+    public static class Item {
+        private String name;
+        private int quantity;
+    }
+
+    private DatabaseSessionImpl session;
+
+    @Before
+    public void setUp() {
+        Project project = new Project(new DatabaseLogin());
+        ClassDescriptor descriptor = new ClassDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.setTableName("ITEM");
+        descriptor.setPrimaryKeyFieldName("NAME");
+        descriptor.addDirectMapping("name", "NAME");
+        descriptor.addDirectMapping("quantity", "QUANTITY");
+        project.addDescriptor(descriptor);
+        this.session = (DatabaseSessionImpl)project.createDatabaseSession();
+        this.session.initializeDescriptors();
+    }
+
+    private ReadAllQuery query(String name, int quantity) {
+        ExpressionBuilder builder = new ExpressionBuilder();
+        ReadAllQuery query = new ReadAllQuery(Item.class, builder);
+        query.setSelectionCriteria(builder.get("name").equal(name).and(builder.get("quantity").greaterThan(quantity)));
+        return query;
+    }
+
+    @Test
+    public void queriesDifferingByValuesSharePreparedQuery() {
+        QueryPlanCache cache = new QueryPlanCache(10);
+        DatabaseQuery first = cache.prepare(query("Bolt", 3), new DatabaseRecord(), this.session);
+        assertNotNull(first);
+        assertTrue(first.isPrepared());
+        assertFalse(first.getSQLString().contains("Bolt"));
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.size());
+
+        DatabaseQuery second = cache.prepare(query("Nut", 7), new DatabaseRecord(), this.session);
+        assertTrue(second.isPrepared());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.size());
+        assertEquals(0.5, cache.getHitRate(), 0);
+        assertEquals(first.getSQLString(), second.getSQLString());
+        // The values of the constants are in the translation row of each execution.
+        assertTrue(second.getTranslationRow().containsValue("Nut"));
+        assertTrue(second.getTranslationRow().containsValue(7));
+        assertTrue(second.getTranslatedSQLString(this.session, second.getTranslationRow()).contains("Nut"));
+        assertTrue(first.getTranslatedSQLString(this.session, first.getTranslationRow()).contains("Bolt"));
+    }
+
+    private ReadAllQuery criteriaQuery(String name, Class<?> builderClass) {
+        // As built by the Criteria API, with a builder of its class.
+        ExpressionBuilder builder = new ExpressionBuilder(builderClass);
+        ReadAllQuery query = new ReadAllQuery(Item.class, builder);
+        query.setSelectionCriteria(builder.get("name").notEqual(name));
+        query.addOrdering(builder.get("quantity").descending());
+        return query;
+    }
+
+    @Test
+    public void queriesBuiltForTheirClassSharePreparedQuery() {
+        QueryPlanCache cache = new QueryPlanCache(10);
+        DatabaseQuery first = cache.prepare(criteriaQuery("Bolt", Item.class), new DatabaseRecord(), this.session);
+        DatabaseQuery second = cache.prepare(criteriaQuery("Nut", Item.class), new DatabaseRecord(), this.session);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(first.getSQLString(), second.getSQLString());
+        assertTrue(second.getSQLString().contains("ORDER BY"));
+        assertTrue(second.getTranslatedSQLString(this.session, second.getTranslationRow()).contains("Nut"));
+
+        // A builder of another class is not planned.
+        assertNull(cache.prepare(criteriaQuery("Nut", String.class), new DatabaseRecord(), this.session));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void differentShapesAreEvictedLeastRecentlyUsedFirst() {
+        QueryPlanCache cache = new QueryPlanCache(2);
+        ExpressionBuilder builder = new ExpressionBuilder();
+        Expression[] criteria = {
+            builder.get("name").equal("A"),
+            builder.get("name").notEqual("A"),
+            builder.get("quantity").lessThan(1)};
+        for (Expression expression : criteria) {
+            ReadAllQuery query = new ReadAllQuery(Item.class, builder);
+            query.setSelectionCriteria(expression);
+            assertNotNull(cache.prepare(query, new DatabaseRecord(), this.session));
+        }
+        assertEquals(3, cache.getMisses());
+        assertEquals(1, cache.getEvictions());
+        assertEquals(2, cache.size());
+        ReadAllQuery query = new ReadAllQuery(Item.class, builder);
+        query.setSelectionCriteria(builder.get("name").equal("B"));
+        cache.prepare(query, new DatabaseRecord(), this.session);
+        assertEquals(0, cache.getHits());
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getHitRate(), 0);
+    }
+
+    @Test
+    public void disabledByDefault() {
+        assertEquals(0, this.session.getProject().getQueryPlanCacheMaxSize());
+        assertNull(this.session.getProject().getQueryPlanCache().prepare(query("Bolt", 3), new DatabaseRecord(), this.session));
+        this.session.getProject().setQueryPlanCacheMaxSize(5);
+        assertNotNull(this.session.getProject().getQueryPlanCache().prepare(query("Bolt", 3), new DatabaseRecord(), this.session));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.sequencing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+
+import org.eclipse.persistence.internal.sequencing.AdaptivePreallocation;
+import org.junit.Test;
+
+public class AdaptivePreallocationTest {
+
+    /** The sizes of the blocks allocated, in allocation order. */
+    final List<Integer> allocations = new ArrayList<>();
+    long nextValue = 1;
+
+    /**
+     * Allocate consecutive values, as a table sequence.
+     */
+    synchronized Vector<?> allocate(int size) {
+        allocations.add(size);
+        Vector<Long> values = new Vector<>(size);
+        for (int index = 0; index < size; index++) {
+            values.add(nextValue++);
+        }
+        return values;
+    }
+
+    /**
+     * Return the next value as the sequencing manager does, polling first, and allocating if required.
+     */
+    Object next(AdaptivePreallocation preallocation) {
+        Object value = preallocation.poll();
+        if (value == null) {
+            value = preallocation.allocate(this::allocate);
+        }
+        return value;
+    }
+
+    @Test
+    public void valuesArePolledFromBlocks() {
+        AdaptivePreallocation preallocation = new AdaptivePreallocation(10, 100, AdaptivePreallocation.DEFAULT_PREALLOCATION_INTERVAL, null, null);
+        assertNull(preallocation.poll());
+        for (long expected = 1; expected <= 25; expected++) {
+            assertEquals(expected, next(preallocation));
+        }
+        // The second block is larger, as the first block was consumed immediately.
+        assertEquals(List.of(10, 20), allocations);
+    }
+
+    @Test
+    public void sizeGrowsWithTheAllocationRateAndShrinks() throws InterruptedException {
+        AdaptivePreallocation preallocation = new AdaptivePreallocation(10, 80, 100, null, null);
+        // Values consumed much faster than a block per interval.
+        for (int index = 0; index < 150; index++) {
+            next(preallocation);
+        }
+        assertEquals(List.of(10, 20, 40, 80), allocations);
+        assertEquals(80, preallocation.getSize());
+        // Values consumed slower than a block per interval.
+        for (int index = 0; index < 3; index++) {
+            Thread.sleep(250);
+            while (allocations.size() < (5 + index)) {
+                next(preallocation);
+            }
+        }
+        assertTrue(preallocation.getSize() < 80);
+        assertTrue(preallocation.getSize() >= 10);
+    }
+
+    @Test
+    public void nextBlockIsPrefetched() {
+        List<Integer> prefetches = new ArrayList<>();
+        AdaptivePreallocation preallocation = new AdaptivePreallocation(8, 8, AdaptivePreallocation.DEFAULT_PREALLOCATION_INTERVAL,
+                size -> {
+                    prefetches.add(size);
+                    return allocate(size);
+                }, Runnable::run);
+        for (long expected = 1; expected <= 16; expected++) {
+            assertEquals(expected, next(preallocation));
+        }
+        // Only the first block was allocated by the thread needing a value.
+        assertEquals(List.of(8, 8, 8), allocations);
+        assertEquals(List.of(8, 8), prefetches);
+    }
+}
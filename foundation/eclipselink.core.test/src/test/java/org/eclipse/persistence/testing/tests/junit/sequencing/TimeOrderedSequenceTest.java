@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.sequencing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.sequencing.TimeOrderedSequence;
+import org.junit.Test;
+
+public class TimeOrderedSequenceTest {
+
+    static final int THREADS = 4;
+    static final int IDS = 20000;
+
+    @Test
+    public void longIdsAreUniqueAndIncreasingAcrossThreads() throws InterruptedException {
+        TimeOrderedSequence sequence = new TimeOrderedSequence("ORDER_SEQ", TimeOrderedSequence.Format.LONG, 5);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        List<String> failures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            threads.add(new Thread(() -> {
+                long previous = -1;
+                for (int index = 0; index < IDS; index++) {
+                    long id = sequence.nextLong();
+                    if ((id <= previous) || !ids.add(id)) {
+                        synchronized (failures) {
+                            failures.add(previous + " " + id);
+                        }
+                    }
+                    previous = id;
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(List.of(), failures);
+        assertEquals(THREADS * IDS, ids.size());
+        for (long id : ids) {
+            assertTrue(id > 0);
+            assertEquals(5, (id >>> 12) & TimeOrderedSequence.MAX_NODE_ID);
+        }
+    }
+
+    @Test
+    public void longIdsEncodeTheTime() {
+        TimeOrderedSequence sequence = new TimeOrderedSequence("ORDER_SEQ");
+        long before = System.currentTimeMillis();
+        long id = sequence.nextLong();
+        long time = (id >>> 22) + TimeOrderedSequence.DEFAULT_EPOCH;
+        assertTrue(time >= before);
+        assertTrue(time <= System.currentTimeMillis());
+    }
+
+    @Test
+    public void uuidsAreVersion7AndOrdered() {
+        TimeOrderedSequence sequence = new TimeOrderedSequence("ORDER_SEQ", TimeOrderedSequence.Format.UUID, 7);
+        Set<String> ids = new HashSet<>();
+        String previous = "";
+        long before = System.currentTimeMillis();
+        for (int index = 0; index < IDS; index++) {
+            String id = (String)sequence.getGeneratedValue(null, null, "ORDER_SEQ");
+            UUID uuid = UUID.fromString(id);
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+            assertEquals(7, (uuid.getLeastSignificantBits() >>> 48) & 0x3FFF);
+            // The string representation is ordered, as database UUID and character columns are.
+            assertTrue(id.compareTo(previous) > 0);
+            assertTrue(ids.add(id));
+            previous = id;
+        }
+        long time = UUID.fromString(previous).getMostSignificantBits() >>> 16;
+        assertTrue(time >= before);
+    }
+
+    @Test
+    public void nodeIdIsValidated() {
+        TimeOrderedSequence sequence = new TimeOrderedSequence("ORDER_SEQ");
+        sequence.setNodeId(TimeOrderedSequence.MAX_NODE_ID);
+        try {
+            sequence.setNodeId(TimeOrderedSequence.MAX_NODE_ID + 1);
+            fail("Expected node id validation failure");
+        } catch (ValidationException expected) {
+            assertEquals(ValidationException.SEQUENCE_SETUP_INCORRECTLY, expected.getErrorCode());
+        }
+    }
+}
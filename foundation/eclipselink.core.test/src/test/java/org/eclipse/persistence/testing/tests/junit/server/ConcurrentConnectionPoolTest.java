@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.junit.Test;
+
+public class ConcurrentConnectionPoolTest {
+
+    /** Pool of accessors that are not connected to a database. */
+    static class TestPool extends ConcurrentConnectionPool {
+        TestPool(int max) {
+            super("test", new DatabaseLogin(), 0, max, max, createSession());
+        }
+
+        @Override
+        protected Accessor buildConnection() {
+            DatabaseAccessor connection = new DatabaseAccessor() {
+                @Override
+                public synchronized void incrementCallCount(AbstractSession session) {
+                    this.callCount++;
+                }
+            };
+            connection.setPool(this);
+            return connection;
+        }
+    }
+
+    static ServerSession createSession() {
+        ServerSession session = (ServerSession)new Project(new DatabaseLogin()).createServerSession();
+        session.setLogLevel(SessionLog.OFF);
+        return session;
+    }
+
+    @Test
+    public void releasedConnectionsAreReused() throws Exception {
+        TestPool pool = new TestPool(2);
+        pool.startUp();
+        Accessor first = pool.acquireConnection();
+        Accessor second = pool.acquireConnection();
+        assertNotSame(first, second);
+        assertEquals(2, pool.getTotalNumberOfConnections());
+        assertEquals(2, pool.getNumberOfConnectionsInUse());
+
+        // A waiting thread is handed the released connection.
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Accessor> waiting = executor.submit(pool::acquireConnection);
+            long deadline = System.currentTimeMillis() + 10000;
+            while ((pool.getNumberOfWaitingThreads() == 0) && (System.currentTimeMillis() < deadline)) {
+                Thread.sleep(1);
+            }
+            pool.releaseConnection(first);
+            assertSame(first, waiting.get(10, TimeUnit.SECONDS));
+            assertEquals(1, pool.getWaits());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // The thread reuses the connection it last used.
+        pool.releaseConnection(second);
+        pool.releaseConnection(first);
+        assertSame(second, pool.acquireConnection());
+        assertTrue(pool.getThreadAffinityHits() > 0);
+        assertEquals(2, pool.getConnectionsCreated());
+    }
+
+    @Test
+    public void waitTimesOut() {
+        TestPool pool = new TestPool(1);
+        pool.setWaitTimeout(20);
+        pool.startUp();
+        pool.acquireConnection();
+        try {
+            pool.acquireConnection();
+            fail("Expected timeout");
+        } catch (ConcurrencyException expected) {
+            assertEquals(ConcurrencyException.WAIT_TIMEOUT_FOR_CONNECTION, expected.getErrorCode());
+        }
+        assertEquals(1, pool.getTimeouts());
+    }
+
+    @Test
+    public void leakedConnectionsAreReported() throws Exception {
+        TestPool pool = new TestPool(2);
+        pool.setLeakDetectionThreshold(1);
+        pool.startUp();
+        Accessor leaked = pool.acquireConnection();
+        Thread.sleep(20);
+        assertEquals(1, pool.checkForLeakedConnections());
+        assertEquals(0, pool.checkForLeakedConnections());
+        assertEquals(1, pool.getLeaks());
+        pool.releaseConnection(leaked);
+        assertEquals(0, pool.checkForLeakedConnections());
+    }
+
+    @Test
+    public void sharedConnections() {
+        TestPool pool = new TestPool(2);
+        pool.setIsShared(true);
+        pool.startUp();
+        Accessor first = pool.acquireConnection();
+        Accessor second = pool.acquireConnection();
+        assertNotSame(first, second);
+        // At the maximum size the least busy connection is shared.
+        Accessor third = pool.acquireConnection();
+        assertEquals(2, pool.getTotalNumberOfConnections());
+        assertEquals(2, third.getCallCount());
+        pool.releaseConnection(third);
+        pool.releaseConnection(second);
+        pool.releaseConnection(first);
+        assertEquals(0, first.getCallCount() + second.getCallCount());
+        assertTrue(pool.hasConnectionAvailable());
+    }
+
+    @Test
+    public void sharedConnectionsAcquiredWhileWaiting() throws Exception {
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch built = new CountDownLatch(1);
+        TestPool pool = new TestPool(1) {
+            @Override
+            protected Accessor buildConnection() {
+                building.countDown();
+                try {
+                    built.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    throw new IllegalStateException(exception);
+                }
+                return super.buildConnection();
+            }
+        };
+        pool.setIsShared(true);
+        pool.startUp();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Accessor> creating = executor.submit(pool::acquireConnection);
+            assertTrue(building.await(10, TimeUnit.SECONDS));
+            // The pool is full of the reservation of the connection being built, so the next reader waits for it.
+            Future<Accessor> waiting = executor.submit(pool::acquireConnection);
+            long deadline = System.currentTimeMillis() + 10000;
+            while ((pool.getNumberOfWaitingThreads() == 0) && (System.currentTimeMillis() < deadline)) {
+                Thread.sleep(1);
+            }
+            built.countDown();
+            Accessor first = creating.get(10, TimeUnit.SECONDS);
+            Accessor second = waiting.get(10, TimeUnit.SECONDS);
+            assertSame(first, second);
+            assertEquals(1, pool.getWaits());
+            assertEquals(2, first.getCallCount());
+            pool.releaseConnection(second);
+            pool.releaseConnection(first);
+            assertEquals(0, first.getCallCount());
+            assertEquals(1, pool.getConnectionsAvailable().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void connectionsAreExclusiveUnderContention() throws Exception {
+        TestPool pool = new TestPool(4);
+        pool.startUp();
+        Set<Accessor> inUse = ConcurrentHashMap.newKeySet();
+        AtomicBoolean isShared = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < 16; thread++) {
+                results.add(executor.submit(() -> {
+                    for (int index = 0; index < 2000; index++) {
+                        Accessor connection = pool.acquireConnection();
+                        if (!inUse.add(connection)) {
+                            isShared.set(true);
+                        }
+                        inUse.remove(connection);
+                        pool.releaseConnection(connection);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(!isShared.get());
+        assertTrue(pool.getTotalNumberOfConnections() <= 4);
+        assertEquals(0, pool.getNumberOfConnectionsInUse());
+        assertEquals(16 * 2000, pool.getAcquires());
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.persistence.config.ReferenceMode;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.CommitManager;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.ParallelCommitExecutor;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ClientSession;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelCommitExecutorTest {
+
+    static class Customer {}
+    static class Order {}
+    static class OrderLine {}
+    static class Product {}
+    static class ProductPrice {}
+    static class AuditEntry {}
+
+    AbstractSession session;
+    CommitManager commitManager;
+    UnitOfWorkImpl unitOfWork;
+
+    @Before
+    public void setUp() {
+        Project project = new Project(new DatabaseLogin());
+        descriptor(project, Customer.class, "CUSTOMER");
+        descriptor(project, Order.class, "ORDERS");
+        descriptor(project, OrderLine.class, "ORDER_LINE");
+        descriptor(project, Product.class, "PRODUCT");
+        // Mapped to the same table as products.
+        descriptor(project, ProductPrice.class, "PRODUCT");
+        descriptor(project, AuditEntry.class, "AUDIT");
+        session = (AbstractSession)project.createDatabaseSession();
+        commitManager = new CommitManager(session);
+        // Order lines reference orders, orders reference customers.
+        Map<Class<?>, Set<Class<?>>> dependencies = new HashMap<>();
+        dependencies.put(Customer.class, Set.of(Order.class));
+        dependencies.put(Order.class, Set.of(Customer.class, OrderLine.class));
+        dependencies.put(OrderLine.class, Set.of(Order.class));
+        dependencies.put(Product.class, Set.of());
+        dependencies.put(ProductPrice.class, Set.of());
+        dependencies.put(AuditEntry.class, Set.of());
+        commitManager.setCommitOrderDependencies(dependencies);
+    }
+
+    static void descriptor(Project project, Class<?> javaClass, String table) {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(javaClass);
+        descriptor.setTableName(table);
+        descriptor.setPrimaryKeyFieldName("ID");
+        project.addDescriptor(descriptor);
+    }
+
+    @Test
+    public void dependentClassesAndSharedTablesAreGrouped() {
+        List<List<Class<?>>> groups = ParallelCommitExecutor.buildGroups(commitManager, session,
+                List.of(Customer.class, Product.class, Order.class, AuditEntry.class, ProductPrice.class, OrderLine.class), 8);
+        assertEquals(List.of(
+                List.of(Customer.class, Order.class, OrderLine.class),
+                List.of(Product.class, ProductPrice.class),
+                List.of(AuditEntry.class)), groups);
+    }
+
+    @Test
+    public void groupsAreMergedToTheMaximum() {
+        List<List<Class<?>>> groups = ParallelCommitExecutor.buildGroups(commitManager, session,
+                List.of(Customer.class, Product.class, Order.class, AuditEntry.class, ProductPrice.class, OrderLine.class), 2);
+        assertEquals(List.of(
+                List.of(Customer.class, Order.class, AuditEntry.class, OrderLine.class),
+                List.of(Product.class, ProductPrice.class)), groups);
+    }
+
+    @Test
+    public void unknownDependenciesAreNotSplit() {
+        commitManager.setCommitOrderDependencies(null);
+        List<List<Class<?>>> groups = ParallelCommitExecutor.buildGroups(commitManager, session,
+                List.of(Customer.class, Product.class, AuditEntry.class), 8);
+        assertEquals(List.of(List.of(Customer.class, Product.class, AuditEntry.class)), groups);
+    }
+
+    /**
+     * Return an executor inserting each group on a connection recording its calls,
+     * and adding the group to the objects to delete of the commit manager of the thread.
+     */
+    ParallelCommitExecutor executor(List<String> events, String failingFlush) {
+        ServerSession server = new ServerSession(new Project(new DatabaseLogin()));
+        ClientSession client = new ClientSession(server, server.getDefaultConnectionPolicy());
+        unitOfWork = new UnitOfWorkImpl(client, ReferenceMode.HARD);
+        int[] connections = new int[1];
+        ConnectionPool pool = new ConnectionPool("test", new DatabaseLogin(), server) {
+            @Override
+            public synchronized Accessor acquireConnection() {
+                String name = "connection" + (++connections[0]);
+                return (Accessor)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Accessor.class}, (instance, method, args) -> {
+                    switch (method.getName()) {
+                        case "beginTransaction", "commitTransaction", "rollbackTransaction", "writesCompleted" -> {
+                            events.add(method.getName() + " " + name);
+                            if (method.getName().equals("writesCompleted") && name.equals(failingFlush)) {
+                                throw new IllegalStateException("flush failed");
+                            }
+                            return null;
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(instance);
+                        }
+                        case "equals" -> {
+                            return instance == args[0];
+                        }
+                        default -> {
+                            return null;
+                        }
+                    }
+                });
+            }
+
+            @Override
+            public void releaseConnection(Accessor connection) {
+            }
+        };
+        CommitManager commitManager = unitOfWork.getCommitManager();
+        return new ParallelCommitExecutor(commitManager, unitOfWork, client, pool,
+                List.of(List.of(Customer.class), List.of(Product.class), List.of(AuditEntry.class))) {
+            @Override
+            protected List<ObjectChangeSet> commitGroup(CommitManager groupCommitManager, UnitOfWorkChangeSet uowChangeSet, List<Class<?>> group) {
+                // The thread uses the commit manager of its group.
+                assertSame(groupCommitManager, this.unitOfWork.getCommitManager());
+                if (group.get(0) != Customer.class) {
+                    assertNotSame(commitManager, groupCommitManager);
+                }
+                groupCommitManager.addObjectToDelete(group.get(0));
+                return new ArrayList<>();
+            }
+        };
+    }
+
+    @Test
+    public void groupTransactionsAreCommittedOnceAllGroupsAreFlushed() {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        ParallelCommitExecutor executor = executor(events, null);
+        executor.commit(new UnitOfWorkChangeSet());
+        int lastFlush = Math.max(events.lastIndexOf("writesCompleted connection1"), events.lastIndexOf("writesCompleted connection2"));
+        int firstCommit = Math.min(events.indexOf("commitTransaction connection1"), events.indexOf("commitTransaction connection2"));
+        assertTrue(events.toString(), (lastFlush != -1) && (firstCommit > lastFlush));
+        assertEquals(events.toString(), 6, events.size());
+        // The commit state of the groups is merged.
+        assertEquals(Set.of(Customer.class, Product.class, AuditEntry.class), new HashSet<>(unitOfWork.getCommitManager().getObjectsToDelete()));
+        assertNull(unitOfWork.getParallelCommitManagers());
+    }
+
+    @Test
+    public void groupTransactionsAreRolledBackIfAFlushFails() {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        ParallelCommitExecutor executor = executor(events, "connection2");
+        try {
+            executor.commit(new UnitOfWorkChangeSet());
+            fail("Expected the flush failure");
+        } catch (IllegalStateException expected) {
+            assertEquals("flush failed", expected.getMessage());
+        }
+        assertTrue(events.toString(), events.contains("rollbackTransaction connection1"));
+        assertTrue(events.toString(), events.contains("rollbackTransaction connection2"));
+        assertFalse(events.toString(), events.contains("commitTransaction connection1"));
+        // The commit state of the failed groups is not merged.
+        assertEquals(List.of(Customer.class), unitOfWork.getCommitManager().getObjectsToDelete());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Vector;
+
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.RecordLayout;
+import org.junit.Test;
+
+public class RecordLayoutTest {
+
+    static DatabaseField field(String name, int index) {
+        DatabaseField field = new DatabaseField(name);
+        field.setIndex(index);
+        return field;
+    }
+
+    static ArrayRecord row(DatabaseField[] fields, RecordLayout layout, Object... values) {
+        return new ArrayRecord(new Vector<>(Arrays.asList(fields)), fields, values, layout);
+    }
+
+    @Test
+    public void fieldsAreResolvedOnceForAllRows() {
+        // Result fields built from the column names, in another order than the descriptor's fields.
+        DatabaseField[] fields = {field("ORDERS.STATUS", 0), field("ORDERS.ID", 1), field("ORDERS.TOTAL", 2)};
+        RecordLayout layout = new RecordLayout(fields);
+        ArrayRecord first = row(fields, layout, "OPEN", 1L, 10);
+        ArrayRecord second = row(fields, layout, "CLOSED", 2L, 20);
+
+        // Mapping fields, equal but not the same instances, with the descriptor's index.
+        DatabaseField id = field("ORDERS.ID", 0);
+        DatabaseField total = field("ORDERS.TOTAL", 1);
+        assertEquals(1L, first.get(id));
+        assertEquals(20, second.get(total));
+        assertEquals(1, layout.indexOf(id));
+        assertEquals(2, layout.indexOf(total));
+        // The mapping field index is not changed, as it is the descriptor's.
+        assertEquals(0, id.getIndex());
+
+        assertEquals(2L, second.get(id));
+        assertSame(fields[2], second.getField(total));
+        assertTrue(second.containsKey(total));
+        second.replaceAt(30, total);
+        assertEquals(30, second.get(total));
+        assertEquals(10, first.get(total));
+    }
+
+    @Test
+    public void missingFieldsAreResolved() {
+        DatabaseField[] fields = {field("ORDERS.ID", 0)};
+        RecordLayout layout = new RecordLayout(fields);
+        ArrayRecord row = row(fields, layout, 1L);
+        DatabaseField missing = field("ORDERS.STATUS", 1);
+        assertNull(row.get(missing));
+        assertSame(AbstractRecord.noEntry, row.getIndicatingNoEntry(missing));
+        assertFalse(row.containsKey(missing));
+        assertEquals(-1, layout.indexOf(missing));
+    }
+
+    @Test
+    public void resolvedFieldsAreBounded() {
+        DatabaseField[] fields = {field("ORDERS.ID", 0), field("ORDERS.STATUS", 1)};
+        RecordLayout layout = new RecordLayout(fields);
+        ArrayRecord row = row(fields, layout, 1L, "OPEN");
+        for (int index = 0; index < (RecordLayout.MAX_RESOLVED_FIELDS * 2); index++) {
+            assertEquals("OPEN", row.get(new DatabaseField("ORDERS.STATUS")));
+        }
+        assertEquals("OPEN", row.get("STATUS"));
+    }
+
+    @Test
+    public void rowsWithoutLayoutStillResolveFields() {
+        DatabaseField[] fields = {field("ORDERS.STATUS", 0), field("ORDERS.ID", 1)};
+        ArrayRecord row = row(fields, null, "OPEN", 1L);
+        DatabaseField id = new DatabaseField("ORDERS.ID");
+        assertEquals(1L, row.get(id));
+        // The field index is set to its position.
+        assertEquals(1, id.getIndex());
+    }
+}
@@ -33,6 +33,9 @@ public class EmulatedDriver implements Driver {
     /** Allow toggling of emulation. */
     public static boolean emulate = true;
 
+    /** Emulated database latency in milliseconds of each statement execution, allows comparing asynchronous execution. */
+    public static long latency = 0;
+
     /** Cache the connection. */
     protected Connection connection;
 
@@ -116,9 +116,23 @@ public ResultSet executeQuery() throws SQLException {
      */
     @Override
     public int executeUpdate() throws SQLException {
+        emulateLatency();
         return 1;
     }
 
+    /**
+     * Wait for the emulated database latency.
+     */
+    protected void emulateLatency() throws SQLException {
+        if (EmulatedDriver.latency > 0) {
+            try {
+                Thread.sleep(EmulatedDriver.latency);
+            } catch (InterruptedException exception) {
+                throw new SQLException(exception);
+            }
+        }
+    }
+
     /**
      * Sets the designated parameter to SQL <code>NULL</code>.
      *
@@ -1307,6 +1321,7 @@ public void clearBatch() throws SQLException {
      */
     @Override
     public int[] executeBatch() throws SQLException {
+        emulateLatency();
         int[] result = new int[this.batch];
         for (int index = 0; index < this.batch; index++) {
             result[index] = 1;
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * A CachePreload can be set on an Entity to read its objects into the shared
+ * cache in the background after the persistence unit is deployed. In the case
+ * of inheritance, a CachePreload annotation should only be defined on the
+ * root of the inheritance hierarchy.
+ * <p>
+ * The number of threads, batch size and throttling delay of the preload, and
+ * the snapshot file used to only preload the most recently used objects of a
+ * previous run, are configured through persistence unit properties.
+ *
+ * @see org.eclipse.persistence.descriptors.CachePolicy#setShouldPreload(boolean)
+ * @see org.eclipse.persistence.config.PersistenceUnitProperties#CACHE_PRELOAD_
+ * @since EclipseLink 5.0
+ */
+@Target({TYPE})
+@Retention(RUNTIME)
+public @interface CachePreload {
+    /**
+     * (Optional) The maximum number of objects to preload.
+     * The default is -1, all objects.
+     */
+    int size() default -1;
+
+    /**
+     * (Optional) The name of a named read all query used to select the objects to preload.
+     * The default reads all objects ordered by id.
+     */
+    String query() default "";
+}
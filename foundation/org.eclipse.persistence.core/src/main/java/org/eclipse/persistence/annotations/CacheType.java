@@ -32,6 +32,15 @@ public enum CacheType {
      */
     FULL,
 
+    /**
+     * Similar to the FULL identity map, it caches all objects and does not remove them,
+     * but reading an object that is already built never blocks or synchronizes on its
+     * cache key. This reduces lock contention on servers with many concurrent threads.
+     * WARNING: This method may be memory intensive when many objects are
+     * read.  If used on a large data set it will eventually causes an out of memory error.
+     */
+    CONCURRENT,
+
     /**
      * Similar to the FULL identity map except that the map holds the
      * objects using weak references. This method allows full garbage
@@ -64,6 +73,14 @@ public enum CacheType {
      */
     HARD_WEAK,
 
+    /**
+     * Identical to the hard cache weak (HARD_WEAK) identity map except
+     * that the sub-cache is maintained by access frequency (W-TinyLFU)
+     * instead of recency, so large scans of rarely used objects do not
+     * remove frequently used objects from the sub-cache.
+     */
+    LFU_WEAK,
+
     /**
      * A cache identity map maintains a fixed number of objects
      * specified by the application. Objects are removed from the cache
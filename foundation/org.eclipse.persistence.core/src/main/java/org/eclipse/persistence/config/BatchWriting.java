@@ -33,6 +33,10 @@
  * <li>JDBC - JDBC batch API's are used (dynamic, or parameterized).
  * <li>Bufferred - dynamic SQL is concatenated into a batch SQL string.
  * <li>Oracle-JDBC - Oracle JDBC batch API's are used (allows row count to be returned for optimistic locking).
+ * <li>JDBC-Pipelined - JDBC batch API's are used, and parameterized batches are executed asynchronously,
+ * independent batches concurrently (requires a JDBC driver supporting concurrent statements on a connection).
+ * <li>JDBC-MultiRowInsert - JDBC batch API's are used, and parameterized batches of inserts are executed
+ * as multi-row INSERT statements (if supported by the database platform).
  * <li>&lt;custom-class&gt; - A custom class that extends the BatchWritingMechanism class.
  * </ul>
  * @see BatchWritingMechanism
@@ -42,6 +46,8 @@ public class BatchWriting {
     public static final String  JDBC = "JDBC";
     public static final String  Buffered = "Buffered";
     public static final String  OracleJDBC = "Oracle-JDBC";
+    public static final String  JDBCPipelined = "JDBC-Pipelined";
+    public static final String  JDBCMultiRowInsert = "JDBC-MultiRowInsert";
 
     public static final String DEFAULT = None;
 }
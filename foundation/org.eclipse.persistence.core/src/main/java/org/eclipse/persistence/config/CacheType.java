@@ -69,6 +69,15 @@ public class CacheType {
      */
     public static final String  HardWeak = "HardWeak";
 
+    /**
+     * A LFUWeak cache holds all objects in use by the application,
+     * and a fixed size sub-cache of the most frequently used objects using normal (hard) references.
+     * Objects only enter the sub-cache if they are used more frequently than the objects they would replace,
+     * so scans of rarely used objects do not flush the sub-cache.
+     * This guarantees object identity, allows configurable garbage collection, and provides configurable caching benefit.
+     */
+    public static final String  LFUWeak = "LFUWeak";
+
     /**
      * A Soft cache holds all objects read by the application.
      * It does not allow any garbage collection.     *
@@ -78,6 +87,17 @@ public class CacheType {
      */
     public static final String  Full = "Full";
 
+    /**
+     * A Concurrent cache holds all objects read by the application, like the Full cache.
+     * It does not allow any garbage collection, but reading an object that is already built
+     * never blocks or synchronizes on its cache entry.
+     * This guarantees object identity, allows no garbage collection, and provides complete caching benefit
+     * with reduced lock contention on servers with many concurrent threads.
+     * <p>WARNING: This cache type should only be used for a fixed sized number of objects,
+     * otherwise it will lead to an eventual memory leak.
+     */
+    public static final String  Concurrent = "Concurrent";
+
     /**
      * NONE does not cache any objects.
      * It allows any un-referenced objects to be free to garbage collection.
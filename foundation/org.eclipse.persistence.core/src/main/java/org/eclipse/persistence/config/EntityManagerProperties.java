@@ -284,6 +284,16 @@ public final class EntityManagerProperties {
      */
     public static final String PERSISTENCE_CONTEXT_COMMIT_ORDER = PersistenceUnitProperties.PERSISTENCE_CONTEXT_COMMIT_ORDER;
 
+    /**
+     * Defines the maximum number of threads inserting new entities in parallel during a commit or flush operation.
+     * If a commit only inserts new entities, the entity types without foreign key constraints between them
+     * are inserted in parallel, each group on its own connection and in its own transaction,
+     * so the commit is not atomic.
+     * "1" by default, entities are inserted by the committing thread.
+     * @see PersistenceUnitProperties#PERSISTENCE_CONTEXT_UNSAFE_PARALLEL_FLUSH
+     */
+    public static final String PERSISTENCE_CONTEXT_UNSAFE_PARALLEL_FLUSH = PersistenceUnitProperties.PERSISTENCE_CONTEXT_UNSAFE_PARALLEL_FLUSH;
+
     /**
      * Defines {@code EntityManager} cache behavior after a call to flush method
      * followed by a call to clear method.
@@ -341,6 +351,7 @@ public final class EntityManagerProperties {
             add(VALIDATE_EXISTENCE);
             add(ORDER_UPDATES);
             add(PERSISTENCE_CONTEXT_COMMIT_ORDER);
+            add(PERSISTENCE_CONTEXT_UNSAFE_PARALLEL_FLUSH);
             add(FLUSH_CLEAR_CACHE);
             add(COMPOSITE_UNIT_PROPERTIES);
         }
@@ -394,6 +394,65 @@ public class PersistenceUnitProperties {
      */
     public static final String CONNECTION_POOL_SHARED = "shared";
 
+    /**
+     * The {@code concurrent} property.<br>
+     * This can be append to any connection pool property,
+     * i.e. {@code eclipselink.connection-pool.default.concurrent}.<br>
+     * Configures whether the connection pool uses the highly concurrent
+     * {@link org.eclipse.persistence.sessions.server.ConcurrentConnectionPool} implementation.
+     * Acquiring and releasing its connections does not synchronize on the pool, threads reuse
+     * the connection they last used, and waiting threads are handed off released connections in
+     * arrival order. If set on a shared read connection pool, connections remain shared.
+     * <p>
+     * This property is ignored in case external connection pools are used.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT) - indicates the connection pool is synchronized
+     * <li>{@code true} - indicates the concurrent connection pool is used
+     * </ul>
+     *
+     * @see #CONNECTION_POOL
+     * @see #CONNECTION_POOL_VALIDATION_INTERVAL
+     * @see #CONNECTION_POOL_LEAK_DETECTION_THRESHOLD
+     */
+    public static final String CONNECTION_POOL_CONCURRENT = "concurrent";
+
+    /**
+     * The {@code validation-interval} property.<br>
+     * This can be append to any concurrent connection pool property,
+     * i.e. {@code eclipselink.connection-pool.default.validation-interval}.<br>
+     * Configures the time in milliseconds a free connection can be idle before it
+     * is validated when acquired. Connections used more recently are not validated.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing an integer value. 0 validates every connection acquired,
+     * -1 (DEFAULT) only validates connections after a communication failure.
+     * </ul>
+     *
+     * @see #CONNECTION_POOL_CONCURRENT
+     * @see org.eclipse.persistence.sessions.server.ConcurrentConnectionPool#setValidationInterval(long)
+     */
+    public static final String CONNECTION_POOL_VALIDATION_INTERVAL = "validation-interval";
+
+    /**
+     * The {@code leak-detection-threshold} property.<br>
+     * This can be append to any concurrent connection pool property,
+     * i.e. {@code eclipselink.connection-pool.default.leak-detection-threshold}.<br>
+     * Configures the time in milliseconds a connection can be in use before it is logged
+     * as leaked, with the stack that acquired it.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a positive integer value. 0 (DEFAULT) disables leak detection.
+     * </ul>
+     *
+     * @see #CONNECTION_POOL_CONCURRENT
+     * @see org.eclipse.persistence.sessions.server.ConcurrentConnectionPool#setLeakDetectionThreshold(long)
+     */
+    public static final String CONNECTION_POOL_LEAK_DETECTION_THRESHOLD = "leak-detection-threshold";
+
     /**
      * The {@code url} property.<br>
      * This can be append to a connection pool property,
@@ -479,6 +538,9 @@ public class PersistenceUnitProperties {
      * <li> {@code wait} - amount of time to wait for a connection from the pool.
      * <li> {@code url} - JDBC URL for the connection.
      * <li> {@code shared} - only for the read connection pool, shares read connections across threads.
+     * <li> {@code concurrent} - use the highly concurrent connection pool implementation.
+     * <li> {@code validation-interval} - idle time after which a connection of a concurrent pool is validated when acquired.
+     * <li> {@code leak-detection-threshold} - time after which a connection of a concurrent pool in use is reported as leaked.
      * <li> {@code jtaDataSource} - JTA DataSource name to use for the connection, if different than the default.
      * <li> {@code nonJtaDataSource} - non JTA DataSource name to use for the connection, if different than the default.
      * <li> {@code user} - user to use for the connection, if different than the default.
@@ -502,6 +564,9 @@ public class PersistenceUnitProperties {
      * @see #CONNECTION_POOL_JTA_DATA_SOURCE
      * @see #CONNECTION_POOL_NON_JTA_DATA_SOURCE
      * @see #CONNECTION_POOL_SHARED
+     * @see #CONNECTION_POOL_CONCURRENT
+     * @see #CONNECTION_POOL_VALIDATION_INTERVAL
+     * @see #CONNECTION_POOL_LEAK_DETECTION_THRESHOLD
      * @see org.eclipse.persistence.sessions.server.ConnectionPool
      */
     public static final String CONNECTION_POOL = "eclipselink.connection-pool.";
@@ -1107,6 +1172,33 @@ public class PersistenceUnitProperties {
      */
     public static final String CACHE_STATEMENTS_SIZE = "eclipselink.jdbc.cache-statements.size";
 
+    /**
+     * The {@code eclipselink.jdbc.cache-statements.policy} property
+     * specifies how statements are evicted when the internal statement cache is full.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code LRU} (DEFAULT) - the least recently used statement is evicted
+     * <li>{@code LFU} - the least frequently used statement is evicted, this keeps the frequently
+     * used statements when many statements are used only occasionally
+     * </ul>
+     */
+    public static final String CACHE_STATEMENTS_POLICY = "eclipselink.jdbc.cache-statements.policy";
+
+    /**
+     * The {@code eclipselink.jdbc.cache-statements.pinned} property
+     * specifies the number of most frequently used statements that are never evicted
+     * from the internal statement cache. The pinned statements count towards the cache size.
+     * <p>
+     * Default: 0
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a zero or greater integer value.
+     * </ul>
+     */
+    public static final String CACHE_STATEMENTS_PINNED = "eclipselink.jdbc.cache-statements.pinned";
+
     /**
      * The {@code eclipselink.jdbc.cache-statements} property specifies
      * whether JDBC statements should be cached. This is recommended when using
@@ -1322,6 +1414,171 @@ public class PersistenceUnitProperties {
      */
     public static final String CACHE_EXTENDED_LOGGING = "eclipselink.cache.extended.logging";
 
+    /**
+     * Property prefix {@code eclipselink.cache.preload.} indicates whether the shared cache
+     * of an entity type should be preloaded in the background after the persistence unit is deployed.
+     * <p>
+     * Property names formed out of these prefixes by appending either entity
+     * name, or class name (indicating that the property values applies only to
+     * a particular entity) or {@link #DEFAULT} suffix (indicating that the property
+     * value applies to all entities).
+     * <p>
+     * The preload can also be enabled using the {@link org.eclipse.persistence.annotations.CachePreload} annotation.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT)
+     * <li>{@code true}
+     * </ul>
+     *
+     * @see #CACHE_PRELOAD_DEFAULT
+     * @see #CACHE_PRELOAD_THREADS
+     * @see #CACHE_PRELOAD_BATCH_SIZE
+     * @see #CACHE_PRELOAD_DELAY
+     * @see #CACHE_PRELOAD_SNAPSHOT
+     */
+    public static final String CACHE_PRELOAD_ = "eclipselink.cache.preload.";
+
+    /**
+     * Default cache preload property - applies to all entities. May be overridden by
+     * individual entity property with the same prefix.
+     *
+     * @see #CACHE_PRELOAD_
+     */
+    public static final String CACHE_PRELOAD_DEFAULT = CACHE_PRELOAD_ + DEFAULT;
+
+    /**
+     * The {@code eclipselink.cache.preload-threads} property configures the number of
+     * background threads used to preload the cache. Each thread uses a read connection
+     * while it reads a batch, so this bounds the load the preload puts on the database.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a positive integer value, the default is 2
+     * </ul>
+     *
+     * @see #CACHE_PRELOAD_
+     */
+    public static final String CACHE_PRELOAD_THREADS = "eclipselink.cache.preload-threads";
+
+    /**
+     * The {@code eclipselink.cache.preload-batch-size} property configures the number of
+     * objects read by each cache preload query.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a positive integer value, the default is 500
+     * </ul>
+     *
+     * @see #CACHE_PRELOAD_
+     */
+    public static final String CACHE_PRELOAD_BATCH_SIZE = "eclipselink.cache.preload-batch-size";
+
+    /**
+     * The {@code eclipselink.cache.preload-delay} property configures the pause in milliseconds
+     * each cache preload thread takes between batches, to throttle the preload so it does not
+     * compete with live requests.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a zero or greater integer value, the default is 0
+     * </ul>
+     *
+     * @see #CACHE_PRELOAD_
+     */
+    public static final String CACHE_PRELOAD_DELAY = "eclipselink.cache.preload-delay";
+
+    /**
+     * The {@code eclipselink.cache.preload-snapshot} property configures the file used to
+     * record the cache between runs. When the persistence unit is closed the primary keys of the
+     * most recently read objects of each preloaded entity are written to the file,
+     * and when it is next deployed only those objects are preloaded.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a file path
+     * </ul>
+     *
+     * @see #CACHE_PRELOAD_
+     * @see #CACHE_PRELOAD_SNAPSHOT_SIZE
+     */
+    public static final String CACHE_PRELOAD_SNAPSHOT = "eclipselink.cache.preload-snapshot";
+
+    /**
+     * The {@code eclipselink.cache.preload-snapshot-size} property configures the maximum
+     * number of most recently read objects of each entity recorded in the cache preload snapshot.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a positive integer value, the default is 1000
+     * </ul>
+     *
+     * @see #CACHE_PRELOAD_SNAPSHOT
+     */
+    public static final String CACHE_PRELOAD_SNAPSHOT_SIZE = "eclipselink.cache.preload-snapshot-size";
+
+    /**
+     * The {@code eclipselink.cache.snapshot} property configures a file the shared cache
+     * is persisted to, so it can be restored after a restart.
+     * When the persistence unit is closed the rows of the cached objects are written to the file,
+     * and when it is next deployed the objects are restored from it. Only the version columns
+     * are selected from the database to validate the restored objects, objects that changed
+     * since the snapshot was written are not restored.
+     * <p>
+     * Only entities using a version locking policy are written to the snapshot.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a file path
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sessions.IdentityMapAccessor#writeCacheSnapshot(java.io.File)
+     * @see org.eclipse.persistence.sessions.IdentityMapAccessor#restoreCacheSnapshot(java.io.File)
+     */
+    public static final String CACHE_SNAPSHOT = "eclipselink.cache.snapshot";
+
+    /**
+     * The {@code eclipselink.cache.statistics.<ENTITY>} property configures if the cache usage
+     * of an entity is recorded. The hits, misses, puts, evictions, invalidations and lock waits
+     * of the cache are counted with a low overhead, and are available from
+     * {@code JpaCache.getStatistics(Class)} and the runtime services MBean.
+     * Either entity name or class name can be used as {@literal <ENTITY>}.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code true} - record the cache statistics of the entity
+     * <li>{@code false} (DEFAULT) - do not record the cache statistics of the entity
+     * </ul>
+     *
+     * @see #CACHE_STATISTICS_DEFAULT
+     * @see #CACHE_STATISTICS_HOT_KEYS
+     * @see org.eclipse.persistence.descriptors.CachePolicy#setShouldRecordStatistics(boolean)
+     */
+    public static final String CACHE_STATISTICS_ = "eclipselink.cache.statistics.";
+
+    /**
+     * Default cache statistics property - applies to all entities. May be overridden by
+     * individual entity property with the same prefix.
+     *
+     * @see #CACHE_STATISTICS_
+     */
+    public static final String CACHE_STATISTICS_DEFAULT = CACHE_STATISTICS_ + DEFAULT;
+
+    /**
+     * The {@code eclipselink.cache.statistics-hot-keys} property configures the number of
+     * most frequently hit primary keys tracked by the cache statistics of each entity.
+     * A sample of the cache hits is used to track the keys.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a zero or greater integer value, the default is 0 which does not track hot keys
+     * </ul>
+     *
+     * @see #CACHE_STATISTICS_
+     * @see org.eclipse.persistence.descriptors.CachePolicy#setStatisticsHotKeySize(int)
+     */
+    public static final String CACHE_STATISTICS_HOT_KEYS = "eclipselink.cache.statistics-hot-keys";
+
     /**
      * The {@code eclipselink.thread.extended.logging} property control (enable/disable)
      * some additional logging messages like print error message if cached Entity is picked by different thread,
@@ -1523,6 +1780,101 @@ public class PersistenceUnitProperties {
      */
     public static final String QUERY_CACHE = "eclipselink.cache.query-results";
 
+    /**
+     * The {@code eclipselink.cache.query-results.track-dependencies} property configures
+     * if the query results cached by default should only be invalidated by changes
+     * to the attributes used in the query.
+     * <p>
+     * By default any change to an object of a class used in the query invalidates its cached results.
+     * With dependency tracking an update only invalidates the results that use one of the changed attributes,
+     * both for local commits and changes received through cache coordination.
+     * This option requires {@link #QUERY_CACHE} to be enabled.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code false} (DEFAULT)
+     * <li>{@code true}
+     * </ul>
+     *
+     * @see org.eclipse.persistence.config.QueryHints#QUERY_RESULTS_CACHE_TRACK_DEPENDENCIES
+     */
+    public static final String QUERY_CACHE_TRACK_DEPENDENCIES = "eclipselink.cache.query-results.track-dependencies";
+
+    /**
+     * The {@code eclipselink.cache.query-results.max-size} property configures
+     * the maximum estimated bytes of all of the query results cached by the session.
+     * <p>
+     * The results caches of all the queries share this budget, when it is exceeded
+     * the least recently used results of any query are evicted.
+     * Each query can also be given a quota of the budget with the
+     * {@link org.eclipse.persistence.config.QueryHints#QUERY_RESULTS_CACHE_MAX_BYTES} query hint.
+     * The usage of the budget can be monitored through the {@code getQueryResultsCacheStatistics}
+     * and {@code getLargestQueryResultsCaches} JMX operations.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code 0} (DEFAULT) - the query results caches are only bounded by their number of results
+     * <li>the maximum number of bytes, as a long
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sessions.Project#setQueryResultsCacheMaximumSize(long)
+     */
+    public static final String QUERY_CACHE_MAX_SIZE = "eclipselink.cache.query-results.max-size";
+
+    /**
+     * The {@code eclipselink.query-plan-cache.size} property configures the maximum number of
+     * prepared dynamic queries cached by the session by the shape of their selection criteria.
+     * The constants compared to attributes in the criteria are replaced by parameters, so executing
+     * an equivalent Criteria, JPQL or Expression query with different values does not prepare it again.
+     * Criteria queries of the same shape share their prepared query even if they are built from different
+     * {@code CriteriaQuery} instances, as long as they select a single entity from a single root.
+     * The least recently used query is evicted. Constants are only replaced when the database platform
+     * binds all parameters and literals.
+     * The usage of the cache can be monitored through the {@code getQueryPlanCacheStatistics} JMX operation.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code 0} (DEFAULT) - the query plan cache is disabled
+     * <li>the maximum number of queries, as an int
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sessions.Project#setQueryPlanCacheMaxSize(int)
+     */
+    public static final String QUERY_PLAN_CACHE_SIZE = "eclipselink.query-plan-cache.size";
+
+    /**
+     * The {@code eclipselink.jpql.parse-cache.size} property configures the maximum number of
+     * parsed JPQL queries cached by the session by their JPQL string, so creating a query
+     * for the same string does not parse it again.
+     * The least frequently used query is evicted. The usage of the cache, and the queries parsed
+     * the most as they were evicted, can be monitored through the {@code getJPQLParseCacheStatistics}
+     * and {@code getJPQLParseCacheMostMissedQueries} JMX operations.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code 500} (DEFAULT)
+     * <li>the maximum number of queries, as an int, {@code 0} disables the cache
+     * </ul>
+     *
+     * @see org.eclipse.persistence.sessions.Project#setJPQLParseCacheMaxSize(int)
+     */
+    public static final String JPQL_PARSE_CACHE_SIZE = "eclipselink.jpql.parse-cache.size";
+
+    /**
+     * The {@code eclipselink.expression-query-cache.size} property configures the maximum number of
+     * prepared dynamic queries cached by each entity for their selection criteria, so executing
+     * an equal query does not generate its SQL again. The least frequently used query is evicted.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code 50} (DEFAULT)
+     * <li>the maximum number of queries for each entity, as an int, {@code 0} disables the cache
+     * </ul>
+     *
+     * @see org.eclipse.persistence.descriptors.DescriptorQueryManager#setExpressionQueryCacheMaxSize(int)
+     */
+    public static final String EXPRESSION_QUERY_CACHE_SIZE = "eclipselink.expression-query-cache.size";
+
     /**
      * The {@code eclipselink.cache.database-event-listener} property allows integration
      * with a database event notification service.
@@ -2433,6 +2785,23 @@ public class PersistenceUnitProperties {
      */
     public static final String SEQUENCING_START_AT_NEXTVAL = "eclipselink.sequencing.start-sequence-at-nextval";
 
+    /**
+     * The {@code eclipselink.sequencing.adaptive-preallocation} property configures if
+     * table sequences adapt their preallocation size to the rate ids are allocated at.
+     * The allocation size is then the minimum number of ids allocated at a time,
+     * up to 20 times the allocation size under high insert rates, and the next ids are
+     * allocated in the background when using a sequence connection pool.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} - (DEFAULT) always allocate allocationSize ids at a time
+     * <li>{@code true}
+     * </ul>
+     *
+     * @see #JDBC_SEQUENCE_CONNECTION_POOL
+     */
+    public static final String SEQUENCING_ADAPTIVE_PREALLOCATION = "eclipselink.sequencing.adaptive-preallocation";
+
     /**
      * The {@code eclipselink.session.customizer} property configures a
      * {@link SessionCustomizer} used to alter the runtime configuration through
@@ -2522,6 +2891,12 @@ public class PersistenceUnitProperties {
      * batch writing.
      * <li>{@code Oracle-JDBC} - use Oracle's native batch writing. This requires the
      * use of an Oracle JDBC driver.
+     * <li>{@code JDBC-Pipelined} - use JDBC batch writing, executing the parameterized batches
+     * asynchronously, and batches for independent tables concurrently. This requires a JDBC driver
+     * supporting the concurrent execution of statements on the same connection.
+     * <li>{@code JDBC-MultiRowInsert} - use JDBC batch writing, executing the parameterized batches
+     * of inserts into a table as multi-row {@code INSERT ... VALUES (...), (...)} statements,
+     * if the database platform supports them.
      * <li>{@code None} (DEFAULT): do not use batch writing (turn it off).
      * <li>the fully qualified name for a class that extends {@link BatchWritingMechanism} abstract class
      * </ul>
@@ -2542,6 +2917,34 @@ public class PersistenceUnitProperties {
      */
     public static final String BATCH_WRITING_SIZE = "eclipselink.jdbc.batch-writing.size";
 
+    /**
+     * The {@code eclipselink.jdbc.batch-writing.pipeline-depth} property
+     * configures the maximum number of batches executing at the same time
+     * when using {@code JDBC-Pipelined} batch writing, default 4.
+     *
+     * @see #BATCH_WRITING
+     * @see BatchWriting#JDBCPipelined
+     */
+    public static final String BATCH_WRITING_PIPELINE_DEPTH = "eclipselink.jdbc.batch-writing.pipeline-depth";
+
+    /**
+     * The {@code eclipselink.jdbc.batch-writing.bulk-update} property configures
+     * if parameterized batches of updates of the same columns (such as a status
+     * change on many objects) are executed as set-based
+     * {@code UPDATE ... SET col = CASE id WHEN ? THEN ? ... END} statements.
+     * This requires {@code JDBC}, {@code JDBC-MultiRowInsert} or {@code JDBC-Pipelined} batch writing,
+     * and a database platform supporting bulk updates.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"{@code false}" (DEFAULT)
+     * <li>"{@code true}"
+     * </ul>
+     *
+     * @see #BATCH_WRITING
+     */
+    public static final String BATCH_WRITING_BULK_UPDATE = "eclipselink.jdbc.batch-writing.bulk-update";
+
     /**
      * The {@code jakarta.persistence.bean.manager} property is used to set
      * CDI BeanManager when available
@@ -2668,6 +3071,24 @@ public class PersistenceUnitProperties {
      */
     public static final String TEMPORAL_MUTABLE = "eclipselink.temporal.mutable";
 
+    /**
+     * The {@code eclipselink.descriptor.generated-accessors} property configures if
+     * descriptors use generated accessors instead of reflection to instantiate entities and access
+     * their fields, when building objects from rows, rows from objects, and clones.
+     * An accessor class is generated for each entity class when its descriptor is initialized.
+     * Only fields accessed by reflection use the generated accessor, woven entities and property
+     * access are not affected, so this is mainly useful when weaving is disabled.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"{@code false}" (DEFAULT) - reflection is used
+     * <li>"{@code true}" - generated accessors are used
+     * </ul>
+     *
+     * @see org.eclipse.persistence.descriptors.ClassDescriptor#setUsesGeneratedAccessors(boolean)
+     */
+    public static final String GENERATED_ACCESSORS = "eclipselink.descriptor.generated-accessors";
+
     /**
      * The {@code eclipselink.jdbc.allow-native-sql-queries} property
      * specifies whether any user defined SQL is allowed within a persistence
@@ -3176,6 +3597,28 @@ public class PersistenceUnitProperties {
      */
     public static final String PERSISTENCE_CONTEXT_COMMIT_ORDER = "eclipselink.persistence-context.commit-order";
 
+    /**
+     * The {@code eclipselink.persistence-context.unsafe-parallel-flush} property configures the maximum
+     * number of threads inserting new entities in parallel during a commit or flush operation.
+     * <p>
+     * This is intended for bulk loading. If a commit only inserts new entities, the entity types without
+     * foreign key constraints between them are inserted in parallel, each group on its own connection
+     * and in its own transaction, so the commit is <b>not atomic</b>: a failure after the group transactions
+     * have been committed leaves their inserts in the database. This is only used with an internal connection pool
+     * and without a JTA transaction, if nothing has been written in the transaction before the commit,
+     * and if the ids of the entities are not assigned by the database (identity) on insert.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>{@code 1} (DEFAULT) - entities are inserted by the committing thread.
+     * <li>a number greater than 1 - the maximum number of threads (and connections) inserting entities.
+     * </ul>
+     * This property could be specified while creating either EntityManagerFactory or EntityManager;
+     * the latter overrides the former.
+     * @see org.eclipse.persistence.sessions.UnitOfWork#setParallelFlushThreads(int)
+     */
+    public static final String PERSISTENCE_CONTEXT_UNSAFE_PARALLEL_FLUSH = "eclipselink.persistence-context.unsafe-parallel-flush";
+
     /**
      * The {@code eclipselink.profiler} property configures the type of
      * profiler used to capture runtime statistics.
@@ -3714,6 +4157,62 @@ public class PersistenceUnitProperties {
      */
     public static final String COORDINATION_THREAD_POOL_SIZE = "eclipselink.cache.coordination.thread.pool.size";
 
+    /**
+     * The {@code eclipselink.cache.coordination.batch-size}
+     * property configures the maximum number of cache coordination commands sent in one message.
+     * <p>
+     * If greater than 1, commands are queued by the committing thread and propagated in batches,
+     * in commit order, from a single background thread. Changes made redundant by later changes
+     * in the same batch are not sent.
+     * <p>
+     * By default commands are not batched.
+     *
+     * @see #COORDINATION_BATCH_DELAY
+     * @see #COORDINATION_BATCH_QUEUE_SIZE
+     * @see #COORDINATION_BATCH_COMPRESS
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setCommandBatchSize(int)
+     */
+    public static final String COORDINATION_BATCH_SIZE = "eclipselink.cache.coordination.batch-size";
+
+    /**
+     * The {@code eclipselink.cache.coordination.batch-delay}
+     * property configures the maximum time in milliseconds to wait for a batch of
+     * cache coordination commands to fill before it is sent.
+     * <p>
+     * The default is 10 milliseconds.
+     *
+     * @see #COORDINATION_BATCH_SIZE
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setCommandBatchDelay(long)
+     */
+    public static final String COORDINATION_BATCH_DELAY = "eclipselink.cache.coordination.batch-delay";
+
+    /**
+     * The {@code eclipselink.cache.coordination.batch-queue-size}
+     * property configures the maximum number of cache coordination commands waiting to be batched.
+     * <p>
+     * When the queue is full, committing threads wait for space and then propagate their command directly.
+     * The default is 10000.
+     *
+     * @see #COORDINATION_BATCH_SIZE
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setCommandBatchQueueSize(int)
+     */
+    public static final String COORDINATION_BATCH_QUEUE_SIZE = "eclipselink.cache.coordination.batch-queue-size";
+
+    /**
+     * The {@code eclipselink.cache.coordination.batch-compress}
+     * property configures if batches of cache coordination commands are GZIP compressed.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"{@code false}" (DEFAULT)
+     * <li>"{@code true}"
+     * </ul>
+     *
+     * @see #COORDINATION_BATCH_SIZE
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setShouldCompressCommandBatches(boolean)
+     */
+    public static final String COORDINATION_BATCH_COMPRESS = "eclipselink.cache.coordination.batch-compress";
+
     /**
      * The {@code eclipselink.cache.coordination.serializer} property
      * configures how cache coordination serializes message sent between nodes.
@@ -3953,6 +4452,38 @@ public class PersistenceUnitProperties {
      */
     public static final String JDBC_RESULT_SET_ACCESS_OPTIMIZATION = "eclipselink.jdbc.result-set-access-optimization";
 
+    /**
+     * The {@code eclipselink.jdbc.fetch-size.autotuning} property configures if the
+     * JDBC fetch size of select statements is set to the number of rows they typically return,
+     * learned by SQL string, so large results are read in a single round trip instead of
+     * the driver default (10 rows for Oracle). A fetch size set by the
+     * {@code eclipselink.jdbc.fetch-size} query hint is always used.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>{@code false} - (DEFAULT) use the driver default fetch size
+     * <li>{@code true}
+     * </ul>
+     *
+     * @see #JDBC_FETCH_SIZE_AUTOTUNING_MEMORY_BUDGET
+     * @see org.eclipse.persistence.config.QueryHints#JDBC_FETCH_SIZE
+     */
+    public static final String JDBC_FETCH_SIZE_AUTOTUNING = "eclipselink.jdbc.fetch-size.autotuning";
+
+    /**
+     * The {@code eclipselink.jdbc.fetch-size.autotuning.memory-budget} property configures
+     * the number of bytes of rows buffered by a tuned fetch, estimated from the number of columns
+     * selected, which bounds the tuned fetch size.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>a number of bytes - the default is 4194304 (4MB)
+     * </ul>
+     *
+     * @see #JDBC_FETCH_SIZE_AUTOTUNING
+     */
+    public static final String JDBC_FETCH_SIZE_AUTOTUNING_MEMORY_BUDGET = "eclipselink.jdbc.fetch-size.autotuning.memory-budget";
+
     /**
      * The {@code eclipselink.serializer} property specifies class name for session serializer
      * (must implement {@link org.eclipse.persistence.sessions.serializers.Serializer})
@@ -4182,6 +4713,22 @@ public class PersistenceUnitProperties {
      */
     public static final String CONCURRENCY_SEMAPHORE_LOG_TIMEOUT = "eclipselink.concurrency.semaphore.log.timeout";
 
+    /**
+     * <p>
+     * This property control (enable/disable) virtual thread mode of the concurrency manager.
+     * </p>
+     * In virtual thread mode the cache key locks ({@link org.eclipse.persistence.internal.helper.ConcurrencyManager}),
+     * the sequencing connection handler and the internal connection pools wait using {@link java.util.concurrent.locks}
+     * instead of {@code synchronized} and {@link Object#wait()}, so that a virtual thread waiting for a lock does not pin its carrier thread.
+     * Internal connection pools are built as {@link org.eclipse.persistence.sessions.server.ConcurrentConnectionPool}.
+     * The mode applies to cache keys created after it is set.
+     * <ul>
+     * <li>{@code true} - use {@link java.util.concurrent.locks}, recommended when the sessions are used from virtual threads
+     * <li>{@code false} (DEFAULT) - use the object monitors (false is vanilla behavior).
+     * </ul>
+     */
+    public static final String CONCURRENCY_MANAGER_VIRTUAL_THREAD_MODE = "eclipselink.concurrency.manager.virtual.threads";
+
     /**
      * <p>
      * This property control (enable/disable) query result cache validation in {@link org.eclipse.persistence.internal.sessions.UnitOfWorkImpl#internalExecuteQuery}
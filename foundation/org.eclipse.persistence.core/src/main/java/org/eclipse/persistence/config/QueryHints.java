@@ -126,6 +126,18 @@ public class QueryHints {
      */
     public static final String QUERY_RESULTS_CACHE_SIZE = "eclipselink.query-results-cache.size";
 
+    /**
+     * "eclipselink.query-results-cache.max-bytes"
+     * <p>Configures the maximum estimated bytes of the query's results cache.
+     * This is the query's quota of the session query results cache, when it is exceeded
+     * the least recently used results of the query are evicted, and larger results are not cached.
+     * By default the results are only bounded by the size and the session maximum.
+     * Valid values are Long or Strings that can be parsed to long values.
+     * @see org.eclipse.persistence.queries.QueryResultsCachePolicy#setMaximumCachedBytes(long)
+     * @see org.eclipse.persistence.config.PersistenceUnitProperties#QUERY_CACHE_MAX_SIZE
+     */
+    public static final String QUERY_RESULTS_CACHE_MAX_BYTES = "eclipselink.query-results-cache.max-bytes";
+
     /**
      * "eclipselink.query-results-cache.expiry"
      * <p>Configures the time to live, or expiry time of the query's results cache.
@@ -165,6 +177,18 @@ public class QueryHints {
      */
     public static final String QUERY_RESULTS_CACHE_INVALIDATE = "eclipselink.query-results-cache.invalidate-on-change";
 
+    /**
+     * "eclipselink.query-results-cache.track-dependencies"
+     * <p>Configures if the query cache results should only be invalidated by changes to the attributes used in the query.
+     * The attributes used in the query selection criteria, ordering and joins are recorded when the query is prepared,
+     * and an update only invalidates the results if it changes one of these attributes.
+     * For native SQL queries the classes of the tables referenced in the SQL are used.
+     *
+     * Valid values are "true" and "false", false is the default.
+     * @see org.eclipse.persistence.queries.QueryResultsCachePolicy#setShouldTrackDependencies(boolean)
+     */
+    public static final String QUERY_RESULTS_CACHE_TRACK_DEPENDENCIES = "eclipselink.query-results-cache.track-dependencies";
+
     /**
      * "eclipselink.query-results-cache.type"
      * <p>Configures the cache type of the query's results cache.
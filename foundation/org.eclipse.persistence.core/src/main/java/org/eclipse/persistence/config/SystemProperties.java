@@ -258,6 +258,22 @@ public class SystemProperties {
      */
     public static final String CONCURRENCY_SEMAPHORE_LOG_TIMEOUT = "eclipselink.concurrency.semaphore.log.timeout";
 
+    /**
+     * <p>
+     * This property control (enable/disable) virtual thread mode of the concurrency manager.
+     * </p>
+     * In virtual thread mode the cache key locks ({@link org.eclipse.persistence.internal.helper.ConcurrencyManager}),
+     * the sequencing connection handler and the internal connection pools wait using {@link java.util.concurrent.locks}
+     * instead of {@code synchronized} and {@link Object#wait()}, so that a virtual thread waiting for a lock does not pin its carrier thread.
+     * Internal connection pools are built as {@link org.eclipse.persistence.sessions.server.ConcurrentConnectionPool}.
+     * The mode applies to cache keys created after it is set.
+     * <ul>
+     * <li><code>true</code> - use {@link java.util.concurrent.locks}, recommended when the sessions are used from virtual threads
+     * <li><code>false</code> (DEFAULT) - use the object monitors (false is vanilla behavior).
+     * </ul>
+     */
+    public static final String CONCURRENCY_MANAGER_VIRTUAL_THREAD_MODE = "eclipselink.concurrency.manager.virtual.threads";
+
     /**
      * <p>
      * This property control which ASM implementation is used for classes bytecode modification.
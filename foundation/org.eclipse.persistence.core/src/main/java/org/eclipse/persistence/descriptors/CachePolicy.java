@@ -122,6 +122,24 @@ public class CachePolicy implements Cloneable, Serializable {
     /** Allows configuration of database change event notification. */
     protected DatabaseChangeNotificationType databaseChangeNotificationType;
 
+    /** Maximum number of bytes of rows cached off-heap, 0 (the default) disables the off-heap cache. */
+    protected long offHeapCacheSize;
+
+    /** Allows the cache to be preloaded in the background after login. */
+    protected boolean shouldPreload;
+
+    /** Maximum number of objects to preload, -1 (the default) preloads all objects. */
+    protected int preloadSize = -1;
+
+    /** Name of the descriptor query selecting the objects to preload, by default all objects are preloaded. */
+    protected String preloadQueryName;
+
+    /** Records the cache usage of the class, null (the default) if statistics are not recorded. */
+    protected transient CacheStatistics statistics;
+
+    /** Number of most frequently hit primary keys tracked by the statistics, 0 (the default) does not track hot keys. */
+    protected int statisticsHotKeySize;
+
     /**
      * PUBLIC:
      * Return a new descriptor.
@@ -151,6 +169,153 @@ public void setDatabaseChangeNotificationType(DatabaseChangeNotificationType dat
         this.databaseChangeNotificationType = databaseChangeNotificationType;
     }
 
+    /**
+     * PUBLIC:
+     * Return the maximum number of bytes of rows cached off-heap for this class.
+     * @see #setOffHeapCacheSize(long)
+     */
+    public long getOffHeapCacheSize() {
+        return offHeapCacheSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of bytes of rows cached off-heap for this class.
+     * When set, the database row of each object built into the shared cache is also stored
+     * in a compact form outside of the Java heap. A primary key query for an object no longer
+     * in the identity map rebuilds the object from the stored row instead of accessing the database.
+     * This allows a large number of objects to be cached without increasing garbage collection time.
+     * Once the size is exceeded the oldest rows are evicted.
+     * The default is 0, which does not cache rows off-heap.
+     * The off-heap cache is only used with a shared cache isolation.
+     */
+    public void setOffHeapCacheSize(long offHeapCacheSize) {
+        this.offHeapCacheSize = offHeapCacheSize;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if rows should be cached off-heap.
+     */
+    public boolean hasOffHeapCache() {
+        return (this.offHeapCacheSize > 0) && isSharedIsolation();
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the cache is preloaded in the background after login.
+     * @see #setShouldPreload(boolean)
+     */
+    public boolean shouldPreload() {
+        return shouldPreload;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the cache is preloaded in the background after login.
+     * Preloading reads the objects of the class (and its subclasses) into the shared cache
+     * so the first requests after a restart do not all go to the database.
+     * Preloading is only useful with a cache type and size that can hold the objects,
+     * such as a FULL or CONCURRENT identity map.
+     * The default is false.
+     * @see org.eclipse.persistence.internal.identitymaps.CachePreloader
+     */
+    public void setShouldPreload(boolean shouldPreload) {
+        this.shouldPreload = shouldPreload;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of objects to preload, -1 preloads all objects.
+     */
+    public int getPreloadSize() {
+        return preloadSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of objects to preload, -1 (the default) preloads all objects.
+     */
+    public void setPreloadSize(int preloadSize) {
+        this.preloadSize = preloadSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the name of the descriptor query used to select the objects to preload.
+     */
+    public String getPreloadQueryName() {
+        return preloadQueryName;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the name of the descriptor query used to select the objects to preload.
+     * The query must be a read all query for the class, by default all objects are preloaded.
+     * Its objects are read in batches in primary key order, any ordering of the query is ignored.
+     */
+    public void setPreloadQueryName(String preloadQueryName) {
+        this.preloadQueryName = preloadQueryName;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the cache usage of the class is recorded.
+     * @see #setShouldRecordStatistics(boolean)
+     */
+    public boolean shouldRecordStatistics() {
+        return this.statistics != null;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the cache usage of the class is recorded.
+     * The hits, misses, puts, evictions, invalidations and lock waits of the cache are counted
+     * with a low overhead, so they can be monitored in production without a session profiler.
+     * Disabling the recording discards the recorded statistics.
+     * The default is false.
+     * @see #getStatistics()
+     */
+    public void setShouldRecordStatistics(boolean shouldRecordStatistics) {
+        if (shouldRecordStatistics) {
+            if (this.statistics == null) {
+                this.statistics = new CacheStatistics(this.statisticsHotKeySize);
+            }
+        } else {
+            this.statistics = null;
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Return the cache usage statistics of the class, null if statistics are not recorded.
+     */
+    public CacheStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of most frequently hit primary keys tracked by the statistics.
+     */
+    public int getStatisticsHotKeySize() {
+        return statisticsHotKeySize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of most frequently hit primary keys tracked by the statistics.
+     * A sample of the cache hits is used to track the keys.
+     * The default is 0, which does not track hot keys.
+     * Changing the size while recording restarts the statistics.
+     */
+    public void setStatisticsHotKeySize(int statisticsHotKeySize) {
+        this.statisticsHotKeySize = statisticsHotKeySize;
+        if ((this.statistics != null) && (this.statistics.getHotKeySize() != statisticsHotKeySize)) {
+            this.statistics = new CacheStatistics(statisticsHotKeySize);
+        }
+    }
+
     /**
      * INTERNAL:
      * Allow the inheritance properties of the descriptor to be initialized.
@@ -180,6 +345,15 @@ public void initializeFromParent(CachePolicy parentPolicy, ClassDescriptor descr
                 && (parentPolicy.getCacheSynchronizationType() != UNDEFINED_OBJECT_CHANGE_BEHAVIOR)) {
             setCacheSynchronizationType(parentPolicy.getCacheSynchronizationType());
         }
+        if (getOffHeapCacheSize() == 0) {
+            setOffHeapCacheSize(parentPolicy.getOffHeapCacheSize());
+        }
+        if (!shouldRecordStatistics() && parentPolicy.shouldRecordStatistics()) {
+            if (getStatisticsHotKeySize() == 0) {
+                setStatisticsHotKeySize(parentPolicy.getStatisticsHotKeySize());
+            }
+            setShouldRecordStatistics(true);
+        }
     }
 
     /**
@@ -323,7 +497,11 @@ public void setCacheIndexes(Map<List<DatabaseField>, CacheIndex> cacheIndexes) {
     @Override
     public CachePolicy clone() {
         try {
-            return (CachePolicy)super.clone();
+            CachePolicy clone = (CachePolicy)super.clone();
+            if (this.statistics != null) {
+                clone.statistics = new CacheStatistics(this.statisticsHotKeySize);
+            }
+            return clone;
         } catch (CloneNotSupportedException cnse) {
             throw new InternalError(cnse.getMessage());
         }
@@ -1016,6 +1194,18 @@ public void useFullIdentityMap() {
         setIdentityMapClass(ClassConstants.FullIdentityMap_Class);
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the concurrent identity map.
+     * This map caches all instances read like the full identity map,
+     * but reading an already built object does not block or synchronize on the cache key,
+     * which reduces contention with a large number of concurrent threads.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useConcurrentIdentityMap() {
+        setIdentityMapClass(ClassConstants.ConcurrentIdentityMap_Class);
+    }
+
     /**
      * PUBLIC:
      * Set the class of identity map to be the hard cache weak identity map.
@@ -1028,6 +1218,18 @@ public void useHardCacheWeakIdentityMap() {
         setIdentityMapClass(ClassConstants.HardCacheWeakIdentityMap_Class);
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the LFU cache weak identity map.
+     * This map uses weak references to only cache object in-memory.
+     * It also includes a secondary fixed sized hard cache of the most frequently used objects,
+     * which is not flushed by reading large numbers of rarely used objects.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useLFUCacheWeakIdentityMap() {
+        setIdentityMapClass(ClassConstants.LFUCacheWeakIdentityMap_Class);
+    }
+
     /**
      * PUBLIC:
      * Set the class of identity map to be the soft identity map.
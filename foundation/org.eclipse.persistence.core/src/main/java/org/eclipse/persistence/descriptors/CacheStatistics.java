@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.descriptors;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p><b>Purpose</b>:
+ * Record the cache usage of a class, to find poorly cached classes at runtime
+ * without enabling a session profiler.
+ * <p>
+ * <b>Description</b>:
+ * The counters are {@link LongAdder}s, so recording does not contend between threads.
+ * Hits and misses are recorded by primary key queries checking the cache,
+ * puts when a new cache key is added to the identity map,
+ * evictions when the identity map releases an object because of its size or garbage collection,
+ * invalidations when a cached object is invalidated,
+ * and lock waits when a thread had to wait to acquire the lock of a cache key.
+ * Evictions and lock waits are recorded by the class that owns the identity map,
+ * which is the root class in the case of inheritance.
+ * <p>
+ * Optionally a sample of the cache hits is used to track the most frequently hit primary keys.
+ * The number of tracked keys is bounded, the counts are halved when the table is full
+ * so that keys that are no longer hit are dropped.
+ *
+ * @see CachePolicy#setShouldRecordStatistics(boolean)
+ * @see CachePolicy#setStatisticsHotKeySize(int)
+ * @since EclipseLink 5.0
+ */
+public class CacheStatistics {
+    /** One hit out of HOT_KEY_SAMPLE_MASK + 1 is sampled to track hot keys. */
+    protected static final int HOT_KEY_SAMPLE_MASK = 15;
+
+    /** Number of keys tracked for each hot key reported, more keys give more accurate results. */
+    protected static final int HOT_KEY_TRACKING_FACTOR = 4;
+
+    protected final LongAdder hits = new LongAdder();
+    protected final LongAdder misses = new LongAdder();
+    protected final LongAdder puts = new LongAdder();
+    protected final LongAdder evictions = new LongAdder();
+    protected final LongAdder invalidations = new LongAdder();
+    protected final LongAdder lockWaits = new LongAdder();
+    /** Total time waited for cache key locks in nanoseconds. */
+    protected final LongAdder lockWaitTime = new LongAdder();
+
+    /** Number of hot keys reported, 0 does not track hot keys. */
+    protected final int hotKeySize;
+
+    /** Maximum number of keys tracked. */
+    protected final int hotKeyCapacity;
+
+    /** Sampled hit count by primary key, null if hot keys are not tracked. */
+    protected final Map<Object, LongAdder> hotKeyCounts;
+
+    /**
+     * PUBLIC:
+     * Return new statistics that do not track hot keys.
+     */
+    public CacheStatistics() {
+        this(0);
+    }
+
+    /**
+     * PUBLIC:
+     * Return new statistics that track the given number of most frequently hit primary keys.
+     */
+    public CacheStatistics(int hotKeySize) {
+        this.hotKeySize = Math.max(hotKeySize, 0);
+        this.hotKeyCapacity = this.hotKeySize * HOT_KEY_TRACKING_FACTOR;
+        this.hotKeyCounts = (this.hotKeySize > 0) ? new ConcurrentHashMap<>(this.hotKeyCapacity) : null;
+    }
+
+    /**
+     * INTERNAL:
+     * Record a cache hit.
+     */
+    public void recordHit() {
+        this.hits.increment();
+    }
+
+    /**
+     * INTERNAL:
+     * Record a cache miss.
+     */
+    public void recordMiss() {
+        this.misses.increment();
+    }
+
+    /**
+     * INTERNAL:
+     * Record a new cache key added to the identity map.
+     */
+    public void recordPut() {
+        this.puts.increment();
+    }
+
+    /**
+     * INTERNAL:
+     * Record an object released by the identity map.
+     */
+    public void recordEviction() {
+        this.evictions.increment();
+    }
+
+    /**
+     * INTERNAL:
+     * Record a cached object being invalidated.
+     */
+    public void recordInvalidation() {
+        this.invalidations.increment();
+    }
+
+    /**
+     * INTERNAL:
+     * Record a wait to acquire the lock of a cache key.
+     * @param waitNanos the time waited in nanoseconds
+     */
+    public void recordLockWait(long waitNanos) {
+        this.lockWaits.increment();
+        this.lockWaitTime.add(waitNanos);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the current hit should be sampled to track hot keys.
+     * This allows the caller to avoid extracting the primary key when not sampled.
+     */
+    public boolean shouldSampleHotKey() {
+        return (this.hotKeyCounts != null) && ((ThreadLocalRandom.current().nextInt() & HOT_KEY_SAMPLE_MASK) == 0);
+    }
+
+    /**
+     * INTERNAL:
+     * Record a sampled hit of the primary key.
+     */
+    public void recordHotKey(Object primaryKey) {
+        if ((this.hotKeyCounts == null) || (primaryKey == null)) {
+            return;
+        }
+        LongAdder count = this.hotKeyCounts.get(primaryKey);
+        if (count == null) {
+            if (this.hotKeyCounts.size() >= this.hotKeyCapacity) {
+                ageHotKeys();
+                // If every key is still hot the new key is dropped.
+                if (this.hotKeyCounts.size() >= this.hotKeyCapacity) {
+                    return;
+                }
+            }
+            count = this.hotKeyCounts.computeIfAbsent(primaryKey, key -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    /**
+     * INTERNAL:
+     * Halve the hot key counts, dropping the keys that are no longer hit.
+     */
+    protected void ageHotKeys() {
+        synchronized (this.hotKeyCounts) {
+            if (this.hotKeyCounts.size() < this.hotKeyCapacity) {
+                return;
+            }
+            for (Iterator<LongAdder> iterator = this.hotKeyCounts.values().iterator(); iterator.hasNext();) {
+                LongAdder count = iterator.next();
+                long half = count.sumThenReset() / 2;
+                if (half == 0) {
+                    iterator.remove();
+                } else {
+                    count.add(half);
+                }
+            }
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of primary key queries that found the object in the cache.
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of primary key queries that did not find the object in the cache.
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the ratio of hits to primary key queries, 0 if no queries were recorded.
+     */
+    public double getHitRatio() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return (total == 0) ? 0 : ((double)hits / total);
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of new cache keys added to the identity map.
+     */
+    public long getPuts() {
+        return this.puts.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of objects released by the identity map because of its size or garbage collection.
+     */
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of cached objects invalidated.
+     */
+    public long getInvalidations() {
+        return this.invalidations.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of times a thread waited to acquire the lock of a cache key.
+     */
+    public long getLockWaits() {
+        return this.lockWaits.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the total time waited to acquire the locks of cache keys in nanoseconds.
+     */
+    public long getLockWaitTime() {
+        return this.lockWaitTime.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the average time waited to acquire the lock of a cache key in nanoseconds.
+     */
+    public long getAverageLockWaitTime() {
+        long waits = getLockWaits();
+        return (waits == 0) ? 0 : (getLockWaitTime() / waits);
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of hot keys reported, 0 if hot keys are not tracked.
+     */
+    public int getHotKeySize() {
+        return this.hotKeySize;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the most frequently hit primary keys with their sampled hit counts, most frequent first.
+     * The counts are relative, only a sample of the hits is recorded and the counts are periodically halved.
+     */
+    public Map<Object, Long> getHotKeys() {
+        if (this.hotKeyCounts == null) {
+            return new LinkedHashMap<>();
+        }
+        List<Map.Entry<Object, Long>> entries = new ArrayList<>(this.hotKeyCounts.size());
+        for (Map.Entry<Object, LongAdder> entry : this.hotKeyCounts.entrySet()) {
+            entries.add(Map.entry(entry.getKey(), entry.getValue().sum()));
+        }
+        entries.sort(Map.Entry.<Object, Long>comparingByValue().reversed());
+        Map<Object, Long> hotKeys = new LinkedHashMap<>();
+        for (int index = 0; (index < entries.size()) && (index < this.hotKeySize); index++) {
+            Map.Entry<Object, Long> entry = entries.get(index);
+            hotKeys.put(entry.getKey(), entry.getValue());
+        }
+        return hotKeys;
+    }
+
+    /**
+     * PUBLIC:
+     * Reset all of the statistics to 0.
+     */
+    public void reset() {
+        this.hits.reset();
+        this.misses.reset();
+        this.puts.reset();
+        this.evictions.reset();
+        this.invalidations.reset();
+        this.lockWaits.reset();
+        this.lockWaitTime.reset();
+        if (this.hotKeyCounts != null) {
+            this.hotKeyCounts.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(hits=" + getHits() + ", misses=" + getMisses() + ", puts=" + getPuts()
+                + ", evictions=" + getEvictions() + ", invalidations=" + getInvalidations()
+                + ", lockWaits=" + getLockWaits() + ", averageLockWaitTime=" + getAverageLockWaitTime() + ")";
+    }
+}
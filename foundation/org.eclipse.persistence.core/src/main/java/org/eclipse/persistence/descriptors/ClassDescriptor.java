@@ -355,6 +355,12 @@ public class ClassDescriptor extends CoreDescriptor<AttributeGroup, DescriptorEv
      */
     protected boolean shouldLockForClone = true;
 
+    /**
+     * Defines if generated accessors are used instead of reflection to instantiate the class and access its instance variables,
+     * null for the project's default.
+     */
+    protected Boolean usesGeneratedAccessors;
+
     /**
      * PUBLIC:
      * Return a new descriptor.
@@ -3865,6 +3871,9 @@ public void postInitialize(AbstractSession session) throws DescriptorException {
         if (hasFetchGroupManager()) {
             getFetchGroupManager().postInitialize(session);
         }
+        if (this.usesGeneratedAccessors == null) {
+            this.usesGeneratedAccessors = session.getProject().getDefaultUsesGeneratedAccessors();
+        }
         getObjectBuilder().postInitialize(session);
         getQueryManager().postInitialize(session);
 
@@ -5237,6 +5246,20 @@ public void setShouldLockForClone(boolean shouldLockForClone) {
         this.shouldLockForClone = shouldLockForClone;
     }
 
+    /**
+     * ADVANCED:
+     * Set if generated accessors are used instead of reflection to instantiate the class and access the instance variables
+     * of its mappings, when objects are built from rows, rows from objects, and when objects are cloned.
+     * An accessor class is generated for the class when the descriptor is initialized.
+     * Only instance variables accessed by reflection are accessed by the generated accessor, woven classes and
+     * property (get/set method) access are not affected.
+     * By default the project's default is used, which is false.
+     * @see org.eclipse.persistence.sessions.Project#setDefaultUsesGeneratedAccessors(boolean)
+     */
+    public void setUsesGeneratedAccessors(boolean usesGeneratedAccessors) {
+        this.usesGeneratedAccessors = usesGeneratedAccessors;
+    }
+
     /**
      * PUBLIC:
      * When the <CODE>shouldOnlyRefreshCacheIfNewerVersion</CODE> argument passed into this method is <CODE>true</CODE>,
@@ -5509,6 +5532,14 @@ public boolean shouldUseCacheIdentityMap() {
         return ClassConstants.CacheIdentityMap_Class.equals(getIdentityMapClass());
     }
 
+    /**
+     * PUBLIC:
+     * Return true if this descriptor is using ConcurrentIdentityMap
+     */
+    public boolean shouldUseConcurrentIdentityMap() {
+        return ClassConstants.ConcurrentIdentityMap_Class.equals(getIdentityMapClass());
+    }
+
     /**
      * PUBLIC:
      * Return true if this descriptor is using FullIdentityMap
@@ -5541,6 +5572,14 @@ public boolean shouldUseHardCacheWeakIdentityMap() {
         return ClassConstants.HardCacheWeakIdentityMap_Class.equals(getIdentityMapClass());
     }
 
+    /**
+     * PUBLIC:
+     * Return true if this descriptor is using LFUCacheWeakIdentityMap.
+     */
+    public boolean shouldUseLFUCacheWeakIdentityMap() {
+        return ClassConstants.LFUCacheWeakIdentityMap_Class.equals(getIdentityMapClass());
+    }
+
     /**
      * PUBLIC:
      * Return true if this descriptor is using NoIdentityMap
@@ -5841,6 +5880,17 @@ public void useFullIdentityMap() {
         getCachePolicy().useFullIdentityMap();
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the concurrent identity map.
+     * This map caches all instances read like the full identity map,
+     * but reading an already built object does not block or synchronize on the cache key.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useConcurrentIdentityMap() {
+        getCachePolicy().useConcurrentIdentityMap();
+    }
+
     /**
      * PUBLIC:
      * Set the class of identity map to be the hard cache weak identity map.
@@ -5853,6 +5903,17 @@ public void useHardCacheWeakIdentityMap() {
         getCachePolicy().useHardCacheWeakIdentityMap();
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the LFU cache weak identity map.
+     * This map uses weak references to only cache object in-memory.
+     * It also includes a secondary fixed sized hard cache of the most frequently used objects.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useLFUCacheWeakIdentityMap() {
+        getCachePolicy().useLFUCacheWeakIdentityMap();
+    }
+
     /**
      * PUBLIC:
      * Set the class of identity map to be the soft identity map.
@@ -5997,6 +6058,15 @@ public void useSoftCacheWeakIdentityMap() {
         setIdentityMapClass(ClassConstants.SoftCacheWeakIdentityMap_Class);
     }
 
+    /**
+     * ADVANCED:
+     * Return if generated accessors are used instead of reflection to instantiate the class and access its instance variables.
+     * @see #setUsesGeneratedAccessors(boolean)
+     */
+    public boolean usesGeneratedAccessors() {
+        return (this.usesGeneratedAccessors != null) && this.usesGeneratedAccessors;
+    }
+
     /**
      * PUBLIC:
      * Return true if the receiver uses write (optimistic) locking.
@@ -148,6 +148,7 @@ public DescriptorQueryManager() {
     /**
      * ADVANCED:
      * Set the max size of the expression query cache for avoiding regenerated dynamic query SQL.
+     * The least frequently used query is evicted, the default size is 50.
      */
     public void setExpressionQueryCacheMaxSize(int maxSize) {
         this.cachedExpressionQueries = new ConcurrentFixedCache(maxSize);
@@ -1734,7 +1735,7 @@ private ConcurrentFixedCache getCachedUpdateCalls() {
      */
     private ConcurrentFixedCache getCachedExpressionQueries() {
         if (cachedExpressionQueries == null) {
-            this.cachedExpressionQueries = new ConcurrentFixedCache(20);
+            this.cachedExpressionQueries = new ConcurrentFixedCache(50);
         }
         return this.cachedExpressionQueries;
     }
@@ -1822,4 +1823,12 @@ public void removeCachedExpressionQuery(DatabaseQuery query) {
         getCachedExpressionQueries().remove(query);
     }
 
+    /**
+     * INTERNAL:
+     * Return the expression query cache, to monitor its usage.
+     */
+    public ConcurrentFixedCache getExpressionQueryCache() {
+        return getCachedExpressionQueries();
+    }
+
 }
@@ -25,6 +25,7 @@
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
 import org.eclipse.persistence.queries.ReadQuery;
 
 import java.io.BufferedWriter;
@@ -343,6 +344,11 @@ public Expression normalize(ExpressionNormalizer normalizer) {
                 query.getQueryResultsCachePolicy().getInvalidationClasses().add(this.queryClass);
             }
         }
+        // Sub-selects are recorded in the outer query's dependencies.
+        QueryResultsCachePolicy dependencyPolicy = normalizer.getStatement().getQueryResultsDependencyPolicy();
+        if ((dependencyPolicy != null) && (this.queryClass != null)) {
+            dependencyPolicy.getInvalidationClasses().add(this.queryClass);
+        }
 
         return this;
     }
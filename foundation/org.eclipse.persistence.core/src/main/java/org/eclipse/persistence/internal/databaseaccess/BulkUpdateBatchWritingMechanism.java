@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.OptimisticLockException;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.UpdateObjectQuery;
+
+/**
+ * INTERNAL:
+ * <p>Parameterized batch writing mechanism that executes batches of updates of the same columns of
+ * a single table as set-based statements:
+ * {@code UPDATE T SET COL = CASE ID WHEN ? THEN ? WHEN ? THEN ? END WHERE (<row 1 where>) OR (<row 2 where>)}.
+ * The unit of work writes the changed objects of a class together, and objects with the same changed
+ * direct fields have the same update SQL, so a flush changing the same column(s) of many objects
+ * is executed in a single statement execution.</p>
+ *
+ * <p>The where clause of each row is kept, so the version (or other optimistic lock) check of each row
+ * is still done by the database, and the row count of the statement is checked against the number of rows.
+ * The objects' version values are updated by their update queries as usual.</p>
+ *
+ * <p>Batches of other statements use JDBC batch writing, or multi-row inserts if enabled.
+ * A batch is split into several statements if it has more parameters than the platform's
+ * {@link DatabasePlatform#getMaxBulkUpdateParameters()}.</p>
+ *
+ * @see DatabasePlatform#setUsesBulkUpdateBatchWriting(boolean)
+ * @since EclipseLink 5.0
+ */
+public class BulkUpdateBatchWritingMechanism extends MultiRowInsertBatchWritingMechanism {
+
+    protected static final String UPDATE = "UPDATE ";
+    protected static final String SET = " SET ";
+    protected static final String WHERE = " WHERE ";
+    protected static final String ASSIGNMENT = " = ?";
+
+    /**
+     * The shape of a batched update statement:
+     * the updated columns, the where clause, and the index of the primary key parameter.
+     */
+    protected static class BulkUpdate {
+        protected final String prefix;
+        protected final String key;
+        protected final List<String> columns;
+        protected final String whereClause;
+        protected final int keyIndex;
+
+        protected BulkUpdate(String prefix, String key, List<String> columns, String whereClause, int keyIndex) {
+            this.prefix = prefix;
+            this.key = key;
+            this.columns = columns;
+            this.whereClause = whereClause;
+            this.keyIndex = keyIndex;
+        }
+    }
+
+    public BulkUpdateBatchWritingMechanism() {
+        super();
+    }
+
+    public BulkUpdateBatchWritingMechanism(DatabaseAccessor databaseAccessor) {
+        super(databaseAccessor);
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the batch as bulk updates if possible, otherwise as multi-row inserts or a JDBC batch.
+     */
+    @Override
+    protected void executeBatch(AbstractSession session) {
+        BulkUpdate update = null;
+        if (this.parameters.size() > 1) {
+            update = getBulkUpdate(session);
+        }
+        if (update == null) {
+            super.executeBatch(session);
+            return;
+        }
+        try {
+            int size = this.parameters.size();
+            int rowSize = this.parameters.get(0).size() + update.columns.size();
+            int maxRows = Math.max(1, Math.min(this.maxBatchSize, session.getPlatform().getMaxBulkUpdateParameters() / rowSize));
+            for (int start = 0; start < size; start += maxRows) {
+                int rows = Math.min(maxRows, size - start);
+                Object rowCount = this.databaseAccessor.basicExecuteCall(buildBulkUpdateCall(update, start, rows), null, session, false);
+                if (this.previousCall.hasOptimisticLock() && (rowCount instanceof Integer) && ((Integer)rowCount != rows)) {
+                    // The rows not updated are unknown, so all the rows of the statement are reported.
+                    Object object = null;
+                    DatabaseQuery query = this.previousCall.getQuery();
+                    if (query.isUpdateObjectQuery()) {
+                        object = ((UpdateObjectQuery)query).getObject();
+                    }
+                    throw OptimisticLockException.batchStatementExecutionFailureWithParametersList(object,
+                            new ArrayList<>(this.parameters.subList(start, start + rows)), query.getSQLString());
+                }
+            }
+        } finally {
+            // Reset the batched sql string
+            this.clear();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the batch is executed as bulk updates or multi-row inserts instead of a JDBC batch.
+     */
+    @Override
+    protected boolean isSetBased(AbstractSession session) {
+        return super.isSetBased(session) || ((this.parameters.size() > 1) && (getBulkUpdate(session) != null));
+    }
+
+    /**
+     * INTERNAL:
+     * Return the shape of the batched update statement,
+     * or null if the batch cannot be executed as bulk updates.
+     */
+    protected BulkUpdate getBulkUpdate(AbstractSession session) {
+        DatabasePlatform platform = session.getPlatform();
+        if (!platform.usesBulkUpdateBatchWriting()) {
+            return null;
+        }
+        DatabaseCall call = this.previousCall;
+        DatabaseQuery query = call.getQuery();
+        if ((query == null) || !query.isUpdateObjectQuery() || call.shouldReturnGeneratedKeys()
+                || call.isCallableStatementRequired() || call.shouldBuildOutputRow() || call.isLOBLocatorNeeded()) {
+            return null;
+        }
+        // Each row is identified by its primary key in the CASE expressions.
+        ClassDescriptor descriptor = query.getDescriptor();
+        if ((descriptor == null) || descriptor.hasReturningPolicy()
+                || (descriptor.getTables().size() != 1) || (descriptor.getPrimaryKeyFields().size() != 1)) {
+            return null;
+        }
+        String sql = call.getSQLString();
+        if (!sql.startsWith(UPDATE) || (sql.indexOf('\'') != -1)) {
+            return null;
+        }
+        int setIndex = sql.indexOf(SET);
+        int whereIndex = sql.indexOf(WHERE, setIndex);
+        if ((setIndex == -1) || (whereIndex == -1)) {
+            return null;
+        }
+        // Each updated column must be assigned a parameter.
+        List<String> columns = new ArrayList<>();
+        for (String assignment : sql.substring(setIndex + SET.length(), whereIndex).split(", ")) {
+            if (!assignment.endsWith(ASSIGNMENT) || (assignment.indexOf('?') != (assignment.length() - 1))
+                    || (assignment.indexOf('(') != -1)) {
+                return null;
+            }
+            columns.add(assignment.substring(0, assignment.length() - ASSIGNMENT.length()));
+        }
+        String whereClause = sql.substring(whereIndex + WHERE.length());
+        String key = descriptor.getPrimaryKeyFields().get(0).getNameDelimited(platform);
+        String keyComparison = "(" + key + ASSIGNMENT + ")";
+        int keyPosition = whereClause.indexOf(keyComparison);
+        if ((keyPosition == -1) || (keyPosition != whereClause.lastIndexOf(keyComparison))) {
+            return null;
+        }
+        int keyIndex = columns.size();
+        int whereParameters = 0;
+        for (int index = 0; index < whereClause.length(); index++) {
+            if (whereClause.charAt(index) == '?') {
+                if (index < keyPosition) {
+                    keyIndex++;
+                }
+                whereParameters++;
+            }
+        }
+        int rowSize = this.parameters.get(0).size();
+        if ((columns.size() + whereParameters) != rowSize) {
+            return null;
+        }
+        // Each row binds its key and value for each column, and its where clause.
+        if (platform.getMaxBulkUpdateParameters() < ((rowSize + columns.size()) * 2)) {
+            return null;
+        }
+        // An object updated twice in the batch must be updated in order.
+        Set<Object> keys = new HashSet<>();
+        for (List rowParameters : this.parameters) {
+            if (!keys.add(rowParameters.get(keyIndex))) {
+                return null;
+            }
+        }
+        return new BulkUpdate(sql.substring(0, setIndex + SET.length()), key, columns, whereClause, keyIndex);
+    }
+
+    /**
+     * INTERNAL:
+     * Build the call updating the rows, assigning each column a CASE expression on the primary key,
+     * and selecting the rows by the where clause of each row.
+     */
+    protected DatabaseCall buildBulkUpdateCall(BulkUpdate update, int start, int rows) {
+        DatabaseCall call = (DatabaseCall)this.previousCall.clone();
+        if (rows == 1) {
+            // A single row is updated by the batched statement.
+            call.setParameters(new ArrayList<>(this.parameters.get(start)));
+            return call;
+        }
+        int columnCount = update.columns.size();
+        StringBuilder writer = new StringBuilder(update.prefix.length() + (rows * (update.whereClause.length() + (columnCount * 20))));
+        List<Object> rowParameters = new ArrayList<>(rows * (this.parameters.get(0).size() + columnCount));
+        writer.append(update.prefix);
+        for (int column = 0; column < columnCount; column++) {
+            if (column > 0) {
+                writer.append(", ");
+            }
+            writer.append(update.columns.get(column));
+            writer.append(" = CASE ");
+            writer.append(update.key);
+            for (int index = start; index < (start + rows); index++) {
+                List row = this.parameters.get(index);
+                writer.append(" WHEN ? THEN ?");
+                rowParameters.add(row.get(update.keyIndex));
+                rowParameters.add(row.get(column));
+            }
+            writer.append(" END");
+        }
+        writer.append(WHERE);
+        for (int index = start; index < (start + rows); index++) {
+            List row = this.parameters.get(index);
+            if (index > start) {
+                writer.append(" OR ");
+            }
+            writer.append('(');
+            writer.append(update.whereClause);
+            writer.append(')');
+            rowParameters.addAll(row.subList(columnCount, row.size()));
+        }
+        call.setSQLStringInternal(writer.toString());
+        call.setParameters(rowParameters);
+        return call;
+    }
+}
@@ -45,6 +45,7 @@
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.RecordLayout;
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.mappings.structures.ObjectRelationalDataTypeDescriptor;
 import org.eclipse.persistence.queries.Call;
@@ -58,6 +59,8 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringWriter;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.math.BigDecimal;
 import java.sql.CallableStatement;
 import java.sql.Connection;
@@ -69,7 +72,6 @@
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.sql.Types;
-import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Iterator;
 import java.util.List;
@@ -106,7 +108,7 @@ public class DatabaseAccessor extends DatasourceAccessor {
     public static boolean shouldUseDynamicStatements = true;
 
     /** Stores statement handles for common used prepared statements. */
-    protected Map<String, Statement> statementCache;
+    protected StatementCache statementCache;
 
     /** Cache of the connection's java.sql.DatabaseMetaData */
     protected DatabaseMetaData metaData;
@@ -127,7 +129,17 @@ public class DatabaseAccessor extends DatasourceAccessor {
 
     /** PERF: Cache the statement object for dynamic SQL execution. */
     protected Statement dynamicStatement;
-    protected boolean isDynamicStatementInUse;
+    protected volatile boolean isDynamicStatementInUse;
+
+    private static final VarHandle IS_DYNAMIC_STATEMENT_IN_USE;
+
+    static {
+        try {
+            IS_DYNAMIC_STATEMENT_IN_USE = MethodHandles.lookup().findVarHandle(DatabaseAccessor.class, "isDynamicStatementInUse", boolean.class);
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
 
     public DatabaseAccessor() {
         super();
@@ -157,7 +169,23 @@ protected DynamicSQLBatchWritingMechanism getDynamicSQLMechanism() {
      * Lazy init the parameterized SQL mechanism.
      */
     protected ParameterizedSQLBatchWritingMechanism getParameterizedMechanism() {
-        if (this.parameterizedMechanism == null) {
+        DatabasePlatform platform = getPlatform();
+        // The mechanism is rebuilt if the batch writing mode was changed.
+        // The modes compose: the pipelined mechanism also executes multi-row inserts and bulk updates
+        // if they are enabled, and the bulk update mechanism multi-row inserts.
+        if (platform.usesPipelinedBatchWriting()) {
+            if ((this.parameterizedMechanism == null) || (this.parameterizedMechanism.getClass() != PipelinedBatchWritingMechanism.class)) {
+                this.parameterizedMechanism = new PipelinedBatchWritingMechanism(this);
+            }
+        } else if (platform.usesBulkUpdateBatchWriting()) {
+            if ((this.parameterizedMechanism == null) || (this.parameterizedMechanism.getClass() != BulkUpdateBatchWritingMechanism.class)) {
+                this.parameterizedMechanism = new BulkUpdateBatchWritingMechanism(this);
+            }
+        } else if (platform.usesMultiRowInsertBatchWriting()) {
+            if ((this.parameterizedMechanism == null) || (this.parameterizedMechanism.getClass() != MultiRowInsertBatchWritingMechanism.class)) {
+                this.parameterizedMechanism = new MultiRowInsertBatchWritingMechanism(this);
+            }
+        } else if ((this.parameterizedMechanism == null) || (this.parameterizedMechanism.getClass() != ParameterizedSQLBatchWritingMechanism.class)) {
             this.parameterizedMechanism = new ParameterizedSQLBatchWritingMechanism(this);
         }
         return this.parameterizedMechanism;
@@ -196,21 +224,26 @@ public LOBValueWriter getLOBWriter() {
      * Either return the cached dynamic statement, or a new statement.
      * This statement must be released after execution.
      */
-    public synchronized Statement allocateDynamicStatement(Connection connection) throws SQLException {
-        if (dynamicStatement == null) {
-            dynamicStatement = connection.createStatement();
-        }
-        if (isDynamicStatementInUse()) {
+    public Statement allocateDynamicStatement(Connection connection) throws SQLException {
+        // The cached statement is claimed atomically rather than under the monitor,
+        // so no monitor is held while the driver creates the statement.
+        if (!IS_DYNAMIC_STATEMENT_IN_USE.compareAndSet(this, false, true)) {
             return connection.createStatement();
         }
-        setIsDynamicStatementInUse(true);
-        return dynamicStatement;
+        if (this.dynamicStatement == null) {
+            try {
+                this.dynamicStatement = connection.createStatement();
+            } catch (SQLException | RuntimeException exception) {
+                this.isDynamicStatementInUse = false;
+                throw exception;
+            }
+        }
+        return this.dynamicStatement;
     }
 
     /**
      * Return the cached statement for dynamic SQL execution is in use.
-     * Used to handle concurrency for the dynamic statement, this
-     * method must only be called from within a synchronized method/block.
+     * Used to handle concurrency for the dynamic statement.
      */
     public boolean isDynamicStatementInUse() {
         return isDynamicStatementInUse;
@@ -232,7 +265,7 @@ public void setDatasourcePlatform(DatasourcePlatform platform) {
      * Set if the cached statement for dynamic SQL execution is in use.
      * Used to handle concurrency for the dynamic statement.
      */
-    public synchronized void setIsDynamicStatementInUse(boolean isDynamicStatementInUse) {
+    public void setIsDynamicStatementInUse(boolean isDynamicStatementInUse) {
         this.isDynamicStatementInUse = isDynamicStatementInUse;
     }
 
@@ -350,7 +383,7 @@ protected void checkTransactionIsolation(AbstractSession session) throws Databas
      */
     public void clearStatementCache(AbstractSession session) {
         if (hasStatementCache()) {
-            for (Statement statement : getStatementCache().values()) {
+            for (Statement statement : getCachedStatements().clear()) {
                 try {
                     statement.close();
                 } catch (SQLException exception) {
@@ -358,7 +391,6 @@ public void clearStatementCache(AbstractSession session) {
                     // a statement is closed twice.
                 }
             }
-            this.statementCache = null;
         }
 
         // Close cached dynamic statement.
@@ -759,7 +791,7 @@ public Object processResultSet(ResultSet resultSet, DatabaseCall call, Statement
                         // Bug 2804663 - LOBValueWriter is no longer a singleton
                         getLOBWriter().fetchLocatorAndWriteValue(call, resultSet);
                     } else {
-                        result = fetchRow(call.getFields(), call.getFieldsArray(), resultSet, metaData, session);
+                        result = fetchRow(call.getFields(), call.getFieldsArray(), call.getRecordLayout(), resultSet, metaData, session);
                     }
                     if (resultSet.next()) {
                         // Raise more rows event, some apps may interpret as error or warning.
@@ -783,13 +815,19 @@ public Object processResultSet(ResultSet resultSet, DatabaseCall call, Statement
                         } else {
                             results = new Vector<>(16);
                             while (hasNext) {
-                                results.add(fetchRow(call.getFields(), call.getFieldsArray(), resultSet, metaData, session));
+                                results.add(fetchRow(call.getFields(), call.getFieldsArray(), call.getRecordLayout(), resultSet, metaData, session));
                                 hasNext = resultSet.next();
                             }
                         }
                     } else {
                         results = new Vector<>(0);
                     }
+                    if (!hasMultipleResultsSets) {
+                        FetchSizeTuner tuner = getPlatform().getFetchSizeTuner();
+                        if (tuner != null) {
+                            tuner.record(call.getSQLString(), results.size());
+                        }
+                    }
                     if (result == null) {
                         if (call.returnMultipleResultSetCollections()) {
                             result = new Vector();
@@ -839,7 +877,7 @@ public void run() {
                         // Initial next was already validated before this method is called.
                         boolean hasNext = true;
                         while (hasNext) {
-                            results.add(fetchRow(dbCall.getFields(), dbCall.getFieldsArray(), resultSet, metaData, session));
+                            results.add(fetchRow(dbCall.getFields(), dbCall.getFieldsArray(), dbCall.getRecordLayout(), resultSet, metaData, session));
                             hasNext = resultSet.next();
                         }
                         resultSet.close();// This must be closed in case the statement is cached and not closed.
@@ -1082,6 +1120,16 @@ protected AbstractRecord fetchRow(Vector<DatabaseField> fields, ResultSet result
      * PERF: This method must be highly optimized.
      */
     public AbstractRecord fetchRow(Vector<DatabaseField> fields, DatabaseField[] fieldsArray, ResultSet resultSet, ResultSetMetaData metaData, AbstractSession session) throws DatabaseException {
+        return fetchRow(fields, fieldsArray, null, resultSet, metaData, session);
+    }
+
+    /**
+     * Return a new DatabaseRow.<p>
+     * Populate the row from the data in cursor, as {@link #fetchRow(Vector, DatabaseField[], ResultSet, ResultSetMetaData, AbstractSession)}.
+     * The rows share the layout of the call, so their fields are resolved to their positions once.
+     * PERF: This method must be highly optimized.
+     */
+    public AbstractRecord fetchRow(Vector<DatabaseField> fields, DatabaseField[] fieldsArray, RecordLayout layout, ResultSet resultSet, ResultSetMetaData metaData, AbstractSession session) throws DatabaseException {
         int size = fieldsArray.length;
         Object[] values = new Object[size];
         // PERF: Pass platform and optimize data flag.
@@ -1098,7 +1146,7 @@ public AbstractRecord fetchRow(Vector<DatabaseField> fields, DatabaseField[] fie
         }
 
         // Row creation is optimized through sharing the same fields for the entire result set.
-        return new ArrayRecord(fields, fieldsArray, values);
+        return new ArrayRecord(fields, fieldsArray, values, layout);
     }
     public void populateRow(DatabaseField[] fieldsArray, Object[] values, ResultSet resultSet, ResultSetMetaData metaData, AbstractSession session, int startIndex, int endIndex) throws DatabaseException {
         // PERF: Pass platform and optimize data flag.
@@ -1561,15 +1609,26 @@ protected boolean hasStatementCache() {
     }
 
     /**
-     * The statement cache stores a fixed sized number of prepared statements.
+     * The statement cache stores a fixed sized number of prepared statements,
+     * evicted using the platform's statement cache policy.
      */
-    protected synchronized Map<String, Statement> getStatementCache() {
+    public synchronized StatementCache getCachedStatements() {
         if (statementCache == null) {
-            statementCache = new HashMap<>(50);
+            statementCache = new StatementCache(getPlatform().getStatementCachePolicy());
         }
         return statementCache;
     }
 
+    /**
+     * The statement cache stores a fixed sized number of prepared statements.
+     * @deprecated As of 5.0, replaced by {@link #getCachedStatements()}.
+     *             This returns a read-only view of the idle statements by their SQL.
+     */
+    @Deprecated
+    protected synchronized Map<String, Statement> getStatementCache() {
+        return getCachedStatements().asMap();
+    }
+
     /**
      * Get a description of tables available in a catalog.
      *
@@ -1692,7 +1751,7 @@ protected boolean isInBatchWritingMode(AbstractSession session) {
     /**
      * Prepare the SQL statement for the call.
      * First check if the statement is cached before building a new one.
-     * Currently the SQL string is used as the cache key, this may have to be switched if it becomes a performance problem.
+     * The SQL string, result set type and concurrency are used as the cache key.
      */
     public Statement prepareStatement(DatabaseCall call, AbstractSession session) throws SQLException {
         return prepareStatement(call, session,false);
@@ -1707,15 +1766,8 @@ public Statement prepareStatement(DatabaseCall call, AbstractSession session) th
     public Statement prepareStatement(DatabaseCall call, AbstractSession session, boolean unwrapConnection) throws SQLException {
         Statement statement = null;
         if (call.usesBinding(session) && call.shouldCacheStatement(session)) {
-            // Check the cache by sql string, must synchronize check and removal.
-            Map<String, Statement> statementCache = getStatementCache();
-            synchronized (statementCache) {
-                statement = statementCache.get(call.getSQLString());
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(call.getSQLString());
-                }
-            }
+            // Check the cache by sql string, the statement is removed to allow concurrent statement execution.
+            statement = getCachedStatements().acquire(StatementCache.buildKey(call));
         }
 
         if (statement == null) {
@@ -1761,16 +1813,9 @@ public Statement prepareStatement(DatabaseCall call, AbstractSession session, bo
      */
     public PreparedStatement prepareStatement(String sql, AbstractSession session, boolean callable) throws SQLException {
         PreparedStatement statement = null;
-        // Check the cache by sql string, must synchronize check and removal.
+        // Check the cache by sql string, the statement is removed to allow concurrent statement execution.
         if (getPlatform().shouldCacheAllStatements()) {
-            Map<String, Statement> statementCache = getStatementCache();
-            synchronized (statementCache) {
-                statement = (PreparedStatement)statementCache.get(sql);
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(sql);
-                }
-            }
+            statement = (PreparedStatement)getCachedStatements().acquire(StatementCache.buildKey(sql, callable));
         }
 
         if (statement == null) {
@@ -1827,27 +1872,20 @@ protected void reconnect(AbstractSession session) {
     public void releaseStatement(Statement statement, String sqlString, DatabaseCall call, AbstractSession session) throws SQLException {
         if (((call == null) && getPlatform().shouldCacheAllStatements())
                 || ((call != null) && call.usesBinding(session) && call.shouldCacheStatement(session))) {
-            Map<String, Statement> statementCache = getStatementCache();
-            synchronized (statementCache) {
-                PreparedStatement preparedStatement = (PreparedStatement)statement;
-                if (!statementCache.containsKey(sqlString)) {// May already be there by other thread.
-                    preparedStatement.clearParameters();
-                    // Bug 5709179 - reset statement settings on cached statements (dminsky) - inclusion of reset
-                    if (call != null) {
-                        resetStatementFromCall(preparedStatement, call);
-                    }
-                    if (statementCache.size() > getPlatform().getStatementCacheSize()) {
-                        // Currently one is removed at random...
-                        PreparedStatement removedStatement = (PreparedStatement)statementCache.remove(statementCache.keySet().iterator().next());
-                        closeStatement(removedStatement, session, call);
-                    } else {
-                        decrementCallCount();
-                    }
-                    statementCache.put(sqlString, preparedStatement);
-                } else {
-                    // CR... Must close the statement if not cached.
-                    closeStatement(statement, session, call);
-                }
+            PreparedStatement preparedStatement = (PreparedStatement)statement;
+            preparedStatement.clearParameters();
+            // Bug 5709179 - reset statement settings on cached statements (dminsky) - inclusion of reset
+            if (call != null) {
+                resetStatementFromCall(preparedStatement, call);
+            }
+            DatabasePlatform platform = getPlatform();
+            Statement removedStatement = getCachedStatements().release(StatementCache.buildKey(sqlString, call, statement), statement,
+                    platform.getStatementCacheSize(), platform.getStatementCachePinnedSize());
+            if (removedStatement == null) {
+                decrementCallCount();
+            } else {
+                // CR... Must close the statement if not cached (may already be there by other thread), or evicted.
+                closeStatement(removedStatement, session, call);
             }
         } else if (statement == this.dynamicStatement) {
             // The dynamic statement is cached and only closed on disconnect.
@@ -1874,7 +1912,7 @@ protected void resetStatementFromCall(Statement statement, DatabaseCall call) th
         if (call.getMaxRows() > 0) {
             statement.setMaxRows(0);
         }
-        if (call.getResultSetFetchSize() > 0) {
+        if ((call.getResultSetFetchSize() > 0) || call.isResultSetFetchSizeTuned()) {
             statement.setFetchSize(0);
         }
     }
@@ -1943,10 +1981,24 @@ public void setActiveBatchWritingMechanism(BatchWritingMechanism mechanism) {
     /**
      * The statement cache stores a fixed sized number of prepared statements.
      */
-    protected void setStatementCache(Hashtable<String, Statement> statementCache) {
+    protected void setCachedStatements(StatementCache statementCache) {
         this.statementCache = statementCache;
     }
 
+    /**
+     * The statement cache stores a fixed sized number of prepared statements.
+     * @deprecated As of 5.0, replaced by {@link #setCachedStatements(StatementCache)}.
+     *             The statements are cached for the calls of their SQL using the default result set type.
+     */
+    @Deprecated
+    protected void setStatementCache(Hashtable<String, Statement> statementCache) {
+        StatementCache cachedStatements = new StatementCache(getPlatform().getStatementCachePolicy());
+        for (Map.Entry<String, Statement> entry : statementCache.entrySet()) {
+            cachedStatements.release(StatementCache.buildKey(entry.getKey(), null, entry.getValue()), entry.getValue(), Integer.MAX_VALUE, 0);
+        }
+        setCachedStatements(cachedStatements);
+    }
+
     /**
      * This method will sort the fields in correct order based
      * on the column names.
@@ -36,12 +36,14 @@
 import org.eclipse.persistence.internal.queries.DatabaseQueryMechanism;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.RecordLayout;
 import org.eclipse.persistence.mappings.structures.ObjectRelationalDataTypeDescriptor;
 import org.eclipse.persistence.mappings.structures.ObjectRelationalDatabaseField;
 import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.ModifyQuery;
 import org.eclipse.persistence.queries.ReadObjectQuery;
 import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.SessionProfiler;
 
 import java.io.IOException;
 import java.io.StringWriter;
@@ -114,6 +116,8 @@ public abstract class DatabaseCall extends DatasourceCall {
     transient protected Vector<DatabaseField> fields;
     // PERF: fields array
     transient protected DatabaseField[] fieldsArray;
+    // PERF: positions of the fields, shared by the rows
+    transient protected RecordLayout recordLayout;
 
     // Field matching is required for custom SQL when the fields order is not known.
     protected boolean isFieldMatchingRequired;
@@ -125,6 +129,9 @@ public abstract class DatabaseCall extends DatasourceCall {
     // JDK 1.2 supports initial fetch size for the result set.
     protected int resultSetFetchSize;
 
+    // The fetch size of the statement was set by the platform's fetch size tuner, and must be reset if cached.
+    protected transient boolean isResultSetFetchSizeTuned;
+
     // JDK 1.2 supports various types of results set
     protected int resultSetType;
 
@@ -351,6 +358,23 @@ public DatabaseField[] getFieldsArray() {
         return fieldsArray;
     }
 
+    /**
+     * INTERNAL:
+     * Return the positions of the fields returned by the call, shared by the rows of the call,
+     * so a field is only resolved to its position once. Null if the fields are not known.
+     */
+    public RecordLayout getRecordLayout() {
+        RecordLayout layout = this.recordLayout;
+        if ((layout == null) || (layout.getFields() != this.fieldsArray)) {
+            if (this.fieldsArray == null) {
+                return null;
+            }
+            layout = new RecordLayout(this.fieldsArray);
+            this.recordLayout = layout;
+        }
+        return layout;
+    }
+
     /**
      * INTERNAL:
      * Unfortunately can't avoid referencing query and descriptor:
@@ -617,6 +641,14 @@ public boolean isResultSetScrollable() {
         return isResultSetScrollable;
     }
 
+    /**
+     * INTERNAL:
+     * Return if the fetch size of the last prepared statement was set by the platform's fetch size tuner.
+     */
+    public boolean isResultSetFetchSizeTuned() {
+        return isResultSetFetchSizeTuned;
+    }
+
     /**
      * Allow for the field order to be matched if required.
      * This is required for custom SQL.
@@ -782,8 +814,26 @@ public Statement prepareStatement(DatabaseAccessor accessor, AbstractRecord tran
         if (!this.ignoreMaxResultsSetting && this.maxRows > 0) {
             statement.setMaxRows(this.maxRows);
         }
+        this.isResultSetFetchSizeTuned = false;
         if (this.resultSetFetchSize > 0) {
             statement.setFetchSize(this.resultSetFetchSize);
+        } else if (!isNothingReturned() && !isOneRowReturned()) {
+            FetchSizeTuner tuner = accessor.getPlatform().getFetchSizeTuner();
+            if (tuner != null) {
+                int fetchSize = tuner.getFetchSize(getSQLString(), (this.fields == null) ? 0 : this.fields.size());
+                if (fetchSize > 0) {
+                    if ((this.maxRows > 0) && (this.maxRows < fetchSize)) {
+                        fetchSize = this.maxRows;
+                    }
+                    statement.setFetchSize(fetchSize);
+                    this.isResultSetFetchSizeTuned = true;
+                    if (this.query == null) {
+                        session.incrementProfile(SessionProfiler.FetchSizeTuned);
+                    } else {
+                        session.incrementProfile(SessionProfiler.FetchSizeTuned, this.query);
+                    }
+                }
+            }
         }
 
         if (this.parameters == null) {
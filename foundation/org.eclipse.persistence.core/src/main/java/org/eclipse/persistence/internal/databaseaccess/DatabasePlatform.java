@@ -156,6 +156,12 @@ public class DatabasePlatform extends DatasourcePlatform {
     /** The statement cache size for prepare parameterized statements. */
     protected int statementCacheSize;
 
+    /** The statement cache eviction policy, LRU or LFU. */
+    protected String statementCachePolicy;
+
+    /** The number of most frequently used statements that are never evicted from the statement cache. */
+    protected int statementCachePinnedSize;
+
     /** Can be used if the app expects upper case but the database is not return consistent case, i.e. different databases. */
     protected boolean shouldForceFieldNamesToUpperCase;
 
@@ -186,6 +192,33 @@ public class DatabasePlatform extends DatasourcePlatform {
     /** Allow for a custom batch writing mechanism. **/
     protected BatchWritingMechanism batchWritingMechanism;
 
+    /** Execute parameterized batches asynchronously, overlapping independent batches. **/
+    protected boolean usesPipelinedBatchWriting;
+
+    /** The maximum number of parameterized batches executing concurrently when pipelined. **/
+    protected int maxPipelinedBatches;
+
+    /** Rewrite parameterized batches of inserts into multi-row INSERT statements. **/
+    protected boolean usesMultiRowInsertBatchWriting;
+
+    /** The maximum number of parameters of a multi-row INSERT statement, null for the platform default. **/
+    protected Integer maxMultiRowInsertParameters;
+
+    /** Rewrite parameterized batches of updates into set-based UPDATE ... SET col = CASE ... statements. **/
+    protected boolean usesBulkUpdateBatchWriting;
+
+    /** The maximum number of parameters of a bulk UPDATE statement, null for the platform default. **/
+    protected Integer maxBulkUpdateParameters;
+
+    /** Set the fetch size of select statements to the number of rows they typically return. **/
+    protected boolean usesFetchSizeAutotuning;
+
+    /** The number of bytes of rows buffered by a tuned fetch. **/
+    protected long fetchSizeAutotuningMemoryBudget = FetchSizeTuner.DEFAULT_MEMORY_BUDGET;
+
+    /** The fetch size tuner, lazily created if fetch size autotuning is used. **/
+    protected volatile FetchSizeTuner fetchSizeTuner;
+
     /** Allow configuration option to use Where clause outer joining or From clause joining. **/
     protected Boolean printOuterJoinInWhereClause;
 
@@ -219,6 +252,7 @@ public class DatabasePlatform extends DatasourcePlatform {
      */
     public static final int DEFAULT_MAX_BATCH_WRITING_SIZE = 32000;
     public static final int DEFAULT_PARAMETERIZED_MAX_BATCH_WRITING_SIZE = 100;
+    public static final int DEFAULT_MAX_PIPELINED_BATCHES = 4;
 
     /** Timeout used is isValid() check for dead connections. */
     public static final int IS_VALID_TIMEOUT = 0;
@@ -279,8 +313,11 @@ public class DatabasePlatform extends DatasourcePlatform {
     /** JSON support for ResultSet data retrieval. */
     private transient volatile DatabaseJsonPlatform jsonPlatform;
 
-    /** This attribute will store the results from the batch execution */
-    private int[] executeBatchRowCounts;
+    /**
+     * This attribute will store the results from the batch execution.
+     * The results are per thread, as batches are executed concurrently by all the accessors using the platform.
+     */
+    private static final ThreadLocal<int[]> EXECUTE_BATCH_ROW_COUNTS = ThreadLocal.withInitial(() -> new int[0]);
     /**
      * Creates an instance of default database platform.
      */
@@ -297,6 +334,7 @@ public DatabasePlatform() {
         this.shouldCacheAllStatements = false;
         this.shouldOptimizeDataConversion = true;
         this.statementCacheSize = 50;
+        this.statementCachePolicy = StatementCache.LRU;
         this.shouldForceFieldNamesToUpperCase = false;
         this.maxBatchWritingSize = 0;
         this.usesJDBCBatchWriting = true;
@@ -310,7 +348,7 @@ public DatabasePlatform() {
         this.useJDBCStoredProcedureSyntax = null;
         this.storedProcedureTerminationToken = ";";
         this.jsonPlatform = null;
-        this.executeBatchRowCounts = new int[0];
+        this.maxPipelinedBatches = DEFAULT_MAX_PIPELINED_BATCHES;
     }
 
     /**
@@ -792,6 +830,8 @@ public void copyInto(Platform platform) {
         databasePlatform.shouldBindPartialParameters = this.shouldBindPartialParameters;
         databasePlatform.setShouldCacheAllStatements(shouldCacheAllStatements());
         databasePlatform.setStatementCacheSize(getStatementCacheSize());
+        databasePlatform.setStatementCachePolicy(getStatementCachePolicy());
+        databasePlatform.setStatementCachePinnedSize(getStatementCachePinnedSize());
         databasePlatform.setTransactionIsolation(getTransactionIsolation());
         databasePlatform.setBatchWritingMechanism(getBatchWritingMechanism());
         databasePlatform.setMaxBatchWritingSize(getMaxBatchWritingSize());
@@ -801,6 +841,14 @@ public void copyInto(Platform platform) {
         databasePlatform.setUsesBatchWriting(usesBatchWriting());
         databasePlatform.setUsesJDBCBatchWriting(usesJDBCBatchWriting());
         databasePlatform.setUsesNativeBatchWriting(usesNativeBatchWriting());
+        databasePlatform.setUsesPipelinedBatchWriting(usesPipelinedBatchWriting());
+        databasePlatform.setMaxPipelinedBatches(getMaxPipelinedBatches());
+        databasePlatform.setUsesMultiRowInsertBatchWriting(usesMultiRowInsertBatchWriting());
+        databasePlatform.maxMultiRowInsertParameters = this.maxMultiRowInsertParameters;
+        databasePlatform.setUsesBulkUpdateBatchWriting(usesBulkUpdateBatchWriting());
+        databasePlatform.maxBulkUpdateParameters = this.maxBulkUpdateParameters;
+        databasePlatform.setUsesFetchSizeAutotuning(usesFetchSizeAutotuning());
+        databasePlatform.setFetchSizeAutotuningMemoryBudget(getFetchSizeAutotuningMemoryBudget());
         databasePlatform.setUsesStreamsForBinding(usesStreamsForBinding());
         databasePlatform.shouldCreateIndicesOnForeignKeys = this.shouldCreateIndicesOnForeignKeys;
         databasePlatform.printOuterJoinInWhereClause = this.printOuterJoinInWhereClause;
@@ -1403,6 +1451,20 @@ public int getStatementCacheSize() {
         return statementCacheSize;
     }
 
+    /**
+     * The statement cache eviction policy, {@link StatementCache#LRU} (default) or {@link StatementCache#LFU}.
+     */
+    public String getStatementCachePolicy() {
+        return statementCachePolicy;
+    }
+
+    /**
+     * The number of most frequently used statements that are never evicted from the statement cache.
+     */
+    public int getStatementCachePinnedSize() {
+        return statementCachePinnedSize;
+    }
+
     public String getStoredProcedureParameterPrefix() {
         return "";
     }
@@ -1479,17 +1541,17 @@ public boolean isLobCompatibleWithDistinct() {
     }
 
     /**
-     * Returns the attribute containing the results from the batch execution 
+     * Returns the attribute containing the results from the last batch execution of the current thread
      */
     public int[] getExecuteBatchRowCounts() {
-        return executeBatchRowCounts;
+        return EXECUTE_BATCH_ROW_COUNTS.get();
     }
 
     /**
-     * Sets the attribute containing the results from the batch execution 
+     * Sets the attribute containing the results from the batch execution of the current thread
      */
     public void setExecuteBatchRowCounts(int[] rowCounts) {
-        executeBatchRowCounts = rowCounts;
+        EXECUTE_BATCH_ROW_COUNTS.set(rowCounts);
     }
 
     /**
@@ -1850,6 +1912,21 @@ public void setStatementCacheSize(int statementCacheSize) {
         this.statementCacheSize = statementCacheSize;
     }
 
+    /**
+     * The statement cache eviction policy, {@link StatementCache#LRU} (default) or {@link StatementCache#LFU}.
+     * Only applies to statement caches created after it is set.
+     */
+    public void setStatementCachePolicy(String statementCachePolicy) {
+        this.statementCachePolicy = statementCachePolicy;
+    }
+
+    /**
+     * The number of most frequently used statements that are never evicted from the statement cache.
+     */
+    public void setStatementCachePinnedSize(int statementCachePinnedSize) {
+        this.statementCachePinnedSize = statementCachePinnedSize;
+    }
+
     public void setStringBindingSize(int aSize) {
         stringBindingSize = aSize;
     }
@@ -1917,6 +1994,207 @@ public void setUsesNativeBatchWriting(boolean usesNativeBatchWriting){
         this.usesNativeBatchWriting = usesNativeBatchWriting;
     }
 
+    /**
+     * Advanced:
+     * This is used to enable pipelined batch writing. Parameterized batches are then executed
+     * asynchronously, while the next batch is built. Batches writing classes that have no commit order
+     * dependency (no foreign key constraint) are executed concurrently on the connection,
+     * so the JDBC driver must support concurrent statements on a connection.
+     * All batches are completed before any other statement is executed, and before commit.
+     * Multi-row insert and bulk update batch writing can be enabled with it, the batches they apply to
+     * are then executed as set-based statements, after the pending batches.
+     *
+     * @param usesPipelinedBatchWriting - flag to turn on/off pipelined batch writing
+     * @see #setMaxPipelinedBatches(int)
+     */
+    public void setUsesPipelinedBatchWriting(boolean usesPipelinedBatchWriting) {
+        this.usesPipelinedBatchWriting = usesPipelinedBatchWriting;
+    }
+
+    /**
+     * Advanced:
+     * Set the maximum number of batches executing concurrently when pipelined batch writing is used.
+     * The default is 4.
+     */
+    public void setMaxPipelinedBatches(int maxPipelinedBatches) {
+        this.maxPipelinedBatches = maxPipelinedBatches;
+    }
+
+    /**
+     * Advanced:
+     * Return the maximum number of batches executing concurrently when pipelined batch writing is used.
+     */
+    public int getMaxPipelinedBatches() {
+        return maxPipelinedBatches;
+    }
+
+    /**
+     * Advanced:
+     * This is used to enable multi-row insert batch writing. Parameterized batches of inserts into
+     * the same table are then executed as multi-row {@code INSERT INTO ... VALUES (...), (...)} statements,
+     * each with at most {@link #getMaxMultiRowInsertParameters()} parameters.
+     * Batches of other statements, of inserts using a returning policy or identity sequencing,
+     * or on a platform not supporting multi-row inserts, use JDBC batch writing.
+     *
+     * @param usesMultiRowInsertBatchWriting - flag to turn on/off multi-row insert batch writing
+     */
+    public void setUsesMultiRowInsertBatchWriting(boolean usesMultiRowInsertBatchWriting) {
+        this.usesMultiRowInsertBatchWriting = usesMultiRowInsertBatchWriting;
+    }
+
+    /**
+     * Advanced:
+     * Return if parameterized batches of inserts are executed as multi-row INSERT statements.
+     */
+    public boolean usesMultiRowInsertBatchWriting() {
+        return usesMultiRowInsertBatchWriting;
+    }
+
+    /**
+     * Advanced:
+     * Set the maximum number of parameters of a multi-row INSERT statement,
+     * 0 if multi-row inserts are not supported.
+     */
+    public void setMaxMultiRowInsertParameters(int maxMultiRowInsertParameters) {
+        this.maxMultiRowInsertParameters = maxMultiRowInsertParameters;
+    }
+
+    /**
+     * Advanced:
+     * Return the maximum number of parameters of a multi-row INSERT statement.
+     * By default multi-row inserts are not supported (0), platforms supporting
+     * the multi-row VALUES syntax return the database or driver's limit.
+     */
+    public int getMaxMultiRowInsertParameters() {
+        if (this.maxMultiRowInsertParameters == null) {
+            this.maxMultiRowInsertParameters = 0;
+        }
+        return this.maxMultiRowInsertParameters;
+    }
+
+    /**
+     * Return if the platform supports multi-row {@code INSERT ... VALUES (...), (...)} statements.
+     */
+    public boolean supportsMultiRowInsert() {
+        return getMaxMultiRowInsertParameters() > 0;
+    }
+
+    /**
+     * Advanced:
+     * This is used to enable bulk update batch writing. Parameterized batches of updates of the same
+     * columns of a single table entity (such as the flush of a status change on many objects) are then
+     * executed as set-based {@code UPDATE ... SET col = CASE pk WHEN ? THEN ? ... END WHERE ...} statements,
+     * each with at most {@link #getMaxBulkUpdateParameters()} parameters.
+     * The version checks of each row are kept in the where clause, and the row count of the statement is checked.
+     * Batches of other statements, or on a platform not supporting bulk updates, use JDBC batch writing.
+     *
+     * @param usesBulkUpdateBatchWriting - flag to turn on/off bulk update batch writing
+     */
+    public void setUsesBulkUpdateBatchWriting(boolean usesBulkUpdateBatchWriting) {
+        this.usesBulkUpdateBatchWriting = usesBulkUpdateBatchWriting;
+    }
+
+    /**
+     * Advanced:
+     * Return if parameterized batches of updates are executed as bulk UPDATE statements.
+     */
+    public boolean usesBulkUpdateBatchWriting() {
+        return usesBulkUpdateBatchWriting;
+    }
+
+    /**
+     * Advanced:
+     * Set the maximum number of parameters of a bulk UPDATE statement,
+     * 0 if bulk updates are not supported.
+     */
+    public void setMaxBulkUpdateParameters(int maxBulkUpdateParameters) {
+        this.maxBulkUpdateParameters = maxBulkUpdateParameters;
+    }
+
+    /**
+     * Advanced:
+     * Return the maximum number of parameters of a bulk UPDATE statement.
+     * By default bulk updates are not supported (0), as some databases cannot type
+     * a CASE expression whose results are all parameters. Platforms binding typed
+     * parameters return the database or driver's limit.
+     */
+    public int getMaxBulkUpdateParameters() {
+        if (this.maxBulkUpdateParameters == null) {
+            this.maxBulkUpdateParameters = 0;
+        }
+        return this.maxBulkUpdateParameters;
+    }
+
+    /**
+     * Return if the platform supports bulk {@code UPDATE ... SET col = CASE ...} statements with bound parameters.
+     */
+    public boolean supportsBulkUpdate() {
+        return getMaxBulkUpdateParameters() > 0;
+    }
+
+    /**
+     * Advanced:
+     * This is used to enable fetch size autotuning. The number of rows read by each select statement
+     * is learned by SQL string, and the JDBC fetch size of the following executions of the statement
+     * is set to read its typical result in a single round trip, bounded by the
+     * {@link #getFetchSizeAutotuningMemoryBudget() memory budget}.
+     * A fetch size set on the query is always used.
+     * The number of executions using a tuned fetch size is profiled as {@code Counter:FetchSizeTuned}.
+     *
+     * @param usesFetchSizeAutotuning - flag to turn on/off fetch size autotuning
+     * @see FetchSizeTuner
+     */
+    public void setUsesFetchSizeAutotuning(boolean usesFetchSizeAutotuning) {
+        this.usesFetchSizeAutotuning = usesFetchSizeAutotuning;
+    }
+
+    /**
+     * Advanced:
+     * Return if the fetch size of select statements is set to the number of rows they typically return.
+     */
+    public boolean usesFetchSizeAutotuning() {
+        return usesFetchSizeAutotuning;
+    }
+
+    /**
+     * Advanced:
+     * Set the number of bytes of rows buffered by a tuned fetch, 4MB by default.
+     * The size of a row is estimated from the number of columns selected.
+     */
+    public void setFetchSizeAutotuningMemoryBudget(long fetchSizeAutotuningMemoryBudget) {
+        this.fetchSizeAutotuningMemoryBudget = fetchSizeAutotuningMemoryBudget;
+        this.fetchSizeTuner = null;
+    }
+
+    /**
+     * Advanced:
+     * Return the number of bytes of rows buffered by a tuned fetch.
+     */
+    public long getFetchSizeAutotuningMemoryBudget() {
+        return fetchSizeAutotuningMemoryBudget;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the fetch size tuner learning the rows read by the statements, or null if fetch size autotuning is not used.
+     */
+    public FetchSizeTuner getFetchSizeTuner() {
+        if (!this.usesFetchSizeAutotuning) {
+            return null;
+        }
+        FetchSizeTuner tuner = this.fetchSizeTuner;
+        if (tuner == null) {
+            synchronized (this) {
+                tuner = this.fetchSizeTuner;
+                if (tuner == null) {
+                    tuner = new FetchSizeTuner(this.fetchSizeAutotuningMemoryBudget, FetchSizeTuner.DEFAULT_MAX_STATEMENTS);
+                    this.fetchSizeTuner = tuner;
+                }
+            }
+        }
+        return tuner;
+    }
+
     public void setUsesNativeSQL(boolean usesNativeSQL) {
         this.usesNativeSQL = usesNativeSQL;
     }
@@ -2863,6 +3141,14 @@ public boolean usesNativeBatchWriting(){
         return usesNativeBatchWriting;
     }
 
+    /**
+     * Advanced:
+     * Return if parameterized batches are executed asynchronously, overlapping independent batches.
+     */
+    public boolean usesPipelinedBatchWriting() {
+        return usesPipelinedBatchWriting;
+    }
+
     public boolean usesNativeSQL() {
         return usesNativeSQL;
     }
@@ -104,6 +104,9 @@ public class DatasourcePlatform implements Platform {
     /** If sequences should start at Next Value */
     protected boolean defaultSeqenceAtNextValue;
 
+    /** If sequences supporting it should adapt their preallocation size to the allocation rate. */
+    protected boolean defaultSequenceAdaptivePreallocation;
+
     /**
      * This property configures if the database platform will use {@link java.sql.Statement#getGeneratedKeys()}, 
      * or a separate query, in order to obtain javax.persistence.GenerationType.IDENTITY generated values.
@@ -156,6 +159,22 @@ public void setDefaultSeqenceAtNextValue(boolean defaultSeqenceAtNextValue) {
         this.defaultSeqenceAtNextValue = defaultSeqenceAtNextValue;
     }
 
+    /**
+     * Return if all sequences supporting it adapt their preallocation size to the allocation rate.
+     * @see org.eclipse.persistence.sequencing.Sequence#setUsesAdaptivePreallocation(boolean)
+     */
+    public boolean getDefaultSequenceAdaptivePreallocation() {
+        return defaultSequenceAdaptivePreallocation;
+    }
+
+    /**
+     * Set if all sequences supporting it adapt their preallocation size to the allocation rate.
+     * @see org.eclipse.persistence.sequencing.Sequence#setUsesAdaptivePreallocation(boolean)
+     */
+    public void setDefaultSequenceAdaptivePreallocation(boolean defaultSequenceAdaptivePreallocation) {
+        this.defaultSequenceAdaptivePreallocation = defaultSequenceAdaptivePreallocation;
+    }
+
     protected void addOperator(ExpressionOperator operator) {
         platformOperators.put(operator.getSelector(), operator);
     }
@@ -285,6 +304,7 @@ public void copyInto(Platform platform) {
         datasourcePlatform.sequencesAfterCloneCleanup();
         datasourcePlatform.setDefaultNativeSequenceToTable(getDefaultNativeSequenceToTable());
         datasourcePlatform.setDefaultSeqenceAtNextValue(getDefaultSeqenceAtNextValue());
+        datasourcePlatform.setDefaultSequenceAdaptivePreallocation(getDefaultSequenceAdaptivePreallocation());
     }
 
     /**
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * INTERNAL:
+ * Learns the number of rows typically returned by each select statement, by SQL string,
+ * and returns the JDBC fetch size to read them in a single round trip.
+ * <p>
+ * The typical number of rows is a moving average of the rows read by the last executions.
+ * The fetch size is bounded by the memory budget, the number of bytes of rows buffered by a fetch,
+ * estimated from the number of columns selected. A statement returning fewer rows than the
+ * minimum tuned fetch size keeps the driver's default fetch size, as does a statement never executed.
+ * At most the maximum number of statements are learned, the following statements are not tuned.
+ * @see DatabasePlatform#setUsesFetchSizeAutotuning(boolean)
+ * @since EclipseLink 5.0
+ */
+public class FetchSizeTuner {
+
+    /** The default number of bytes of rows buffered by a fetch, 4MB. */
+    public static final long DEFAULT_MEMORY_BUDGET = 4L * 1024 * 1024;
+
+    /** The estimated number of bytes of a column value buffered by the driver. */
+    public static final int ESTIMATED_COLUMN_SIZE = 64;
+
+    /** The number of columns assumed if the columns selected are not known. */
+    public static final int DEFAULT_COLUMNS = 16;
+
+    /** The smallest fetch size set, smaller results keep the driver's default (10 rows for Oracle). */
+    public static final int MIN_TUNED_FETCH_SIZE = 10;
+
+    /** The default maximum number of statements learned. */
+    public static final int DEFAULT_MAX_STATEMENTS = 1000;
+
+    /**
+     * The rows read by the executions of a statement.
+     */
+    public static final class Statistics {
+        /** The moving average of the rows read, in 1/16th of rows. */
+        protected volatile long averageRows = -1;
+        protected final AtomicLong executions = new AtomicLong();
+        protected volatile int maxRows;
+
+        protected void record(int rows) {
+            this.executions.incrementAndGet();
+            long average = this.averageRows;
+            long sample = (long)rows << 4;
+            // Each execution counts for a quarter, racing updates lose a sample at most.
+            this.averageRows = (average < 0) ? sample : (average + ((sample - average) >> 2));
+            if (rows > this.maxRows) {
+                this.maxRows = rows;
+            }
+        }
+
+        /**
+         * Return the average number of rows read by the last executions, rounded up.
+         */
+        public int getAverageRows() {
+            return (int)((Math.max(0, this.averageRows) + 15) >> 4);
+        }
+
+        /**
+         * Return the number of executions whose rows were read.
+         */
+        public long getExecutions() {
+            return this.executions.get();
+        }
+
+        /**
+         * Return the largest number of rows read by an execution.
+         */
+        public int getMaxRows() {
+            return this.maxRows;
+        }
+    }
+
+    protected final long memoryBudget;
+    protected final int maxStatements;
+    protected final Map<String, Statistics> statistics = new ConcurrentHashMap<>();
+
+    public FetchSizeTuner() {
+        this(DEFAULT_MEMORY_BUDGET, DEFAULT_MAX_STATEMENTS);
+    }
+
+    public FetchSizeTuner(long memoryBudget, int maxStatements) {
+        this.memoryBudget = Math.max(ESTIMATED_COLUMN_SIZE, memoryBudget);
+        this.maxStatements = maxStatements;
+    }
+
+    /**
+     * Record the number of rows read by an execution of the statement.
+     */
+    public void record(String sql, int rows) {
+        Statistics statementStatistics = this.statistics.get(sql);
+        if (statementStatistics == null) {
+            if (this.statistics.size() >= this.maxStatements) {
+                return;
+            }
+            statementStatistics = this.statistics.computeIfAbsent(sql, key -> new Statistics());
+        }
+        statementStatistics.record(rows);
+    }
+
+    /**
+     * Return the fetch size to read the typical result of the statement selecting the number of columns
+     * (0 if not known), 0 if the driver's default fetch size should be kept.
+     * The fetch size is one more than the typical number of rows, so the end of the result is read by the same fetch.
+     */
+    public int getFetchSize(String sql, int columns) {
+        Statistics statementStatistics = this.statistics.get(sql);
+        if (statementStatistics == null) {
+            return 0;
+        }
+        int rows = statementStatistics.getAverageRows();
+        if (rows < MIN_TUNED_FETCH_SIZE) {
+            return 0;
+        }
+        long maxFetchSize = this.memoryBudget / ((long)((columns > 0) ? columns : DEFAULT_COLUMNS) * ESTIMATED_COLUMN_SIZE);
+        return (int)Math.max(MIN_TUNED_FETCH_SIZE, Math.min(rows + 1L, maxFetchSize));
+    }
+
+    /**
+     * Return the statistics of the statement, or null if it has not been learned.
+     */
+    public Statistics getStatistics(String sql) {
+        return this.statistics.get(sql);
+    }
+
+    /**
+     * Return the number of statements learned.
+     */
+    public int getStatementCount() {
+        return this.statistics.size();
+    }
+
+    /**
+     * Forget the statements learned.
+     */
+    public void clear() {
+        this.statistics.clear();
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+
+/**
+ * INTERNAL:
+ * <p>Parameterized batch writing mechanism that executes batches of inserts into the same table as
+ * multi-row {@code INSERT INTO ... VALUES (...), (...)} statements, so the rows are sent in one
+ * statement execution even by JDBC drivers that execute a JDBC batch one statement at a time.
+ * A batch is split into several statements if it has more parameters than the platform's
+ * {@link DatabasePlatform#getMaxMultiRowInsertParameters()}.</p>
+ *
+ * <p>Batches of other statements use JDBC batch writing, as do inserts that read values back
+ * after the insert (returning policy, identity sequencing or generated keys).</p>
+ *
+ * @see DatabasePlatform#setUsesMultiRowInsertBatchWriting(boolean)
+ * @since EclipseLink 5.0
+ */
+public class MultiRowInsertBatchWritingMechanism extends ParameterizedSQLBatchWritingMechanism {
+
+    protected static final String VALUES = ") VALUES (";
+
+    public MultiRowInsertBatchWritingMechanism() {
+        super();
+    }
+
+    public MultiRowInsertBatchWritingMechanism(DatabaseAccessor databaseAccessor) {
+        super(databaseAccessor);
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the batch as multi-row inserts if possible, otherwise as a JDBC batch.
+     */
+    @Override
+    protected void executeBatch(AbstractSession session) {
+        int valuesIndex = -1;
+        if (this.parameters.size() > 1) {
+            valuesIndex = getValuesIndex(session);
+        }
+        if (valuesIndex == -1) {
+            super.executeBatch(session);
+            return;
+        }
+        try {
+            int size = this.parameters.size();
+            int rowSize = this.parameters.get(0).size();
+            int maxRows = Math.max(1, Math.min(this.maxBatchSize, session.getPlatform().getMaxMultiRowInsertParameters() / rowSize));
+            for (int start = 0; start < size; start += maxRows) {
+                int rows = Math.min(maxRows, size - start);
+                this.databaseAccessor.basicExecuteCall(buildMultiRowCall(valuesIndex, start, rows), null, session, false);
+            }
+        } finally {
+            // Reset the batched sql string
+            this.clear();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the batch is executed as set-based statements instead of a JDBC batch.
+     */
+    protected boolean isSetBased(AbstractSession session) {
+        return (this.parameters.size() > 1) && (getValuesIndex(session) != -1);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the index of the VALUES row in the SQL of the batch,
+     * or -1 if the batch cannot be executed as multi-row inserts.
+     */
+    protected int getValuesIndex(AbstractSession session) {
+        if (!session.getPlatform().usesMultiRowInsertBatchWriting()) {
+            return -1;
+        }
+        DatabaseCall call = this.previousCall;
+        DatabaseQuery query = call.getQuery();
+        if ((query == null) || !query.isInsertObjectQuery()
+                || call.shouldReturnGeneratedKeys() || call.isCallableStatementRequired() || call.shouldBuildOutputRow()) {
+            return -1;
+        }
+        // The values read back after the insert must be read for each row.
+        ClassDescriptor descriptor = query.getDescriptor();
+        if ((descriptor == null) || descriptor.hasReturningPolicy()
+                || (descriptor.usesSequenceNumbers() && (descriptor.getSequence() != null) && descriptor.getSequence().shouldAcquireValueAfterInsert())) {
+            return -1;
+        }
+        int rowSize = this.parameters.get(0).size();
+        if (session.getPlatform().getMaxMultiRowInsertParameters() < (rowSize * 2)) {
+            return -1;
+        }
+        String sql = call.getSQLString();
+        int valuesIndex = sql.lastIndexOf(VALUES);
+        if ((valuesIndex == -1) || !sql.endsWith(")")) {
+            return -1;
+        }
+        valuesIndex = valuesIndex + VALUES.length() - 1;
+        // Each parameter of the row must be bound in the VALUES row.
+        int parameters = 0;
+        for (int index = valuesIndex; index < sql.length(); index++) {
+            char next = sql.charAt(index);
+            if (next == '?') {
+                parameters++;
+            } else if (next == '\'') {
+                return -1;
+            }
+        }
+        if (parameters != rowSize) {
+            return -1;
+        }
+        return valuesIndex;
+    }
+
+    /**
+     * INTERNAL:
+     * Build the call inserting the rows, repeating the VALUES row of the batch SQL for each row.
+     */
+    protected DatabaseCall buildMultiRowCall(int valuesIndex, int start, int rows) {
+        DatabaseCall call = (DatabaseCall)this.previousCall.clone();
+        String sql = this.previousCall.getSQLString();
+        String values = sql.substring(valuesIndex);
+        StringBuilder writer = new StringBuilder(sql.length() + ((values.length() + 2) * (rows - 1)));
+        writer.append(sql);
+        List<Object> rowParameters = new ArrayList<>(rows * this.parameters.get(0).size());
+        rowParameters.addAll(this.parameters.get(start));
+        for (int index = start + 1; index < (start + rows); index++) {
+            writer.append(", ");
+            writer.append(values);
+            rowParameters.addAll(this.parameters.get(index));
+        }
+        call.setSQLStringInternal(writer.toString());
+        call.setParameters(rowParameters);
+        return call;
+    }
+}
@@ -86,7 +86,7 @@ public void appendCall(AbstractSession session, DatabaseCall dbCall) {
                 if (this.previousCall.getSQLString().equals(dbCall.getSQLString()) && (this.parameters.size() < this.maxBatchSize)) {
                     this.parameters.add(dbCall.getParameters());
                 } else {
-                    executeBatchedStatements(session);
+                    endBatch(session);
                     this.previousCall = dbCall;
                     this.parameters.add(dbCall.getParameters());
                 }
@@ -125,6 +125,15 @@ public void clear() {
         this.lastCallAppended = null;
     }
 
+    /**
+     * INTERNAL:
+     * This method is called when the next call cannot be added to the current batch,
+     * as its SQL is different, or the batch is full. The current batch is executed.
+     */
+    protected void endBatch(AbstractSession session) {
+        executeBatchedStatements(session);
+    }
+
     /**
      * INTERNAL:
      * This method is used by the DatabaseAccessor to clear the batched statements in the
@@ -150,24 +159,12 @@ public void executeBatchedStatements(AbstractSession session) {
      *
      * Introduced in fix for bug#419326.
      */
-    private void executeBatch(AbstractSession session) {
+    protected void executeBatch(AbstractSession session) {
 
         if (this.parameters.size() == 1) {
             // If only one call, just execute normally.
             try {
-                Object rowCount = this.databaseAccessor.basicExecuteCall(this.previousCall, null, session, false);
-                if (this.previousCall.hasOptimisticLock() && rowCount instanceof Integer) {
-                    if ((Integer)rowCount != 1) {
-                        Object object = null;
-                        DatabaseQuery query = this.previousCall.getQuery();
-                        if (query.isUpdateObjectQuery()) {
-                            object = ((UpdateObjectQuery) query).getObject();
-                        } else if (query.isDeleteObjectQuery()) {
-                            object = ((DeleteObjectQuery) query).getObject();
-                        }
-                        throw OptimisticLockException.batchStatementExecutionFailureWithParametersList(object, parameters, query.getSQLString());
-                    }
-                }
+                executeSingleCall(session);
             } finally {
                 clear();
             }
@@ -175,34 +172,25 @@ private void executeBatch(AbstractSession session) {
         }
 
         try {
-            this.databaseAccessor.incrementCallCount(session);// Decrement occurs in close.
-
-            if (session.shouldLog(SessionLog.FINE, SessionLog.SQL)) {
-                session.log(SessionLog.FINER, SessionLog.SQL, "begin_batch_statements", null, this.databaseAccessor);
-                session.log(SessionLog.FINE, SessionLog.SQL, this.previousCall.getSQLString(), null, this.databaseAccessor, false);
-                // took this logging part from SQLCall
-                for (List callParameters : this.parameters) {
-                    StringWriter writer = new StringWriter();
-                    DatabaseCall.appendLogParameters(callParameters, this.databaseAccessor, writer, session);
-                    session.log(SessionLog.FINE, SessionLog.SQL, writer.toString(), null, this.databaseAccessor, false);
-                }
-                session.log(SessionLog.FINER, SessionLog.SQL, "end_batch_statements", null, this.databaseAccessor);
-            }
-
-            //bug 4241441: need to keep track of rows modified and throw opti lock exception if needed
-            PreparedStatement statement = prepareBatchStatements(session);
-            // += is used as native batch writing can return a row count before execution.
-            this.executionCount += this.databaseAccessor.executeJDK12BatchStatement(statement, this.lastCallAppended, session, true);
+            PreparedStatement statement = prepareBatch(session);
+            executeBatchStatement(statement, session);
             this.databaseAccessor.writeStatementsCount++;
+            checkOptimisticLock();
+        } finally {
+            // Reset the batched sql string
+            //we MUST clear the mechanism here in order to append the new statement.
+            this.clear();
+        }
+    }
 
-            if (this.previousCall.hasOptimisticLock() && (this.executionCount != this.statementCount)) {
-                int[] rowCounts = this.databaseAccessor.getPlatform().getExecuteBatchRowCounts();
-                List<List> failureParametersList = new ArrayList();
-                for (int i = 0; i < rowCounts.length; i++) {
-                    if (rowCounts[i] != 1 ) {
-                        failureParametersList.add(parameters.get(i));
-                    }
-                }
+    /**
+     * INTERNAL:
+     * Execute the only call of the batch without JDBC batching.
+     */
+    protected void executeSingleCall(AbstractSession session) {
+        Object rowCount = this.databaseAccessor.basicExecuteCall(this.previousCall, null, session, false);
+        if (this.previousCall.hasOptimisticLock() && rowCount instanceof Integer) {
+            if ((Integer)rowCount != 1) {
                 Object object = null;
                 DatabaseQuery query = this.previousCall.getQuery();
                 if (query.isUpdateObjectQuery()) {
@@ -210,12 +198,66 @@ private void executeBatch(AbstractSession session) {
                 } else if (query.isDeleteObjectQuery()) {
                     object = ((DeleteObjectQuery) query).getObject();
                 }
-                throw OptimisticLockException.batchStatementExecutionFailureWithParametersList(object, failureParametersList, query.getSQLString());
+                throw OptimisticLockException.batchStatementExecutionFailureWithParametersList(object, parameters, query.getSQLString());
             }
-        } finally {
-            // Reset the batched sql string
-            //we MUST clear the mechanism here in order to append the new statement.
-            this.clear();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Log the batch and build its statement, binding the parameters of each call.
+     * The accessor call count is incremented, it is decremented when the statement is released.
+     */
+    protected PreparedStatement prepareBatch(AbstractSession session) {
+        this.databaseAccessor.incrementCallCount(session);// Decrement occurs in close.
+
+        if (session.shouldLog(SessionLog.FINE, SessionLog.SQL)) {
+            session.log(SessionLog.FINER, SessionLog.SQL, "begin_batch_statements", null, this.databaseAccessor);
+            session.log(SessionLog.FINE, SessionLog.SQL, this.previousCall.getSQLString(), null, this.databaseAccessor, false);
+            // took this logging part from SQLCall
+            for (List callParameters : this.parameters) {
+                StringWriter writer = new StringWriter();
+                DatabaseCall.appendLogParameters(callParameters, this.databaseAccessor, writer, session);
+                session.log(SessionLog.FINE, SessionLog.SQL, writer.toString(), null, this.databaseAccessor, false);
+            }
+            session.log(SessionLog.FINER, SessionLog.SQL, "end_batch_statements", null, this.databaseAccessor);
+        }
+
+        //bug 4241441: need to keep track of rows modified and throw opti lock exception if needed
+        return prepareBatchStatements(session);
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the prepared batch statement, and release it.
+     */
+    protected void executeBatchStatement(PreparedStatement statement, AbstractSession session) {
+        // += is used as native batch writing can return a row count before execution.
+        this.executionCount += this.databaseAccessor.executeJDK12BatchStatement(statement, this.lastCallAppended, session, true);
+    }
+
+    /**
+     * INTERNAL:
+     * Throw an optimistic lock exception if the executed batch did not modify a row for each call.
+     * The row counts of the batch execution must have been recorded by the current thread.
+     */
+    protected void checkOptimisticLock() {
+        if (this.previousCall.hasOptimisticLock() && (this.executionCount != this.statementCount)) {
+            int[] rowCounts = this.databaseAccessor.getPlatform().getExecuteBatchRowCounts();
+            List<List> failureParametersList = new ArrayList();
+            for (int i = 0; i < rowCounts.length; i++) {
+                if (rowCounts[i] != 1 ) {
+                    failureParametersList.add(parameters.get(i));
+                }
+            }
+            Object object = null;
+            DatabaseQuery query = this.previousCall.getQuery();
+            if (query.isUpdateObjectQuery()) {
+                object = ((UpdateObjectQuery) query).getObject();
+            } else if (query.isDeleteObjectQuery()) {
+                object = ((DeleteObjectQuery) query).getObject();
+            }
+            throw OptimisticLockException.batchStatementExecutionFailureWithParametersList(object, failureParametersList, query.getSQLString());
         }
     }
 
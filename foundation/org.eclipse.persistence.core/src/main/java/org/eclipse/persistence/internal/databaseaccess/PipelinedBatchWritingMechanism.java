@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.platform.server.ServerPlatform;
+import org.eclipse.persistence.queries.DatabaseQuery;
+
+/**
+ * INTERNAL:
+ * <p>Parameterized batch writing mechanism that executes its batches asynchronously.
+ * The statement of a batch is built and bound on the committing thread, and then executed on a
+ * container thread, so building the next batch overlaps the execution of the previous one.
+ * Batches for classes with no commit order dependency (no foreign key constraint between their tables)
+ * are executed concurrently on separate statements, dependent batches are executed in order.</p>
+ *
+ * <p>All pending batches are completed before any non batched statement is executed,
+ * and before the transaction is committed, so the first batch failure is always raised
+ * before the commit.</p>
+ *
+ * <p>If multi-row insert or bulk update batch writing is also enabled, the batches they apply to are executed
+ * as set-based statements on the committing thread, once the pending batches have completed,
+ * and the other batches are pipelined.</p>
+ *
+ * <p>The JDBC driver must support the concurrent execution of separate statements on the same connection.</p>
+ *
+ * @see DatabasePlatform#setUsesPipelinedBatchWriting(boolean)
+ * @since EclipseLink 5.0
+ */
+public class PipelinedBatchWritingMechanism extends BulkUpdateBatchWritingMechanism {
+
+    /**
+     * A batch that was submitted for execution, and the descriptor its statements write,
+     * or null if unknown.
+     */
+    protected static class PendingBatch {
+        protected final ClassDescriptor descriptor;
+        protected final CompletableFuture<Void> future;
+
+        protected PendingBatch(ClassDescriptor descriptor, CompletableFuture<Void> future) {
+            this.descriptor = descriptor;
+            this.future = future;
+        }
+    }
+
+    /** The batches submitted and not yet completed, in submission order. */
+    protected transient List<PendingBatch> pendingBatches;
+
+    /** The maximum number of batches executing at the same time. */
+    protected int maxPendingBatches;
+
+    public PipelinedBatchWritingMechanism() {
+        super();
+    }
+
+    public PipelinedBatchWritingMechanism(DatabaseAccessor databaseAccessor) {
+        super(databaseAccessor);
+        this.pendingBatches = new ArrayList<>();
+        this.maxPendingBatches = Math.max(1, databaseAccessor.getLogin().getPlatform().getMaxPipelinedBatches());
+    }
+
+    /**
+     * INTERNAL:
+     * Submit the current batch, it is executed while the next batch is built.
+     */
+    @Override
+    protected void endBatch(AbstractSession session) {
+        submitBatch(session);
+    }
+
+    /**
+     * INTERNAL:
+     * Submit the current batch, and wait for all the submitted batches to complete.
+     * The first batch failure is thrown.
+     */
+    @Override
+    public void executeBatchedStatements(AbstractSession session) {
+        submitBatch(session);
+        awaitBatches(0);
+    }
+
+    /**
+     * INTERNAL:
+     * Build the statement of the current batch, and execute it asynchronously once the pending
+     * batches it depends on have completed.
+     */
+    protected void submitBatch(AbstractSession session) {
+        if (this.parameters.isEmpty()) {
+            return;
+        }
+        //Bug#419326 : The clone is executed, so the current batch is not visible to recursive calls.
+        PipelinedBatchWritingMechanism batch = (PipelinedBatchWritingMechanism)clone();
+        super.clear();
+        if (batch.isSetBased(session)) {
+            // A single set-based statement, executed in order after the batches it may depend on.
+            try {
+                awaitBatches(0);
+                batch.executeBatch(session);
+            } finally {
+                batch.clear();
+            }
+            return;
+        }
+        // Limit the number of executing batches (and statements open on the connection).
+        awaitBatches(this.maxPendingBatches - 1);
+
+        PreparedStatement statement;
+        try {
+            // Single calls are also executed as a JDBC batch, so they can be pipelined.
+            statement = batch.prepareBatch(session);
+        } catch (RuntimeException exception) {
+            batch.clear();
+            awaitBatchesIgnoringFailures();
+            throw exception;
+        }
+        this.databaseAccessor.writeStatementsCount++;
+
+        ClassDescriptor descriptor = batch.getDescriptor();
+        List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+        for (PendingBatch pendingBatch : this.pendingBatches) {
+            if ((descriptor == null) || (pendingBatch.descriptor == null)
+                    || session.getCommitManager().isCommitOrderDependent(descriptor, pendingBatch.descriptor)) {
+                dependencies.add(pendingBatch.future);
+            }
+        }
+        CompletableFuture<Void> future = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture[dependencies.size()]))
+                .handleAsync((result, failure) -> {
+                    try {
+                        if (failure != null) {
+                            // A batch this batch depends on failed, so it must not be executed.
+                            try {
+                                this.databaseAccessor.closeStatement(statement, session, null);
+                            } catch (SQLException closeException) {
+                            }
+                            throw unwrap(failure);
+                        }
+                        batch.executeBatchStatement(statement, session);
+                        batch.checkOptimisticLock();
+                        return null;
+                    } finally {
+                        batch.clear();
+                    }
+                }, getExecutor(session));
+        this.pendingBatches.add(new PendingBatch(descriptor, future));
+    }
+
+    /**
+     * INTERNAL:
+     * Wait until at most the number of batches are pending.
+     * If any batch failed, wait for all the batches and throw the first failure.
+     */
+    protected void awaitBatches(int maxPending) {
+        if ((this.pendingBatches == null) || this.pendingBatches.isEmpty()) {
+            return;
+        }
+        RuntimeException failure = null;
+        for (int index = 0; index < this.pendingBatches.size(); index++) {
+            CompletableFuture<Void> future = this.pendingBatches.get(index).future;
+            if (future.isDone()) {
+                this.pendingBatches.remove(index--);
+                if (future.isCompletedExceptionally()) {
+                    failure = join(future, failure);
+                }
+            }
+        }
+        while ((this.pendingBatches.size() > maxPending) || ((failure != null) && !this.pendingBatches.isEmpty())) {
+            failure = join(this.pendingBatches.remove(0).future, failure);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Wait for all the batches to complete, ignoring their failures.
+     */
+    protected void awaitBatchesIgnoringFailures() {
+        try {
+            awaitBatches(0);
+        } catch (RuntimeException ignore) {
+            // The original failure is thrown.
+        }
+    }
+
+    /**
+     * Wait for the batch and return the first failure.
+     */
+    protected RuntimeException join(CompletableFuture<Void> future, RuntimeException failure) {
+        try {
+            future.join();
+        } catch (RuntimeException exception) {
+            if (failure == null) {
+                return unwrap(exception);
+            }
+        }
+        return failure;
+    }
+
+    protected RuntimeException unwrap(Throwable failure) {
+        Throwable cause = failure;
+        if ((cause instanceof CompletionException) && (cause.getCause() != null)) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException)cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error)cause;
+        }
+        return new CompletionException(cause);
+    }
+
+    /**
+     * Return the descriptor the batched statements write, or null if not an object level write.
+     */
+    protected ClassDescriptor getDescriptor() {
+        DatabaseQuery query = this.previousCall.getQuery();
+        if ((query != null) && query.isObjectLevelModifyQuery()) {
+            return query.getDescriptor();
+        }
+        return null;
+    }
+
+    /**
+     * Return the executor for the batches, the server platform's container threads.
+     */
+    protected Executor getExecutor(AbstractSession session) {
+        ServerPlatform serverPlatform = session.getServerPlatform();
+        if (serverPlatform == null) {
+            return Runnable::run;
+        }
+        return serverPlatform::launchContainerRunnable;
+    }
+
+    /**
+     * INTERNAL:
+     * Clear the batched statements without executing them, this is used in the case of rollback.
+     * The batches already submitted are completed first, so no statement is executing on rollback.
+     */
+    @Override
+    public void clear() {
+        awaitBatchesIgnoringFailures();
+        super.clear();
+    }
+
+    /**
+     * INTERNAL:
+     * The clone does not share the pending batches.
+     */
+    @Override
+    public BatchWritingMechanism clone() {
+        PipelinedBatchWritingMechanism clone = (PipelinedBatchWritingMechanism)super.clone();
+        if (this.pendingBatches != null) {
+            clone.pendingBatches = new ArrayList<>();
+        }
+        return clone;
+    }
+
+    public List<PendingBatch> getPendingBatches() {
+        return pendingBatches;
+    }
+
+    public int getMaxPendingBatches() {
+        return maxPendingBatches;
+    }
+
+    public void setMaxPendingBatches(int maxPendingBatches) {
+        this.maxPendingBatches = maxPendingBatches;
+    }
+}
@@ -0,0 +1,601 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.sql.CallableStatement;
+import java.sql.Statement;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Cache of the idle prepared statements of a {@link DatabaseAccessor}.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Caches statements by their SQL, result set type and concurrency, and whether they are callable
+ * or return generated keys, so a statement is only reused for a call it was prepared for.
+ * <li> A statement is removed from the cache while it is executing, and put back when it is released,
+ * so a statement is never used concurrently.
+ * <li> Evicts the least recently used ({@link #LRU}), or least frequently used ({@link #LFU}) statement
+ * once the cache is full. Access frequencies are kept per SQL and periodically halved,
+ * so a statement that was evicted keeps its frequency when it is prepared again.
+ * <li> Optionally pins the most frequently used statements, which are then never evicted.
+ * <li> Maintains hit, miss and eviction counts for the accessor and for each SQL.
+ * </ul>
+ * All operations are guarded by a lock, as shared read connections are used by multiple threads.
+ * @since EclipseLink 5.0
+ */
+public class StatementCache {
+
+    /** Evict the least recently used statement. This is the default. */
+    public static final String LRU = "LRU";
+    /** Evict the least frequently used statement. */
+    public static final String LFU = "LFU";
+
+    /** Key flag for a callable statement. */
+    protected static final int CALLABLE = 1;
+    /** Key flag for a statement returning generated keys. */
+    protected static final int GENERATED_KEYS = 2;
+
+    /** Guards all the cache state, including the statistics. */
+    protected final ReentrantLock lock;
+
+    /** Idle statements by key. */
+    protected final Map<Key, Entry> statements;
+    /** Idle statements that can be evicted, ordered by the eviction policy. */
+    protected final TreeSet<Entry> evictable;
+    /** Idle pinned statements, ordered by frequency. */
+    protected final TreeSet<Entry> pinned;
+    /** Statistics by SQL. */
+    protected final Map<String, SqlStatistics> statistics;
+    protected final String policy;
+
+    /** Incremented on each access, orders the statements by recency. */
+    protected long tick;
+    /** Number of accesses until the access frequencies are halved. */
+    protected int accessesUntilAging;
+
+    protected long hits;
+    protected long misses;
+    protected long evictions;
+
+    /**
+     * INTERNAL:
+     * Create a cache using the eviction policy, {@link #LRU} or {@link #LFU}.
+     */
+    public StatementCache(String policy) {
+        this.policy = LFU.equalsIgnoreCase(policy) ? LFU : LRU;
+        this.lock = new ReentrantLock();
+        this.statements = new HashMap<>();
+        Comparator<Entry> byFrequency = Comparator.<Entry>comparingInt(entry -> entry.frequency).thenComparingLong(entry -> entry.tick);
+        this.evictable = new TreeSet<>((this.policy == LFU) ? byFrequency : Comparator.comparingLong(entry -> entry.tick));
+        this.pinned = new TreeSet<>(byFrequency);
+        this.statistics = new HashMap<>();
+        this.accessesUntilAging = 1024;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the key of the statement for the call.
+     */
+    public static Key buildKey(DatabaseCall call) {
+        int flags = 0;
+        if (call.isCallableStatementRequired()) {
+            flags |= CALLABLE;
+        }
+        if (call.shouldReturnGeneratedKeys()) {
+            flags |= GENERATED_KEYS;
+        }
+        if (call.isResultSetScrollable()) {
+            return new Key(call.getSQLString(), call.getResultSetType(), call.getResultSetConcurrency(), flags);
+        }
+        return new Key(call.getSQLString(), 0, 0, flags);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the key of a statement for the SQL not prepared from a call.
+     */
+    public static Key buildKey(String sql, boolean callable) {
+        return new Key(sql, 0, 0, callable ? CALLABLE : 0);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the key of the statement being released.
+     */
+    public static Key buildKey(String sql, DatabaseCall call, Statement statement) {
+        if (call == null) {
+            return buildKey(sql, statement instanceof CallableStatement);
+        }
+        Key key = buildKey(call);
+        if (!key.sql.equals(sql)) {
+            return new Key(sql, key.resultSetType, key.resultSetConcurrency, key.flags);
+        }
+        return key;
+    }
+
+    /**
+     * INTERNAL:
+     * Remove and return the idle statement for the key, or null if none is cached.
+     */
+    public Statement acquire(Key key) {
+        this.lock.lock();
+        try {
+            SqlStatistics sqlStatistics = getSqlStatistics(key.sql);
+            recordAccess(sqlStatistics);
+            Entry entry = this.statements.remove(key);
+            if (entry == null) {
+                this.misses++;
+                sqlStatistics.misses++;
+                return null;
+            }
+            removeIdle(entry);
+            this.hits++;
+            sqlStatistics.hits++;
+            return entry.statement;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Put the released statement in the cache, evicting a statement if the cache is full.
+     * Return the evicted statement, or the released statement if a statement is already cached for the key,
+     * either must be closed by the caller; or null.
+     * Only the most frequently used pinnedSize statements are pinned.
+     */
+    public Statement release(Key key, Statement statement, int maxSize, int pinnedSize) {
+        this.lock.lock();
+        try {
+            if (this.statements.containsKey(key)) {
+                return statement;
+            }
+            Statement evicted = null;
+            if ((this.statements.size() >= maxSize) && !this.evictable.isEmpty()) {
+                Entry eviction = this.evictable.pollFirst();
+                this.statements.remove(eviction.key);
+                eviction.statistics.cached--;
+                eviction.statistics.evictions++;
+                this.evictions++;
+                evicted = eviction.statement;
+            }
+            SqlStatistics sqlStatistics = getSqlStatistics(key.sql);
+            Entry entry = new Entry(key, statement, sqlStatistics, sqlStatistics.frequency, this.tick++);
+            sqlStatistics.cached++;
+            this.statements.put(key, entry);
+            pinnedSize = Math.max(0, Math.min(pinnedSize, maxSize));
+            while (this.pinned.size() > pinnedSize) {
+                this.evictable.add(this.pinned.pollFirst());
+            }
+            if ((pinnedSize > 0) && ((this.pinned.size() < pinnedSize) || (entry.frequency > this.pinned.first().frequency))) {
+                this.pinned.add(entry);
+                if (this.pinned.size() > pinnedSize) {
+                    this.evictable.add(this.pinned.pollFirst());
+                }
+            } else {
+                this.evictable.add(entry);
+            }
+            return evicted;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Remove and return all the idle statements, so they can be closed.
+     * The statistics are kept.
+     */
+    public List<Statement> clear() {
+        this.lock.lock();
+        try {
+            List<Statement> removed = new ArrayList<>(this.statements.size());
+            for (Entry entry : this.statements.values()) {
+                entry.statistics.cached--;
+                removed.add(entry.statement);
+            }
+            this.statements.clear();
+            this.evictable.clear();
+            this.pinned.clear();
+            return removed;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the idle statement for the SQL, without removing it, or null if none is cached.
+     */
+    public Statement get(String sql) {
+        this.lock.lock();
+        try {
+            for (Entry entry : this.statements.values()) {
+                if (entry.key.sql.equals(sql)) {
+                    return entry.statement;
+                }
+            }
+            return null;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return a read-only view of the idle statements by their SQL, one statement for each SQL.
+     * The view is backed by the cache, its entries are a copy of the current idle statements.
+     */
+    public Map<String, Statement> asMap() {
+        return new AbstractMap<>() {
+            @Override
+            public Statement get(Object sql) {
+                return (sql instanceof String) ? StatementCache.this.get((String)sql) : null;
+            }
+
+            @Override
+            public boolean containsKey(Object sql) {
+                return get(sql) != null;
+            }
+
+            @Override
+            public Set<Map.Entry<String, Statement>> entrySet() {
+                Map<String, Statement> statements = new LinkedHashMap<>();
+                lock.lock();
+                try {
+                    for (StatementCache.Entry entry : StatementCache.this.statements.values()) {
+                        statements.putIfAbsent(entry.key.sql, entry.statement);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                return Collections.unmodifiableMap(statements).entrySet();
+            }
+        };
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the SQL is pinned in the cache.
+     */
+    public boolean isPinned(String sql) {
+        this.lock.lock();
+        try {
+            for (Entry entry : this.pinned) {
+                if (entry.key.sql.equals(sql)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if no statements are cached.
+     */
+    public boolean isEmpty() {
+        this.lock.lock();
+        try {
+            return this.statements.isEmpty();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of idle statements cached.
+     */
+    public int size() {
+        this.lock.lock();
+        try {
+            return this.statements.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the eviction policy, {@link #LRU} or {@link #LFU}.
+     */
+    public String getPolicy() {
+        return policy;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of times a cached statement was reused.
+     */
+    public long getHits() {
+        this.lock.lock();
+        try {
+            return this.hits;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of times a statement had to be prepared.
+     */
+    public long getMisses() {
+        this.lock.lock();
+        try {
+            return this.misses;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of statements evicted from the cache.
+     */
+    public long getEvictions() {
+        this.lock.lock();
+        try {
+            return this.evictions;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the ratio of accesses that reused a cached statement.
+     */
+    public double getHitRate() {
+        this.lock.lock();
+        try {
+            return hitRate(this.hits, this.misses);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return a copy of the statistics of the SQL, or null if it was not used recently.
+     */
+    public SqlStatistics getStatistics(String sql) {
+        this.lock.lock();
+        try {
+            SqlStatistics sqlStatistics = this.statistics.get(sql);
+            return (sqlStatistics == null) ? null : sqlStatistics.copy();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return a copy of the statistics of the recently used SQL, most frequently used first.
+     */
+    public List<SqlStatistics> getStatistics() {
+        this.lock.lock();
+        try {
+            List<SqlStatistics> copies = new ArrayList<>(this.statistics.size());
+            for (SqlStatistics sqlStatistics : this.statistics.values()) {
+                copies.add(sqlStatistics.copy());
+            }
+            copies.sort(Comparator.comparingLong((SqlStatistics sqlStatistics) -> sqlStatistics.hits + sqlStatistics.misses).reversed());
+            return copies;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    protected SqlStatistics getSqlStatistics(String sql) {
+        SqlStatistics sqlStatistics = this.statistics.get(sql);
+        if (sqlStatistics == null) {
+            sqlStatistics = new SqlStatistics(sql);
+            this.statistics.put(sql, sqlStatistics);
+        }
+        return sqlStatistics;
+    }
+
+    /**
+     * Count the access to the SQL. Periodically halve all the frequencies so old accesses are forgotten,
+     * and drop the statistics of SQL no longer used.
+     */
+    protected void recordAccess(SqlStatistics sqlStatistics) {
+        if (sqlStatistics.frequency < Integer.MAX_VALUE) {
+            sqlStatistics.frequency++;
+        }
+        if (--this.accessesUntilAging > 0) {
+            return;
+        }
+        this.accessesUntilAging = Math.max(1024, this.statements.size() * 16);
+        for (Iterator<SqlStatistics> iterator = this.statistics.values().iterator(); iterator.hasNext(); ) {
+            SqlStatistics next = iterator.next();
+            next.frequency = next.frequency >>> 1;
+            if ((next.frequency == 0) && (next.cached == 0) && (next != sqlStatistics)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    protected void removeIdle(Entry entry) {
+        if (!this.evictable.remove(entry)) {
+            this.pinned.remove(entry);
+        }
+        entry.statistics.cached--;
+    }
+
+    protected static double hitRate(long hits, long misses) {
+        long accesses = hits + misses;
+        return (accesses == 0) ? 0 : ((double)hits) / accesses;
+    }
+
+    @Override
+    public String toString() {
+        this.lock.lock();
+        try {
+            return getClass().getSimpleName() + "(" + this.policy + ", size: " + this.statements.size() + ", pinned: " + this.pinned.size()
+                    + ", hits: " + this.hits + ", misses: " + this.misses + ", evictions: " + this.evictions + ")";
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Identifies the statements that can be used for the same calls.
+     */
+    public static final class Key {
+        protected final String sql;
+        protected final int resultSetType;
+        protected final int resultSetConcurrency;
+        protected final int flags;
+        protected final int hash;
+
+        protected Key(String sql, int resultSetType, int resultSetConcurrency, int flags) {
+            this.sql = sql;
+            this.resultSetType = resultSetType;
+            this.resultSetConcurrency = resultSetConcurrency;
+            this.flags = flags;
+            this.hash = (((sql.hashCode() * 31) + resultSetType) * 31 + resultSetConcurrency) * 31 + flags;
+        }
+
+        public String getSQLString() {
+            return sql;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            Key key = (Key)object;
+            return (this.hash == key.hash) && (this.resultSetType == key.resultSetType) && (this.resultSetConcurrency == key.resultSetConcurrency)
+                    && (this.flags == key.flags) && this.sql.equals(key.sql);
+        }
+
+        @Override
+        public String toString() {
+            return this.sql;
+        }
+    }
+
+    /**
+     * Idle statement in the cache.
+     */
+    protected static final class Entry {
+        protected final Key key;
+        protected final Statement statement;
+        protected final SqlStatistics statistics;
+        /** Frequency of the SQL when the statement was released, fixed while the entry is ordered. */
+        protected final int frequency;
+        protected final long tick;
+
+        protected Entry(Key key, Statement statement, SqlStatistics statistics, int frequency, long tick) {
+            this.key = key;
+            this.statement = statement;
+            this.statistics = statistics;
+            this.frequency = frequency;
+            this.tick = tick;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Statement cache statistics of a SQL.
+     */
+    public static final class SqlStatistics {
+        protected final String sql;
+        protected long hits;
+        protected long misses;
+        protected long evictions;
+        /** Recent accesses, periodically halved. */
+        protected int frequency;
+        /** Number of idle statements cached for the SQL. */
+        protected int cached;
+
+        protected SqlStatistics(String sql) {
+            this.sql = sql;
+        }
+
+        protected SqlStatistics copy() {
+            SqlStatistics copy = new SqlStatistics(this.sql);
+            copy.hits = this.hits;
+            copy.misses = this.misses;
+            copy.evictions = this.evictions;
+            copy.frequency = this.frequency;
+            copy.cached = this.cached;
+            return copy;
+        }
+
+        public String getSQLString() {
+            return sql;
+        }
+
+        /**
+         * Return the number of times a cached statement was reused for the SQL.
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * Return the number of times a statement had to be prepared for the SQL.
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * Return the number of statements for the SQL evicted from the cache.
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * Return the ratio of accesses to the SQL that reused a cached statement.
+         */
+        public double getHitRate() {
+            return hitRate(this.hits, this.misses);
+        }
+
+        @Override
+        public String toString() {
+            return "SqlStatistics(" + this.sql + ", hits: " + this.hits + ", misses: " + this.misses + ", evictions: " + this.evictions + ")";
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import org.eclipse.persistence.exceptions.DescriptorException;
+
+/**
+ * INTERNAL:
+ * Instance variable accessor using the generated accessor of the class declaring the variable instead of reflection.
+ * <p>
+ * Values that the generated accessor cannot set as is, such as null for a primitive, or a value to convert,
+ * and failures, are handled by reflection as by the instance variable accessor, with the same results and exceptions.
+ * The generated accessor is not serialized, a deserialized accessor uses reflection.
+ * @see ObjectAccessorGenerator
+ * @since EclipseLink 5.0
+ */
+public class GeneratedAttributeAccessor extends InstanceVariableAttributeAccessor {
+
+    /** The generated accessor of the class declaring the instance variable. */
+    protected transient GeneratedObjectAccessor objectAccessor;
+
+    /** The index of the instance variable in the generated accessor. */
+    protected int index;
+
+    public GeneratedAttributeAccessor(InstanceVariableAttributeAccessor accessor, GeneratedObjectAccessor objectAccessor, int index) {
+        setAttributeName(accessor.getAttributeName());
+        setAttributeField(accessor.getAttributeField());
+        setIsReadOnly(accessor.isReadOnly());
+        setIsWriteOnly(accessor.isWriteOnly());
+        this.objectAccessor = objectAccessor;
+        this.index = index;
+    }
+
+    /**
+     * Returns the value of the attribute on the specified object.
+     */
+    @Override
+    public Object getAttributeValueFromObject(Object anObject) throws DescriptorException {
+        GeneratedObjectAccessor objectAccessor = this.objectAccessor;
+        if (objectAccessor != null) {
+            try {
+                return objectAccessor.get(anObject, this.index);
+            } catch (ClassCastException | NullPointerException exception) {
+                // Raise the reflective accessor's exception.
+            }
+        }
+        return super.getAttributeValueFromObject(anObject);
+    }
+
+    /**
+     * Sets the value of the instance variable in the object to the value.
+     */
+    @Override
+    public void setAttributeValueInObject(Object anObject, Object value) throws DescriptorException {
+        GeneratedObjectAccessor objectAccessor = this.objectAccessor;
+        if (objectAccessor != null) {
+            try {
+                objectAccessor.set(anObject, this.index, value);
+                return;
+            } catch (ClassCastException | NullPointerException exception) {
+                // Null into a primitive, or a value to convert, is handled by reflection.
+            }
+        }
+        super.setAttributeValueInObject(anObject, value);
+    }
+
+    public GeneratedObjectAccessor getObjectAccessor() {
+        return objectAccessor;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+}
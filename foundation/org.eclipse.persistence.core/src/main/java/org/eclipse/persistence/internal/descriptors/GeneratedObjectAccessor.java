@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import java.lang.reflect.Field;
+
+/**
+ * INTERNAL:
+ * Instantiates a class and accesses its instance variables with straight-line bytecode instead of reflection.
+ * <p>
+ * A subclass is generated for each class by {@link ObjectAccessorGenerator}, as a hidden class nested in the class,
+ * so it can access the private instance variables and constructor. The instance variables are accessed by index,
+ * the index of a variable is its position in {@link #getFields()}.
+ * <p>
+ * The generated accessor does not convert values: setting a value of the wrong type throws a ClassCastException,
+ * and setting null into a primitive variable a NullPointerException, to be handled by the reflective accessor.
+ * @see GeneratedAttributeAccessor
+ * @since EclipseLink 5.0
+ */
+public abstract class GeneratedObjectAccessor {
+
+    /** The class accessed. */
+    protected Class<?> javaClass;
+
+    /** The instance variables accessed, by index. */
+    protected Field[] fields;
+
+    /** If the class is instantiated by its default constructor. */
+    protected boolean isInstantiable;
+
+    protected GeneratedObjectAccessor() {
+    }
+
+    /**
+     * Set the class and instance variables accessed by the generated methods.
+     */
+    protected void initialize(Class<?> javaClass, Field[] fields, boolean isInstantiable) {
+        this.javaClass = javaClass;
+        this.fields = fields;
+        this.isInstantiable = isInstantiable;
+    }
+
+    /**
+     * Return a new instance of the class, built by its default constructor.
+     */
+    public Object newInstance() {
+        throw new UnsupportedOperationException(this.javaClass.getName());
+    }
+
+    /**
+     * Return the value of the instance variable of the index in the object, primitives are boxed.
+     */
+    public abstract Object get(Object object, int index);
+
+    /**
+     * Set the value of the instance variable of the index in the object, primitives are unboxed.
+     */
+    public abstract void set(Object object, int index, Object value);
+
+    /**
+     * Return the index of the instance variable, or -1 if it is not accessed.
+     */
+    public int indexOf(Field field) {
+        for (int index = 0; index < this.fields.length; index++) {
+            if (this.fields[index].equals(field)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Return the exception thrown by the generated methods for an index out of range.
+     */
+    protected RuntimeException invalidIndex(int index) {
+        return new IndexOutOfBoundsException(index);
+    }
+
+    public Class<?> getJavaClass() {
+        return javaClass;
+    }
+
+    public Field[] getFields() {
+        return fields;
+    }
+
+    /**
+     * Return if {@link #newInstance()} builds new instances, the class has a default constructor.
+     */
+    public boolean isInstantiable() {
+        return isInstantiable;
+    }
+}
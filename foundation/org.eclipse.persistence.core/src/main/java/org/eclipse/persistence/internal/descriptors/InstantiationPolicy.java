@@ -92,6 +92,9 @@ public class InstantiationPolicy extends CoreInstantiationPolicy implements Clon
     /** Must be transient because java.lang.Constructor is not serializable. */
     private transient Constructor defaultConstructor;
 
+    /** The generated accessor instantiating the class instead of its default constructor, not serialized. */
+    protected transient GeneratedObjectAccessor objectAccessor;
+
     /**
      * Default constructor
      */
@@ -116,6 +119,13 @@ public Object buildNewInstance() throws DescriptorException {
      * Build and return a new instance, using the default (zero-argument) constructor.
      */
     protected Object buildNewInstanceUsingDefaultConstructor() throws DescriptorException {
+        if (this.objectAccessor != null) {
+            try {
+                return this.objectAccessor.newInstance();
+            } catch (RuntimeException exception) {
+                throw DescriptorException.targetInvocationWhileConstructorInstantiation(getDescriptor(), new InvocationTargetException(exception));
+            }
+        }
         // NoSuchMethodError is not an Exception instance so Throwable is required
         return PrivilegedAccessHelper.callDoPrivilegedWithThrowable(
                 () -> (defaultConstructor != null ? defaultConstructor : getDefaultConstructor()).newInstance((Object[])null),
@@ -371,6 +381,23 @@ public boolean isUsingDefaultConstructor() {
         return this.getMethodName() == null;
     }
 
+    /**
+     * INTERNAL:
+     * Return the generated accessor instantiating the class instead of its default constructor, or null.
+     */
+    public GeneratedObjectAccessor getObjectAccessor() {
+        return objectAccessor;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the generated accessor instantiating the class instead of its default constructor.
+     * @see ObjectAccessorGenerator
+     */
+    public void setObjectAccessor(GeneratedObjectAccessor objectAccessor) {
+        this.objectAccessor = objectAccessor;
+    }
+
     protected void setDefaultConstructor(Constructor defaultConstructor) {
         this.defaultConstructor = defaultConstructor;
     }
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.asm.ASMFactory;
+import org.eclipse.persistence.asm.ClassWriter;
+import org.eclipse.persistence.asm.EclipseLinkASMClassWriter;
+import org.eclipse.persistence.asm.Label;
+import org.eclipse.persistence.asm.MethodVisitor;
+import org.eclipse.persistence.asm.Opcodes;
+import org.eclipse.persistence.asm.Type;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.Helper;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.AttributeAccessor;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+
+/**
+ * INTERNAL:
+ * Generates the {@link GeneratedObjectAccessor} of a class, used instead of reflection to instantiate a descriptor's class
+ * and access the instance variables of its mappings, when building objects from rows, rows from objects, and clones.
+ * <p>
+ * The accessor of a class is generated once, and defined as a hidden class nested in the class, so it is unloaded with it.
+ * It accesses the non static, non final instance variables declared by the class, and instantiates the class if it has
+ * a default constructor. The instance variables declared by a superclass are accessed by the accessor of the superclass.
+ * If the accessor cannot be defined, such as if the class's module does not open its package, reflection is used.
+ * @see ClassDescriptor#setUsesGeneratedAccessors(boolean)
+ * @since EclipseLink 5.0
+ */
+public class ObjectAccessorGenerator {
+
+    /** The suffix of the name of the generated accessor classes. */
+    public static final String ACCESSOR_CLASS_SUFFIX = "$$EclipseLinkAccessor";
+
+    protected static final String ACCESSOR_SUPERCLASS = "org/eclipse/persistence/internal/descriptors/GeneratedObjectAccessor";
+    protected static final String INIT = "<init>";
+
+    /** The generated accessor of each class, null if it cannot be generated. */
+    protected static final ClassValue<GeneratedObjectAccessor> accessors = new ClassValue<>() {
+        @Override
+        protected GeneratedObjectAccessor computeValue(Class<?> javaClass) {
+            return generateAccessor(javaClass);
+        }
+    };
+
+    private ObjectAccessorGenerator() {
+    }
+
+    /**
+     * INTERNAL:
+     * Use the generated accessors for the descriptor's instantiation policy, and for the mappings
+     * accessing an instance variable by reflection. Called at the end of the descriptor's initialization.
+     * If the accessors cannot be generated, reflection is used, and the failure logged.
+     */
+    public static void initialize(ClassDescriptor descriptor, AbstractSession session) {
+        Class<?> javaClass = descriptor.getJavaClass();
+        if ((javaClass == null) || descriptor.isDescriptorForInterface()) {
+            return;
+        }
+        try {
+            GeneratedObjectAccessor classAccessor = getAccessor(javaClass);
+            InstantiationPolicy policy = descriptor.getInstantiationPolicy();
+            if ((classAccessor != null) && classAccessor.isInstantiable() && (policy.getClass() == InstantiationPolicy.class)
+                    && policy.isUsingDefaultConstructor()) {
+                policy.setObjectAccessor(classAccessor);
+            }
+            for (DatabaseMapping mapping : descriptor.getMappings()) {
+                AttributeAccessor attributeAccessor = mapping.getAttributeAccessor();
+                // Only the default accessor is replaced, weaving, property and custom accessors are kept.
+                if ((attributeAccessor == null) || (attributeAccessor.getClass() != InstanceVariableAttributeAccessor.class)
+                        || !attributeAccessor.isInitialized()) {
+                    continue;
+                }
+                Field field = ((InstanceVariableAttributeAccessor)attributeAccessor).getAttributeField();
+                GeneratedObjectAccessor fieldAccessor = (field.getDeclaringClass() == javaClass) ? classAccessor : getAccessor(field.getDeclaringClass());
+                int index = (fieldAccessor == null) ? -1 : fieldAccessor.indexOf(field);
+                if (index >= 0) {
+                    mapping.setAttributeAccessor(new GeneratedAttributeAccessor((InstanceVariableAttributeAccessor)attributeAccessor, fieldAccessor, index));
+                }
+            }
+        } catch (RuntimeException | LinkageError exception) {
+            session.logThrowable(SessionLog.FINE, SessionLog.WEAVER, exception);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the generated accessor of the class, generated on first use, or null if the class cannot have one.
+     */
+    public static GeneratedObjectAccessor getAccessor(Class<?> javaClass) {
+        return accessors.get(javaClass);
+    }
+
+    /**
+     * Generate and define the accessor of the class.
+     */
+    protected static GeneratedObjectAccessor generateAccessor(Class<?> javaClass) {
+        if (javaClass.isInterface() || javaClass.isArray() || javaClass.isPrimitive() || javaClass.isHidden()) {
+            return null;
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Field field : javaClass.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers) && !field.isSynthetic()
+                    && isAccessible(field.getType(), javaClass)) {
+                fields.add(field);
+            }
+        }
+        boolean isInstantiable = !Modifier.isAbstract(javaClass.getModifiers()) && hasDefaultConstructor(javaClass);
+        if (fields.isEmpty() && !isInstantiable) {
+            return null;
+        }
+        Field[] accessedFields = fields.toArray(new Field[0]);
+        byte[] bytes = buildAccessorBytes(javaClass, accessedFields, isInstantiable);
+        try {
+            ObjectAccessorGenerator.class.getModule().addReads(javaClass.getModule());
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(javaClass, MethodHandles.lookup())
+                    .defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE);
+            GeneratedObjectAccessor accessor = (GeneratedObjectAccessor)lookup.lookupClass().getDeclaredConstructor().newInstance();
+            accessor.initialize(javaClass, accessedFields, isInstantiable);
+            return accessor;
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException(javaClass.getName(), exception);
+        }
+    }
+
+    /**
+     * Return if the type can be named by the bytecode of a class nested in the host class.
+     */
+    protected static boolean isAccessible(Class<?> type, Class<?> host) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        } else if (type.isHidden()) {
+            return false;
+        }
+        return Modifier.isPublic(type.getModifiers())
+                || ((type.getClassLoader() == host.getClassLoader()) && type.getPackageName().equals(host.getPackageName()));
+    }
+
+    protected static boolean hasDefaultConstructor(Class<?> javaClass) {
+        if (javaClass.isMemberClass() && !Modifier.isStatic(javaClass.getModifiers())) {
+            return false;
+        }
+        for (Constructor<?> constructor : javaClass.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Build the bytecode of the accessor of the class:
+     * <pre>
+     * public final class Employee$$EclipseLinkAccessor extends GeneratedObjectAccessor {
+     *     public Object newInstance() { return new Employee(); }
+     *     public Object get(Object object, int index) {
+     *         switch (index) {
+     *             case 0: return ((Employee)object).name;
+     *             case 1: return Long.valueOf(((Employee)object).salary);
+     *             default: throw invalidIndex(index);
+     *         }
+     *     }
+     *     public void set(Object object, int index, Object value) {
+     *         switch (index) {
+     *             case 0: ((Employee)object).name = (String)value; return;
+     *             case 1: ((Employee)object).salary = ((Long)value).longValue(); return;
+     *             default: throw invalidIndex(index);
+     *         }
+     *     }
+     * }
+     * </pre>
+     */
+    protected static byte[] buildAccessorBytes(Class<?> javaClass, Field[] fields, boolean isInstantiable) {
+        String className = Type.getInternalName(javaClass);
+        ClassWriter cw = new EclipseLinkASMClassWriter();
+        cw.visit(Opcodes.valueInt("ACC_PUBLIC") + Opcodes.valueInt("ACC_FINAL") + Opcodes.valueInt("ACC_SUPER"),
+                className + ACCESSOR_CLASS_SUFFIX, null, ACCESSOR_SUPERCLASS, null);
+
+        MethodVisitor mv = cw.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), INIT, "()V", null, null);
+        mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 0);
+        mv.visitMethodInsn(Opcodes.valueInt("INVOKESPECIAL"), ACCESSOR_SUPERCLASS, INIT, "()V", false);
+        mv.visitInsn(Opcodes.valueInt("RETURN"));
+        mv.visitMaxs(0, 0);
+
+        if (isInstantiable) {
+            mv = cw.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), "newInstance", "()Ljava/lang/Object;", null, null);
+            mv.visitTypeInsn(Opcodes.valueInt("NEW"), className);
+            mv.visitInsn(Opcodes.valueInt("DUP"));
+            mv.visitMethodInsn(Opcodes.valueInt("INVOKESPECIAL"), className, INIT, "()V", false);
+            mv.visitInsn(Opcodes.valueInt("ARETURN"));
+            mv.visitMaxs(0, 0);
+        }
+
+        mv = cw.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), "get", "(Ljava/lang/Object;I)Ljava/lang/Object;", null, null);
+        Label[] labels = visitSwitch(mv, fields.length);
+        for (int index = 0; index < fields.length; index++) {
+            Field field = fields[index];
+            mv.visitLabel(labels[index]);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 1);
+            mv.visitTypeInsn(Opcodes.valueInt("CHECKCAST"), className);
+            mv.visitFieldInsn(Opcodes.valueInt("GETFIELD"), className, field.getName(), Type.getDescriptor(field.getType()));
+            if (field.getType().isPrimitive()) {
+                Class<?> wrapper = Helper.getObjectClass(field.getType());
+                mv.visitMethodInsn(Opcodes.valueInt("INVOKESTATIC"), Type.getInternalName(wrapper), "valueOf",
+                        "(" + Type.getDescriptor(field.getType()) + ")" + Type.getDescriptor(wrapper), false);
+            }
+            mv.visitInsn(Opcodes.valueInt("ARETURN"));
+        }
+        visitInvalidIndex(mv, labels[fields.length], 2);
+
+        mv = cw.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), "set", "(Ljava/lang/Object;ILjava/lang/Object;)V", null, null);
+        labels = visitSwitch(mv, fields.length);
+        for (int index = 0; index < fields.length; index++) {
+            Field field = fields[index];
+            Class<?> type = field.getType();
+            mv.visitLabel(labels[index]);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 1);
+            mv.visitTypeInsn(Opcodes.valueInt("CHECKCAST"), className);
+            mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 3);
+            if (type.isPrimitive()) {
+                String wrapperName = Type.getInternalName(Helper.getObjectClass(type));
+                mv.visitTypeInsn(Opcodes.valueInt("CHECKCAST"), wrapperName);
+                mv.visitMethodInsn(Opcodes.valueInt("INVOKEVIRTUAL"), wrapperName, type.getName() + "Value",
+                        "()" + Type.getDescriptor(type), false);
+            } else if (type != Object.class) {
+                mv.visitTypeInsn(Opcodes.valueInt("CHECKCAST"), Type.getInternalName(type));
+            }
+            mv.visitFieldInsn(Opcodes.valueInt("PUTFIELD"), className, field.getName(), Type.getDescriptor(type));
+            mv.visitInsn(Opcodes.valueInt("RETURN"));
+        }
+        visitInvalidIndex(mv, labels[fields.length], 2);
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    /**
+     * Visit the switch on the index argument, return the label of each index followed by the default label.
+     */
+    protected static Label[] visitSwitch(MethodVisitor mv, int size) {
+        Label[] labels = new Label[size + 1];
+        for (int index = 0; index <= size; index++) {
+            labels[index] = ASMFactory.createLabel();
+        }
+        if (size > 0) {
+            Label[] cases = new Label[size];
+            System.arraycopy(labels, 0, cases, 0, size);
+            mv.visitVarInsn(Opcodes.valueInt("ILOAD"), 2);
+            mv.visitTableSwitchInsn(0, size - 1, labels[size], cases);
+        }
+        return labels;
+    }
+
+    /**
+     * Visit the default case, throwing the invalid index exception.
+     */
+    protected static void visitInvalidIndex(MethodVisitor mv, Label label, int indexVariable) {
+        mv.visitLabel(label);
+        mv.visitVarInsn(Opcodes.valueInt("ALOAD"), 0);
+        mv.visitVarInsn(Opcodes.valueInt("ILOAD"), indexVariable);
+        mv.visitMethodInsn(Opcodes.valueInt("INVOKEVIRTUAL"), ACCESSOR_SUPERCLASS, "invalidIndex", "(I)Ljava/lang/RuntimeException;", false);
+        mv.visitInsn(Opcodes.valueInt("ATHROW"));
+        mv.visitMaxs(0, 0);
+    }
+}
@@ -65,6 +65,7 @@
 import org.eclipse.persistence.internal.helper.ThreadCursoredList;
 import org.eclipse.persistence.internal.identitymaps.CacheId;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.OffHeapCache;
 import org.eclipse.persistence.internal.indirection.ProxyIndirectionPolicy;
 import org.eclipse.persistence.internal.queries.AttributeItem;
 import org.eclipse.persistence.internal.queries.ContainerPolicy;
@@ -1164,6 +1165,10 @@ else if (joinManager != null && joinManager.hasJoinedAttributeExpressions()) { /
                     loadBatchReadAttributes(concreteDescriptor, domainObject, cacheKey, databaseRow, query, joinManager, false);
                 }
             }
+            // Store the row while the cache key is locked, so a concurrent merge will remove it after.
+            if (!cacheHit && shouldMaintainCache && !shouldStoreBypassCache && (cacheKey != null) && concreteDescriptor.getCachePolicy().hasOffHeapCache()) {
+                cacheRowOffHeap(databaseRow, session, cacheKey, fetchGroup, isSopQuery, concreteDescriptor);
+            }
         } finally {
             if (shouldMaintainCache && (cacheKey != null)) {
                 // bug 2681401:
@@ -3918,6 +3923,10 @@ public void postInitialize(AbstractSession session) throws DescriptorException {
                 }
             }
         }
+        // PERF: Use generated bytecode instead of reflection to build and access objects.
+        if (this.descriptor.usesGeneratedAccessors()) {
+            ObjectAccessorGenerator.initialize(this.descriptor, session);
+        }
     }
 
     /**
@@ -3979,6 +3988,23 @@ public void initializeBatchFetchedAttributes() {
         }
     }
 
+    /**
+     * Store the row the object was built or refreshed from in the off-heap cache.
+     * Partial rows cannot be used to rebuild the object, so instead remove any row stored for the object.
+     */
+    protected void cacheRowOffHeap(AbstractRecord databaseRow, AbstractSession session, CacheKey cacheKey, FetchGroup fetchGroup, boolean isSopQuery, ClassDescriptor concreteDescriptor) {
+        OffHeapCache offHeapCache = session.getParentIdentityMapSession(concreteDescriptor, true, true).getIdentityMapAccessorInstance().getIdentityMapManager().getOffHeapCache(concreteDescriptor);
+        if (offHeapCache == null) {
+            return;
+        }
+        // Result set records may have already cleared their values.
+        if ((fetchGroup != null) || isSopQuery || (databaseRow instanceof ResultSetRecord)) {
+            offHeapCache.remove(cacheKey.getKey());
+        } else {
+            offHeapCache.put(cacheKey.getKey(), databaseRow, cacheKey.getReadTime());
+        }
+    }
+
     /**
      * Initialize a cache key.  Called by buildObject and now also by
      * buildWorkingCopyCloneFromRow.
@@ -23,6 +23,7 @@
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -241,6 +242,18 @@ public Expression normalize(ExpressionNormalizer normalizer) {
             return this;
         }
         Expression expression = super.normalize(normalizer);
+        // Record the attribute mapped to the field to only invalidate the query results cache on dependent changes.
+        // Fields of relation tables or unmapped fields are covered by the relationship query keys used in the query.
+        QueryResultsCachePolicy dependencyPolicy = normalizer.getStatement().getQueryResultsDependencyPolicy();
+        if ((dependencyPolicy != null) && (getBaseExpression() != null) && getBaseExpression().isObjectExpression()) {
+            ClassDescriptor descriptor = ((ObjectExpression)getBaseExpression()).getDescriptor();
+            if ((descriptor != null) && !descriptor.isAggregateDescriptor()) {
+                DatabaseMapping mapping = descriptor.getObjectBuilder().getMappingForField(getField());
+                if (mapping != null) {
+                    dependencyPolicy.addInvalidationAttribute(mapping);
+                }
+            }
+        }
         // to support custom types, print expressions derived from field expressions, table expressions and direct query keys with their aliases
         if (getBaseExpression() != null && getBaseExpression().isFieldExpression() || getBaseExpression().isTableExpression() ||
                (getBaseExpression().isQueryKeyExpression() && ((QueryKeyExpression)getBaseExpression()).isAttribute())){
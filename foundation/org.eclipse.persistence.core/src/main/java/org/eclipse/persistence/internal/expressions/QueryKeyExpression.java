@@ -41,6 +41,7 @@
 import org.eclipse.persistence.mappings.querykeys.QueryKey;
 import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
 import org.eclipse.persistence.queries.ReadQuery;
 
 import java.io.BufferedWriter;
@@ -782,6 +783,19 @@ public Expression normalize(ExpressionNormalizer normalizer, Expression base, Li
             statement.setRequiresAliases(true);
         }
 
+        // Record the attribute used to only invalidate the query results cache on dependent changes.
+        QueryResultsCachePolicy dependencyPolicy = statement.getQueryResultsDependencyPolicy();
+        if (dependencyPolicy != null) {
+            // Changes to aggregates are recorded against the attribute of the owner.
+            DatabaseMapping dependency = mapping;
+            Expression owner = this;
+            while ((dependency != null) && (dependency.getDescriptor() != null) && dependency.getDescriptor().isAggregateDescriptor()) {
+                owner = ((QueryKeyExpression)owner).getBaseExpression();
+                dependency = owner.isQueryKeyExpression() ? ((QueryKeyExpression)owner).getMapping() : null;
+            }
+            dependencyPolicy.addInvalidationAttribute(dependency);
+        }
+
         // Check if any joins need to be added.
         if (isAttribute()) {
             return this;
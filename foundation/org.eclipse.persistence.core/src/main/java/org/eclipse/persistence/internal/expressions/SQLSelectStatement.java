@@ -47,6 +47,7 @@
 import org.eclipse.persistence.mappings.OneToOneMapping;
 import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
 import org.eclipse.persistence.queries.ReadAllQuery;
 import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.queries.SQLCall;
@@ -1129,6 +1130,24 @@ public ReadQuery getQuery() {
         return this.query;
     }
 
+    /**
+     * INTERNAL:
+     * Return the query results cache policy that records the dependencies of the query results,
+     * or null if the query results dependencies are not tracked.
+     * For a sub-select this is the policy of the outer query.
+     */
+    public QueryResultsCachePolicy getQueryResultsDependencyPolicy() {
+        SQLSelectStatement statement = this;
+        while (statement != null) {
+            ReadQuery query = statement.getQuery();
+            if ((query != null) && query.shouldCacheQueryResults() && query.getQueryResultsCachePolicy().shouldTrackDependencies()) {
+                return query.getQueryResultsCachePolicy();
+            }
+            statement = statement.getParentStatement();
+        }
+        return null;
+    }
+
     /**
      * INTERNAL:
      * Return the StartWith expression
@@ -37,8 +37,12 @@
 import java.util.Set;
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * INTERNAL:
@@ -52,6 +56,10 @@
  * <li> Wait all other threads until the first thread is done.
  * <li> Maintain the depth of the active thread.
  * </ul>
+ * In virtual thread mode (see {@link ConcurrencyUtil#isVirtualThreadMode()}) the lock state is guarded by a
+ * {@link ReentrantLock} instead of the object monitor, so that virtual threads waiting for the lock
+ * release their carrier thread. Code waiting for the lock to be released must use
+ * {@link #waitWhileAcquired(long)} rather than synchronizing on the concurrency manager.
  */
 public class ConcurrencyManager implements Serializable {
 
@@ -61,27 +69,38 @@ public class ConcurrencyManager implements Serializable {
 
     protected static boolean shouldTrackStack = PrivilegedAccessHelper.getSystemProperty(SystemProperties.RECORD_STACK_ON_LOCK) != null;
 
-    protected AtomicInteger numberOfReaders;
-    protected AtomicInteger depth;
-    protected AtomicInteger numberOfWritersWaiting;
+    // The lock state and counters are held inline and updated through field updaters,
+    // as every cache key is a concurrency manager an AtomicInteger/AtomicLong instance per counter adds up.
+    protected static final AtomicIntegerFieldUpdater<ConcurrencyManager> NUMBER_OF_READERS = AtomicIntegerFieldUpdater.newUpdater(ConcurrencyManager.class, "numberOfReaders");
+    protected static final AtomicIntegerFieldUpdater<ConcurrencyManager> DEPTH = AtomicIntegerFieldUpdater.newUpdater(ConcurrencyManager.class, "depth");
+    protected static final AtomicIntegerFieldUpdater<ConcurrencyManager> NUMBER_OF_WRITERS_WAITING = AtomicIntegerFieldUpdater.newUpdater(ConcurrencyManager.class, "numberOfWritersWaiting");
+    protected static final AtomicLongFieldUpdater<ConcurrencyManager> TOTAL_NUMBER_OF_KEYS_ACQUIRED_FOR_READING = AtomicLongFieldUpdater.newUpdater(ConcurrencyManager.class, "totalNumberOfKeysAcquiredForReading");
+    protected static final AtomicLongFieldUpdater<ConcurrencyManager> TOTAL_NUMBER_OF_KEYS_RELEASED_FOR_READING = AtomicLongFieldUpdater.newUpdater(ConcurrencyManager.class, "totalNumberOfKeysReleasedForReading");
+    private static final AtomicLongFieldUpdater<ConcurrencyManager> TOTAL_NUMBER_OF_KEYS_RELEASED_FOR_READING_BLEW_UP = AtomicLongFieldUpdater.newUpdater(ConcurrencyManager.class, "totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero");
+
+    protected volatile int numberOfReaders;
+    protected volatile int depth;
+    protected volatile int numberOfWritersWaiting;
     protected volatile transient Thread activeThread;
 
     protected boolean lockedByMergeManager;
     protected Exception stack;
+    // Guards the lock state instead of the object monitor in virtual thread mode, null otherwise.
+    protected transient MonitorLock monitorLock;
 
     // Extended logging info fields
     // Unique ID assigned each time when a new instance of a concurrency manager is created
     private final long concurrencyManagerId = CONCURRENCY_MANAGER_ID.incrementAndGet();
-    // Creation date
-    private final Date concurrencyManagerCreationDate = new Date();
+    // Creation time in milliseconds, the date is only built when logged
+    private final long concurrencyManagerCreationTime = System.currentTimeMillis();
     // In case if two threads are working on the exact same entity that leads to both threads wanting to release the same cache key
     // there is tracking each increment of number of readers and their release.
-    private final AtomicLong totalNumberOfKeysAcquiredForReading = new AtomicLong(0);
+    protected volatile long totalNumberOfKeysAcquiredForReading;
     // Same as totalNumberOfKeysAcquiredForReading but incremented each time the cache key is suffering to release cache key.
-    private final AtomicLong totalNumberOfKeysReleasedForReading = new AtomicLong(0);
+    protected volatile long totalNumberOfKeysReleasedForReading;
      // Total number of times the cache key caused a blow up because it suffered a release of cache key when the counter
      // was set to 0. It should happen if an entity being shared by two threads.
-    private final AtomicLong totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero = new AtomicLong(0);
+    private volatile long totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero;
 
     private static final Map<Thread, ConcurrencyManager> THREADS_TO_WAIT_ON_ACQUIRE_READ_LOCK = new ConcurrentHashMap<>();
     private static final Map<Thread, String> THREADS_TO_WAIT_ON_ACQUIRE_READ_LOCK_NAME_OF_METHOD_CREATING_TRACE = new ConcurrentHashMap<>();
@@ -103,9 +122,116 @@ public class ConcurrencyManager implements Serializable {
      * Set the depth to zero.
      */
     public ConcurrencyManager() {
-        this.depth  = new AtomicInteger(0);
-        this.numberOfReaders = new AtomicInteger(0);
-        this.numberOfWritersWaiting = new AtomicInteger(0);
+        if (ConcurrencyUtil.SINGLETON.isVirtualThreadMode()) {
+            this.monitorLock = new MonitorLock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Lock used in virtual thread mode, with the condition that replaces the object monitor's wait set.
+     */
+    protected static final class MonitorLock extends ReentrantLock {
+        final Condition released = newCondition();
+    }
+
+    /**
+     * Wait on the monitor, or the lock's condition in virtual thread mode, for at most the given time
+     * in milliseconds, 0 meaning until notified. The caller must hold the monitor or the lock.
+     */
+    protected final void monitorWait(long timeout) throws InterruptedException {
+        MonitorLock lock = this.monitorLock;
+        if (lock == null) {
+            wait(timeout);
+        } else if (timeout == 0) {
+            lock.released.await();
+        } else {
+            lock.released.await(timeout, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Wake up all threads waiting on the monitor, or the lock's condition in virtual thread mode.
+     * The caller must hold the monitor or the lock.
+     */
+    protected final void monitorNotifyAll() {
+        MonitorLock lock = this.monitorLock;
+        if (lock == null) {
+            notifyAll();
+        } else {
+            lock.released.signalAll();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Wake up all threads waiting for this lock to be released.
+     */
+    public void notifyWaiters() {
+        MonitorLock lock = this.monitorLock;
+        if (lock == null) {
+            synchronized (this) {
+                notifyAll();
+            }
+        } else {
+            lock.lock();
+            try {
+                lock.released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * If the lock is acquired, wait for at most the given time in milliseconds (0 meaning until notified)
+     * for it to be released. The wait ends early when any lock state change is signalled,
+     * so callers must check the state again.
+     */
+    public void waitWhileAcquired(long timeout) throws InterruptedException {
+        MonitorLock lock = this.monitorLock;
+        if (lock == null) {
+            synchronized (this) {
+                if (isAcquired()) {
+                    wait(timeout);
+                }
+            }
+        } else {
+            lock.lock();
+            try {
+                if (isAcquired()) {
+                    monitorWait(timeout);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Release the lock, whatever its depth, if it is held by the given thread.
+     * Used when the thread holding the lock is no longer alive.
+     */
+    public void releaseAllLocksOfThread(Thread thread) {
+        MonitorLock lock = this.monitorLock;
+        if (lock == null) {
+            synchronized (this) {
+                while (isAcquired() && (this.activeThread == thread)) {
+                    release();
+                }
+            }
+        } else {
+            lock.lock();
+            try {
+                while (isAcquired() && (this.activeThread == thread)) {
+                    release();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
     }
 
     /**
@@ -123,7 +249,23 @@ public void acquire() throws ConcurrencyException {
      * This should be called before entering a critical section.
      * called with true from the merge process, if true then the refresh will not refresh the object
      */
-    public synchronized void acquire(boolean forMerge) throws ConcurrencyException {
+    public void acquire(boolean forMerge) throws ConcurrencyException {
+        MonitorLock lock = this.monitorLock;
+        if (lock == null) {
+            synchronized (this) {
+                acquireWithLock(forMerge);
+            }
+        } else {
+            lock.lock();
+            try {
+                acquireWithLock(forMerge);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void acquireWithLock(boolean forMerge) {
         //Flag the time when we start the while loop
         final long whileStartTimeMillis = System.currentTimeMillis();
         Thread currentThread = Thread.currentThread();
@@ -133,15 +275,16 @@ public synchronized void acquire(boolean forMerge) throws ConcurrencyException {
         // Waiting to acquire cache key will now start on the while loop
         // NOTE: this step bares no influence in acquiring or not acquiring locks
         // is just storing debug metadata that we can use when we detect the system is frozen in a dead lock
-        final boolean currentThreadWillEnterTheWhileWait = ((this.activeThread != null) || (this.numberOfReaders.get() > 0)) && (this.activeThread != currentThread);
+        final boolean currentThreadWillEnterTheWhileWait = ((this.activeThread != null) || (this.numberOfReaders > 0)) && (this.activeThread != currentThread);
+        final long waitStartNanos = currentThreadWillEnterTheWhileWait ? System.nanoTime() : 0;
         if(currentThreadWillEnterTheWhileWait) {
             putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_METHOD_NAME);
         }
-        while (((this.activeThread != null) || (this.numberOfReaders.get() > 0)) && (this.activeThread != Thread.currentThread())) {
+        while (((this.activeThread != null) || (this.numberOfReaders > 0)) && (this.activeThread != Thread.currentThread())) {
             // This must be in a while as multiple threads may be released, or another thread may rush the acquire after one is released.
             try {
-                this.numberOfWritersWaiting.incrementAndGet();
-                wait(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
+                NUMBER_OF_WRITERS_WAITING.incrementAndGet(this);
+                monitorWait(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
                 // Run a method that will fire up an exception if we having been sleeping for too long
                 ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
             } catch (InterruptedException exception) {
@@ -157,12 +300,13 @@ public synchronized void acquire(boolean forMerge) throws ConcurrencyException {
                 // Since above we increments the number of writers
                 // whether or not the thread is exploded by an interrupt
                 // we need to make sure we decrement the number of writer to not allow the code to be corrupted
-                this.numberOfWritersWaiting.decrementAndGet();
+                NUMBER_OF_WRITERS_WAITING.decrementAndGet(this);
             }
         } // end of while loop
         // Waiting to acquire cahe key is is over
         if(currentThreadWillEnterTheWhileWait) {
             removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
+            recordLockWait(System.nanoTime() - waitStartNanos);
         }
         if (this.activeThread == null) {
             this.activeThread = Thread.currentThread();
@@ -171,7 +315,7 @@ public synchronized void acquire(boolean forMerge) throws ConcurrencyException {
             }
         }
         this.lockedByMergeManager = forMerge;
-        this.depth.incrementAndGet();
+        DEPTH.incrementAndGet(this);
     }
 
     /**
@@ -189,8 +333,23 @@ public boolean acquireNoWait() throws ConcurrencyException {
      * Added for CR 2317
      * called with true from the merge process, if true then the refresh will not refresh the object
      */
-    public synchronized boolean acquireNoWait(boolean forMerge) throws ConcurrencyException {
-        if ((this.activeThread == null && this.numberOfReaders.get() == 0) || (this.activeThread == Thread.currentThread())) {
+    public boolean acquireNoWait(boolean forMerge) throws ConcurrencyException {
+        MonitorLock lock = this.monitorLock;
+        if (lock == null) {
+            synchronized (this) {
+                return acquireNoWaitWithLock(forMerge);
+            }
+        }
+        lock.lock();
+        try {
+            return acquireNoWaitWithLock(forMerge);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean acquireNoWaitWithLock(boolean forMerge) {
+        if ((this.activeThread == null && this.numberOfReaders == 0) || (this.activeThread == Thread.currentThread())) {
             //if I own the lock increment depth
             acquire(forMerge);
             return true;
@@ -205,22 +364,39 @@ public synchronized boolean acquireNoWait(boolean forMerge) throws ConcurrencyEx
      * Added for CR 2317
      * called with true from the merge process, if true then the refresh will not refresh the object
      */
-    public synchronized boolean acquireWithWait(boolean forMerge, int wait) throws ConcurrencyException {
+    public boolean acquireWithWait(boolean forMerge, int wait) throws ConcurrencyException {
+        MonitorLock lock = this.monitorLock;
+        if (lock == null) {
+            synchronized (this) {
+                return acquireWithWaitWithLock(forMerge, wait);
+            }
+        }
+        lock.lock();
+        try {
+            return acquireWithWaitWithLock(forMerge, wait);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean acquireWithWaitWithLock(boolean forMerge, int wait) {
         final Thread currentThread = Thread.currentThread();
-        if ((this.activeThread == null && this.numberOfReaders.get() == 0) || (this.activeThread == currentThread)) {
+        if ((this.activeThread == null && this.numberOfReaders == 0) || (this.activeThread == currentThread)) {
             // if I own the lock increment depth
             acquire(forMerge);
             return true;
         } else {
+            final long waitStartNanos = System.nanoTime();
             try {
                 putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_WITH_WAIT_METHOD_NAME); 
-                wait(wait);
+                monitorWait(wait);
             } catch (InterruptedException e) {
                 return false;
             } finally {
                 removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
             }
-            if ((this.activeThread == null && this.numberOfReaders.get() == 0)
+            recordLockWait(System.nanoTime() - waitStartNanos);
+            if ((this.activeThread == null && this.numberOfReaders == 0)
                     || (this.activeThread == currentThread)) {
                 acquire(forMerge);
                 return true;
@@ -235,9 +411,24 @@ public synchronized boolean acquireWithWait(boolean forMerge, int wait) throws C
      * Added for Bug 5840635
      * Call with true from the merge process, if true then the refresh will not refresh the object.
      */
-    public synchronized boolean acquireIfUnownedNoWait(boolean forMerge) throws ConcurrencyException {
+    public boolean acquireIfUnownedNoWait(boolean forMerge) throws ConcurrencyException {
+        MonitorLock lock = this.monitorLock;
+        if (lock == null) {
+            synchronized (this) {
+                return acquireIfUnownedNoWaitWithLock(forMerge);
+            }
+        }
+        lock.lock();
+        try {
+            return acquireIfUnownedNoWaitWithLock(forMerge);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean acquireIfUnownedNoWaitWithLock(boolean forMerge) {
         // Only acquire lock if active thread is null. Do not check current thread.
-        if (this.activeThread == null && this.numberOfReaders.get() == 0) {
+        if (this.activeThread == null && this.numberOfReaders == 0) {
              // if lock is unowned increment depth
             acquire(forMerge);
             return true;
@@ -258,49 +449,75 @@ public void acquireDeferredLock() throws ConcurrencyException {
             putDeferredLock(currentThread, lockManager);
         }
         lockManager.incrementDepth();
-        synchronized (this) {
-            final long whileStartTimeMillis = System.currentTimeMillis();
-            final boolean currentThreadWillEnterTheWhileWait = this.numberOfReaders.get() != 0;
-            if(currentThreadWillEnterTheWhileWait) {
-                putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_DEFERRED_LOCK_METHOD_NAME); 
+        MonitorLock lock = this.monitorLock;
+        if (lock == null) {
+            synchronized (this) {
+                acquireDeferredLockWithLock(currentThread, lockManager, readLockManager);
             }
-            while (this.numberOfReaders.get() != 0) {
-                // There are readers of this object, wait until they are done before determining if
-                //there are any other writers.  If not we will wait on the readers for acquire.  If another
-                //thread is also waiting on the acquire then a deadlock could occur.  See bug 3049635
-                //We could release all active locks before releasing deferred but the object may not be finished building
-                //we could make the readers get a hard lock, but then we would just build a deferred lock even though
-                //the object is not being built.
-                try {
-                    this.numberOfWritersWaiting.incrementAndGet();
-                    wait(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
-                    ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
-                } catch (InterruptedException exception) {
-                    // If the thread is interrupted we want to make sure we release all of the locks the thread was owning
-                    releaseAllLocksAcquiredByThread(lockManager);
-                    if (currentThreadWillEnterTheWhileWait) {
-                        removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
-                    }
-                    throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
-                } finally {
-                    this.numberOfWritersWaiting.decrementAndGet();
-                }
-            }
-            if (currentThreadWillEnterTheWhileWait) {
-                removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
+        } else {
+            lock.lock();
+            try {
+                acquireDeferredLockWithLock(currentThread, lockManager, readLockManager);
+            } finally {
+                lock.unlock();
             }
-            if ((this.activeThread == currentThread) || (!isAcquired())) {
-                lockManager.addActiveLock(this);
-                acquire();
-            } else {
-                lockManager.addDeferredLock(this);
-                if (AbstractSessionLog.getLog().shouldLog(SessionLog.FINER) && this instanceof CacheKey) {
-                    AbstractSessionLog.getLog().log(SessionLog.FINER, SessionLog.CACHE, "acquiring_deferred_lock", ((CacheKey)this).getObject(), currentThread.getName());
+        }
+    }
+
+    private void acquireDeferredLockWithLock(Thread currentThread, DeferredLockManager lockManager, ReadLockManager readLockManager) {
+        final long whileStartTimeMillis = System.currentTimeMillis();
+        final boolean currentThreadWillEnterTheWhileWait = this.numberOfReaders != 0;
+        final long waitStartNanos = currentThreadWillEnterTheWhileWait ? System.nanoTime() : 0;
+        if(currentThreadWillEnterTheWhileWait) {
+            putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_DEFERRED_LOCK_METHOD_NAME); 
+        }
+        while (this.numberOfReaders != 0) {
+            // There are readers of this object, wait until they are done before determining if
+            //there are any other writers.  If not we will wait on the readers for acquire.  If another
+            //thread is also waiting on the acquire then a deadlock could occur.  See bug 3049635
+            //We could release all active locks before releasing deferred but the object may not be finished building
+            //we could make the readers get a hard lock, but then we would just build a deferred lock even though
+            //the object is not being built.
+            try {
+                NUMBER_OF_WRITERS_WAITING.incrementAndGet(this);
+                monitorWait(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
+                ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
+            } catch (InterruptedException exception) {
+                // If the thread is interrupted we want to make sure we release all of the locks the thread was owning
+                releaseAllLocksAcquiredByThread(lockManager);
+                if (currentThreadWillEnterTheWhileWait) {
+                    removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
                 }
+                throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
+            } finally {
+                NUMBER_OF_WRITERS_WAITING.decrementAndGet(this);
+            }
+        }
+        if (currentThreadWillEnterTheWhileWait) {
+            removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
+            recordLockWait(System.nanoTime() - waitStartNanos);
+        }
+        if ((this.activeThread == currentThread) || (!isAcquired())) {
+            lockManager.addActiveLock(this);
+            acquire();
+        } else {
+            lockManager.addDeferredLock(this);
+            if (AbstractSessionLog.getLog().shouldLog(SessionLog.FINER) && this instanceof CacheKey) {
+                AbstractSessionLog.getLog().log(SessionLog.FINER, SessionLog.CACHE, "acquiring_deferred_lock", ((CacheKey)this).getObject(), currentThread.getName());
             }
         }
     }
 
+    /**
+     * INTERNAL:
+     * Called after the current thread had to wait to acquire the lock,
+     * allows subclasses to record the wait.
+     * @param waitNanos the time waited in nanoseconds
+     */
+    protected void recordLockWait(long waitNanos) {
+        // Nothing by default.
+    }
+
     /**
      * Check the lock state, if locked, acquire and release a deferred lock.
      * This optimizes out the normal deferred-lock check if not locked.
@@ -331,19 +548,36 @@ public void checkReadLock() throws ConcurrencyException {
      * Wait on any writer.
      * Allow concurrent reads.
      */
-    public synchronized void acquireReadLock() throws ConcurrencyException {
+    public void acquireReadLock() throws ConcurrencyException {
+        MonitorLock lock = this.monitorLock;
+        if (lock == null) {
+            synchronized (this) {
+                acquireReadLockWithLock();
+            }
+        } else {
+            lock.lock();
+            try {
+                acquireReadLockWithLock();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void acquireReadLockWithLock() {
         final Thread currentThread = Thread.currentThread();
         final long whileStartTimeMillis = System.currentTimeMillis();
         DeferredLockManager lockManager = getDeferredLockManager(currentThread);
         ReadLockManager readLockManager = getReadLockManager(currentThread);
         final boolean currentThreadWillEnterTheWhileWait = (this.activeThread != null) && (this.activeThread != currentThread);
+        final long waitStartNanos = currentThreadWillEnterTheWhileWait ? System.nanoTime() : 0;
         if (currentThreadWillEnterTheWhileWait) {
             putThreadAsWaitingToAcquireLockForReading(currentThread, ACQUIRE_READ_LOCK_METHOD_NAME); 
         }
         // Cannot check for starving writers as will lead to deadlocks.
         while ((this.activeThread != null) && (this.activeThread != Thread.currentThread())) {
             try {
-                wait(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
+                monitorWait(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
                 ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
             } catch (InterruptedException exception) {
                 releaseAllLocksAcquiredByThread(lockManager);
@@ -355,19 +589,35 @@ public synchronized void acquireReadLock() throws ConcurrencyException {
         }
         if (currentThreadWillEnterTheWhileWait) {
             removeThreadNoLongerWaitingToAcquireLockForReading(currentThread);
+            recordLockWait(System.nanoTime() - waitStartNanos);
         }
         try {
             addReadLockToReadLockManager();
         } finally {
-            this.numberOfReaders.incrementAndGet();
-            this.totalNumberOfKeysAcquiredForReading.incrementAndGet();
+            NUMBER_OF_READERS.incrementAndGet(this);
+            TOTAL_NUMBER_OF_KEYS_ACQUIRED_FOR_READING.incrementAndGet(this);
         }
     }
 
     /**
      * If this is acquired return false otherwise acquire readlock and return true
      */
-    public synchronized boolean acquireReadLockNoWait() {
+    public boolean acquireReadLockNoWait() {
+        MonitorLock lock = this.monitorLock;
+        if (lock == null) {
+            synchronized (this) {
+                return acquireReadLockNoWaitWithLock();
+            }
+        }
+        lock.lock();
+        try {
+            return acquireReadLockNoWaitWithLock();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean acquireReadLockNoWaitWithLock() {
         if ((this.activeThread == null) || (this.activeThread == Thread.currentThread())) {
             acquireReadLock();
             return true;
@@ -408,7 +658,7 @@ protected static Map<Thread, DeferredLockManager> initializeDeferredLockManagers
      * Return the current depth of the active thread.
      */
     public int getDepth() {
-        return depth.get();
+        return this.depth;
     }
 
     /**
@@ -416,7 +666,7 @@ public int getDepth() {
      * This is used to ensure that a writer is not starved.
      */
     public int getNumberOfReaders() {
-        return numberOfReaders.get();
+        return this.numberOfReaders;
     }
 
     /**
@@ -424,14 +674,14 @@ public int getNumberOfReaders() {
      * This is used to ensure that a writer is not starved.
      */
     public int getNumberOfWritersWaiting() {
-        return numberOfWritersWaiting.get();
+        return this.numberOfWritersWaiting;
     }
 
     /**
      * Return if a thread has acquire this manager.
      */
     public boolean isAcquired() {
-        return depth.get() > 0;
+        return this.depth > 0;
     }
 
     /**
@@ -573,7 +823,7 @@ public static void enrichStringBuildingExplainWhyThreadIsStuckInIsBuildObjectOnT
      * Return if this manager is within a nested acquire.
      */
     public boolean isNested() {
-        return depth.get() > 1;
+        return this.depth > 1;
     }
 
     public void putDeferredLock(Thread thread, DeferredLockManager lockManager) {
@@ -587,19 +837,35 @@ public void putDeferredLock(Thread thread, DeferredLockManager lockManager) {
      * The notify will release the first thread waiting on the object,
      * if no threads are waiting it will do nothing.
      */
-    public synchronized void release() throws ConcurrencyException {
-        if (this.depth.get() == 0) {
+    public void release() throws ConcurrencyException {
+        MonitorLock lock = this.monitorLock;
+        if (lock == null) {
+            synchronized (this) {
+                releaseWithLock();
+            }
+        } else {
+            lock.lock();
+            try {
+                releaseWithLock();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void releaseWithLock() {
+        if (this.depth == 0) {
             throw ConcurrencyException.signalAttemptedBeforeWait();
         } else {
-            this.depth.decrementAndGet();
+            DEPTH.decrementAndGet(this);
         }
-        if (this.depth.get() == 0) {
+        if (this.depth == 0) {
             this.activeThread = null;
             if (shouldTrackStack){
                 this.stack = null;
             }
             this.lockedByMergeManager = false;
-            notifyAll();
+            monitorNotifyAll();
         }
     }
 
@@ -691,9 +957,25 @@ public void releaseDeferredLock() throws ConcurrencyException {
     /**
      * Decrement the number of readers. Used to allow concurrent reads.
      */
-    public synchronized void releaseReadLock() throws ConcurrencyException {
-        if (this.numberOfReaders.get() == 0) {
-            this.totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero.incrementAndGet();
+    public void releaseReadLock() throws ConcurrencyException {
+        MonitorLock lock = this.monitorLock;
+        if (lock == null) {
+            synchronized (this) {
+                releaseReadLockWithLock();
+            }
+        } else {
+            lock.lock();
+            try {
+                releaseReadLockWithLock();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void releaseReadLockWithLock() {
+        if (this.numberOfReaders == 0) {
+            TOTAL_NUMBER_OF_KEYS_RELEASED_FOR_READING_BLEW_UP.incrementAndGet(this);
             try {
                 removeReadLockFromReadLockManager();
             } catch (Exception e) {
@@ -704,12 +986,12 @@ public synchronized void releaseReadLock() throws ConcurrencyException {
             try {
                 removeReadLockFromReadLockManager();
             } finally {
-                this.numberOfReaders.decrementAndGet();
-                this.totalNumberOfKeysReleasedForReading.incrementAndGet();
+                NUMBER_OF_READERS.decrementAndGet(this);
+                TOTAL_NUMBER_OF_KEYS_RELEASED_FOR_READING.incrementAndGet(this);
             }
         }
-        if (this.numberOfReaders.get() == 0) {
-            notifyAll();
+        if (this.numberOfReaders == 0) {
+            monitorNotifyAll();
         }
     }
 
@@ -731,7 +1013,7 @@ public void setActiveThread(Thread activeThread) {
      * Set the current depth of the active thread.
      */
     protected void setDepth(int depth) {
-        this.depth.set(depth);
+        this.depth = depth;
     }
 
     /**
@@ -747,7 +1029,7 @@ public void setIsLockedByMergeManager(boolean state) {
      * Track the number of readers.
      */
     protected void setNumberOfReaders(int numberOfReaders) {
-        this.numberOfReaders.set(numberOfReaders);
+        this.numberOfReaders = numberOfReaders;
     }
 
     /**
@@ -755,10 +1037,26 @@ protected void setNumberOfReaders(int numberOfReaders) {
      * This is used to ensure that a writer is not starved.
      */
     protected void setNumberOfWritersWaiting(int numberOfWritersWaiting) {
-        this.numberOfWritersWaiting.set(numberOfWritersWaiting);
+        this.numberOfWritersWaiting = numberOfWritersWaiting;
+    }
+
+    public void transitionToDeferredLock() {
+        MonitorLock lock = this.monitorLock;
+        if (lock == null) {
+            synchronized (this) {
+                transitionToDeferredLockWithLock();
+            }
+        } else {
+            lock.lock();
+            try {
+                transitionToDeferredLockWithLock();
+            } finally {
+                lock.unlock();
+            }
+        }
     }
 
-    public synchronized void transitionToDeferredLock() {
+    private void transitionToDeferredLockWithLock() {
         Thread currentThread = Thread.currentThread();
         DeferredLockManager lockManager = getDeferredLockManager(currentThread);
         if (lockManager == null) {
@@ -895,24 +1193,24 @@ public long getConcurrencyManagerId() {
         return concurrencyManagerId;
     }
 
-    /** Getter for {@link #concurrencyManagerCreationDate} */
+    /** Getter for {@link #concurrencyManagerCreationTime} */
     public Date getConcurrencyManagerCreationDate() {
-        return concurrencyManagerCreationDate;
+        return new Date(concurrencyManagerCreationTime);
     }
 
     /** Getter for {@link #totalNumberOfKeysAcquiredForReading} */
     public long getTotalNumberOfKeysAcquiredForReading() {
-        return totalNumberOfKeysAcquiredForReading.get();
+        return this.totalNumberOfKeysAcquiredForReading;
     }
 
     /** Getter for {@link #totalNumberOfKeysReleasedForReading} */
     public long getTotalNumberOfKeysReleasedForReading() {
-        return totalNumberOfKeysReleasedForReading.get();
+        return this.totalNumberOfKeysReleasedForReading;
     }
 
     /** Getter for {@link #totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero} */
     public long getTotalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero() {
-        return totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero.get();
+        return this.totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero;
     }
 
     /** Getter for {@link #THREADS_TO_WAIT_ON_ACQUIRE} */
@@ -972,7 +1270,7 @@ protected void removeReadLockFromReadLockManager() {
             // We have a problem we do not want ever see a decrement on the number of readers if we
             // are not tracing one or more predecessor add read lock keys.
             // so we will put the error message into a fresh new read lock manager
-            final int currentNumberOfReaders = this.numberOfReaders.get();
+            final int currentNumberOfReaders = this.numberOfReaders;
             final int decrementedNumberOfReaders = currentNumberOfReaders - 1;
             String errorMessage = ConcurrencyUtil.SINGLETON.readLockManagerProblem01CreateLogErrorMessageToIndicateThatCurrentThreadHasNullReadLockManagerWhileDecrementingNumberOfReaders(currentNumberOfReaders, decrementedNumberOfReaders, this);
             readLockManager = getReadLockManagerEnsureResultIsNotNull(currentThread);
@@ -59,6 +59,7 @@ public class ConcurrencyUtil {
     public static final int DEFAULT_CONCURRENCY_MANAGER_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS_NO_THREADS = 2;
     public static final long DEFAULT_CONCURRENCY_SEMAPHORE_MAX_TIME_PERMIT = 2000L;
     public static final long DEFAULT_CONCURRENCY_SEMAPHORE_LOG_TIMEOUT = 10000L;
+    public static final boolean DEFAULT_VIRTUAL_THREAD_MODE = false;
 
     private long acquireWaitTime = getLongProperty(SystemProperties.CONCURRENCY_MANAGER_ACQUIRE_WAIT_TIME, DEFAULT_ACQUIRE_WAIT_TIME);
     private long buildObjectCompleteWaitTime = getLongProperty(SystemProperties.CONCURRENCY_MANAGER_BUILD_OBJECT_COMPLETE_WAIT_TIME, DEFAULT_BUILD_OBJECT_COMPLETE_WAIT_TIME);
@@ -75,6 +76,7 @@ public class ConcurrencyUtil {
     private int noOfThreadsAllowedToDoWriteLockManagerAcquireRequiredLocksInParallel = getIntProperty(SystemProperties.CONCURRENCY_MANAGER_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS_NO_THREADS, DEFAULT_CONCURRENCY_MANAGER_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS_NO_THREADS);
     private long concurrencySemaphoreMaxTimePermit = getLongProperty(SystemProperties.CONCURRENCY_SEMAPHORE_MAX_TIME_PERMIT, DEFAULT_CONCURRENCY_SEMAPHORE_MAX_TIME_PERMIT);
     private long concurrencySemaphoreLogTimeout = getLongProperty(SystemProperties.CONCURRENCY_SEMAPHORE_LOG_TIMEOUT, DEFAULT_CONCURRENCY_SEMAPHORE_LOG_TIMEOUT);
+    private volatile boolean virtualThreadMode = getBooleanProperty(SystemProperties.CONCURRENCY_MANAGER_VIRTUAL_THREAD_MODE, DEFAULT_VIRTUAL_THREAD_MODE);
 
     /**
      * Thread local variable that allows the current thread to know when was the last time that this specific thread
@@ -316,6 +318,18 @@ public void setUseSemaphoreToLimitConcurrencyOnWriteLockManagerAcquireRequiredLo
         this.useSemaphoreToLimitConcurrencyOnWriteLockManagerAcquireRequiredLocks = useSemaphoreToLimitConcurrencyOnWriteLockManagerAcquireRequiredLocks;
     }
 
+    /**
+     * Return if the concurrency manager uses {@link java.util.concurrent.locks} instead of object monitors,
+     * so that virtual threads waiting for locks do not pin their carrier thread.
+     */
+    public boolean isVirtualThreadMode() {
+        return virtualThreadMode;
+    }
+
+    public void setVirtualThreadMode(boolean virtualThreadMode) {
+        this.virtualThreadMode = virtualThreadMode;
+    }
+
     public int getNoOfThreadsAllowedToObjectBuildInParallel() {
         return noOfThreadsAllowedToObjectBuildInParallel;
     }
@@ -15,20 +15,62 @@
 package org.eclipse.persistence.internal.helper;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Provide a concurrent fixed size caching mechanism.
  * This is used for caching EJBQL parsed queries, Update calls,
  * and other places a fixed size cache is needed.
  * The default fixed size is 100.
+ * <p>
+ * When the size is exceeded, the least frequently used of a sample of the entries is evicted, so the entries used often
+ * are kept when many entries are only used once, such as the queries built by concatenating values.
+ * The sample is the next entries of a scan of the cache in hash order, so an eviction does not depend on the size.
+ * The frequencies are halved once the number of evictions reaches the size, so the entries no longer used are evicted in turn.
+ * Gets and puts do not lock, the frequencies are approximate. A single thread evicts at a time, a put does not wait
+ * for the eviction of another thread, so the size can be exceeded briefly by concurrent puts.
+ * <p>
+ * The hits, misses and evictions are counted. The misses of each key can also be counted,
+ * to find the keys missed the most, such as the queries parsed again as they do not fit in the cache.
+ * A key put after being missed is then as frequent as its number of misses.
  */
 public class ConcurrentFixedCache implements Serializable {
+    /** The default number of entries sampled to choose the entry to evict. */
+    public static final int DEFAULT_SAMPLE_SIZE = 8;
+
     protected int maxSize;
     protected Map cache;
 
+    /** The number of gets of each key of the cache, used to evict the least frequently used key. */
+    protected Map<Object, AtomicInteger> frequencies;
+
+    /** The number of misses of each key missed, if misses are tracked. */
+    protected Map<Object, AtomicInteger> missedKeys;
+
+    /** The number of entries sampled to choose the entry to evict. */
+    protected int sampleSize;
+
+    /** Set while a thread evicts entries. */
+    protected AtomicBoolean isEvicting;
+
+    /** The scan of the cache keys sampled by the evictions, each eviction samples the next keys. */
+    protected transient Iterator<Object> sampler;
+
+    /** The number of evictions since the frequencies were last halved. */
+    protected int evictionsSinceAging;
+
+    protected LongAdder hits;
+    protected LongAdder misses;
+    protected LongAdder evictions;
+
     /**
      * Create a new concurrent cache, with a fixed size of 100.
      */
@@ -40,9 +82,26 @@ public ConcurrentFixedCache() {
      * Create a new concurrent cache, with the max size.
      */
     public ConcurrentFixedCache(int maxSize) {
+        this(maxSize, false);
+    }
+
+    /**
+     * Create a new concurrent cache, with the max size, counting the misses of each key if required.
+     * The keys are retained to count their misses, so misses should only be tracked for keys such as strings.
+     */
+    public ConcurrentFixedCache(int maxSize, boolean shouldTrackMisses) {
         // PERF: Use a concurrent map to allow concurrent gets.
         this.cache = new ConcurrentHashMap(maxSize);
+        this.frequencies = new ConcurrentHashMap<>(maxSize);
+        if (shouldTrackMisses) {
+            this.missedKeys = new ConcurrentHashMap<>();
+        }
         this.maxSize = maxSize;
+        this.sampleSize = DEFAULT_SAMPLE_SIZE;
+        this.isEvicting = new AtomicBoolean();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
     }
 
     /**
@@ -54,49 +113,182 @@ public int getMaxSize() {
 
     /**
      * Set the fixed size of the parse cache.
-     * When the size is exceeded, subsequent EJBQL will not be cached.
+     * When the size is exceeded, the least frequently used entry is evicted.
      * The default size is 100;
      */
     public void setMaxSize(int maxSize) {
         this.maxSize = maxSize;
     }
 
+    /**
+     * Return the number of entries sampled to choose the entry to evict.
+     */
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    /**
+     * Set the number of entries sampled to choose the entry to evict, the least frequently used of them is evicted.
+     * A larger sample evicts entries less frequently used, but takes longer.
+     * The default is 8.
+     */
+    public void setSampleSize(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+
     /**
      * Return the pre-parsed query that represents the EJBQL string.
      * If the EJBQL has not been cached, null is returned.
      */
     public Object get(Object key) {
-        return this.cache.get(key);
+        Object value = this.cache.get(key);
+        if (value == null) {
+            this.misses.increment();
+            if (this.missedKeys != null) {
+                recordMiss(key);
+            }
+            return null;
+        }
+        this.hits.increment();
+        AtomicInteger frequency = this.frequencies.get(key);
+        if (frequency != null) {
+            frequency.incrementAndGet();
+        }
+        return value;
     }
 
     public void clear(){
         this.cache.clear();
+        this.frequencies.clear();
     }
 
     /**
      * Add the value to the cache.
-     * Remove the
+     * Remove the least frequently used entries if the size is exceeded.
      */
     public void put(Object key, Object value) {
         if (this.maxSize == 0) {
             return;
         }
+        // A key missed before, as it was evicted, is as frequent as its misses, so a key used often is kept.
+        AtomicInteger missCount = (this.missedKeys == null) ? null : this.missedKeys.get(key);
+        this.frequencies.putIfAbsent(key, new AtomicInteger((missCount == null) ? 1 : Math.max(missCount.get(), 1)));
         this.cache.put(key, value);
-        // Currently just removes the first one encountered, not LRU,
-        // this is not ideal, but the most concurrent and quickest way to ensure fixed size.
-        if (this.cache.size() > this.maxSize) {
-            Iterator iterator = this.cache.keySet().iterator();
+        // If another thread is evicting it removes the excess entries, so the put does not wait for it.
+        while ((this.cache.size() > this.maxSize) && this.isEvicting.compareAndSet(false, true)) {
             try {
-                while ((this.cache.size() > this.maxSize) && iterator.hasNext()) {
-                    Object next = iterator.next();
-                    // Do not remove what was just put in.
-                    if (next != key) {
-                        this.cache.remove(next);
+                evict(key);
+            } finally {
+                this.isEvicting.set(false);
+            }
+        }
+    }
+
+    /**
+     * Remove the least frequently used of the sampled entries until the size is not exceeded.
+     * Do not remove what was just put in.
+     * This is only called by one thread at a time.
+     */
+    protected void evict(Object key) {
+        while (this.cache.size() > this.maxSize) {
+            Object leastUsed = sampleLeastFrequentlyUsed(key);
+            if (leastUsed == null) {
+                return;
+            }
+            this.cache.remove(leastUsed);
+            this.frequencies.remove(leastUsed);
+            this.evictions.increment();
+            this.evictionsSinceAging++;
+            if (this.evictionsSinceAging >= this.maxSize) {
+                this.evictionsSinceAging = 0;
+                age();
+            }
+        }
+    }
+
+    /**
+     * Return the least frequently used of the next sample size keys of the cache, other than the key,
+     * or null if the cache has no other key.
+     */
+    protected Object sampleLeastFrequentlyUsed(Object key) {
+        Object leastUsed = null;
+        int leastFrequency = Integer.MAX_VALUE;
+        boolean isRestarted = false;
+        int sampled = 0;
+        while (sampled < this.sampleSize) {
+            if ((this.sampler == null) || !this.sampler.hasNext()) {
+                if (isRestarted) {
+                    // All the keys were sampled.
+                    break;
+                }
+                this.sampler = this.cache.keySet().iterator();
+                isRestarted = true;
+                continue;
+            }
+            Object next = this.sampler.next();
+            sampled++;
+            if (next != key) {
+                int frequency = getFrequency(next);
+                if (frequency < leastFrequency) {
+                    leastUsed = next;
+                    leastFrequency = frequency;
+                }
+            }
+        }
+        return leastUsed;
+    }
+
+    /**
+     * Return the number of gets of the key, 0 if the key was put in the cache map directly.
+     */
+    protected int getFrequency(Object key) {
+        AtomicInteger frequency = this.frequencies.get(key);
+        return (frequency == null) ? 0 : frequency.get();
+    }
+
+    /**
+     * Halve the frequencies, and remove those of the keys removed from the cache map directly.
+     */
+    protected void age() {
+        for (Iterator<Map.Entry<Object, AtomicInteger>> iterator = this.frequencies.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Object, AtomicInteger> entry = iterator.next();
+            if (!this.cache.containsKey(entry.getKey())) {
+                iterator.remove();
+            } else {
+                entry.getValue().updateAndGet(value -> (value >> 1) + 1);
+            }
+        }
+    }
+
+    /**
+     * Count the miss of the key.
+     * At most the max size (or 100) keys are counted, when full the counts are halved and the keys missed once removed.
+     */
+    protected void recordMiss(Object key) {
+        AtomicInteger count = this.missedKeys.get(key);
+        if (count != null) {
+            count.incrementAndGet();
+            return;
+        }
+        int maxMissedKeys = Math.max(this.maxSize, 100);
+        if (this.missedKeys.size() >= maxMissedKeys) {
+            synchronized (this.missedKeys) {
+                if (this.missedKeys.size() >= maxMissedKeys) {
+                    for (Iterator<AtomicInteger> iterator = this.missedKeys.values().iterator(); iterator.hasNext(); ) {
+                        AtomicInteger missCount = iterator.next();
+                        if (missCount.updateAndGet(value -> value >> 1) == 0) {
+                            iterator.remove();
+                        }
                     }
                 }
-            } catch (Exception alreadyGone) {
-                // Ignore.
             }
+            if (this.missedKeys.size() >= maxMissedKeys) {
+                return;
+            }
+        }
+        count = this.missedKeys.putIfAbsent(key, new AtomicInteger(1));
+        if (count != null) {
+            count.incrementAndGet();
         }
     }
 
@@ -105,6 +297,7 @@ public void put(Object key, Object value) {
      */
     public void remove(Object key) {
         this.cache.remove(key);
+        this.frequencies.remove(key);
     }
 
     /**
@@ -113,4 +306,84 @@ public void remove(Object key) {
     public Map getCache() {
         return cache;
     }
+
+    /**
+     * Return the number of entries in the cache.
+     */
+    public int size() {
+        return this.cache.size();
+    }
+
+    /**
+     * Return the number of gets finding an entry.
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of gets not finding an entry.
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the number of entries evicted as the size was exceeded.
+     */
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Return the ratio of the gets finding an entry, 0 if none.
+     */
+    public double getHitRate() {
+        long hits = getHits();
+        long lookups = hits + getMisses();
+        return (lookups == 0) ? 0 : ((double)hits / lookups);
+    }
+
+    /**
+     * Return if the misses of each key are counted.
+     */
+    public boolean shouldTrackMisses() {
+        return this.missedKeys != null;
+    }
+
+    /**
+     * Return the keys not in the cache missed the most, with their number of misses, the most missed first.
+     * Only the keys missed more than once are returned, at most the count of keys.
+     * This is empty if the misses are not tracked.
+     */
+    public Map<Object, Integer> getMostMissedKeys(int count) {
+        Map<Object, Integer> mostMissed = new LinkedHashMap<>();
+        if (this.missedKeys == null) {
+            return mostMissed;
+        }
+        List<Map.Entry<Object, Integer>> missed = new ArrayList<>();
+        for (Map.Entry<Object, AtomicInteger> entry : this.missedKeys.entrySet()) {
+            int missCount = entry.getValue().get();
+            if ((missCount > 1) && !this.cache.containsKey(entry.getKey())) {
+                missed.add(Map.entry(entry.getKey(), missCount));
+            }
+        }
+        missed.sort((first, second) -> Integer.compare(second.getValue(), first.getValue()));
+        for (int index = 0; (index < missed.size()) && (index < count); index++) {
+            mostMissed.put(missed.get(index).getKey(), missed.get(index).getValue());
+        }
+        return mostMissed;
+    }
+
+    /**
+     * Reset the statistics to 0, and forget the keys missed.
+     */
+    public void resetStatistics() {
+        this.hits.reset();
+        this.misses.reset();
+        this.evictions.reset();
+        if (this.missedKeys != null) {
+            this.missedKeys.clear();
+        }
+    }
 }
@@ -14,6 +14,7 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.internal.identitymaps;
 
+import org.eclipse.persistence.descriptors.CacheStatistics;
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
@@ -498,6 +499,17 @@ public void setDescriptor(ClassDescriptor descriptor) {
         this.descriptor = descriptor;
     }
 
+    /**
+     * INTERNAL:
+     * Return the cache statistics of the class that this is the map for, null if not recorded.
+     */
+    public CacheStatistics getStatistics() {
+        if (this.descriptor == null) {
+            return null;
+        }
+        return this.descriptor.getCachePolicy().getStatistics();
+    }
+
     /**
      * Update the wrapper object in the CacheKey associated with the given primaryKey,
      * this is used for EJB2.
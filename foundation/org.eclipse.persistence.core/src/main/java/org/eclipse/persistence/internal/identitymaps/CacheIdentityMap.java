@@ -14,6 +14,7 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.internal.identitymaps;
 
+import org.eclipse.persistence.descriptors.CacheStatistics;
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 
@@ -59,6 +60,10 @@ protected void ensureFixedSize() {
         synchronized(this.first) {
             while (getMaxSize() > 0 && getSize() > getMaxSize()) {
                 remove(last.getPrevious());
+                CacheStatistics statistics = getStatistics();
+                if (statistics != null) {
+                    statistics.recordEviction();
+                }
             }
         }
     }
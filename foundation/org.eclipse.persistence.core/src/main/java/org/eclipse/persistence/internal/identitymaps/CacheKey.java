@@ -14,6 +14,7 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.internal.identitymaps;
 
+import org.eclipse.persistence.descriptors.CacheStatistics;
 import org.eclipse.persistence.exceptions.ConcurrencyException;
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
@@ -31,10 +32,11 @@
  */
 public class CacheKey extends ConcurrencyManager implements Cloneable {
 
-    //These constants are used in extended cache logging to compare cache item creation thread and thread which picking item from the cache
-    public final long CREATION_THREAD_ID = Thread.currentThread().getId();
-    public final String CREATION_THREAD_NAME = String.copyValueOf(Thread.currentThread().getName().toCharArray());
-    public final long CREATION_THREAD_HASHCODE = Thread.currentThread().hashCode();
+    /**
+     * Used in extended cache logging to compare cache item creation thread and thread which picking item from the cache.
+     * Only recorded when the project of the identity map allows extended cache logging, to keep the cache key small.
+     */
+    protected CreationThread creationThread;
 
     /** The key holds the vector of primary key values for the object. */
     protected Object key;
@@ -134,7 +136,7 @@ public CacheKey(Object primaryKey, Object object, Object lockValue, long readTim
     @Override
     public void acquire() {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            DEPTH.incrementAndGet(this);
             return;
         }
         super.acquire(false);
@@ -147,7 +149,7 @@ public void acquire() {
     @Override
     public void acquire(boolean forMerge) {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            DEPTH.incrementAndGet(this);
             return;
         }
         super.acquire(forMerge);
@@ -160,7 +162,7 @@ public void acquire(boolean forMerge) {
     @Override
     public boolean acquireNoWait() {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            DEPTH.incrementAndGet(this);
             return true;
         }
         return super.acquireNoWait(false);
@@ -174,10 +176,10 @@ public boolean acquireNoWait() {
 
     public boolean acquireIfUnownedNoWait() {
         if (this.isIsolated) {
-            if (this.depth.get() > 0) {
+            if (this.depth > 0) {
                 return false;
             }
-            this.depth.incrementAndGet();
+            DEPTH.incrementAndGet(this);
             return true;
         }
         return super.acquireIfUnownedNoWait(false);
@@ -191,7 +193,7 @@ public boolean acquireIfUnownedNoWait() {
     @Override
     public boolean acquireNoWait(boolean forMerge) {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            DEPTH.incrementAndGet(this);
             return true;
         }
         return super.acquireNoWait(forMerge);
@@ -205,7 +207,7 @@ public boolean acquireNoWait(boolean forMerge) {
     @Override
     public boolean acquireWithWait(boolean forMerge, int wait) {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            DEPTH.incrementAndGet(this);
             return true;
         }
         return super.acquireWithWait(forMerge, wait);
@@ -217,7 +219,7 @@ public boolean acquireWithWait(boolean forMerge, int wait) {
     @Override
     public void acquireDeferredLock() {
         if (this.isIsolated) {
-            this.depth.incrementAndGet();
+            DEPTH.incrementAndGet(this);
             return;
         }
         super.acquireDeferredLock();
@@ -304,6 +306,23 @@ public boolean acquireReadLockNoWait() {
         return super.acquireReadLockNoWait();
     }
 
+    /**
+     * INTERNAL:
+     * Return the thread this cache key was created in,
+     * null unless the project of its identity map allowed extended cache logging when the cache key was cached.
+     */
+    public CreationThread getCreationThread() {
+        return creationThread;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the thread this cache key was created in, for extended cache logging.
+     */
+    public void setCreationThread(CreationThread creationThread) {
+        this.creationThread = creationThread;
+    }
+
     /**
      * INTERNAL:
      * Clones itself.
@@ -370,7 +389,7 @@ public Object getKey() {
     @Override
     public Thread getActiveThread() {
         if (this.isIsolated) {
-            if (this.depth.get() > 0) {
+            if (this.depth > 0) {
                 return Thread.currentThread();
             } else {
                 return null;
@@ -472,7 +491,7 @@ public int getInvalidationState() {
     @Override
     public void release() {
         if (this.isIsolated) {
-            this.depth.decrementAndGet();
+            DEPTH.decrementAndGet(this);
             return;
         }
         super.release();
@@ -484,7 +503,7 @@ public void release() {
     @Override
     public void releaseDeferredLock() {
         if (this.isIsolated) {
-            this.depth.decrementAndGet();
+            DEPTH.decrementAndGet(this);
             return;
         }
         super.releaseDeferredLock();
@@ -519,9 +538,39 @@ public Object removeFromOwningMap(){
      * CACHE_KEY_INVALID - This cache key has been labelled invalid.
      */
     public void setInvalidationState(int invalidationState) {
+        if ((invalidationState == CACHE_KEY_INVALID) && (this.invalidationState != CACHE_KEY_INVALID)) {
+            CacheStatistics statistics = getStatistics();
+            if (statistics != null) {
+                statistics.recordInvalidation();
+            }
+        }
         this.invalidationState = invalidationState;
     }
 
+    /**
+     * INTERNAL:
+     * Return the cache statistics of the owning map's class, null if not recorded or not in a map.
+     */
+    protected CacheStatistics getStatistics() {
+        IdentityMap owningMap = this.mapOwner;
+        if ((owningMap == null) || (owningMap.getDescriptor() == null)) {
+            return null;
+        }
+        return owningMap.getDescriptor().getCachePolicy().getStatistics();
+    }
+
+    /**
+     * INTERNAL:
+     * Record the wait in the cache statistics of the owning map's class.
+     */
+    @Override
+    protected void recordLockWait(long waitNanos) {
+        CacheStatistics statistics = getStatistics();
+        if (statistics != null) {
+            statistics.recordLockWait(waitNanos);
+        }
+    }
+
     /**
      * INTERNAL:
      * This method sets the system time in millis seconds at which this object was last refreshed
@@ -604,13 +653,13 @@ public void setTransactionId(Object transactionId) {
         this.transactionId = transactionId;
     }
 
-    public synchronized Object waitForObject(){
+    public Object waitForObject(){
         try {
             int count = 0;
             while (this.object == null && isAcquired()) {
                 if (count > MAX_WAIT_TRIES)
                     throw ConcurrencyException.maxTriesLockOnBuildObjectExceded(getActiveThread(), Thread.currentThread());
-                wait(10);
+                waitWhileAcquired(10);
                 ++count;
             }
         } catch(InterruptedException ex) {
@@ -618,4 +667,32 @@ public synchronized Object waitForObject(){
         }
         return this.object;
     }
+
+    /**
+     * INTERNAL:
+     * Identifies the thread a cache key was created in, used by extended cache logging.
+     */
+    public static final class CreationThread {
+        private final long id;
+        private final String name;
+        private final int hashCode;
+
+        public CreationThread(Thread thread) {
+            this.id = thread.getId();
+            this.name = thread.getName();
+            this.hashCode = thread.hashCode();
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getHashCode() {
+            return hashCode;
+        }
+    }
 }
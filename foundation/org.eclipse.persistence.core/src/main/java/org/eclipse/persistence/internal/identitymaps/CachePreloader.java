@@ -0,0 +1,496 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Warm the shared cache in the background after login.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Read the objects of each class configured to be preloaded ({@link org.eclipse.persistence.descriptors.CachePolicy#setShouldPreload(boolean)})
+ * in batches on a bounded number of threads launched through the server platform.
+ * Batches are paged by primary key, each reads the objects after the last key of the previous batch.
+ * <li> Throttle the reads with a pause between batches, so live requests are not starved of connections.
+ * <li> If a snapshot from a previous run exists only read back the objects recorded in it,
+ * and record a new snapshot of the most recently read objects on logout.
+ * <li> Report progress through the session event listeners and the log.
+ * </ul>
+ * The objects are read through the session, so they are also indexed in any cache indexes.
+ * Objects already in the cache are not refreshed.
+ * @see CacheSnapshot
+ */
+public class CachePreloader extends SessionEventAdapter {
+
+    public static final int DEFAULT_THREADS = 2;
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    public static final int DEFAULT_SNAPSHOT_SIZE = 1000;
+
+    /** Time to wait on logout for the running batches to stop. */
+    protected static final long CANCEL_TIMEOUT = 10000;
+
+    protected AbstractSession session;
+    protected int threads = DEFAULT_THREADS;
+    protected int batchSize = DEFAULT_BATCH_SIZE;
+    protected long delay;
+    protected File snapshotFile;
+    protected int snapshotSize = DEFAULT_SNAPSHOT_SIZE;
+
+    protected Queue<PreloadTask> tasks;
+    protected volatile boolean isCancelled;
+    protected AtomicLong loadedCount;
+    protected AtomicInteger runningWorkers;
+    protected CountDownLatch completion;
+    protected long startTime;
+
+    public CachePreloader(AbstractSession session) {
+        this.session = session;
+        this.tasks = new ConcurrentLinkedQueue<>();
+        this.loadedCount = new AtomicLong();
+        this.runningWorkers = new AtomicInteger();
+        this.completion = new CountDownLatch(1);
+    }
+
+    /**
+     * Return if the objects of the descriptor are preloaded.
+     * Subclasses of a preloaded class are read by the query of their parent.
+     */
+    public static boolean shouldPreload(ClassDescriptor descriptor) {
+        if (!descriptor.getCachePolicy().shouldPreload() || descriptor.isDescriptorTypeAggregate()
+                || !descriptor.getCachePolicy().isSharedIsolation()) {
+            return false;
+        }
+        if (descriptor.isChildDescriptor()) {
+            ClassDescriptor parent = descriptor.getInheritancePolicy().getParentDescriptor();
+            return (parent == null) || !shouldPreload(parent);
+        }
+        return true;
+    }
+
+    /**
+     * Return the criteria selecting the objects with the primary keys,
+     * an IN for a single primary key field, or an OR of the key values for a composite primary key.
+     */
+    public static Expression buildKeysCriteria(ClassDescriptor descriptor, ExpressionBuilder builder, List<Object> primaryKeys) {
+        List<DatabaseField> fields = descriptor.getPrimaryKeyFields();
+        if (fields.size() == 1) {
+            return builder.getField(fields.get(0)).in(primaryKeys);
+        }
+        Expression criteria = null;
+        for (Object primaryKey : primaryKeys) {
+            Object[] values = ((CacheId)primaryKey).getPrimaryKey();
+            Expression keyCriteria = null;
+            for (int index = 0; index < fields.size(); index++) {
+                keyCriteria = builder.getField(fields.get(index)).equal(values[index]).and(keyCriteria);
+            }
+            criteria = (criteria == null) ? keyCriteria : criteria.or(keyCriteria);
+        }
+        return criteria;
+    }
+
+    /**
+     * Return the criteria selecting the objects after the primary key in primary key order,
+     * for a composite primary key the first field that differs must be greater.
+     */
+    public static Expression buildAfterKeyCriteria(ClassDescriptor descriptor, ExpressionBuilder builder, Object primaryKey) {
+        List<DatabaseField> fields = descriptor.getPrimaryKeyFields();
+        if (fields.size() == 1) {
+            return builder.getField(fields.get(0)).greaterThan(primaryKey);
+        }
+        Object[] values = ((CacheId)primaryKey).getPrimaryKey();
+        Expression criteria = null;
+        Expression equalCriteria = null;
+        for (int index = 0; index < fields.size(); index++) {
+            Expression field = builder.getField(fields.get(index));
+            Expression greaterCriteria = field.greaterThan(values[index]).and(equalCriteria);
+            criteria = (criteria == null) ? greaterCriteria : criteria.or(greaterCriteria);
+            equalCriteria = field.equal(values[index]).and(equalCriteria);
+        }
+        return criteria;
+    }
+
+    /**
+     * Start preloading on background threads, return immediately.
+     * Logging out of the session cancels the preload.
+     */
+    public void start() {
+        if (prepare()) {
+            int workers = Math.max(1, this.threads);
+            this.runningWorkers.set(workers);
+            for (int index = 0; index < workers; index++) {
+                this.session.getServerPlatform().launchContainerRunnable(this::work);
+            }
+        }
+    }
+
+    /**
+     * Preload in the calling thread, return once all objects are loaded.
+     */
+    public void run() {
+        if (prepare()) {
+            this.runningWorkers.set(1);
+            work();
+        }
+    }
+
+    /**
+     * Build the batch tasks and notify the listeners, return false if there is nothing to preload.
+     */
+    protected boolean prepare() {
+        this.session.getEventManager().addListener(this);
+        CacheSnapshot snapshot = readSnapshot();
+        List<Class<?>> preloadClasses = new ArrayList<>();
+        for (ClassDescriptor descriptor : this.session.getDescriptors().values()) {
+            if (!shouldPreload(descriptor)) {
+                continue;
+            }
+            List<Object> keys = (snapshot == null) ? null : snapshot.getKeys(descriptor.getJavaClassName());
+            this.tasks.add(new PreloadTask(descriptor, keys));
+            preloadClasses.add(descriptor.getJavaClass());
+        }
+        if (this.tasks.isEmpty()) {
+            this.completion.countDown();
+            return false;
+        }
+        this.startTime = System.currentTimeMillis();
+        this.session.log(SessionLog.FINE, SessionLog.CACHE, "cache_preload_begin", new Object[] {preloadClasses.size(), this.threads});
+        this.session.getEventManager().preCachePreload(preloadClasses);
+        return true;
+    }
+
+    /**
+     * Load batches until there are none left or the preload is cancelled.
+     * A class is loaded by one worker at a time, as each batch starts after the last key of the previous one,
+     * the workers load the batches of different classes in parallel.
+     */
+    protected void work() {
+        try {
+            PreloadTask task;
+            while (!this.isCancelled && ((task = this.tasks.poll()) != null)) {
+                if (task.loadBatch()) {
+                    this.tasks.add(task);
+                    if (this.delay > 0) {
+                        Thread.sleep(this.delay);
+                    }
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (this.runningWorkers.decrementAndGet() == 0) {
+                complete();
+            }
+        }
+    }
+
+    /**
+     * Called by the last worker to finish.
+     */
+    protected void complete() {
+        long total = this.loadedCount.get();
+        if (this.isCancelled) {
+            this.session.log(SessionLog.FINE, SessionLog.CACHE, "cache_preload_cancelled", new Object[] {total});
+        } else {
+            this.session.log(SessionLog.FINE, SessionLog.CACHE, "cache_preload_end", new Object[] {total, System.currentTimeMillis() - this.startTime});
+        }
+        // Notify the listeners first, so they are notified once the completion is awaited.
+        try {
+            this.session.getEventManager().postCachePreload(total);
+        } finally {
+            this.completion.countDown();
+        }
+    }
+
+    /**
+     * Stop loading after the batches currently being read.
+     */
+    public void cancel() {
+        this.isCancelled = true;
+    }
+
+    /**
+     * Wait for the preload to complete or be cancelled, return false if the timeout elapsed first.
+     */
+    public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.completion.await(timeout, unit);
+    }
+
+    /**
+     * Return if the preload has completed or been cancelled.
+     */
+    public boolean isComplete() {
+        return this.completion.getCount() == 0;
+    }
+
+    /**
+     * Return if the preload was cancelled.
+     */
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+    /**
+     * Return the number of objects read so far.
+     */
+    public long getLoadedCount() {
+        return this.loadedCount.get();
+    }
+
+    /**
+     * Cancel the preload, and record the snapshot for the next run, before the session logs out.
+     */
+    @Override
+    public void preLogout(SessionEvent event) {
+        cancel();
+        try {
+            awaitCompletion(CANCEL_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        writeSnapshot();
+        this.session.getEventManager().removeListener(this);
+    }
+
+    /**
+     * Read the snapshot of the previous run, if configured and present.
+     */
+    protected CacheSnapshot readSnapshot() {
+        if (this.snapshotFile == null) {
+            return null;
+        }
+        try {
+            CacheSnapshot snapshot = CacheSnapshot.read(this.snapshotFile, this.session);
+            if (snapshot != null) {
+                this.session.log(SessionLog.FINE, SessionLog.CACHE, "cache_snapshot_read", new Object[] {snapshot.getSize(), this.snapshotFile});
+            }
+            return snapshot;
+        } catch (Exception exception) {
+            this.session.log(SessionLog.WARNING, SessionLog.CACHE, "cache_snapshot_read_failed", new Object[] {this.snapshotFile, exception});
+            return null;
+        }
+    }
+
+    /**
+     * Record the most recently read objects of the preloaded classes, if configured.
+     */
+    public void writeSnapshot() {
+        if (this.snapshotFile == null) {
+            return;
+        }
+        try {
+            CacheSnapshot snapshot = CacheSnapshot.capture(this.session, this.snapshotSize);
+            snapshot.write(this.snapshotFile);
+            this.session.log(SessionLog.FINE, SessionLog.CACHE, "cache_snapshot_written", new Object[] {snapshot.getSize(), this.snapshotFile});
+        } catch (Exception exception) {
+            this.session.log(SessionLog.WARNING, SessionLog.CACHE, "cache_snapshot_write_failed", new Object[] {this.snapshotFile, exception});
+        }
+    }
+
+    /**
+     * Return the number of threads used to preload.
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Set the number of threads used to preload, the default is 2.
+     * Each thread uses a read connection while it reads a batch.
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Return the number of objects read by each query.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Set the number of objects read by each query, the default is 500.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Return the pause in milliseconds between batches.
+     */
+    public long getDelay() {
+        return delay;
+    }
+
+    /**
+     * Set the pause in milliseconds each thread takes between batches, the default is 0.
+     * This throttles the preload so it does not compete with live requests.
+     */
+    public void setDelay(long delay) {
+        this.delay = delay;
+    }
+
+    /**
+     * Return the file the snapshot is read from and written to.
+     */
+    public File getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * Set the file the snapshot is read from and written to.
+     * If the file exists only the objects recorded in it are preloaded,
+     * on logout the most recently read objects are recorded in it for the next run.
+     */
+    public void setSnapshotFile(File snapshotFile) {
+        this.snapshotFile = snapshotFile;
+    }
+
+    /**
+     * Return the maximum number of keys recorded per class in the snapshot.
+     */
+    public int getSnapshotSize() {
+        return snapshotSize;
+    }
+
+    /**
+     * Set the maximum number of keys recorded per class in the snapshot, the default is 1000.
+     */
+    public void setSnapshotSize(int snapshotSize) {
+        this.snapshotSize = snapshotSize;
+    }
+
+    /**
+     * Loads the objects of one class batch by batch.
+     * The task is only used by the worker that polled it from the queue.
+     */
+    protected class PreloadTask {
+        protected ClassDescriptor descriptor;
+        protected List<Object> keys;
+        protected int limit;
+        /** The number of objects read, or of keys read from the snapshot. */
+        protected int position;
+        /** The primary key of the last object read, the next page starts after it. */
+        protected Object lastKey;
+        protected long count;
+
+        protected PreloadTask(ClassDescriptor descriptor, List<Object> keys) {
+            this.descriptor = descriptor;
+            this.keys = keys;
+            this.limit = descriptor.getCachePolicy().getPreloadSize();
+            if ((keys != null) && ((this.limit < 0) || (keys.size() < this.limit))) {
+                this.limit = keys.size();
+            }
+        }
+
+        /**
+         * Read the next batch, return false once there is nothing left to read.
+         */
+        protected boolean loadBatch() {
+            int size = batchSize;
+            if (this.limit >= 0) {
+                if (this.position >= this.limit) {
+                    return false;
+                }
+                size = Math.min(size, this.limit - this.position);
+            }
+            try {
+                ReadAllQuery query = (this.keys == null) ? buildPageQuery(this.lastKey, size) : buildKeysQuery(this.keys.subList(this.position, this.position + size));
+                Collection<?> objects = (Collection<?>)session.executeQuery(query);
+                int loaded = objects.size();
+                this.count += loaded;
+                long total = loadedCount.addAndGet(loaded);
+                session.log(SessionLog.FINER, SessionLog.CACHE, "cache_preload_progress", new Object[] {this.descriptor.getJavaClassName(), this.count});
+                session.getEventManager().cachePreloadProgress(this.descriptor.getJavaClass(), this.count, total);
+                if (this.keys != null) {
+                    this.position += size;
+                    return true;
+                }
+                this.position += loaded;
+                if (loaded < size) {
+                    return false;
+                }
+                Object last = null;
+                for (Object object : objects) {
+                    last = object;
+                }
+                this.lastKey = this.descriptor.getObjectBuilder().extractPrimaryKeyFromObject(last, session);
+                return true;
+            } catch (RuntimeException exception) {
+                if (!isCancelled) {
+                    session.log(SessionLog.WARNING, SessionLog.CACHE, "cache_preload_failed", new Object[] {this.descriptor.getJavaClassName(), exception});
+                }
+                return false;
+            }
+        }
+
+        /**
+         * Return a query reading the page of objects after the primary key, or the first page if the key is null.
+         * The objects are ordered by primary key, any ordering of the preload query is replaced.
+         */
+        protected ReadAllQuery buildPageQuery(Object afterKey, int size) {
+            ReadAllQuery query = null;
+            String queryName = this.descriptor.getCachePolicy().getPreloadQueryName();
+            if (queryName != null) {
+                DatabaseQuery namedQuery = this.descriptor.getQueryManager().getQuery(queryName);
+                if (namedQuery instanceof ReadAllQuery) {
+                    query = (ReadAllQuery)namedQuery.clone();
+                }
+            }
+            if (query == null) {
+                query = new ReadAllQuery(this.descriptor.getJavaClass());
+            }
+            ExpressionBuilder builder = query.getExpressionBuilder();
+            query.setOrderByExpressions(new ArrayList<>());
+            for (DatabaseField field : this.descriptor.getPrimaryKeyFields()) {
+                query.addOrdering(builder.getField(field).ascending());
+            }
+            if (afterKey != null) {
+                query.setSelectionCriteria(buildAfterKeyCriteria(this.descriptor, builder, afterKey).and(query.getSelectionCriteria()));
+            }
+            query.setMaxRows(size);
+            return query;
+        }
+
+        /**
+         * Return a query reading the objects with the primary keys.
+         */
+        protected ReadAllQuery buildKeysQuery(List<Object> primaryKeys) {
+            ReadAllQuery query = new ReadAllQuery(this.descriptor.getJavaClass());
+            query.setSelectionCriteria(buildKeysCriteria(this.descriptor, query.getExpressionBuilder(), primaryKeys));
+            return query;
+        }
+    }
+}
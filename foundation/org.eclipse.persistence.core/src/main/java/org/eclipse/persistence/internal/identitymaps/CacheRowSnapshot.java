@@ -0,0 +1,496 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.VersionLockingPolicy;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.DatabaseMapping.WriteType;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.queries.ReportQuery;
+import org.eclipse.persistence.queries.ReportQueryResult;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Persist the shared cache to a local file, so it can be restored after a restart.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Write the row of each cached object, with its version and read time, in a compact binary format.
+ * <li> Restore the objects by streaming the file through a sliding memory mapped window,
+ * so the file is never held in the heap.
+ * <li> Validate the restored rows in batches, by only selecting the primary key and version columns,
+ * only the objects whose version is still current are built into the cache.
+ * <li> When registered as a session event listener, write the snapshot before the session logs out.
+ * </ul>
+ * Only classes using a version locking policy can be validated, so other classes are not written.
+ * Partially fetched objects are also not written.
+ * @see org.eclipse.persistence.sessions.IdentityMapAccessor#writeCacheSnapshot(File)
+ * @see org.eclipse.persistence.sessions.IdentityMapAccessor#restoreCacheSnapshot(File)
+ */
+public class CacheRowSnapshot extends SessionEventAdapter {
+
+    /** Written first, so other files are ignored. */
+    protected static final int MAGIC = 0x454C4353;
+    /** Written second, so files from an incompatible version are ignored. */
+    protected static final int VERSION = 1;
+
+    protected static final byte END = 0;
+    protected static final byte SECTION = 1;
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /** Size of the memory mapped window used to read the file. */
+    protected static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+    protected AbstractSession session;
+    protected File file;
+    protected int batchSize = DEFAULT_BATCH_SIZE;
+
+    public CacheRowSnapshot(AbstractSession session, File file) {
+        this.session = session;
+        this.file = file;
+    }
+
+    /**
+     * Return if the cached objects of the descriptor can be written and restored.
+     */
+    public static boolean isSnapshotSupported(ClassDescriptor descriptor) {
+        return !descriptor.isDescriptorTypeAggregate() && descriptor.getCachePolicy().isSharedIsolation()
+                && (descriptor.getOptimisticLockingPolicy() instanceof VersionLockingPolicy)
+                && !descriptor.hasMultitenantPolicy();
+    }
+
+    /**
+     * Write the snapshot before the session logs out.
+     */
+    @Override
+    public void preLogout(SessionEvent event) {
+        try {
+            long count = write();
+            this.session.log(SessionLog.FINE, SessionLog.CACHE, "cache_row_snapshot_written", new Object[] {count, this.file});
+        } catch (Exception exception) {
+            this.session.log(SessionLog.WARNING, SessionLog.CACHE, "cache_snapshot_write_failed", new Object[] {this.file, exception});
+        }
+        this.session.getEventManager().removeListener(this);
+    }
+
+    /**
+     * Write the cached objects to the file, return the number of objects written.
+     * The file is written to a temporary file first and then replaces any previous snapshot.
+     */
+    public long write() throws IOException {
+        File directory = this.file.getAbsoluteFile().getParentFile();
+        if (directory != null) {
+            directory.mkdirs();
+        }
+        File temporaryFile = new File(this.file.getPath() + ".tmp");
+        long count = 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile), 64 * 1024))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            ByteArrayOutputStream record = new ByteArrayOutputStream(256);
+            DataOutputStream recordOut = new DataOutputStream(record);
+            for (ClassDescriptor descriptor : this.session.getDescriptors().values()) {
+                if (isSnapshotSupported(descriptor)) {
+                    count += writeSection(descriptor, out, record, recordOut);
+                }
+            }
+            out.writeByte(END);
+        }
+        Files.move(temporaryFile.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return count;
+    }
+
+    /**
+     * Write the objects of the descriptor's class, return the number of objects written.
+     * Objects of subclasses are written in the subclass's section.
+     */
+    protected long writeSection(ClassDescriptor descriptor, DataOutputStream out, ByteArrayOutputStream record, DataOutputStream recordOut) throws IOException {
+        IdentityMap identityMap = this.session.getIdentityMapAccessorInstance().getIdentityMap(descriptor, true);
+        if ((identityMap == null) || (identityMap.getSize() == 0)) {
+            return 0;
+        }
+        VersionLockingPolicy lockingPolicy = (VersionLockingPolicy)descriptor.getOptimisticLockingPolicy();
+        List<DatabaseField> fields = getSnapshotFields(descriptor);
+        out.writeByte(SECTION);
+        writeString(descriptor.getJavaClassName(), out);
+        out.writeInt(fields.size());
+        for (DatabaseField field : fields) {
+            writeString(field.getQualifiedName(), out);
+        }
+        long count = 0;
+        long now = System.currentTimeMillis();
+        for (Enumeration<CacheKey> keys = identityMap.keys(false); keys.hasMoreElements();) {
+            CacheKey cacheKey = keys.nextElement();
+            Object object = cacheKey.getObject();
+            if ((object == null) || (object.getClass() != descriptor.getJavaClass())
+                    || descriptor.getCacheInvalidationPolicy().isInvalidated(cacheKey, now)
+                    || (descriptor.hasFetchGroupManager() && descriptor.getFetchGroupManager().isPartialObject(object))) {
+                continue;
+            }
+            // Skip objects being built or merged, their state may not be consistent.
+            if (!cacheKey.acquireReadLockNoWait()) {
+                continue;
+            }
+            AbstractRecord row;
+            Object version;
+            long readTime;
+            try {
+                row = descriptor.getObjectBuilder().buildRow(object, this.session, WriteType.UNDEFINED);
+                version = lockingPolicy.isStoredInCache() ? cacheKey.getWriteLockValue() : row.get(lockingPolicy.getWriteLockField());
+                readTime = cacheKey.getReadTime();
+            } finally {
+                cacheKey.releaseReadLock();
+            }
+            if (version == null) {
+                continue;
+            }
+            row.put(lockingPolicy.getWriteLockField(), version);
+            record.reset();
+            if (writeRecord(row, readTime, fields, recordOut)) {
+                recordOut.flush();
+                out.writeInt(record.size());
+                record.writeTo(out);
+                count++;
+            }
+        }
+        out.writeInt(0);
+        return count;
+    }
+
+    /**
+     * Encode the row, return false if it has a value that cannot be encoded.
+     */
+    protected boolean writeRecord(AbstractRecord row, long readTime, List<DatabaseField> fields, DataOutputStream out) throws IOException {
+        out.writeLong(readTime);
+        for (DatabaseField field : fields) {
+            if (!OffHeapCache.writeValue(row.get(field), out)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return the fields written for the descriptor, its fields and the version field.
+     */
+    protected List<DatabaseField> getSnapshotFields(ClassDescriptor descriptor) {
+        List<DatabaseField> fields = new ArrayList<>(descriptor.getFields());
+        DatabaseField versionField = ((VersionLockingPolicy)descriptor.getOptimisticLockingPolicy()).getWriteLockField();
+        if (!fields.contains(versionField)) {
+            fields.add(versionField);
+        }
+        return fields;
+    }
+
+    /**
+     * Restore the objects from the file that are still current in the database,
+     * return the number of objects restored, or -1 if the file does not exist or is not a compatible snapshot.
+     * Objects already in the cache are not replaced.
+     */
+    public long restore() throws IOException {
+        if (!this.file.exists()) {
+            return -1;
+        }
+        long start = System.currentTimeMillis();
+        long total = 0;
+        long restored = 0;
+        try (FileChannel channel = FileChannel.open(this.file.toPath(), StandardOpenOption.READ)) {
+            MappedInput in = new MappedInput(channel);
+            if ((in.readInt() != MAGIC) || (in.readInt() != VERSION)) {
+                return -1;
+            }
+            while (in.readByte() == SECTION) {
+                String className = in.readString();
+                int fieldCount = in.readInt();
+                List<String> fieldNames = new ArrayList<>(fieldCount);
+                for (int index = 0; index < fieldCount; index++) {
+                    fieldNames.add(in.readString());
+                }
+                RestoreBatch batch = buildBatch(className, fieldNames);
+                int length;
+                while ((length = in.readInt()) > 0) {
+                    byte[] bytes = in.readBytes(length);
+                    total++;
+                    if (batch != null) {
+                        batch.add(bytes);
+                        if (batch.size() >= this.batchSize) {
+                            restored += batch.restore();
+                        }
+                    }
+                }
+                if (batch != null) {
+                    restored += batch.restore();
+                }
+            }
+        }
+        this.session.log(SessionLog.FINE, SessionLog.CACHE, "cache_row_snapshot_restored", new Object[] {this.file, restored, total, System.currentTimeMillis() - start});
+        return restored;
+    }
+
+    /**
+     * Return a batch restoring the objects of the class, or null if the class or its fields have changed.
+     */
+    protected RestoreBatch buildBatch(String className, List<String> fieldNames) {
+        ClassDescriptor descriptor = null;
+        try {
+            Class<?> javaClass = this.session.getDatasourcePlatform().getConversionManager().convertClassNameToClass(className);
+            descriptor = this.session.getDescriptor(javaClass);
+        } catch (RuntimeException exception) {
+            return null;
+        }
+        if ((descriptor == null) || !isSnapshotSupported(descriptor)) {
+            return null;
+        }
+        Map<String, DatabaseField> fieldsByName = new HashMap<>();
+        for (DatabaseField field : getSnapshotFields(descriptor)) {
+            fieldsByName.put(field.getQualifiedName(), field);
+        }
+        if (fieldsByName.size() != fieldNames.size()) {
+            return null;
+        }
+        Vector<DatabaseField> fields = new Vector<>(fieldNames.size());
+        for (String fieldName : fieldNames) {
+            DatabaseField field = fieldsByName.get(fieldName);
+            if (field == null) {
+                return null;
+            }
+            fields.add(field);
+        }
+        return buildBatch(descriptor, fields);
+    }
+
+    /**
+     * Return a batch restoring the objects of the descriptor's class from rows of the fields.
+     */
+    protected RestoreBatch buildBatch(ClassDescriptor descriptor, Vector<DatabaseField> fields) {
+        return new RestoreBatch(descriptor, fields);
+    }
+
+    /**
+     * Return the number of objects validated by each query.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Set the number of objects validated by each query, the default is 500.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Return the snapshot file.
+     */
+    public File getFile() {
+        return file;
+    }
+
+    protected void writeString(String value, DataOutputStream out) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Restores the objects of one class, validating their versions in one query.
+     */
+    protected class RestoreBatch {
+        protected ClassDescriptor descriptor;
+        protected Vector<DatabaseField> fields;
+        protected VersionLockingPolicy lockingPolicy;
+        protected List<byte[]> records;
+
+        protected RestoreBatch(ClassDescriptor descriptor, Vector<DatabaseField> fields) {
+            this.descriptor = descriptor;
+            this.fields = fields;
+            this.lockingPolicy = (VersionLockingPolicy)descriptor.getOptimisticLockingPolicy();
+            this.records = new ArrayList<>(batchSize);
+        }
+
+        protected void add(byte[] record) {
+            this.records.add(record);
+        }
+
+        protected int size() {
+            return this.records.size();
+        }
+
+        /**
+         * Build the objects whose version is current into the cache, return the number restored.
+         */
+        protected long restore() throws IOException {
+            if (this.records.isEmpty()) {
+                return 0;
+            }
+            int size = this.fields.size();
+            List<Object> primaryKeys = new ArrayList<>(this.records.size());
+            List<AbstractRecord> rows = new ArrayList<>(this.records.size());
+            List<Long> readTimes = new ArrayList<>(this.records.size());
+            for (byte[] record : this.records) {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+                try {
+                    readTimes.add(in.readLong());
+                    Vector<Object> values = new Vector<>(size);
+                    for (int index = 0; index < size; index++) {
+                        values.add(OffHeapCache.readValue(in, session));
+                    }
+                    AbstractRecord row = new DatabaseRecord(this.fields, values, size);
+                    rows.add(row);
+                    primaryKeys.add(this.descriptor.getObjectBuilder().extractPrimaryKeyFromRow(row, session));
+                } catch (ClassNotFoundException exception) {
+                    // The class of a serialized value no longer exists, the object is read normally.
+                    readTimes.remove(readTimes.size() - 1);
+                }
+            }
+            this.records.clear();
+            Map<Object, Object> currentVersions = selectVersions(primaryKeys);
+            ReadObjectQuery query = new ReadObjectQuery(this.descriptor.getJavaClass());
+            query.checkPrepare(session, new DatabaseRecord());
+            query.setSession(session);
+            long restored = 0;
+            for (int index = 0; index < rows.size(); index++) {
+                Object primaryKey = primaryKeys.get(index);
+                AbstractRecord row = rows.get(index);
+                Object currentVersion = currentVersions.get(primaryKey);
+                Object version = row.get(this.lockingPolicy.getWriteLockField());
+                if ((currentVersion == null) || (version == null)
+                        || (this.lockingPolicy.compareWriteLockValues(version, session.getDatasourcePlatform().convertObject(currentVersion, version.getClass())) != 0)) {
+                    continue;
+                }
+                // The object is as of when it was last read in the previous run.
+                query.setExecutionTime(readTimes.get(index));
+                this.descriptor.getObjectBuilder().buildObject(query, row);
+                restored++;
+            }
+            return restored;
+        }
+
+        /**
+         * Return the version in the database of each of the primary keys that still exists.
+         */
+        protected Map<Object, Object> selectVersions(List<Object> primaryKeys) {
+            ExpressionBuilder builder = new ExpressionBuilder();
+            ReportQuery query = new ReportQuery(this.descriptor.getJavaClass(), builder);
+            List<DatabaseField> primaryKeyFields = this.descriptor.getPrimaryKeyFields();
+            for (DatabaseField field : primaryKeyFields) {
+                query.addItem(field.getName(), builder.getField(field));
+            }
+            query.addItem(this.lockingPolicy.getWriteLockField().getName(), builder.getField(this.lockingPolicy.getWriteLockField()));
+            query.setSelectionCriteria(CachePreloader.buildKeysCriteria(this.descriptor, builder, primaryKeys));
+            int keySize = primaryKeyFields.size();
+            Map<Object, Object> versions = new HashMap<>(primaryKeys.size());
+            for (Object result : (List<?>)session.executeQuery(query)) {
+                List<Object> values = ((ReportQueryResult)result).getResults();
+                DatabaseRecord keyRow = new DatabaseRecord(keySize);
+                for (int index = 0; index < keySize; index++) {
+                    keyRow.put(primaryKeyFields.get(index), values.get(index));
+                }
+                versions.put(this.descriptor.getObjectBuilder().extractPrimaryKeyFromRow(keyRow, session), values.get(keySize));
+            }
+            return versions;
+        }
+    }
+
+    /**
+     * Reads the file through a memory mapped window, that is moved forward as the file is read.
+     */
+    protected static class MappedInput {
+        protected FileChannel channel;
+        protected long size;
+        /** File position of the start of the window. */
+        protected long windowStart;
+        protected MappedByteBuffer window;
+
+        protected MappedInput(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            map(0, 0);
+        }
+
+        /**
+         * Move the window to the position, mapping at least the required number of bytes.
+         */
+        protected void map(long position, int required) throws IOException {
+            long length = Math.min(Math.max(WINDOW_SIZE, required), this.size - position);
+            this.windowStart = position;
+            this.window = this.channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        }
+
+        /**
+         * Ensure the window contains the number of bytes from the current position.
+         */
+        protected void ensure(int bytes) throws IOException {
+            if (this.window.remaining() < bytes) {
+                long position = this.windowStart + this.window.position();
+                if (this.size - position < bytes) {
+                    throw new EOFException();
+                }
+                map(position, bytes);
+            }
+        }
+
+        protected byte readByte() throws IOException {
+            ensure(1);
+            return this.window.get();
+        }
+
+        protected int readInt() throws IOException {
+            ensure(4);
+            return this.window.getInt();
+        }
+
+        protected byte[] readBytes(int length) throws IOException {
+            ensure(length);
+            byte[] bytes = new byte[length];
+            this.window.get(bytes);
+            return bytes;
+        }
+
+        protected String readString() throws IOException {
+            return new String(readBytes(readInt()), StandardCharsets.UTF_8);
+        }
+    }
+}
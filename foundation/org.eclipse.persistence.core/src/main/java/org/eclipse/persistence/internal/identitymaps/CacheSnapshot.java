@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.CustomObjectInputStream;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Record which objects were cached, so a later run can warm its cache with them.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Capture the primary keys of the most recently read objects of each preloaded class from the shared cache.
+ * <li> Write and read the keys to and from a file.
+ * </ul>
+ * The keys are recorded by root class name, most recently read first.
+ * @see CachePreloader
+ */
+public class CacheSnapshot {
+
+    /** Written first, so files from an incompatible version are ignored. */
+    protected static final int VERSION = 1;
+
+    /** Primary keys by class name, most recently read first. */
+    protected Map<String, List<Object>> keys;
+
+    public CacheSnapshot() {
+        this.keys = new LinkedHashMap<>();
+    }
+
+    /**
+     * Capture the keys of up to maxKeys of the most recently read valid objects
+     * of each class of the session that is configured to be preloaded.
+     */
+    public static CacheSnapshot capture(AbstractSession session, int maxKeys) {
+        CacheSnapshot snapshot = new CacheSnapshot();
+        long now = System.currentTimeMillis();
+        for (ClassDescriptor descriptor : session.getDescriptors().values()) {
+            if (!CachePreloader.shouldPreload(descriptor)) {
+                continue;
+            }
+            IdentityMap identityMap = session.getIdentityMapAccessorInstance().getIdentityMap(descriptor, true);
+            if (identityMap == null) {
+                continue;
+            }
+            List<CacheKey> cacheKeys = new ArrayList<>(identityMap.getSize());
+            for (Enumeration<CacheKey> enumeration = identityMap.keys(false); enumeration.hasMoreElements();) {
+                CacheKey cacheKey = enumeration.nextElement();
+                if ((cacheKey.getObject() != null) && !descriptor.getCacheInvalidationPolicy().isInvalidated(cacheKey, now)) {
+                    cacheKeys.add(cacheKey);
+                }
+            }
+            cacheKeys.sort((first, second) -> Long.compare(second.getReadTime(), first.getReadTime()));
+            int size = (maxKeys < 0) ? cacheKeys.size() : Math.min(maxKeys, cacheKeys.size());
+            List<Object> primaryKeys = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                primaryKeys.add(cacheKeys.get(index).getKey());
+            }
+            if (!primaryKeys.isEmpty()) {
+                snapshot.addKeys(descriptor.getJavaClassName(), primaryKeys);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Read a snapshot from the file, return null if the file does not exist.
+     */
+    public static CacheSnapshot read(File file, AbstractSession session) throws IOException, ClassNotFoundException {
+        if (!file.exists()) {
+            return null;
+        }
+        try (InputStream stream = new BufferedInputStream(new FileInputStream(file))) {
+            return read(stream, session);
+        }
+    }
+
+    /**
+     * Read a snapshot from the stream, return null if it was written by an incompatible version.
+     */
+    @SuppressWarnings("unchecked")
+    public static CacheSnapshot read(InputStream stream, AbstractSession session) throws IOException, ClassNotFoundException {
+        ObjectInputStream in = new CustomObjectInputStream(stream, session);
+        if (in.readInt() != VERSION) {
+            return null;
+        }
+        CacheSnapshot snapshot = new CacheSnapshot();
+        int classes = in.readInt();
+        for (int index = 0; index < classes; index++) {
+            String className = in.readUTF();
+            snapshot.addKeys(className, (List<Object>)in.readObject());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Write the snapshot to the file, replacing any previous snapshot.
+     */
+    public void write(File file) throws IOException {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null) {
+            directory.mkdirs();
+        }
+        try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(file))) {
+            write(stream);
+        }
+    }
+
+    /**
+     * Write the snapshot to the stream.
+     */
+    public void write(OutputStream stream) throws IOException {
+        ObjectOutputStream out = new ObjectOutputStream(stream);
+        out.writeInt(VERSION);
+        out.writeInt(this.keys.size());
+        for (Map.Entry<String, List<Object>> entry : this.keys.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeObject(new ArrayList<>(entry.getValue()));
+        }
+        out.flush();
+    }
+
+    /**
+     * Record the keys of the class, most recently read first.
+     */
+    public void addKeys(String className, List<Object> primaryKeys) {
+        this.keys.put(className, primaryKeys);
+    }
+
+    /**
+     * Return the keys recorded for the class, most recently read first, or null.
+     */
+    public List<Object> getKeys(String className) {
+        return this.keys.get(className);
+    }
+
+    /**
+     * Return the keys by class name.
+     */
+    public Map<String, List<Object>> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Return the total number of keys recorded.
+     */
+    public int getSize() {
+        int size = 0;
+        for (List<Object> primaryKeys : this.keys.values()) {
+            size += primaryKeys.size();
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + this.keys.size() + " classes, " + getSize() + " keys)";
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * <p><b>Purpose</b>: CacheKey used by the {@link ConcurrentIdentityMap}.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Acquire and release read locks without entering the object monitor when no writer
+ * holds, or is trying to acquire, the cache key.
+ * <li> Fall back to the regular {@link org.eclipse.persistence.internal.helper.ConcurrencyManager}
+ * protocol whenever a writer is involved.
+ * </ul>
+ * Writers announce themselves in {@link #pendingWriters} before checking the number of readers,
+ * and readers increment the number of readers before checking {@link #pendingWriters} and the
+ * active thread, so a reader and a writer can never both believe they own the cache key.
+ * @see ConcurrentIdentityMap
+ */
+public class ConcurrentCacheKey extends CacheKey {
+
+    private static final VarHandle PENDING_WRITERS;
+
+    static {
+        try {
+            PENDING_WRITERS = MethodHandles.lookup().findVarHandle(ConcurrentCacheKey.class, "pendingWriters", int.class);
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    /** Number of threads currently acquiring (or holding) the write lock, only accessed through {@link #PENDING_WRITERS}. */
+    private volatile int pendingWriters;
+
+    public ConcurrentCacheKey(Object primaryKey, Object object, Object lockValue, long readTime, boolean isIsolated) {
+        super(primaryKey, object, lockValue, readTime, isIsolated);
+    }
+
+    /**
+     * Acquire the lock on the cache key object.
+     */
+    @Override
+    public void acquire() {
+        acquire(false);
+    }
+
+    /**
+     * Acquire the lock on the cache key object.
+     * called with true from the merge process, if true then the refresh will not refresh the object
+     */
+    @Override
+    public void acquire(boolean forMerge) {
+        if (this.isIsolated) {
+            DEPTH.incrementAndGet(this);
+            return;
+        }
+        announceWriter();
+        try {
+            super.acquire(forMerge);
+        } finally {
+            withdrawWriter();
+        }
+    }
+
+    /**
+     * Acquire the lock on the cache key object. But only if the object has no lock on it.
+     */
+    @Override
+    public boolean acquireNoWait() {
+        return acquireNoWait(false);
+    }
+
+    /**
+     * Acquire the lock on the cache key object. But only if the object has no lock on it.
+     * called with true from the merge process, if true then the refresh will not refresh the object
+     */
+    @Override
+    public boolean acquireNoWait(boolean forMerge) {
+        if (this.isIsolated) {
+            DEPTH.incrementAndGet(this);
+            return true;
+        }
+        announceWriter();
+        try {
+            return super.acquireNoWait(forMerge);
+        } finally {
+            withdrawWriter();
+        }
+    }
+
+    /**
+     * Acquire the lock on the cache key object, waiting at most the given time.
+     * called with true from the merge process, if true then the refresh will not refresh the object
+     */
+    @Override
+    public boolean acquireWithWait(boolean forMerge, int wait) {
+        if (this.isIsolated) {
+            DEPTH.incrementAndGet(this);
+            return true;
+        }
+        announceWriter();
+        try {
+            return super.acquireWithWait(forMerge, wait);
+        } finally {
+            withdrawWriter();
+        }
+    }
+
+    /**
+     * Acquire the lock on the cache key object. Only acquire a lock if the cache key's
+     * active thread is not set.
+     */
+    @Override
+    public boolean acquireIfUnownedNoWait() {
+        if (this.isIsolated) {
+            return super.acquireIfUnownedNoWait();
+        }
+        announceWriter();
+        try {
+            return super.acquireIfUnownedNoWait();
+        } finally {
+            withdrawWriter();
+        }
+    }
+
+    /**
+     * Acquire the deferred lock.
+     */
+    @Override
+    public void acquireDeferredLock() {
+        if (this.isIsolated) {
+            DEPTH.incrementAndGet(this);
+            return;
+        }
+        announceWriter();
+        try {
+            super.acquireDeferredLock();
+        } finally {
+            withdrawWriter();
+        }
+    }
+
+    /**
+     * Acquire the read lock on the cache key object.
+     * If no writer is active or pending the read lock is acquired without synchronization.
+     */
+    @Override
+    public void acquireReadLock() {
+        if (this.isIsolated) {
+            return;
+        }
+        if (!tryAcquireReadLock()) {
+            super.acquireReadLock();
+        }
+    }
+
+    /**
+     * Acquire the read lock on the cache key object.  Return true if acquired.
+     */
+    @Override
+    public boolean acquireReadLockNoWait() {
+        if (this.isIsolated) {
+            return true;
+        }
+        if (tryAcquireReadLock()) {
+            return true;
+        }
+        return super.acquireReadLockNoWait();
+    }
+
+    /**
+     * Release the read lock on the cache key object.
+     * Waiting writers are only notified when the last reader leaves.
+     */
+    @Override
+    public void releaseReadLock() {
+        if (this.isIsolated) {
+            return;
+        }
+        if (this.numberOfReaders == 0) {
+            // Let the default implementation report the error.
+            super.releaseReadLock();
+            return;
+        }
+        try {
+            removeReadLockFromReadLockManager();
+        } finally {
+            TOTAL_NUMBER_OF_KEYS_RELEASED_FOR_READING.incrementAndGet(this);
+            releaseReader();
+        }
+    }
+
+    /**
+     * Attempt to acquire the read lock without entering the monitor.
+     * Return false if a writer is active or pending, in which case the regular protocol must be used.
+     */
+    protected boolean tryAcquireReadLock() {
+        NUMBER_OF_READERS.incrementAndGet(this);
+        if (((int)PENDING_WRITERS.getVolatile(this) == 0) && (this.activeThread == null)) {
+            try {
+                addReadLockToReadLockManager();
+            } finally {
+                TOTAL_NUMBER_OF_KEYS_ACQUIRED_FOR_READING.incrementAndGet(this);
+            }
+            return true;
+        }
+        // A writer got there first, back off.
+        releaseReader();
+        return false;
+    }
+
+    /**
+     * Decrement the number of readers, notify any waiting writer if this was the last reader.
+     * Writers register themselves in pendingWriters before checking the number of readers,
+     * so a writer that waits for this reader is always seen here.
+     */
+    protected void releaseReader() {
+        if ((NUMBER_OF_READERS.decrementAndGet(this) == 0) && ((int)PENDING_WRITERS.getVolatile(this) > 0)) {
+            notifyWaiters();
+        }
+    }
+
+    /**
+     * Return the number of threads acquiring or holding the write lock.
+     */
+    public int getPendingWriters() {
+        return (int)PENDING_WRITERS.getVolatile(this);
+    }
+
+    private void announceWriter() {
+        PENDING_WRITERS.getAndAdd(this, 1);
+    }
+
+    private void withdrawWriter() {
+        PENDING_WRITERS.getAndAdd(this, -1);
+    }
+
+    /**
+     * Wait for the object to be built if it is currently locked.
+     */
+    @Override
+    public Object waitForObject() {
+        if (this.object != null) {
+            return this.object;
+        }
+        return super.waitForObject();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+/**
+ * <p><b>Purpose</b>: A ConcurrentIdentityMap holds all objects stored within it for the life of the application,
+ * like the {@link FullIdentityMap}, but is tuned for servers with a large number of concurrent request threads.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Guarantees identity
+ * <li> Holds all cached objects indefinitely.
+ * <li> Uses {@link ConcurrentCacheKey}s so reading an object that is already built never enters a monitor.
+ * </ul>
+ * @see ConcurrentCacheKey
+ */
+public class ConcurrentIdentityMap extends FullIdentityMap {
+
+    public ConcurrentIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isolated) {
+        super(size, descriptor, session, isolated);
+    }
+
+    /**
+     * Create a cache key that supports non-blocking read locks.
+     */
+    @Override
+    public CacheKey createCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime) {
+        return new ConcurrentCacheKey(primaryKey, object, writeLockValue, readTime, this.isIsolated);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Approximate the access frequency of cache keys within a time window.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Maintain a count-min sketch of four 4-bit counters per key, packed sixteen to a long.
+ * <li> Age all counters by halving them once the number of increments reaches the sample size,
+ * so that formerly hot keys eventually lose their advantage.
+ * </ul>
+ * This class is not thread safe, callers must guard it with the eviction lock of the owning map.
+ * @see LFUCacheWeakIdentityMap
+ */
+public class FrequencySketch {
+
+    /** Mask clearing the high bit of every counter after a shift, used to halve all counters. */
+    protected static final long RESET_MASK = 0x7777777777777777L;
+
+    /** Mask of the low bit of every counter, used to count odd counters lost by halving. */
+    protected static final long ONE_MASK = 0x1111111111111111L;
+
+    /** Maximum value of a 4-bit counter. */
+    public static final int MAX_FREQUENCY = 15;
+
+    /** Seeds for the four hash functions. */
+    protected static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    protected long[] table;
+    protected int tableMask;
+    protected int sampleSize;
+    protected int size;
+
+    /**
+     * Create a sketch sized for the expected maximum number of cached keys.
+     */
+    public FrequencySketch(int maximumSize) {
+        int maximum = Math.max(maximumSize, 1);
+        int length = Integer.highestOneBit(Math.min(maximum, 1 << 30) - 1) << 1;
+        if (length < 8) {
+            length = 8;
+        }
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = (maximum > (Integer.MAX_VALUE / 10)) ? Integer.MAX_VALUE : (maximum * 10);
+    }
+
+    /**
+     * Return the estimated number of occurrences of the key, up to {@link #MAX_FREQUENCY}.
+     */
+    public int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_FREQUENCY;
+        for (int depth = 0; depth < 4; depth++) {
+            int shift = counterOffset(hash, depth) << 2;
+            int count = (int)((this.table[indexOf(hash, depth)] >>> shift) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Record an occurrence of the key, aging the sketch once the sample size is reached.
+     */
+    public void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int depth = 0; depth < 4; depth++) {
+            added |= incrementAt(indexOf(hash, depth), counterOffset(hash, depth));
+        }
+        if (added && (++this.size >= this.sampleSize)) {
+            reset();
+        }
+    }
+
+    /**
+     * Increment the counter at the given slot unless it is saturated.
+     */
+    protected boolean incrementAt(int index, int offset) {
+        int shift = offset << 2;
+        long mask = 0xfL << shift;
+        if ((this.table[index] & mask) != mask) {
+            this.table[index] += 1L << shift;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Halve every counter.
+     */
+    protected void reset() {
+        int odd = 0;
+        for (int index = 0; index < this.table.length; index++) {
+            odd += Long.bitCount(this.table[index] & ONE_MASK);
+            this.table[index] = (this.table[index] >>> 1) & RESET_MASK;
+        }
+        this.size = (this.size >>> 1) - (odd >>> 2);
+    }
+
+    protected int indexOf(int hash, int depth) {
+        long value = (hash + SEEDS[depth]) * SEEDS[depth];
+        value += value >>> 32;
+        return ((int)value) & this.tableMask;
+    }
+
+    protected int counterOffset(int hash, int depth) {
+        return (hash >>> (depth << 3)) & 15;
+    }
+
+    protected int spread(int value) {
+        value = ((value >>> 16) ^ value) * 0x45d9f3b;
+        value = ((value >>> 16) ^ value) * 0x45d9f3b;
+        return (value >>> 16) ^ value;
+    }
+}
@@ -16,6 +16,7 @@
 //       - 522635: ConcurrentModificationException when triggering lazy load from conforming query
 package org.eclipse.persistence.internal.identitymaps;
 
+import org.eclipse.persistence.descriptors.CacheStatistics;
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.indirection.ValueHolderInterface;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
@@ -121,7 +122,17 @@ public CacheKey getCacheKey(Object searchKey, boolean forMerge) {
     @Override
     protected CacheKey putCacheKeyIfAbsent(CacheKey searchKey) {
         searchKey.setOwningMap(this);
-        return (CacheKey)((ConcurrentMap)this.cacheKeys).putIfAbsent(searchKey.getKey(), searchKey);
+        if ((this.session != null) && this.session.getProject().allowExtendedCacheLogging()) {
+            searchKey.setCreationThread(new CacheKey.CreationThread(Thread.currentThread()));
+        }
+        CacheKey cacheKey = (CacheKey)((ConcurrentMap)this.cacheKeys).putIfAbsent(searchKey.getKey(), searchKey);
+        if (cacheKey == null) {
+            CacheStatistics statistics = getStatistics();
+            if (statistics != null) {
+                statistics.recordPut();
+            }
+        }
+        return cacheKey;
     }
 
     /**
@@ -41,6 +41,7 @@
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
@@ -87,6 +88,12 @@ public class IdentityMapManager implements Serializable, Cloneable {
     /** A map of class to list of queries that need to be invalidated when that class changes. */
     protected Map<Class<?>, Set> queryResultsInvalidationsByClass;
 
+    /** A map of query to the attributes of each class its results depend on, only for queries tracking dependencies. */
+    protected Map<Object, Map<Class<?>, Set<String>>> queryResultsDependencies;
+
+    /** The bound on the estimated bytes of all of the query results, only built when configured. */
+    protected transient volatile QueryResultsCacheBudget queryResultsBudget;
+
     /** A map of indexes on the cache. */
     protected Map<CacheIndex, IdentityMap> cacheIndexes;
 
@@ -105,6 +112,9 @@ public class IdentityMapManager implements Serializable, Cloneable {
     /** PERF: Used to avoid readLock and profiler checks to improve performance. */
     protected boolean isCacheAccessPreCheckRequired;
 
+    /** A table of off-heap caches with the key being the domain Class, only built when configured. */
+    protected transient volatile Map<Class<?>, OffHeapCache> offHeapCaches;
+
     protected IdentityMapManager() {
     }
 
@@ -118,11 +128,13 @@ public IdentityMapManager(AbstractSession session) {
             this.identityMaps = new HashMap();
             this.queryResults = new HashMap();
             this.queryResultsInvalidationsByClass = new HashMap();
+            this.queryResultsDependencies = new HashMap<>();
             this.cacheIndexes = new HashMap();
         } else {
             this.identityMaps = new ConcurrentHashMap();
             this.queryResults = new ConcurrentHashMap();
             this.queryResultsInvalidationsByClass = new ConcurrentHashMap();
+            this.queryResultsDependencies = new ConcurrentHashMap<>();
             this.cacheIndexes = new ConcurrentHashMap();
         }
         checkIsCacheAccessPreCheckRequired();
@@ -380,6 +392,8 @@ protected <T extends IdentityMap> IdentityMap buildNewIdentityMap(
                 return new SoftCacheWeakIdentityMap(size, descriptor, this.session, isIsolated);
             } else if (identityMapClass == ClassConstants.HardCacheWeakIdentityMap_Class) {
                 return new HardCacheWeakIdentityMap(size, descriptor, this.session, isIsolated);
+            } else if (identityMapClass == ClassConstants.LFUCacheWeakIdentityMap_Class) {
+                return new LFUCacheWeakIdentityMap(size, descriptor, this.session, isIsolated);
             } else if (identityMapClass == ClassConstants.SoftIdentityMap_Class) {
                 return new SoftIdentityMap(size, descriptor, this.session, isIsolated);
             } else if (identityMapClass == ClassConstants.WeakIdentityMap_Class) {
@@ -388,6 +402,8 @@ protected <T extends IdentityMap> IdentityMap buildNewIdentityMap(
                 return new FullIdentityMap(size, descriptor, this.session, isIsolated);
             } else if (identityMapClass == ClassConstants.CacheIdentityMap_Class) {
                 return new CacheIdentityMap(size, descriptor, this.session, isIsolated);
+            } else if (identityMapClass == ClassConstants.ConcurrentIdentityMap_Class) {
+                return new ConcurrentIdentityMap(size, descriptor, this.session, isIsolated);
             }
         }
         final Class<?>[] parameters = new Class<?>[]{ClassConstants.PINT, ClassDescriptor.class, AbstractSession.class, boolean.class};
@@ -435,6 +451,7 @@ public Object clone() {
                 Map.Entry<Class<?>, IdentityMap> entry = iterator.next();
                 manager.identityMaps.put(entry.getKey(), (IdentityMap) entry.getValue().clone());
             }
+            manager.offHeapCaches = null;
         } catch (CloneNotSupportedException exception) {
             throw new InternalError(exception.toString());
         }
@@ -447,6 +464,11 @@ public Object clone() {
     public void clearQueryCache() {
         this.queryResults = new ConcurrentHashMap();
         this.queryResultsInvalidationsByClass = new ConcurrentHashMap();
+        this.queryResultsDependencies = new ConcurrentHashMap<>();
+        QueryResultsCacheBudget budget = this.queryResultsBudget;
+        if (budget != null) {
+            budget.clear();
+        }
     }
 
     /**
@@ -468,8 +490,49 @@ public void clearQueryCache(ReadQuery query) {
             if ((queryKey == null) || ((String) queryKey).isEmpty()) {
                 queryKey = query;
             }
-            this.queryResults.remove(queryKey);
+            removeQueryResults(queryKey);
+        }
+    }
+
+    /**
+     * Remove the results cache of the query.
+     */
+    protected void removeQueryResults(Object queryKey) {
+        if (this.queryResults.remove(queryKey) != null) {
+            QueryResultsCacheBudget budget = this.queryResultsBudget;
+            if (budget != null) {
+                budget.remove(queryKey);
+            }
+        }
+    }
+
+    /**
+     * Return the bound on the estimated bytes of all of the query results, null if not configured.
+     */
+    public QueryResultsCacheBudget getQueryResultsCacheBudget() {
+        return this.queryResultsBudget;
+    }
+
+    /**
+     * Return the bound on the estimated bytes of all of the query results,
+     * building it on the first result cached if the session maximum or the query quota is configured.
+     */
+    protected QueryResultsCacheBudget getQueryResultsCacheBudget(ReadQuery query) {
+        QueryResultsCacheBudget budget = this.queryResultsBudget;
+        if (budget == null) {
+            long maximumSize = this.session.getProject().getQueryResultsCacheMaximumSize();
+            if ((maximumSize <= 0) && (query.getQueryResultsCachePolicy().getMaximumCachedBytes() <= 0)) {
+                return null;
+            }
+            synchronized (this) {
+                budget = this.queryResultsBudget;
+                if (budget == null) {
+                    budget = new QueryResultsCacheBudget(maximumSize);
+                    this.queryResultsBudget = budget;
+                }
+            }
         }
+        return budget;
     }
 
     /**
@@ -483,7 +546,7 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         Set invalidations = this.queryResultsInvalidationsByClass.get(classThatChanged);
         if (invalidations != null) {
             for (Object queryKey : invalidations) {
-                this.queryResults.remove(queryKey);
+                removeQueryResults(queryKey);
             }
         }
         Class<?> superClass = classThatChanged.getSuperclass();
@@ -492,6 +555,85 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         }
     }
 
+    /**
+     * Invalidate/remove any results for the class from the query cache that depend on the changed attributes.
+     * Query results that do not track their dependencies are always invalidated.
+     * @param changedAttributes the names of the attributes changed, null if unknown or if objects were inserted or deleted
+     */
+    public void invalidateQueryCache(Class<?> classThatChanged, Set<String> changedAttributes) {
+        if ((changedAttributes == null) || (this.queryResultsDependencies == null) || this.queryResultsDependencies.isEmpty()) {
+            invalidateQueryCache(classThatChanged);
+            return;
+        }
+        if (this.queryResultsInvalidationsByClass == null) {
+            return;
+        }
+        Class<?> invalidationClass = classThatChanged;
+        while ((invalidationClass != null) && (invalidationClass != ClassConstants.OBJECT)) {
+            Set invalidations = this.queryResultsInvalidationsByClass.get(invalidationClass);
+            if (invalidations != null) {
+                for (Object queryKey : invalidations) {
+                    Map<Class<?>, Set<String>> dependencies = this.queryResultsDependencies.get(queryKey);
+                    if ((dependencies == null) || dependsOn(dependencies, classThatChanged, changedAttributes)) {
+                        removeQueryResults(queryKey);
+                    }
+                }
+            }
+            invalidationClass = invalidationClass.getSuperclass();
+        }
+    }
+
+    /**
+     * Return if the query dependencies include any of the changed attributes of the class or its superclasses.
+     */
+    protected boolean dependsOn(Map<Class<?>, Set<String>> dependencies, Class<?> classThatChanged, Set<String> changedAttributes) {
+        Class<?> dependencyClass = classThatChanged;
+        while ((dependencyClass != null) && (dependencyClass != ClassConstants.OBJECT)) {
+            if (dependencies.containsKey(dependencyClass)) {
+                Set<String> attributes = dependencies.get(dependencyClass);
+                if (attributes == null) {
+                    return true;
+                }
+                for (String attribute : changedAttributes) {
+                    if (attributes.contains(attribute)) {
+                        return true;
+                    }
+                }
+            }
+            dependencyClass = dependencyClass.getSuperclass();
+        }
+        return false;
+    }
+
+    /**
+     * Return if any cached query results track their dependencies,
+     * if not the changed attributes do not need to be collected to invalidate the query cache.
+     */
+    public boolean hasQueryResultsDependencies() {
+        return (this.queryResultsDependencies != null) && !this.queryResultsDependencies.isEmpty();
+    }
+
+    /**
+     * Record the attributes changed in the change set to invalidate the dependent query results.
+     * New objects and change sets without the changed attributes are recorded as null to invalidate any query results on the class.
+     */
+    public static void addChangedAttributes(Map<Class<?>, Set<String>> attributesChanged, Class<?> changedClass, ObjectChangeSet changeSet) {
+        if (attributesChanged.containsKey(changedClass) && (attributesChanged.get(changedClass) == null)) {
+            return;
+        }
+        if (changeSet.isNew() || changeSet.getChanges().isEmpty()
+                || (changeSet.getSynchronizationType() == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS)) {
+            attributesChanged.put(changedClass, null);
+            return;
+        }
+        Set<String> attributes = attributesChanged.get(changedClass);
+        if (attributes == null) {
+            attributes = new HashSet<>();
+            attributesChanged.put(changedClass, attributes);
+        }
+        attributes.addAll(changeSet.getChangedAttributeNames());
+    }
+
     /**
      * Return true if an CacheKey with the primary key is in the map.
      * User API.
@@ -618,6 +760,8 @@ public Map<Object, CacheKey> getAllCacheKeysFromIdentityMapWithEntityPK(Object[]
      */
     public void invalidateObjects(Expression selectionCriteria, Class<?> theClass, DataRecord translationRow, boolean shouldInvalidateOnException) {
         ClassDescriptor descriptor = this.session.getDescriptor(theClass);
+        // Off-heap rows cannot be conformed, so all rows of the class are removed.
+        clearOffHeapCache(theClass);
         this.session.startOperationProfile(SessionProfiler.Caching);
         try {
             IdentityMap map = getIdentityMap(descriptor, true);
@@ -1033,7 +1177,11 @@ public Object getQueryResult(ReadQuery query, List parameters, boolean shouldChe
             queryKey = query;
         }
         IdentityMap map = this.queryResults.get(queryKey);
+        QueryResultsCacheBudget budget = this.queryResultsBudget;
         if (map == null) {
+            if (budget != null) {
+                budget.recordAccess(queryKey, null, false);
+            }
             return null;
         }
 
@@ -1046,8 +1194,14 @@ public Object getQueryResult(ReadQuery query, List parameters, boolean shouldChe
 
         CacheKey key = map.getCacheKey(lookupParameters, false);
         if ((key == null) || (shouldCheckExpiry && query.getQueryResultsCachePolicy().getCacheInvalidationPolicy().isInvalidated(key))) {
+            if (budget != null) {
+                budget.recordAccess(queryKey, lookupParameters, false);
+            }
             return null;
         }
+        if (budget != null) {
+            budget.recordAccess(queryKey, lookupParameters, true);
+        }
         return key.getObject();
     }
 
@@ -1185,6 +1339,7 @@ public void initializeIdentityMap(Class<?> theClass) throws EclipseLinkException
         getIdentityMaps().put(javaClass, identityMap);
         clearLastAccessedIdentityMap();
         invalidateQueryCache(theClass);
+        clearOffHeapCache(theClass);
     }
 
     public void initializeIdentityMaps() {
@@ -1192,6 +1347,7 @@ public void initializeIdentityMaps() {
         setIdentityMaps(new ConcurrentHashMap());
         clearQueryCache();
         clearCacheIndexes();
+        clearOffHeapCaches();
     }
 
     /**
@@ -1433,6 +1589,12 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
                             }
                             invalidations.add(queryKey);
                         }
+                        Map<Class<?>, Set<String>> dependencies = query.getQueryResultsCachePolicy().getInvalidationAttributes();
+                        if (query.getQueryResultsCachePolicy().shouldTrackDependencies() && (dependencies != null)) {
+                            this.queryResultsDependencies.put(queryKey, new HashMap<>(dependencies));
+                        } else {
+                            this.queryResultsDependencies.remove(queryKey);
+                        }
                     }
                 }
             }
@@ -1455,6 +1617,37 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
             results = InvalidObject.instance();
         }
         map.put(lookupParameters, results, null, queryTime);
+        QueryResultsCacheBudget budget = getQueryResultsCacheBudget(query);
+        if (budget != null) {
+            List<QueryResultsCacheBudget.Entry> evicted = budget.put(queryKey, lookupParameters,
+                    QueryResultsCacheBudget.estimateSize(results, this.session), query.getQueryResultsCachePolicy().getMaximumCachedBytes(),
+                    map.getSize(), this::isQueryResultCached);
+            for (QueryResultsCacheBudget.Entry entry : evicted) {
+                IdentityMap evictedMap = this.queryResults.get(entry.getQueryKey());
+                if (evictedMap != null) {
+                    evictedMap.remove(entry.getParameters(), null);
+                }
+            }
+        }
+    }
+
+    /**
+     * Return if the result of the query for the parameters is still in the query's results cache,
+     * it may have been dropped as least recently used, or released if soft or weak.
+     * The results cache is not marked as used.
+     */
+    protected boolean isQueryResultCached(Object queryKey, Object parameters) {
+        IdentityMap map = this.queryResults.get(queryKey);
+        if (map == null) {
+            return false;
+        }
+        CacheKey key;
+        if (map instanceof FullIdentityMap) {
+            key = ((FullIdentityMap)map).getCacheKeys().get(parameters);
+        } else {
+            key = map.getCacheKey(parameters, false);
+        }
+        return (key != null) && (key.getObject() != null);
     }
 
     /**
@@ -1477,6 +1670,84 @@ public void releaseWriteLock() {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the off-heap cache for the descriptor's class, or null if the descriptor does not cache rows off-heap.
+     * The off-heap cache is built on first use.
+     */
+    public OffHeapCache getOffHeapCache(ClassDescriptor descriptor) {
+        if (!descriptor.getCachePolicy().hasOffHeapCache() || descriptor.isDescriptorTypeAggregate() || this.session.isUnitOfWork()) {
+            return null;
+        }
+        Map<Class<?>, OffHeapCache> caches = this.offHeapCaches;
+        if (caches == null) {
+            synchronized (this) {
+                caches = this.offHeapCaches;
+                if (caches == null) {
+                    caches = new ConcurrentHashMap<>();
+                    this.offHeapCaches = caches;
+                }
+            }
+        }
+        OffHeapCache cache = caches.get(descriptor.getJavaClass());
+        if (cache == null) {
+            cache = caches.computeIfAbsent(descriptor.getJavaClass(), javaClass -> new OffHeapCache(descriptor, descriptor.getCachePolicy().getOffHeapCacheSize(), this.session));
+        }
+        return cache;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the off-heap caches built, by class.
+     */
+    public Map<Class<?>, OffHeapCache> getOffHeapCaches() {
+        Map<Class<?>, OffHeapCache> caches = this.offHeapCaches;
+        if (caches == null) {
+            return new HashMap<>();
+        }
+        return caches;
+    }
+
+    /**
+     * INTERNAL:
+     * Remove the row of the object with the primary key from the off-heap cache of the class and its subclasses.
+     */
+    public void removeFromOffHeapCache(Object primaryKey, Class<?> theClass) {
+        Map<Class<?>, OffHeapCache> caches = this.offHeapCaches;
+        if ((caches == null) || (primaryKey == null)) {
+            return;
+        }
+        for (Map.Entry<Class<?>, OffHeapCache> entry : caches.entrySet()) {
+            if ((theClass == null) || theClass.isAssignableFrom(entry.getKey()) || entry.getKey().isAssignableFrom(theClass)) {
+                entry.getValue().remove(primaryKey);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Remove all rows of the class, and its inheritance hierarchy, from the off-heap caches.
+     */
+    public void clearOffHeapCache(Class<?> theClass) {
+        Map<Class<?>, OffHeapCache> caches = this.offHeapCaches;
+        if (caches == null) {
+            return;
+        }
+        for (Map.Entry<Class<?>, OffHeapCache> entry : caches.entrySet()) {
+            if ((theClass == null) || theClass.isAssignableFrom(entry.getKey()) || entry.getKey().isAssignableFrom(theClass)) {
+                entry.getValue().clear();
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Remove all rows from the off-heap caches.
+     */
+    public void clearOffHeapCaches() {
+        clearOffHeapCache(null);
+    }
+
     /**
      * Remove the object from the object cache.
      */
@@ -1500,6 +1771,7 @@ public Object removeFromIdentityMap(Object key, Class<?> domainClass, ClassDescr
         } else {
             value = map.remove(key, objectToRemove);
         }
+        removeFromOffHeapCache(key, domainClass);
         if (session.getProject().allowExtendedCacheLogging()) {
             session.log(SessionLog.FINEST, SessionLog.CACHE, "cache_item_removal", new Object[] {domainClass, key, Thread.currentThread().getId(), Thread.currentThread().getName()});
         }
@@ -0,0 +1,457 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.persistence.descriptors.CacheStatistics;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.linkedlist.ExposedNodeLinkedList;
+import org.eclipse.persistence.internal.helper.linkedlist.LinkedNode;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+/**
+ * <p><b>Purpose</b>: A LFUCacheWeakIdentityMap is identical to the weak identity map, but like the
+ * {@link HardCacheWeakIdentityMap} it holds a fixed number of objects with hard references to improve caching.
+ * The hard reference sub-cache is managed with a W-TinyLFU policy instead of LRU, so a single large
+ * scan cannot flush frequently used objects out of the sub-cache.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Guarantees identity
+ * <li> Allows garbage collection of objects not in the sub-cache
+ * <li> Admits new objects through a small LRU window, then into the main (probation/protected) segments
+ * only if their estimated access frequency is higher than the frequency of the object they would evict.
+ * <li> Records cache hits into striped, lossy buffers that are drained without blocking,
+ * so a cache hit never waits on a global lock.
+ * <li> Maintains hit, miss and eviction counts of the sub-cache from the accesses to its cache keys,
+ * lookups through {@link #get(Object)} and evictions are also reported to the session's profiler.
+ * </ul>
+ * @see FrequencySketch
+ */
+public class LFUCacheWeakIdentityMap extends WeakIdentityMap {
+
+    /** Cache key is not in the sub-cache. */
+    protected static final int NONE = 0;
+    /** Cache key is in the admission window. */
+    protected static final int WINDOW = 1;
+    /** Cache key is in the main segment, but was not accessed since its admission. */
+    protected static final int PROBATION = 2;
+    /** Cache key is in the main segment and was accessed since its admission. */
+    protected static final int PROTECTED = 3;
+
+    /** Number of read buffers, one is selected per thread. */
+    protected static final int READ_BUFFERS = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1;
+
+    /** Guards the sub-cache segments and the frequency sketch. */
+    protected final ReentrantLock evictionLock;
+
+    protected FrequencySketch sketch;
+    protected ExposedNodeLinkedList window;
+    protected ExposedNodeLinkedList probation;
+    protected ExposedNodeLinkedList protectedSegment;
+    protected int windowMaxSize;
+    protected int protectedMaxSize;
+
+    protected final ReadBuffer[] readBuffers;
+
+    protected final LongAdder hits;
+    protected final LongAdder misses;
+    protected final LongAdder evictions;
+
+    public LFUCacheWeakIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isIsolated) {
+        super(size, descriptor, session, isIsolated);
+        this.evictionLock = new ReentrantLock();
+        this.window = new ExposedNodeLinkedList();
+        this.probation = new ExposedNodeLinkedList();
+        this.protectedSegment = new ExposedNodeLinkedList();
+        this.readBuffers = new ReadBuffer[READ_BUFFERS];
+        for (int index = 0; index < READ_BUFFERS; index++) {
+            this.readBuffers[index] = new ReadBuffer();
+        }
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        initializeSegments(getMaxSize());
+    }
+
+    /**
+     * Size the window (1%) and protected (80% of the main) segments for the max size.
+     */
+    protected void initializeSegments(int maxSize) {
+        this.windowMaxSize = Math.max(1, maxSize / 100);
+        this.protectedMaxSize = (int)((maxSize - this.windowMaxSize) * 0.8);
+        if (this.sketch == null || this.sketch.table.length < maxSize) {
+            this.sketch = new FrequencySketch(maxSize);
+        }
+    }
+
+    @Override
+    public CacheKey createCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime) {
+        return new LFUCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated);
+    }
+
+    /**
+     * Return the object cached at the primary key, and report the lookup to the session's profiler.
+     * The access is recorded when the object is used, through {@link CacheKey#updateAccess()}.
+     */
+    @Override
+    public Object get(Object primaryKey) {
+        Object object = super.get(primaryKey);
+        if (this.session != null) {
+            this.session.incrementProfile((object == null) ? SessionProfiler.IdentityMapMisses : SessionProfiler.IdentityMapHits);
+        }
+        return object;
+    }
+
+    /**
+     * Store the object in the cache at its primary key, and admit it to the sub-cache.
+     */
+    @Override
+    public CacheKey put(Object primaryKey, Object object, Object writeLockValue, long readTime) {
+        CacheKey cacheKey = super.put(primaryKey, object, writeLockValue, readTime);
+        admit((LFUCacheKey)cacheKey);
+        return cacheKey;
+    }
+
+    /**
+     * Admit the cache key to the window if not in the sub-cache, otherwise buffer the read.
+     * Return false if the cache key was not in the sub-cache.
+     */
+    protected boolean admit(LFUCacheKey cacheKey) {
+        Object object = cacheKey.getObject();
+        if (object == null) {
+            return false;
+        }
+        if (cacheKey.segment != NONE) {
+            recordRead(cacheKey);
+            return true;
+        }
+        cacheKey.hardReference = object;
+        onWrite(cacheKey);
+        if (cacheKey.segment == NONE) {
+            // Evicted immediately.
+            cacheKey.hardReference = null;
+        }
+        return false;
+    }
+
+    /**
+     * Remove the cache key from the map and the sub-cache.
+     */
+    @Override
+    public Object remove(CacheKey cacheKey) {
+        if (cacheKey == null) {
+            return null;
+        }
+        LFUCacheKey key = (LFUCacheKey)cacheKey;
+        if (key.segment != NONE) {
+            this.evictionLock.lock();
+            try {
+                unlink(key);
+            } finally {
+                this.evictionLock.unlock();
+            }
+        }
+        return super.remove(cacheKey);
+    }
+
+    /**
+     * Buffer the read of a sub-cache entry, draining the buffers if one is full.
+     * The read is dropped if its buffer is full and another thread is draining.
+     */
+    protected void recordRead(LFUCacheKey cacheKey) {
+        ReadBuffer buffer = this.readBuffers[(int)Thread.currentThread().getId() & (READ_BUFFERS - 1)];
+        if (buffer.offer(cacheKey) && this.evictionLock.tryLock()) {
+            try {
+                drainReadBuffers();
+            } finally {
+                this.evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Apply all buffered reads to the sketch and segments.
+     * Callers must hold the eviction lock.
+     */
+    protected void drainReadBuffers() {
+        for (ReadBuffer buffer : this.readBuffers) {
+            buffer.drain(this);
+        }
+    }
+
+    /**
+     * Apply a read: increment the frequency, refresh the window position,
+     * or promote a probation entry to the protected segment.
+     * Callers must hold the eviction lock.
+     */
+    protected void onRead(LFUCacheKey key) {
+        this.sketch.increment(key.getKey());
+        switch (key.segment) {
+            case WINDOW:
+                this.window.moveFirst(key.node);
+                break;
+            case PROBATION:
+                this.probation.remove(key.node);
+                key.node = this.protectedSegment.addFirstElement(key);
+                key.segment = PROTECTED;
+                // Demote the LRU protected entries back to probation.
+                while (this.protectedSegment.size() > this.protectedMaxSize) {
+                    LFUCacheKey demoted = (LFUCacheKey)this.protectedSegment.removeLast();
+                    demoted.node = this.probation.addFirstElement(demoted);
+                    demoted.segment = PROBATION;
+                }
+                break;
+            case PROTECTED:
+                this.protectedSegment.moveFirst(key.node);
+                break;
+            default:
+                // Evicted or removed since buffered.
+        }
+    }
+
+    /**
+     * Admit a cache key into the window, and evict from the sub-cache if over the max size.
+     */
+    protected void onWrite(LFUCacheKey key) {
+        this.evictionLock.lock();
+        try {
+            drainReadBuffers();
+            this.sketch.increment(key.getKey());
+            if (key.segment != NONE) {
+                onRead(key);
+                return;
+            }
+            key.node = this.window.addFirstElement(key);
+            key.segment = WINDOW;
+            evict();
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Move window overflow to probation, and evict either the window candidate or the probation victim,
+     * whichever is less frequently used, until the sub-cache fits in the max size.
+     * Callers must hold the eviction lock.
+     */
+    protected void evict() {
+        while (this.window.size() > this.windowMaxSize) {
+            LFUCacheKey candidate = (LFUCacheKey)this.window.removeLast();
+            candidate.node = this.probation.addFirstElement(candidate);
+            candidate.segment = PROBATION;
+            if (getSubCacheSize() > this.maxSize) {
+                LFUCacheKey victim = (LFUCacheKey)this.probation.getLast();
+                if ((victim != candidate) && (this.sketch.frequency(candidate.getKey()) > this.sketch.frequency(victim.getKey()))) {
+                    evict(victim);
+                } else {
+                    evict(candidate);
+                }
+            }
+        }
+        while ((getSubCacheSize() > this.maxSize) && !this.probation.isEmpty()) {
+            evict((LFUCacheKey)this.probation.getLast());
+        }
+        while ((getSubCacheSize() > this.maxSize) && !this.protectedSegment.isEmpty()) {
+            evict((LFUCacheKey)this.protectedSegment.getLast());
+        }
+    }
+
+    /**
+     * Release the hard reference of the cache key, its object remains cached while referenced.
+     * Callers must hold the eviction lock.
+     */
+    protected void evict(LFUCacheKey key) {
+        unlink(key);
+        this.evictions.increment();
+        if (this.session != null) {
+            this.session.incrementProfile(SessionProfiler.IdentityMapEvictions);
+        }
+        CacheStatistics statistics = getStatistics();
+        if (statistics != null) {
+            statistics.recordEviction();
+        }
+    }
+
+    /**
+     * Remove the cache key from its segment and release its hard reference.
+     * Callers must hold the eviction lock.
+     */
+    protected void unlink(LFUCacheKey key) {
+        switch (key.segment) {
+            case WINDOW:
+                this.window.remove(key.node);
+                break;
+            case PROBATION:
+                this.probation.remove(key.node);
+                break;
+            case PROTECTED:
+                this.protectedSegment.remove(key.node);
+                break;
+            default:
+                return;
+        }
+        key.node = null;
+        key.segment = NONE;
+        key.hardReference = null;
+    }
+
+    /**
+     * Return the number of objects held with hard references.
+     */
+    public int getSubCacheSize() {
+        return this.window.size() + this.probation.size() + this.protectedSegment.size();
+    }
+
+    /**
+     * Return the number of accesses to objects held in the sub-cache.
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of accesses to objects not held in the sub-cache, that were admitted to it.
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the number of objects evicted from the sub-cache.
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * This method will be used to update the max cache size.
+     */
+    @Override
+    public synchronized void updateMaxSize(int maxSize) {
+        setMaxSize(maxSize);
+        this.evictionLock.lock();
+        try {
+            initializeSegments(maxSize);
+            evict();
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Lossy ring buffer of cache keys read by a group of threads.
+     */
+    protected static class ReadBuffer {
+        protected static final int SIZE = 16;
+        protected static final int MASK = SIZE - 1;
+
+        protected final AtomicReferenceArray<LFUCacheKey> buffer = new AtomicReferenceArray<>(SIZE);
+        protected final AtomicLong writeCounter = new AtomicLong();
+        /** Only written while holding the eviction lock. */
+        protected volatile long readCounter;
+
+        /**
+         * Add the cache key unless the buffer is full.
+         * Return true if the buffer should be drained.
+         */
+        protected boolean offer(LFUCacheKey cacheKey) {
+            long head = this.readCounter;
+            long tail = this.writeCounter.get();
+            long size = tail - head;
+            if (size >= SIZE) {
+                return true;
+            }
+            if (this.writeCounter.compareAndSet(tail, tail + 1)) {
+                this.buffer.lazySet((int)(tail & MASK), cacheKey);
+                return size + 1 >= SIZE;
+            }
+            return false;
+        }
+
+        /**
+         * Apply the buffered reads to the map.
+         * Callers must hold the eviction lock.
+         */
+        protected void drain(LFUCacheWeakIdentityMap map) {
+            long head = this.readCounter;
+            long tail = this.writeCounter.get();
+            for (; head < tail; head++) {
+                int index = (int)(head & MASK);
+                LFUCacheKey cacheKey = this.buffer.get(index);
+                if (cacheKey == null) {
+                    // Slot reserved but not yet written, drain it next time.
+                    break;
+                }
+                this.buffer.lazySet(index, null);
+                map.onRead(cacheKey);
+            }
+            this.readCounter = head;
+        }
+    }
+
+    /**
+     * Inner class to define the specialized weak cache key.
+     * Holds a hard reference to its object while it is in the sub-cache.
+     */
+    public class LFUCacheKey extends WeakCacheKey {
+        /** Hard reference to the object, set while in the sub-cache. */
+        protected volatile Object hardReference;
+        /** Sub-cache segment, only written while holding the eviction lock. */
+        protected volatile int segment;
+        /** Node in the segment's list, only accessed while holding the eviction lock. */
+        protected LinkedNode node;
+
+        public LFUCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime, boolean isIsolated) {
+            super(primaryKey, object, writeLockValue, readTime, isIsolated);
+        }
+
+        /**
+         * Return if the object is held by the sub-cache.
+         */
+        public boolean isInSubCache() {
+            return this.segment != NONE;
+        }
+
+        @Override
+        public void setObject(Object object) {
+            super.setObject(object);
+            if (this.hardReference != null) {
+                this.hardReference = object;
+            }
+        }
+
+        /**
+         * Notifies that cache key that it has been accessed.
+         * A cache key not in the sub-cache is admitted to the window and counted as a miss,
+         * otherwise the access is buffered and counted as a hit.
+         */
+        @Override
+        public void updateAccess() {
+            if (getObject() == null) {
+                return;
+            }
+            if (admit(this)) {
+                hits.increment();
+            } else {
+                misses.increment();
+            }
+        }
+    }
+}
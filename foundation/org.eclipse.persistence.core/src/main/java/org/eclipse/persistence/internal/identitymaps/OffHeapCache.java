@@ -0,0 +1,516 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.CustomObjectInputStream;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Off-heap tier of the shared cache for a single class.
+ * Holds the database rows of cached objects outside of the Java heap,
+ * so objects no longer in the identity map can be rebuilt without accessing the database.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Encode rows in a compact binary form, in the order of the descriptor's selection fields.
+ * <li> Store the encoded rows in fixed size direct buffer segments, appended in order.
+ * <li> Evict the oldest segment once the configured number of bytes is exceeded.
+ * <li> Track hits, misses, evictions, bytes used and the cost of rebuilding objects from the stored rows.
+ * </ul>
+ * Rows holding values that cannot be encoded (not serializable) are not cached.
+ * @see org.eclipse.persistence.descriptors.CachePolicy#setOffHeapCacheSize(long)
+ */
+public class OffHeapCache {
+
+    /** Largest segment allocated, smaller off-heap caches use smaller segments. */
+    protected static final int MAX_SEGMENT_SIZE = 4 * 1024 * 1024;
+    /** Smallest segment allocated. */
+    protected static final int MIN_SEGMENT_SIZE = 1024;
+
+    protected static final byte NULL = 0;
+    protected static final byte STRING = 1;
+    protected static final byte INTEGER = 2;
+    protected static final byte LONG = 3;
+    protected static final byte BIG_DECIMAL = 4;
+    protected static final byte BIG_INTEGER = 5;
+    protected static final byte DOUBLE = 6;
+    protected static final byte FLOAT = 7;
+    protected static final byte SHORT = 8;
+    protected static final byte BYTE = 9;
+    protected static final byte BOOLEAN = 10;
+    protected static final byte BYTES = 11;
+    protected static final byte TIMESTAMP = 12;
+    protected static final byte SQL_DATE = 13;
+    protected static final byte SQL_TIME = 14;
+    protected static final byte DATE = 15;
+    protected static final byte CHARACTER = 16;
+    protected static final byte SERIALIZED = 17;
+
+    /** The session used to resolve classes of serialized values. */
+    protected AbstractSession session;
+    protected ClassDescriptor descriptor;
+    /** The fields stored for each row, in encoding order. */
+    protected Vector<DatabaseField> fields;
+
+    protected long maxSize;
+    protected int segmentSize;
+
+    /** Segments in allocation order, the first is the next to be evicted. */
+    protected List<Segment> segments;
+    /** Id of the first segment. */
+    protected long firstSegmentId;
+    /** Address of each row by primary key, segment id in the high and offset in the low 32 bits. */
+    protected Map<Object, Long> addresses;
+    protected long bytesUsed;
+
+    protected final LongAdder hits;
+    protected final LongAdder misses;
+    protected final LongAdder evictions;
+    protected final LongAdder rebuilds;
+    protected final LongAdder rebuildTime;
+
+    public OffHeapCache(ClassDescriptor descriptor, long maxSize, AbstractSession session) {
+        this.session = session;
+        this.descriptor = descriptor;
+        // Selection fields are only set once the descriptor is initialized.
+        this.fields = new Vector<>((descriptor.getSelectionFields() == null) ? descriptor.getFields() : descriptor.getSelectionFields());
+        this.maxSize = maxSize;
+        this.segmentSize = (int)Math.max(MIN_SEGMENT_SIZE, Math.min(maxSize / 8, MAX_SEGMENT_SIZE));
+        this.segments = new ArrayList<>();
+        this.addresses = new HashMap<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.rebuilds = new LongAdder();
+        this.rebuildTime = new LongAdder();
+    }
+
+    /**
+     * Store the row the object with the primary key was built from.
+     * Any previous row for the primary key is replaced, or removed if the row cannot be stored.
+     * Return if the row was stored.
+     */
+    public boolean put(Object primaryKey, AbstractRecord row, long readTime) {
+        byte[] bytes = encode(row, readTime);
+        synchronized (this) {
+            if ((bytes == null) || (bytes.length + 4 > this.segmentSize)) {
+                this.addresses.remove(primaryKey);
+                return false;
+            }
+            Long address = this.addresses.get(primaryKey);
+            if ((address != null) && Arrays.equals(bytes, read(address))) {
+                return true;
+            }
+            Segment segment = this.segments.isEmpty() ? null : this.segments.get(this.segments.size() - 1);
+            if ((segment == null) || (segment.buffer.remaining() < bytes.length + 4)) {
+                segment = new Segment(this.firstSegmentId + this.segments.size(), this.segmentSize);
+                this.segments.add(segment);
+            }
+            int offset = segment.buffer.position();
+            segment.buffer.putInt(bytes.length);
+            segment.buffer.put(bytes);
+            segment.keys.add(primaryKey);
+            this.bytesUsed += bytes.length + 4;
+            this.addresses.put(primaryKey, (segment.id << 32) | offset);
+            while (((long)this.segments.size() * this.segmentSize) > this.maxSize) {
+                evictSegment();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Return the row stored for the primary key, or null.
+     */
+    public Entry get(Object primaryKey) {
+        byte[] bytes;
+        synchronized (this) {
+            Long address = this.addresses.get(primaryKey);
+            bytes = (address == null) ? null : read(address);
+        }
+        if (bytes == null) {
+            this.misses.increment();
+            return null;
+        }
+        Entry entry = decode(bytes);
+        if (entry == null) {
+            remove(primaryKey);
+            this.misses.increment();
+            return null;
+        }
+        this.hits.increment();
+        return entry;
+    }
+
+    /**
+     * Remove the row stored for the primary key.
+     */
+    public synchronized void remove(Object primaryKey) {
+        this.addresses.remove(primaryKey);
+    }
+
+    /**
+     * Remove all rows and release the segments.
+     */
+    public synchronized void clear() {
+        this.firstSegmentId += this.segments.size();
+        this.segments = new ArrayList<>();
+        this.addresses = new HashMap<>();
+        this.bytesUsed = 0;
+    }
+
+    /**
+     * Record the time taken to rebuild an object from a stored row.
+     */
+    public void recordRebuild(long nanos) {
+        this.rebuilds.increment();
+        this.rebuildTime.add(nanos);
+    }
+
+    /**
+     * Return the bytes of the row at the address.
+     */
+    protected byte[] read(long address) {
+        Segment segment = this.segments.get((int)((address >>> 32) - this.firstSegmentId));
+        int offset = (int)address;
+        byte[] bytes = new byte[segment.buffer.getInt(offset)];
+        segment.buffer.get(offset + 4, bytes);
+        return bytes;
+    }
+
+    /**
+     * Release the oldest segment, and remove its rows that were not replaced since.
+     */
+    protected void evictSegment() {
+        Segment segment = this.segments.remove(0);
+        for (Object primaryKey : segment.keys) {
+            Long address = this.addresses.get(primaryKey);
+            if ((address != null) && ((address >>> 32) == segment.id)) {
+                this.addresses.remove(primaryKey);
+                this.evictions.increment();
+            }
+        }
+        this.bytesUsed -= segment.buffer.position();
+        this.firstSegmentId++;
+    }
+
+    /**
+     * Encode the row's values for the stored fields.
+     * Return null if the row is missing any field or has a value that cannot be encoded.
+     */
+    protected byte[] encode(AbstractRecord row, long readTime) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(this.fields.size() * 8 + 8);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeLong(readTime);
+            for (DatabaseField field : this.fields) {
+                if (!row.containsKey(field)) {
+                    return null;
+                }
+                if (!writeValue(row.get(field), out)) {
+                    return null;
+                }
+            }
+            out.flush();
+        } catch (IOException exception) {
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode the row, return null if it can no longer be decoded.
+     */
+    protected Entry decode(byte[] bytes) {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        try {
+            long readTime = in.readLong();
+            int size = this.fields.size();
+            Vector<Object> values = new Vector<>(size);
+            for (int index = 0; index < size; index++) {
+                values.add(readValue(in, this.session));
+            }
+            return new Entry(this, new DatabaseRecord(this.fields, values, size), readTime);
+        } catch (IOException | ClassNotFoundException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Write the value with a type tag, return false if the value's type is not supported.
+     * Also used by CacheRowSnapshot.
+     */
+    protected static boolean writeValue(Object value, DataOutputStream out) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeBytes(((String)value).getBytes(StandardCharsets.UTF_8), out);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer)value);
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long)value);
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(BIG_DECIMAL);
+            out.writeInt(((BigDecimal)value).scale());
+            writeBytes(((BigDecimal)value).unscaledValue().toByteArray(), out);
+        } else if (value instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger)value).toByteArray(), out);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double)value);
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float)value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            out.writeShort((Short)value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte)value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean)value);
+        } else if (value instanceof byte[]) {
+            out.writeByte(BYTES);
+            writeBytes((byte[])value, out);
+        } else if (value.getClass() == java.sql.Timestamp.class) {
+            out.writeByte(TIMESTAMP);
+            out.writeLong(((java.sql.Timestamp)value).getTime());
+            out.writeInt(((java.sql.Timestamp)value).getNanos());
+        } else if (value.getClass() == java.sql.Date.class) {
+            out.writeByte(SQL_DATE);
+            out.writeLong(((java.sql.Date)value).getTime());
+        } else if (value.getClass() == java.sql.Time.class) {
+            out.writeByte(SQL_TIME);
+            out.writeLong(((java.sql.Time)value).getTime());
+        } else if (value.getClass() == java.util.Date.class) {
+            out.writeByte(DATE);
+            out.writeLong(((java.util.Date)value).getTime());
+        } else if (value instanceof Character) {
+            out.writeByte(CHARACTER);
+            out.writeChar((Character)value);
+        } else if (value instanceof Serializable) {
+            out.writeByte(SERIALIZED);
+            ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOut = new ObjectOutputStream(serialized)) {
+                objectOut.writeObject(value);
+            }
+            writeBytes(serialized.toByteArray(), out);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Read a value written by writeValue, the session is used to load serialized classes.
+     */
+    protected static Object readValue(DataInputStream in, AbstractSession session) throws IOException, ClassNotFoundException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case BIG_DECIMAL:
+                int scale = in.readInt();
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case BOOLEAN:
+                return in.readBoolean();
+            case BYTES:
+                return readBytes(in);
+            case TIMESTAMP:
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                return timestamp;
+            case SQL_DATE:
+                return new java.sql.Date(in.readLong());
+            case SQL_TIME:
+                return new java.sql.Time(in.readLong());
+            case DATE:
+                return new java.util.Date(in.readLong());
+            case CHARACTER:
+                return in.readChar();
+            case SERIALIZED:
+                try (ObjectInputStream objectIn = new CustomObjectInputStream(new ByteArrayInputStream(readBytes(in)), session)) {
+                    return objectIn.readObject();
+                }
+            default:
+                throw new IOException("Unknown type: " + type);
+        }
+    }
+
+    protected static void writeBytes(byte[] bytes, DataOutputStream out) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    protected static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    public ClassDescriptor getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Return the maximum number of bytes of off-heap memory used.
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Return the number of rows stored.
+     */
+    public synchronized int getSize() {
+        return this.addresses.size();
+    }
+
+    /**
+     * Return the number of bytes of stored rows, including replaced rows not yet evicted.
+     */
+    public synchronized long getBytesUsed() {
+        return this.bytesUsed;
+    }
+
+    /**
+     * Return the number of bytes of off-heap memory allocated.
+     */
+    public synchronized long getBytesAllocated() {
+        return (long)this.segments.size() * this.segmentSize;
+    }
+
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the number of rows evicted to stay within the maximum size.
+     */
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Return the number of objects rebuilt from stored rows.
+     */
+    public long getRebuildCount() {
+        return this.rebuilds.sum();
+    }
+
+    /**
+     * Return the total nanoseconds spent rebuilding objects from stored rows.
+     */
+    public long getRebuildTime() {
+        return this.rebuildTime.sum();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + this.descriptor.getJavaClassName() + ", " + getSize() + ", " + getBytesUsed() + "/" + this.maxSize + ")";
+    }
+
+    /**
+     * INTERNAL:
+     * A direct buffer rows are appended to, and the primary keys of the rows.
+     */
+    protected static class Segment {
+        protected final long id;
+        protected final ByteBuffer buffer;
+        protected final List<Object> keys;
+
+        protected Segment(long id, int size) {
+            this.id = id;
+            this.buffer = ByteBuffer.allocateDirect(size);
+            this.keys = new ArrayList<>();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * A stored row and the time it was read from the database.
+     */
+    public static class Entry {
+        protected final OffHeapCache cache;
+        protected final AbstractRecord record;
+        protected final long readTime;
+
+        public Entry(OffHeapCache cache, AbstractRecord record, long readTime) {
+            this.cache = cache;
+            this.record = record;
+            this.readTime = readTime;
+        }
+
+        public OffHeapCache getCache() {
+            return cache;
+        }
+
+        public AbstractRecord getRecord() {
+            return record;
+        }
+
+        public long getReadTime() {
+            return readTime;
+        }
+    }
+}
@@ -0,0 +1,543 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+
+import org.eclipse.persistence.internal.helper.InvalidObject;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+/**
+ * <p><b>Purpose</b>:
+ * Bound the memory used by the query results caches of a session.
+ * <p>
+ * <b>Description</b>:
+ * Each query has its own results cache sized by its number of parameter sets,
+ * this budget is shared by all of the query results caches of the session and accounts
+ * for the estimated size in bytes of each cached result.
+ * When the session maximum is exceeded the least recently used results of any query are evicted,
+ * and when a query's quota is exceeded its own least recently used results are evicted.
+ * <p>
+ * Sizes are estimates: the objects of a result that are in the object cache are only counted as references,
+ * and large collections are sampled.
+ * Results dropped by the query's own results cache, its least recently used results or released soft or weak results,
+ * are released from the budget when the query next caches a result, or when they are found while evicting.
+ * <p>
+ * Accesses only reorder the LRU if the budget is not locked by another thread,
+ * so reads never wait on the budget and the eviction order is approximate under contention.
+ *
+ * @see org.eclipse.persistence.sessions.Project#setQueryResultsCacheMaximumSize(long)
+ * @see org.eclipse.persistence.queries.QueryResultsCachePolicy#setMaximumCachedBytes(long)
+ * @since EclipseLink 5.0
+ */
+public class QueryResultsCacheBudget {
+    /** Estimated size of the cache key, parameters and map entries of a cached result. */
+    protected static final int ENTRY_OVERHEAD = 128;
+
+    /** Estimated size of an object header with a few fields. */
+    protected static final int OBJECT_SIZE = 24;
+
+    /** Estimated size of a reference. */
+    protected static final int REFERENCE_SIZE = 8;
+
+    /** Number of elements of a collection that are sized, the size of the others is extrapolated. */
+    protected static final int COLLECTION_SAMPLE_SIZE = 32;
+
+    /** Depth of nested values that are sized. */
+    protected static final int MAXIMUM_DEPTH = 3;
+
+    /** Maximum bytes for all of the cached results, 0 if only query quotas are enforced. */
+    protected final long maximumSize;
+
+    protected final ReentrantLock lock = new ReentrantLock();
+
+    /** The accounted results in LRU order. */
+    protected final LinkedHashMap<Entry, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    /** The accounted results of each query in LRU order. */
+    protected final Map<Object, LinkedHashMap<Entry, Entry>> entriesByQuery = new HashMap<>();
+
+    /** The accounted bytes of each query. */
+    protected final Map<Object, Long> sizeByQuery = new HashMap<>();
+
+    /** The accounted bytes of all the queries. */
+    protected long size;
+
+    protected final LongAdder hits = new LongAdder();
+    protected final LongAdder misses = new LongAdder();
+    protected final LongAdder puts = new LongAdder();
+    protected final LongAdder evictions = new LongAdder();
+    protected final LongAdder rejections = new LongAdder();
+
+    /**
+     * INTERNAL:
+     * A cached result, identified by its query and parameters.
+     */
+    public static final class Entry {
+        private final Object queryKey;
+        private final Object parameters;
+        private final int hash;
+        long size;
+
+        Entry(Object queryKey, Object parameters) {
+            this.queryKey = queryKey;
+            this.parameters = parameters;
+            this.hash = (31 * queryKey.hashCode()) + parameters.hashCode();
+        }
+
+        /**
+         * Return the query name, or the query if unnamed.
+         */
+        public Object getQueryKey() {
+            return queryKey;
+        }
+
+        /**
+         * Return the parameters of the result.
+         */
+        public Object getParameters() {
+            return parameters;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Entry)) {
+                return false;
+            }
+            Entry entry = (Entry)object;
+            return this.queryKey.equals(entry.queryKey) && this.parameters.equals(entry.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return a new budget bounding the results to the maximum size in bytes, 0 only enforces the query quotas.
+     */
+    public QueryResultsCacheBudget(long maximumSize) {
+        this.maximumSize = Math.max(maximumSize, 0);
+    }
+
+    /**
+     * INTERNAL:
+     * Account for the result of the query, and return the results that must be evicted.
+     * The result itself is returned if it exceeds the query quota or the maximum size.
+     * @param querySize the maximum bytes for the results of the query, 0 if only bounded by the session maximum
+     */
+    public List<Entry> put(Object queryKey, Object parameters, long resultSize, long querySize) {
+        return put(queryKey, parameters, resultSize, querySize, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * INTERNAL:
+     * Account for the result of the query, and return the results that must be evicted.
+     * The result itself is returned if it exceeds the query quota or the maximum size.
+     * The results no longer in their query's results cache are released instead of being evicted.
+     * @param querySize the maximum bytes for the results of the query, 0 if only bounded by the session maximum
+     * @param cachedResults the number of results in the query's results cache
+     * @param isCached tests if the result of a query and parameters is still in the query's results cache, null if unknown
+     */
+    public List<Entry> put(Object queryKey, Object parameters, long resultSize, long querySize,
+                           int cachedResults, BiPredicate<Object, Object> isCached) {
+        Entry entry = new Entry(queryKey, parameters);
+        entry.size = resultSize;
+        this.puts.increment();
+        List<Entry> evicted = new ArrayList<>(1);
+        if (((querySize > 0) && (resultSize > querySize)) || ((this.maximumSize > 0) && (resultSize > this.maximumSize))) {
+            this.rejections.increment();
+            evicted.add(entry);
+            this.lock.lock();
+            try {
+                removeEntry(entry);
+            } finally {
+                this.lock.unlock();
+            }
+            return evicted;
+        }
+        this.lock.lock();
+        try {
+            // Remove any previous result first, as put keeps the previous key.
+            removeEntry(entry);
+            this.entries.put(entry, entry);
+            LinkedHashMap<Entry, Entry> queryEntries = this.entriesByQuery.computeIfAbsent(queryKey, key -> new LinkedHashMap<>(16, 0.75f, true));
+            queryEntries.put(entry, entry);
+            this.size += resultSize;
+            long queryTotal = this.sizeByQuery.merge(queryKey, resultSize, Long::sum);
+            if (isCached != null) {
+                // Release the results the query's results cache dropped, such as its least recently used results.
+                for (Iterator<Entry> iterator = queryEntries.keySet().iterator(); iterator.hasNext() && (queryEntries.size() > cachedResults);) {
+                    Entry next = iterator.next();
+                    if ((next != entry) && !isCached.test(next.queryKey, next.parameters)) {
+                        iterator.remove();
+                        this.entries.remove(next);
+                        release(next);
+                        queryTotal -= next.size;
+                    }
+                }
+            }
+            if ((querySize > 0) && (queryTotal > querySize)) {
+                for (Iterator<Entry> iterator = queryEntries.keySet().iterator(); iterator.hasNext() && (queryTotal > querySize);) {
+                    Entry next = iterator.next();
+                    if (next != entry) {
+                        iterator.remove();
+                        this.entries.remove(next);
+                        release(next);
+                        queryTotal -= next.size;
+                        if ((isCached == null) || isCached.test(next.queryKey, next.parameters)) {
+                            evicted.add(next);
+                        }
+                    }
+                }
+            }
+            if (this.maximumSize > 0) {
+                for (Iterator<Entry> iterator = this.entries.keySet().iterator(); iterator.hasNext() && (this.size > this.maximumSize);) {
+                    Entry next = iterator.next();
+                    if (next != entry) {
+                        iterator.remove();
+                        removeQueryEntry(next);
+                        release(next);
+                        if ((isCached == null) || isCached.test(next.queryKey, next.parameters)) {
+                            evicted.add(next);
+                        }
+                    }
+                }
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        this.evictions.add(evicted.size());
+        return evicted;
+    }
+
+    /**
+     * Remove the entry and its accounting, must be called with the lock held.
+     */
+    protected void removeEntry(Entry entry) {
+        Entry removed = this.entries.remove(entry);
+        if (removed != null) {
+            removeQueryEntry(removed);
+            release(removed);
+        }
+    }
+
+    /**
+     * Remove the entry from the results of its query, must be called with the lock held.
+     */
+    protected void removeQueryEntry(Entry entry) {
+        LinkedHashMap<Entry, Entry> queryEntries = this.entriesByQuery.get(entry.queryKey);
+        if (queryEntries != null) {
+            queryEntries.remove(entry);
+            if (queryEntries.isEmpty()) {
+                this.entriesByQuery.remove(entry.queryKey);
+            }
+        }
+    }
+
+    /**
+     * Remove the accounting of the entry, must be called with the lock held.
+     */
+    protected void release(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        this.size -= entry.size;
+        Long queryTotal = this.sizeByQuery.get(entry.queryKey);
+        if (queryTotal != null) {
+            long remaining = queryTotal - entry.size;
+            if (remaining <= 0) {
+                this.sizeByQuery.remove(entry.queryKey);
+            } else {
+                this.sizeByQuery.put(entry.queryKey, remaining);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Record a cache lookup of the query, a hit marks the result as recently used.
+     */
+    public void recordAccess(Object queryKey, Object parameters, boolean isHit) {
+        if (!isHit) {
+            this.misses.increment();
+            return;
+        }
+        this.hits.increment();
+        // Do not wait for the lock to reorder the LRU, the order is approximate under contention.
+        if (this.lock.tryLock()) {
+            try {
+                Entry entry = this.entries.get(new Entry(queryKey, parameters));
+                if (entry != null) {
+                    this.entriesByQuery.get(queryKey).get(entry);
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Remove the accounting of all the results of the query, when its results cache is removed.
+     */
+    public void remove(Object queryKey) {
+        this.lock.lock();
+        try {
+            this.sizeByQuery.remove(queryKey);
+            LinkedHashMap<Entry, Entry> queryEntries = this.entriesByQuery.remove(queryKey);
+            if (queryEntries == null) {
+                return;
+            }
+            for (Entry next : queryEntries.keySet()) {
+                this.entries.remove(next);
+                this.size -= next.size;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Remove the accounting of all the results, when the query cache is cleared.
+     */
+    public void clear() {
+        this.lock.lock();
+        try {
+            this.entries.clear();
+            this.entriesByQuery.clear();
+            this.sizeByQuery.clear();
+            this.size = 0;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the estimated size in bytes of caching the query result.
+     * Objects that are in the object cache are only counted as references.
+     */
+    public static long estimateSize(Object result, AbstractSession session) {
+        return ENTRY_OVERHEAD + estimateValueSize(result, session, 0);
+    }
+
+    /**
+     * Return the estimated size of the value, not including the reference to it.
+     */
+    protected static long estimateValueSize(Object value, AbstractSession session, int depth) {
+        if ((value == null) || (value == InvalidObject.instance())) {
+            return 0;
+        }
+        if (value instanceof String) {
+            return OBJECT_SIZE + 16 + ((String)value).length();
+        }
+        if ((value instanceof Number) || (value instanceof Boolean) || (value instanceof Character)) {
+            return OBJECT_SIZE;
+        }
+        if ((value instanceof Date) || (value instanceof Temporal)) {
+            return OBJECT_SIZE + 8;
+        }
+        if (value instanceof byte[]) {
+            return 16 + ((byte[])value).length;
+        }
+        if (value instanceof char[]) {
+            return 16 + (2L * ((char[])value).length);
+        }
+        if (depth >= MAXIMUM_DEPTH) {
+            return OBJECT_SIZE;
+        }
+        if (value instanceof Object[]) {
+            Object[] array = (Object[])value;
+            long total = 16 + ((long)REFERENCE_SIZE * array.length);
+            int sampled = Math.min(array.length, COLLECTION_SAMPLE_SIZE);
+            long sample = 0;
+            for (int index = 0; index < sampled; index++) {
+                sample += estimateValueSize(array[index], session, depth + 1);
+            }
+            return total + extrapolate(sample, sampled, array.length);
+        }
+        if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>)value;
+            int count = collection.size();
+            long total = OBJECT_SIZE + 16 + ((long)REFERENCE_SIZE * count);
+            int sampled = 0;
+            long sample = 0;
+            for (Iterator<?> iterator = collection.iterator(); iterator.hasNext() && (sampled < COLLECTION_SAMPLE_SIZE); sampled++) {
+                sample += estimateValueSize(iterator.next(), session, depth + 1);
+            }
+            return total + extrapolate(sample, sampled, count);
+        }
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>)value;
+            int count = map.size();
+            long total = OBJECT_SIZE + 16 + ((long)(OBJECT_SIZE + REFERENCE_SIZE) * count);
+            int sampled = 0;
+            long sample = 0;
+            for (Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator(); iterator.hasNext() && (sampled < COLLECTION_SAMPLE_SIZE); sampled++) {
+                Map.Entry<?, ?> entry = iterator.next();
+                sample += estimateValueSize(entry.getValue(), session, depth + 1);
+            }
+            return total + extrapolate(sample, sampled, count);
+        }
+        // Persistent objects are held by the object cache, so only the reference is counted.
+        if ((session != null) && (session.getDescriptor(value.getClass()) != null)) {
+            return 0;
+        }
+        return OBJECT_SIZE;
+    }
+
+    /**
+     * Return the size of all the elements from the size of the sampled elements.
+     */
+    protected static long extrapolate(long sample, int sampled, int count) {
+        if ((sampled == 0) || (sampled == count)) {
+            return sample;
+        }
+        return (sample / sampled) * count;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the queries using the most bytes, with their size in bytes, largest first.
+     */
+    public Map<Object, Long> getLargestQueries(int count) {
+        List<Map.Entry<Object, Long>> queries;
+        this.lock.lock();
+        try {
+            queries = new ArrayList<>(this.sizeByQuery.size());
+            for (Map.Entry<Object, Long> entry : this.sizeByQuery.entrySet()) {
+                queries.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        } finally {
+            this.lock.unlock();
+        }
+        queries.sort(Map.Entry.<Object, Long>comparingByValue().reversed());
+        Map<Object, Long> largest = new LinkedHashMap<>();
+        for (int index = 0; (index < queries.size()) && (index < count); index++) {
+            largest.put(queries.get(index).getKey(), queries.get(index).getValue());
+        }
+        return largest;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the maximum bytes for all of the cached results, 0 if only query quotas are enforced.
+     */
+    public long getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the estimated bytes of all of the cached results.
+     */
+    public long getSize() {
+        this.lock.lock();
+        try {
+            return this.size;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of cached results accounted.
+     */
+    public int getEntryCount() {
+        this.lock.lock();
+        try {
+            return this.entries.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of query results found in the cache.
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of query results not found in the cache.
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of query results cached.
+     */
+    public long getPuts() {
+        return this.puts.sum();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of query results evicted to stay within the maximum size or query quotas.
+     */
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of query results not cached because they were larger than the maximum size or query quota.
+     */
+    public long getRejections() {
+        return this.rejections.sum();
+    }
+
+    /**
+     * INTERNAL:
+     * Reset the statistics to 0, the accounted results are not changed.
+     */
+    public void resetStatistics() {
+        this.hits.reset();
+        this.misses.reset();
+        this.puts.reset();
+        this.evictions.reset();
+        this.rejections.reset();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(size=" + getSize() + ", maximumSize=" + this.maximumSize + ", entries=" + getEntryCount()
+                + ", hits=" + getHits() + ", misses=" + getMisses() + ", evictions=" + getEvictions() + ")";
+    }
+}
@@ -14,6 +14,7 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.internal.identitymaps;
 
+import org.eclipse.persistence.descriptors.CacheStatistics;
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 
@@ -64,6 +65,10 @@ protected void cleanupDeadCacheKeys() {
                     try {
                         if (key.getObject() == null) {
                             iterator.remove();
+                            CacheStatistics statistics = getStatistics();
+                            if (statistics != null) {
+                                statistics.recordEviction();
+                            }
                         }
                     } finally {
                         key.release();
@@ -148,7 +148,10 @@ Current thread (id: {3} name: {4}) stack trace:
 
         { "drop_connection_on_error", "Warning: Dropping remote command connection to {0} on error {1}" },
         { "received_corrupt_announcement", "Warning: Discovery manager could not process service announcement due to {0} - ignoring announcement" },
+        { "connection_leak_detected", "Connection from connection pool [{0}] has been in use for {1} ms by thread [{2}] and may have been leaked. It was acquired at:{3}" },
         { "missing_converter", "Warning: Cannot convert command {0} due to missing CommandConverter - ignoring command" },
+        { "command_batch_queue_full", "Warning: The cache coordination batch queue is full ({0} commands), propagating the command directly" },
+        { "command_batch_propagation_failed", "Warning: Failed to propagate a batch of {0} cache coordination commands: {1}" },
         { "failed_command_propagation", "Error: Failed trying to propagate command to {0} due to {1}" },
         { "exception_thrown_when_attempting_to_close_connection", "Warning: exception thrown when attempting to close connection" },
         { "error_executing_remote_command", "{0} command failed due to: {1}" },
@@ -345,6 +348,9 @@ Current thread (id: {3} name: {4}) stack trace:
         { "cannot_weave_virtual_one_to_one", "Class {0} has attribute {1} that uses a OneToOne or ManyToOne mapping on a virtual attribute.  Weaving of these types of mappings is not supported.  Weaving will be disabled for {0}."},
 
         { "overriding_cache_isolation", "Parent Entity {0} has an isolation level of: {1} which is more protective then the subclass {2} with isolation: {3} so the subclass has been set to the isolation level {1}."},
+        { "cache_preload_failed", "Cache preload of {0} failed: {1}"},
+        { "cache_snapshot_read_failed", "Cache snapshot could not be read from {0}: {1}"},
+        { "cache_snapshot_write_failed", "Cache snapshot could not be written to {0}: {1}"},
         { "locking_required_for_database_change_notification", "Entity {0} is not using version locking, but has multiple tables or relationships, and is using Oracle database change notification, changes to relationships or secondary tables may not invalidate the cache."},
 
         { "field_type_set_to_java_lang_string", "The default table generator could not locate or convert a java type ({1}) into a database type for database field ({0}). The generator uses \"java.lang.String\" as default java type for the field." },
@@ -109,6 +109,14 @@ public class TraceLocalizationResource extends ListResourceBundle {
         { "depth", "Depth : {0}" },
         { "cachekey_released", "This thread is no longer holding the lock.  It must not be a blocking thread."},
         { "cache_thread_info", "Cached entity ({0}) with Id ({1}) was prepared and stored into cache by another thread (id: {2} name: {3}), than current thread (id: {4} name: {5})" },
+        { "cache_preload_begin", "Cache preload started for {0} classes using {1} threads." },
+        { "cache_preload_progress", "Cache preload of {0}: {1} objects loaded." },
+        { "cache_preload_end", "Cache preload finished, {0} objects loaded in {1} ms." },
+        { "cache_preload_cancelled", "Cache preload cancelled after {0} objects loaded." },
+        { "cache_snapshot_read", "Cache snapshot of {0} keys read from {1}." },
+        { "cache_snapshot_written", "Cache snapshot of {0} keys written to {1}." },
+        { "cache_row_snapshot_written", "Cache snapshot of {0} objects written to {1}." },
+        { "cache_row_snapshot_restored", "Cache snapshot restored from {0}, {1} of {2} objects were current and restored in {3} ms." },
         { "deferred_locks", "Deferred lock on : {0}" },
         { "deferred_locks_released", "All deferred locks for thread \"{0}\" have been released." },
         { "acquiring_deferred_lock", "Thread \"{1}\" has acquired a deferred lock on object : {0} in order to avoid deadlock." },
@@ -386,6 +394,8 @@ The thread is working in the context of (CacheKey) = ({2}) .\s
         { "executing_merge_changeset", "Executing MergeChangeSet command from {0}" },
         { "received_remote_command", "Received remote command {0} from {1}" },
         { "processing_internal_command", "Executing internal RCM command {0} from {1}" },
+        { "propagating_command_batch", "Propagating a batch of {0} commands ({1} bytes)" },
+        { "received_command_batch", "Received a batch of {0} commands from {1}" },
         { "processing_remote_command", "Executing command {0} from {1}" },
         { "sync_propagation", "Propagating command synchronously" },
         { "async_propagation", "Propagating command asynchronously" },
@@ -0,0 +1,417 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.queries;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
+import org.eclipse.persistence.internal.expressions.CompoundExpression;
+import org.eclipse.persistence.internal.expressions.ConstantExpression;
+import org.eclipse.persistence.internal.expressions.ExpressionIterator;
+import org.eclipse.persistence.internal.expressions.FunctionExpression;
+import org.eclipse.persistence.internal.expressions.ParameterExpression;
+import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+/**
+ * INTERNAL:
+ * Caches the prepared dynamic expression queries by the shape of their selection criteria,
+ * so the executions of an equivalent query with different values are not prepared again.
+ * <p>
+ * The constants compared to an attribute in the selection criteria are replaced by parameters,
+ * and their values added to the translation row, so the queries differing only by these values
+ * are equal and share the prepared query and its calls. This requires the platform to bind all parameters
+ * and literals, so the SQL printed for the parameters is the same as for the constants.
+ * Only the queries the descriptor's expression query cache accepts are cached,
+ * the queries are compared as by this cache.
+ * The queries built by the Criteria API or JPQL for a single entity are compared without the class of their builder,
+ * so the queries built from different criteria instances of the same shape share their plan.
+ * <p>
+ * The cache is bounded, the least recently used query is evicted.
+ * A maximum size of 0 disables the cache.
+ * @see org.eclipse.persistence.sessions.Project#setQueryPlanCacheMaxSize(int)
+ * @see org.eclipse.persistence.queries.ObjectLevelReadQuery#prepareFromCachedQuery()
+ * @since EclipseLink 5.0
+ */
+public class QueryPlanCache {
+
+    /** The prefix of the names of the parameters replacing the constants. */
+    public static final String PARAMETER_PREFIX = "EL_PLAN_PARAMETER_";
+
+    protected final int maxSize;
+    protected final ReentrantLock lock = new ReentrantLock();
+
+    /** The prepared queries by the query with parameters, in access order. */
+    protected final LinkedHashMap<DatabaseQuery, DatabaseQuery> plans;
+
+    protected long hits;
+    protected long misses;
+    protected long evictions;
+
+    public QueryPlanCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.plans = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Return the query to execute instead of the query, with its constants replaced by parameters,
+     * and the translation row of the execution with the values of the constants,
+     * prepared from the cached plan if the same shape of query was prepared before, otherwise prepared and cached.
+     * Return null if the query is not cached.
+     */
+    public DatabaseQuery prepare(DatabaseQuery query, AbstractRecord translationRow, AbstractSession session) {
+        if ((this.maxSize <= 0) || !isCacheable(query, session)) {
+            return null;
+        }
+        ObjectLevelReadQuery plannedQuery = (ObjectLevelReadQuery)query.clone();
+        AbstractRecord row = (translationRow == null) ? new DatabaseRecord() : translationRow.clone();
+        if (!parameterize(plannedQuery, row, session)) {
+            return null;
+        }
+        DatabaseQuery key = buildKey(plannedQuery);
+        if (key == null) {
+            return null;
+        }
+        // The query is only used by this execution, until cached by the descriptor.
+        plannedQuery.setIsExecutionClone(true);
+        DatabaseQuery plan = get(key);
+        if (plan != null) {
+            session.incrementProfile(SessionProfiler.QueryPlanCacheHits, query);
+            plannedQuery.prepareFromQuery(plan);
+            plannedQuery.setIsPrepared(true);
+        } else {
+            session.incrementProfile(SessionProfiler.QueryPlanCacheMisses, query);
+            plannedQuery.checkPrepare(session, row);
+            if (!plannedQuery.isPrepared()) {
+                return null;
+            }
+            plan = (DatabaseQuery)plannedQuery.clone();
+            plan.setTranslationRow(null);
+            put(key, plan);
+        }
+        plannedQuery.setTranslationRow(row);
+        return plannedQuery;
+    }
+
+    /**
+     * Return the key of the plan of the query, a copy of the query with parameters before it is prepared.
+     * A builder with a class is only equal to itself, so the key of a query built for its reference class,
+     * as by the Criteria API or JPQL, is copied with a builder without class, equal to the builder of the same shape of query.
+     * Return null if the query cannot be cached, it is built on other classes or on several builders.
+     */
+    protected DatabaseQuery buildKey(ObjectLevelReadQuery query) {
+        ObjectLevelReadQuery key = (ObjectLevelReadQuery)query.clone();
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        if (builder.getQueryClass() == null) {
+            return key;
+        }
+        if (query.isReportQuery() || (builder.getQueryClass() != query.getReferenceClass())) {
+            return null;
+        }
+        List<Expression> joinedAttributes = query.hasJoining() ? query.getJoinedAttributeManager().getJoinedAttributeExpressions() : new ArrayList<>(0);
+        List<Expression> orderBys = query.hasOrderByExpressions() ? query.getOrderByExpressions() : new ArrayList<>(0);
+        boolean[] hasOtherBuilders = new boolean[1];
+        ExpressionIterator<Void> iterator = new ExpressionIterator<>() {
+            @Override
+            public void iterate(Expression expression) {
+                if (expression.isExpressionBuilder() && (expression != builder)) {
+                    hasOtherBuilders[0] = true;
+                }
+            }
+        };
+        if (query.getSelectionCriteria() != null) {
+            iterator.iterateOn(query.getSelectionCriteria());
+        }
+        for (Expression expression : joinedAttributes) {
+            iterator.iterateOn(expression);
+        }
+        for (Expression expression : orderBys) {
+            iterator.iterateOn(expression);
+        }
+        if (hasOtherBuilders[0]) {
+            return null;
+        }
+        ExpressionBuilder keyBuilder = new ExpressionBuilder();
+        Map<Expression, Expression> alreadyDone = new IdentityHashMap<>();
+        alreadyDone.put(builder, keyBuilder);
+        key.setExpressionBuilder(keyBuilder);
+        if (query.getSelectionCriteria() != null) {
+            key.setSelectionCriteria(query.getSelectionCriteria().copiedVersionFrom(alreadyDone));
+        }
+        if (!joinedAttributes.isEmpty()) {
+            List<Expression> keyJoinedAttributes = new ArrayList<>(joinedAttributes.size());
+            for (Expression expression : joinedAttributes) {
+                keyJoinedAttributes.add(expression.copiedVersionFrom(alreadyDone));
+            }
+            key.getJoinedAttributeManager().setJoinedAttributeExpressions_(keyJoinedAttributes);
+        }
+        if (!orderBys.isEmpty()) {
+            List<Expression> keyOrderBys = new ArrayList<>(orderBys.size());
+            for (Expression expression : orderBys) {
+                keyOrderBys.add(expression.copiedVersionFrom(alreadyDone));
+            }
+            key.setOrderByExpressions(keyOrderBys);
+        }
+        return key;
+    }
+
+    /**
+     * Return if the query can be cached, only dynamic expression queries with default properties are cached.
+     */
+    protected boolean isCacheable(DatabaseQuery query, AbstractSession session) {
+        if (!query.isObjectLevelReadQuery() || !query.isExpressionQuery() || query.getQueryMechanism().isJPQLCallQueryMechanism()
+                || !query.isDefaultPropertiesQuery() || session.isHistoricalSession() || (query.getReferenceClass() == null)) {
+            return false;
+        }
+        DatasourcePlatform platform = (DatasourcePlatform)session.getPlatform(query.getReferenceClass());
+        return (platform instanceof DatabasePlatform databasePlatform) && databasePlatform.shouldBindAllParameters() && databasePlatform.shouldBindLiterals();
+    }
+
+    /**
+     * Replace the constants compared to an attribute in the selection criteria of the query by parameters,
+     * and add their values to the row.
+     * Return false if the query cannot be cached, its selection criteria has sub-selects.
+     */
+    protected boolean parameterize(ObjectLevelReadQuery query, AbstractRecord row, AbstractSession session) {
+        Expression criteria = query.getSelectionCriteria();
+        if (criteria == null) {
+            return true;
+        }
+        Map<Expression, Expression> alreadyDone = new IdentityHashMap<>();
+        List<ConstantExpression> constants = new ArrayList<>();
+        boolean[] hasSubSelects = new boolean[1];
+        ExpressionIterator<Void> iterator = new ExpressionIterator<>() {
+            @Override
+            public void iterate(Expression expression) {
+                if (expression.isSubSelectExpression()) {
+                    hasSubSelects[0] = true;
+                } else if (expression.isExpressionBuilder()) {
+                    // The copy must keep the builders shared with the query's ordering and joins.
+                    alreadyDone.put(expression, expression);
+                } else if (expression.isRelationExpression()) {
+                    CompoundExpression relation = (CompoundExpression)expression;
+                    if (isParameterizable(relation.getFirstChild(), relation.getSecondChild(), query, session)) {
+                        constants.add((ConstantExpression)relation.getFirstChild());
+                    } else if (isParameterizable(relation.getSecondChild(), relation.getFirstChild(), query, session)) {
+                        constants.add((ConstantExpression)relation.getSecondChild());
+                    }
+                }
+            }
+        };
+        iterator.iterateOn(criteria);
+        if (hasSubSelects[0]) {
+            return false;
+        }
+        if (constants.isEmpty()) {
+            return true;
+        }
+        List<ParameterExpression> parameters = new ArrayList<>(constants.size());
+        for (ConstantExpression constant : constants) {
+            if (alreadyDone.containsKey(constant)) {
+                continue;
+            }
+            DatabaseField field = new DatabaseField(PARAMETER_PREFIX + parameters.size());
+            ParameterExpression parameter = new ParameterExpression(field, constant.getLocalBase());
+            parameters.add(parameter);
+            alreadyDone.put(constant, parameter);
+            row.put(field, constant.getValue());
+        }
+        query.setSelectionCriteria(criteria.copiedVersionFrom(alreadyDone));
+        // The parameters are converted by the copy of the attribute they are compared to.
+        for (ParameterExpression parameter : parameters) {
+            if (parameter.getLocalBase() != null) {
+                parameter.setLocalBase(parameter.getLocalBase().copiedVersionFrom(alreadyDone));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return if the constant compared to the other expression can be replaced by a parameter.
+     * Only basic values compared to a direct attribute or a function are replaced,
+     * as object comparisons are normalized from their value.
+     */
+    protected boolean isParameterizable(Expression constant, Expression other, ObjectLevelReadQuery query, AbstractSession session) {
+        if (!constant.isConstantExpression() || (((ConstantExpression)constant).canBind() == Boolean.FALSE)) {
+            return false;
+        }
+        Object value = ((ConstantExpression)constant).getValue();
+        if (!((value instanceof String) || (value instanceof Number) || (value instanceof Boolean) || (value instanceof Character)
+                || (value instanceof java.util.Date) || (value instanceof Calendar) || (value instanceof java.time.temporal.Temporal)
+                || (value instanceof Enum) || (value instanceof UUID))) {
+            return false;
+        }
+        if (other.isFunctionExpression()) {
+            return !((FunctionExpression)other).getOperator().isAnyOrAll();
+        }
+        if (other.isQueryKeyExpression()) {
+            DatabaseMapping mapping = getMapping((QueryKeyExpression)other, query, session);
+            return (mapping != null) && mapping.isAbstractColumnMapping();
+        }
+        return other.isFieldExpression();
+    }
+
+    /**
+     * Return the mapping of the attribute, or null if it is not resolved.
+     * The builders are not initialized, as initializing them makes the query not equal to the queries of the same shape.
+     */
+    protected DatabaseMapping getMapping(QueryKeyExpression attribute, ObjectLevelReadQuery query, AbstractSession session) {
+        Expression base = attribute.getBaseExpression();
+        ClassDescriptor descriptor = null;
+        if (base.isExpressionBuilder()) {
+            Class<?> queryClass = ((ExpressionBuilder)base).getQueryClass();
+            if ((queryClass == null) && (base == query.getExpressionBuilder())) {
+                queryClass = query.getReferenceClass();
+            }
+            if (queryClass != null) {
+                descriptor = session.getDescriptor(queryClass);
+            }
+        } else if (base.isQueryKeyExpression()) {
+            DatabaseMapping baseMapping = getMapping((QueryKeyExpression)base, query, session);
+            if (baseMapping != null) {
+                descriptor = baseMapping.getReferenceDescriptor();
+            }
+        }
+        if (descriptor == null) {
+            return null;
+        }
+        return descriptor.getObjectBuilder().getMappingForAttributeName(attribute.getName());
+    }
+
+    /**
+     * Return the prepared query cached for the query, or null.
+     */
+    public DatabaseQuery get(DatabaseQuery query) {
+        this.lock.lock();
+        try {
+            DatabaseQuery plan = this.plans.get(query);
+            if (plan == null) {
+                this.misses++;
+            } else {
+                this.hits++;
+            }
+            return plan;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Cache the prepared query for the query, evicting the least recently used query if the cache is full.
+     */
+    public void put(DatabaseQuery query, DatabaseQuery plan) {
+        if (this.maxSize <= 0) {
+            return;
+        }
+        this.lock.lock();
+        try {
+            this.plans.put(query, plan);
+            Iterator<DatabaseQuery> eldest = this.plans.keySet().iterator();
+            while (this.plans.size() > this.maxSize) {
+                eldest.next();
+                eldest.remove();
+                this.evictions++;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all the cached queries, the statistics are kept.
+     */
+    public void clear() {
+        this.lock.lock();
+        try {
+            this.plans.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Return the number of cached queries.
+     */
+    public int size() {
+        this.lock.lock();
+        try {
+            return this.plans.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Reset the statistics to 0.
+     */
+    public void resetStatistics() {
+        this.lock.lock();
+        try {
+            this.hits = 0;
+            this.misses = 0;
+            this.evictions = 0;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Return the ratio of the lookups finding a cached query, 0 if none.
+     */
+    public double getHitRate() {
+        this.lock.lock();
+        try {
+            long lookups = this.hits + this.misses;
+            return (lookups == 0) ? 0 : ((double)this.hits / lookups);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sequencing;
+
+import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * INTERNAL:
+ * Preallocated values of a sequence using adaptive preallocation.
+ * <p>
+ * The values are held in blocks, a value is polled from the current block by a single atomic increment,
+ * without locking or allocating. The size of the next block is adapted to the rate the values of the
+ * previous block were consumed at, so a block lasts about the preallocation interval, between the minimum
+ * and maximum preallocation sizes. If a prefetch allocator is set, the next block is allocated in the
+ * background when a quarter of the current block is left, so threads do not wait for the sequence select.
+ * <p>
+ * A new block must only be installed by a thread holding the sequence lock.
+ * @see SequencingManager
+ * @since EclipseLink 5.0
+ */
+public class AdaptivePreallocation {
+
+    /** The default time a block of values should last, in milliseconds. */
+    public static final long DEFAULT_PREALLOCATION_INTERVAL = 1000;
+
+    /**
+     * Allocates a block of sequence values.
+     */
+    public interface Allocator {
+        Vector<?> allocate(int size);
+    }
+
+    /**
+     * Block of preallocated values, and the index of the next value to poll.
+     */
+    protected static final class Block {
+        protected final Object[] values;
+        protected final int prefetchIndex;
+        protected final AtomicInteger next;
+
+        protected Block(Object[] values, int start, boolean prefetch) {
+            this.values = values;
+            this.next = new AtomicInteger(start);
+            this.prefetchIndex = prefetch ? Math.max(start, values.length - Math.max(1, values.length / 4)) : -1;
+        }
+    }
+
+    protected final int minSize;
+    protected final int maxSize;
+    protected final long intervalNanos;
+
+    /** Allocates the next block in the background, or null if not prefetched. */
+    protected final Allocator prefetchAllocator;
+    protected final Executor executor;
+
+    protected volatile Block block;
+
+    /** The next block, allocated in the background. */
+    protected volatile CompletableFuture<Vector<?>> prefetched;
+
+    /** The size of the next block. */
+    protected volatile int size;
+
+    /** The time the current block was installed, 0 if none. */
+    protected long blockTime;
+
+    public AdaptivePreallocation(int minSize, int maxSize, long intervalMillis, Allocator prefetchAllocator, Executor executor) {
+        this.minSize = Math.max(1, minSize);
+        this.maxSize = Math.max(this.minSize, maxSize);
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, intervalMillis));
+        this.prefetchAllocator = (executor == null) ? null : prefetchAllocator;
+        this.executor = executor;
+        this.size = this.minSize;
+        this.block = new Block(new Object[0], 0, false);
+    }
+
+    /**
+     * Return the next preallocated value, or null if the current block is exhausted.
+     * This does not lock, and starts the background allocation of the next block when due.
+     */
+    public Object poll() {
+        Block current = this.block;
+        int index = current.next.getAndIncrement();
+        if (index >= current.values.length) {
+            return null;
+        }
+        if (index == current.prefetchIndex) {
+            prefetch();
+        }
+        return current.values[index];
+    }
+
+    /**
+     * Return the next preallocated value, installing a new block if the current block is exhausted.
+     * The new block is the prefetched block if any, otherwise it is allocated by the allocator.
+     * The sequence lock must be held.
+     */
+    public Object allocate(Allocator allocator) {
+        Object value = poll();
+        if (value != null) {
+            return value;
+        }
+        resize();
+        Vector<?> values = null;
+        CompletableFuture<Vector<?>> future = this.prefetched;
+        if (future != null) {
+            this.prefetched = null;
+            try {
+                values = future.join();
+            } catch (RuntimeException failed) {
+                // The block is allocated again, any failure is then thrown to the caller.
+            }
+        }
+        if ((values == null) || values.isEmpty()) {
+            values = allocator.allocate(this.size);
+        }
+        Object[] array = values.toArray();
+        // The first value is kept for this thread, before other threads can poll the block.
+        this.block = new Block(array, 1, this.prefetchAllocator != null);
+        return array[0];
+    }
+
+    /**
+     * Start the background allocation of the next block.
+     */
+    protected void prefetch() {
+        int nextSize = this.size;
+        Allocator allocator = this.prefetchAllocator;
+        this.prefetched = CompletableFuture.supplyAsync(() -> allocator.allocate(nextSize), this.executor);
+    }
+
+    /**
+     * Size the next blocks so that they last the preallocation interval at the rate
+     * the current block was consumed at. The size changes by at most a factor 2 per block.
+     */
+    protected void resize() {
+        long now = System.nanoTime();
+        if (this.blockTime != 0) {
+            long elapsed = Math.max(1, now - this.blockTime);
+            int consumed = this.block.values.length;
+            long target = (long)(consumed * ((double)this.intervalNanos / elapsed));
+            int current = this.size;
+            target = Math.max(current / 2, Math.min(target, (long)current * 2));
+            this.size = (int)Math.max(this.minSize, Math.min(target, this.maxSize));
+        }
+        this.blockTime = now;
+    }
+
+    /**
+     * Return the size of the next block of values.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
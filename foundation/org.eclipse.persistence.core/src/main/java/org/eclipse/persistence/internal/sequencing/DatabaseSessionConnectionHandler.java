@@ -19,6 +19,9 @@
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.sessions.Login;
 
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
 class DatabaseSessionConnectionHandler implements SequencingConnectionHandler {
     DatabaseSessionConnectionHandler(DatabaseSessionImpl ownerSession, Login login) {
         this.ownerSession = ownerSession;
@@ -30,6 +33,9 @@ class DatabaseSessionConnectionHandler implements SequencingConnectionHandler {
     Login login;
     Accessor accessor;
     boolean isBusy;
+    // A lock rather than the object monitor, so that virtual threads waiting for the accessor do not pin their carrier.
+    final ReentrantLock lock = new ReentrantLock();
+    final Condition released = lock.newCondition();
 
     @Override
     public void onConnect() {
@@ -44,22 +50,30 @@ public boolean isConnected() {
     }
 
     @Override
-    public synchronized Accessor acquireAccessor() {
-        if (isBusy) {
-            try {
-                wait();// Notify is called when connection is released.
-            } catch (InterruptedException exception) {
-                throw ConcurrencyException.waitFailureOnSequencingForDatabaseSession(exception);
+    public Accessor acquireAccessor() {
+        lock.lock();
+        try {
+            while (isBusy) {
+                released.await();// Signal is called when connection is released.
             }
+            isBusy = true;
+            return accessor;
+        } catch (InterruptedException exception) {
+            throw ConcurrencyException.waitFailureOnSequencingForDatabaseSession(exception);
+        } finally {
+            lock.unlock();
         }
-        isBusy = true;
-        return accessor;
     }
 
     @Override
-    public synchronized void releaseAccessor(Accessor accessor) {
-        isBusy = false;
-        notify();
+    public void releaseAccessor(Accessor accessor) {
+        lock.lock();
+        try {
+            isBusy = false;
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
@@ -27,6 +27,7 @@
  */
 class PreallocationHandler implements SequencingLogInOut {
     protected Map<String, Queue<Object>> preallocatedSequences;
+    protected Map<String, AdaptivePreallocation> adaptivePreallocations;
 
     public PreallocationHandler() {
         super();
@@ -40,17 +41,27 @@ public PreallocationHandler() {
     public Queue<Object> getPreallocated(String sequenceName) {
         Queue<Object> sequences = preallocatedSequences.get(sequenceName);
         if (sequences == null) {
-            synchronized (preallocatedSequences) {
-                sequences = preallocatedSequences.get(sequenceName);
-                if (sequences == null) {
-                    sequences = new ConcurrentLinkedQueue<>();
-                    preallocatedSequences.put(sequenceName, sequences);
-                }
-            }
+            sequences = preallocatedSequences.computeIfAbsent(sequenceName, name -> new ConcurrentLinkedQueue<>());
         }
         return sequences;
     }
 
+    /**
+     * Returns the preallocated values of the sequence using adaptive preallocation, or null if none.
+     * Values can be polled concurrently without locking.
+     */
+    public AdaptivePreallocation getAdaptivePreallocated(String sequenceName) {
+        return adaptivePreallocations.get(sequenceName);
+    }
+
+    /**
+     * Register the preallocated values of the sequence using adaptive preallocation.
+     * A lock should be obtained from the sequence manager before calling this method.
+     */
+    public void setAdaptivePreallocated(String sequenceName, AdaptivePreallocation preallocation) {
+        adaptivePreallocations.put(sequenceName, preallocation);
+    }
+
     // SequencingLogInOut
     @Override
     public void onConnect() {
@@ -60,6 +71,7 @@ public void onConnect() {
     @Override
     public void onDisconnect() {
         preallocatedSequences = null;
+        adaptivePreallocations = null;
     }
 
     @Override
@@ -74,6 +86,7 @@ public boolean isConnected() {
      */
     public void initializePreallocated() {
         preallocatedSequences = new ConcurrentHashMap<>(20);
+        adaptivePreallocations = new ConcurrentHashMap<>(20);
     }
 
     /**
@@ -83,6 +96,7 @@ public void initializePreallocated() {
      */
     public void initializePreallocated(String seqName) {
         preallocatedSequences.remove(seqName);
+        adaptivePreallocations.remove(seqName);
     }
 
     /**
@@ -20,14 +20,18 @@
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.platform.server.ServerPlatform;
 import org.eclipse.persistence.sequencing.DefaultSequence;
 import org.eclipse.persistence.sequencing.Sequence;
 import org.eclipse.persistence.sequencing.SequencingControl;
 import org.eclipse.persistence.sessions.Login;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ExternalConnectionPool;
 import org.eclipse.persistence.sessions.server.ServerSession;
@@ -39,6 +43,7 @@
 import java.util.Queue;
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * SequencingManager is private to EclipseLink.
@@ -116,6 +121,8 @@ class SequencingManager implements SequencingHome, SequencingServer, SequencingC
     private static final int PREALLOCATION_TRANSACTION_NOACCESSOR = 2;
     private static final int PREALLOCATION_TRANSACTION_ACCESSOR = 3;
     private static final int NUMBER_OF_STATES = 4;
+    // context of the sequences shared by all tenants
+    private static final String DEFAULT_CONTEXT = "default";
     private State[] states;
     private Map<String, ConcurrencyManager> locks;
     private SequencingCallbackFactory callbackFactory;
@@ -170,7 +177,11 @@ protected void createConnectionHandler() {
                     if (getInitialPoolSize() == -1) {
                         setInitialPoolSize(1);
                     }
-                    pool = new ConnectionPool("sequencing", getLogin(), getInitialPoolSize(), getMinPoolSize(), getMaxPoolSize(), (ServerSession)getOwnerSession());
+                    if (ConcurrencyUtil.SINGLETON.isVirtualThreadMode()) {
+                        pool = new ConcurrentConnectionPool("sequencing", getLogin(), getInitialPoolSize(), getMinPoolSize(), getMaxPoolSize(), (ServerSession)getOwnerSession());
+                    } else {
+                        pool = new ConnectionPool("sequencing", getLogin(), getInitialPoolSize(), getMinPoolSize(), getMaxPoolSize(), (ServerSession)getOwnerSession());
+                    }
                 }
             } else {
                 pool = this.connectionPool;
@@ -329,13 +340,7 @@ protected Map<String, ConcurrencyManager> getLocks() {
     protected ConcurrencyManager acquireLock(String sequenceName) {
         ConcurrencyManager manager = getLocks().get(sequenceName);
         if (manager == null) {
-            synchronized (getLocks()) {
-                manager = getLocks().get(sequenceName);
-                if (manager == null) {
-                    manager = new ConcurrencyManager();
-                    getLocks().put(sequenceName, manager);
-                }
-            }
+            manager = getLocks().computeIfAbsent(sequenceName, name -> new ConcurrencyManager());
         }
         manager.acquire();
         return manager;
@@ -362,6 +367,37 @@ protected void logDebugLocalPreallocation(AbstractSession writeSession, String s
         }
     }
 
+    /**
+     * Return if the sequence adapts its preallocation size to the allocation rate.
+     */
+    protected boolean usesAdaptivePreallocation(Sequence sequence) {
+        if (!sequence.supportsAdaptivePreallocation()) {
+            return false;
+        }
+        return sequence.usesAdaptivePreallocation()
+                || ((getOwnerSession().getDatasourcePlatform() instanceof DatasourcePlatform platform) && platform.getDefaultSequenceAdaptivePreallocation());
+    }
+
+    /**
+     * Return the adaptive preallocated values of the sequence, registering them if required.
+     * The lock for the sequence name must be held.
+     * @param prefetchAllocator allocates the next values in the background, null if values should not be prefetched.
+     */
+    protected AdaptivePreallocation getAdaptivePreallocation(PreallocationHandler handler, Sequence sequence, AdaptivePreallocation.Allocator prefetchAllocator) {
+        AdaptivePreallocation preallocation = handler.getAdaptivePreallocated(sequence.getName());
+        if (preallocation == null) {
+            Executor executor = null;
+            ServerPlatform serverPlatform = getOwnerSession().getServerPlatform();
+            if ((prefetchAllocator != null) && (serverPlatform != null)) {
+                executor = serverPlatform::launchContainerRunnable;
+            }
+            preallocation = new AdaptivePreallocation(sequence.getPreallocationSize(), sequence.getMaxPreallocationSize(),
+                    AdaptivePreallocation.DEFAULT_PREALLOCATION_INTERVAL, prefetchAllocator, executor);
+            handler.setAdaptivePreallocated(sequence.getName(), preallocation);
+        }
+        return preallocation;
+    }
+
     static abstract class State {
         abstract Object getNextValue(Sequence sequence, AbstractSession writeSession);
 
@@ -600,7 +636,30 @@ class Preallocation_Transaction_Accessor_State extends State {
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
-                PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
+                String context = getContext(writeSession);
+                PreallocationHandler handler = getPreallocationHandler(context);
+                if (usesAdaptivePreallocation(sequence)) {
+                    // First try to get the next sequence value without locking.
+                    AdaptivePreallocation preallocation = handler.getAdaptivePreallocated(seqName);
+                    Object sequenceValue = (preallocation == null) ? null : preallocation.poll();
+                    if (sequenceValue != null) {
+                        return sequenceValue;
+                    }
+                    ConcurrencyManager lock = acquireLock(seqName);
+                    try {
+                        if (preallocation == null) {
+                            // The next values are prefetched using the owner session, so only without tenant specific sequences.
+                            AdaptivePreallocation.Allocator prefetchAllocator = null;
+                            if (DEFAULT_CONTEXT.equals(context)) {
+                                prefetchAllocator = size -> allocate(sequence, getOwnerSession(), size);
+                            }
+                            preallocation = getAdaptivePreallocation(handler, sequence, prefetchAllocator);
+                        }
+                        return preallocation.allocate(size -> allocate(sequence, writeSession, size));
+                    } finally {
+                        lock.release();
+                    }
+                }
                 Queue<Object> sequencesForName = handler.getPreallocated(seqName);
                 // First try to get the next sequence value without locking.
                 Object sequenceValue = sequencesForName.poll();
@@ -614,60 +673,47 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                     if (sequenceValue != null) {
                         return sequenceValue;
                     }
-                    // note that accessor.getLogin().shouldUseExternalTransactionController()
-                    // should be set to false
-                    Accessor accessor = getConnectionHandler().acquireAccessor();
-                    try {
-                        accessor.beginTransaction(writeSession);
-                        try {
-                            Vector<?> sequences = sequence.getGeneratedVector(accessor, writeSession);
-                            accessor.commitTransaction(writeSession);
-                            // Remove the first value before adding to the global cache to ensure this thread gets one.
-                            sequenceValue = sequences.remove(0);
-                            // copy remaining values to global cache.
-                            handler.setPreallocated(seqName, sequences);
-                            logDebugPreallocation(seqName, sequenceValue, sequences);
-                        } catch (RuntimeException ex) {
-                            try {
-                                // make sure to rollback the transaction we've begun
-                                accessor.rollbackTransaction(writeSession);
-                            } catch (Exception rollbackException) {
-                                // ignore rollback exception
-                            }
-                            // don't eat the original exception
-                            throw ex;
-                        }
-                    } finally {
-                        getConnectionHandler().releaseAccessor(accessor);
-                    }
+                    Vector<?> sequences = allocate(sequence, writeSession, sequence.getPreallocationSize());
+                    // Remove the first value before adding to the global cache to ensure this thread gets one.
+                    sequenceValue = sequences.remove(0);
+                    // copy remaining values to global cache.
+                    handler.setPreallocated(seqName, sequences);
+                    logDebugPreallocation(seqName, sequenceValue, sequences);
                 } finally {
                     lock.release();
                 }
                 return sequenceValue;
             } else {
-                // note that accessor.getLogin().shouldUseExternalTransactionController()
-                // should be set to false
-                Accessor accessor = getConnectionHandler().acquireAccessor();
+                // preallocation size is 1 - just return the first (and only) element of the allocated vector.
+                return allocate(sequence, writeSession, 1).firstElement();
+            }
+        }
+
+        /**
+         * Allocate the sequence values in a transaction on a sequencing accessor.
+         */
+        protected Vector<?> allocate(Sequence sequence, AbstractSession writeSession, int size) {
+            // note that accessor.getLogin().shouldUseExternalTransactionController()
+            // should be set to false
+            Accessor accessor = getConnectionHandler().acquireAccessor();
+            try {
+                accessor.beginTransaction(writeSession);
                 try {
-                    accessor.beginTransaction(writeSession);
+                    Vector<?> sequences = sequence.getGeneratedVector(accessor, writeSession, sequence.getName(), size);
+                    accessor.commitTransaction(writeSession);
+                    return sequences;
+                } catch (RuntimeException ex) {
                     try {
-                        // preallocation size is 1 - just return the first (and only) element of the allocated vector.
-                        Object sequenceValue = sequence.getGeneratedVector(accessor, writeSession).firstElement();
-                        accessor.commitTransaction(writeSession);
-                        return sequenceValue;
-                    } catch (RuntimeException ex) {
-                        try {
-                            // make sure to rollback the transaction we've begun
-                            accessor.rollbackTransaction(writeSession);
-                        } catch (Exception rollbackException) {
-                            // ignore rollback exception
-                        }
-                        // don't eat the original exception
-                        throw ex;
+                        // make sure to rollback the transaction we've begun
+                        accessor.rollbackTransaction(writeSession);
+                    } catch (Exception rollbackException) {
+                        // ignore rollback exception
                     }
-                } finally {
-                    getConnectionHandler().releaseAccessor(accessor);
+                    // don't eat the original exception
+                    throw ex;
                 }
+            } finally {
+                getConnectionHandler().releaseAccessor(accessor);
             }
         }
     }
@@ -683,6 +729,24 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
                 PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
+                if (usesAdaptivePreallocation(sequence)) {
+                    // First try to get the next sequence value without locking.
+                    AdaptivePreallocation preallocation = handler.getAdaptivePreallocated(seqName);
+                    Object sequenceValue = (preallocation == null) ? null : preallocation.poll();
+                    if (sequenceValue != null) {
+                        return sequenceValue;
+                    }
+                    ConcurrencyManager lock = acquireLock(seqName);
+                    try {
+                        if (preallocation == null) {
+                            // Values are allocated using the write session, so are not prefetched.
+                            preallocation = getAdaptivePreallocation(handler, sequence, null);
+                        }
+                        return preallocation.allocate(size -> sequence.getGeneratedVector(null, writeSession, seqName, size));
+                    } finally {
+                        lock.release();
+                    }
+                }
                 Queue<Object> sequencesForName = handler.getPreallocated(seqName);
                 // First try to get the next sequence value without locking.
                 Object sequenceValue = sequencesForName.poll();
@@ -1197,7 +1261,7 @@ public void setConnectionPool(ConnectionPool connectionPool) {
     }
 
     private String getContext(AbstractSession writeSession) {
-        String context = "default";
+        String context = DEFAULT_CONTEXT;
         if (writeSession != null) {
             MultitenantPolicy policy = writeSession.getProject().getMultitenantPolicy();
             if (policy != null && policy.isSchemaPerMultitenantPolicy()) {
@@ -29,6 +29,9 @@ public class ArrayRecord extends DatabaseRecord {
     protected DatabaseField[] fieldsArray;
     protected Object[] valuesArray;
 
+    /** The positions of the fields, shared by the rows of a call, or null. */
+    protected RecordLayout layout;
+
     protected ArrayRecord() {
         super();
     }
@@ -39,6 +42,39 @@ public ArrayRecord(Vector fields, DatabaseField[] fieldsArray, Object[] valuesAr
         this.valuesArray = valuesArray;
     }
 
+    public ArrayRecord(Vector fields, DatabaseField[] fieldsArray, Object[] valuesArray, RecordLayout layout) {
+        this(fields, fieldsArray, valuesArray);
+        this.layout = layout;
+    }
+
+    /**
+     * Return the position of the field in the fields array, or -1 if the row does not have the field.
+     * PERF: The field's index is checked first, then the layout of the rows is used if set.
+     */
+    protected int indexOf(DatabaseField key) {
+        int index = key.index;
+        if ((index >= 0) && (index < this.size)) {
+            DatabaseField field = this.fieldsArray[index];
+            if ((field == key) || field.equals(key)) {
+                return index;
+            }
+        }
+        if ((this.layout != null) && (this.layout.getFields() == this.fieldsArray)) {
+            return this.layout.indexOf(key);
+        }
+        for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
+            DatabaseField field = this.fieldsArray[fieldIndex];
+            if ((field == key) || field.equals(key)) {
+                // PERF: If the fields index was not set, then set it.
+                if (index == -1) {
+                    key.setIndex(fieldIndex);
+                }
+                return fieldIndex;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Reset the fields and values from the arrays.
      * This removes the optimization if a non-optimized method is called.
@@ -93,20 +129,7 @@ public AbstractRecord clone() {
     @Override
     public boolean containsKey(DatabaseField key) {
         if (this.fieldsArray != null) {
-            // Optimize check.
-            int index = key.index;
-            if ((index >= 0) && (index < this.size)) {
-                DatabaseField field = this.fieldsArray[index];
-                if ((field == key) || field.equals(key)) {
-                    return true;
-                }
-            }
-            for (DatabaseField field : this.fieldsArray) {
-                if ((field == key) || field.equals(key)) {
-                    return true;
-                }
-            }
-            return false;
+            return indexOf(key) >= 0;
         } else {
             return super.containsKey(key);
         }
@@ -137,23 +160,9 @@ public boolean containsValue(Object value) {
     @Override
     public Object get(DatabaseField key) {
         if (this.fieldsArray != null) {
-            // Optimize check.
-            int index = key.index;
-            if ((index >= 0) && (index < this.size)) {
-                DatabaseField field = this.fieldsArray[index];
-                if ((field == key) || field.equals(key)) {
-                    return this.valuesArray[index];
-                }
-            }
-            for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
-                DatabaseField field = this.fieldsArray[fieldIndex];
-                if ((field == key) || field.equals(key)) {
-                    // PERF: If the fields index was not set, then set it.
-                    if (index == -1) {
-                        key.setIndex(fieldIndex);
-                    }
-                    return this.valuesArray[fieldIndex];
-                }
+            int index = indexOf(key);
+            if (index >= 0) {
+                return this.valuesArray[index];
             }
             return null;
         } else {
@@ -168,23 +177,9 @@ public Object get(DatabaseField key) {
     @Override
     public Object getIndicatingNoEntry(DatabaseField key) {
         if (this.fieldsArray != null) {
-            // Optimize check.
-            int index = key.index;
-            if ((index >= 0) && (index < this.size)) {
-                DatabaseField field = this.fieldsArray[index];
-                if ((field == key) || field.equals(key)) {
-                    return this.valuesArray[index];
-                }
-            }
-            for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
-                DatabaseField field = this.fieldsArray[fieldIndex];
-                if ((field == key) || field.equals(key)) {
-                    // PERF: If the fields index was not set, then set it.
-                    if (index == -1) {
-                        key.setIndex(fieldIndex);
-                    }
-                    return this.valuesArray[fieldIndex];
-                }
+            int index = indexOf(key);
+            if (index >= 0) {
+                return this.valuesArray[index];
             }
             return AbstractRecord.noEntry;
         } else {
@@ -199,19 +194,9 @@ public Object getIndicatingNoEntry(DatabaseField key) {
     @Override
     public DatabaseField getField(DatabaseField key) {
         if (this.fieldsArray != null) {
-            // Optimize check.
-            int index = key.index;
-            if ((index >= 0) && (index < this.size)) {
-                DatabaseField field = this.fieldsArray[index];
-                if ((field == key) || field.equals(key)) {
-                    return field;
-                }
-            }
-            for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
-                DatabaseField field = this.fieldsArray[fieldIndex];
-                if ((field == key) || field.equals(key)) {
-                    return field;
-                }
+            int index = indexOf(key);
+            if (index >= 0) {
+                return this.fieldsArray[index];
             }
             return null;
         } else {
@@ -281,25 +266,9 @@ public void replaceAt(Object value, int index) {
     @Override
     public void replaceAt(Object value, DatabaseField key) {
         if (this.fieldsArray != null) {
-            // Optimize check.
-            int index = key.index;
-            if ((index >= 0) && (index < this.size)) {
-                DatabaseField field = this.fieldsArray[index];
-                if ((field == key) || field.equals(key)) {
-                    this.valuesArray[index] = value;
-                    return;
-                }
-            }
-            for (int fieldIndex = 0; fieldIndex < this.size; fieldIndex++) {
-                DatabaseField field = this.fieldsArray[fieldIndex];
-                if ((field == key) || field.equals(key)) {
-                    // PERF: If the fields index was not set, then set it.
-                    if (index == -1) {
-                        key.setIndex(fieldIndex);
-                    }
-                    this.valuesArray[fieldIndex] = value;
-                    return;
-                }
+            int index = indexOf(key);
+            if (index >= 0) {
+                this.valuesArray[index] = value;
             }
         } else {
             super.replaceAt(value, key);
@@ -36,11 +36,14 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.Vector;
 
@@ -51,6 +54,9 @@ public class CommitManager {
     /** Order based on mapping foreign key constraints on how to insert objects by class. */
     protected List<Class<?>> commitOrder;
 
+    /** The classes each class has a commit order dependency with, in either direction, by inheritance root class. */
+    protected Map<Class<?>, Set<Class<?>>> commitOrderDependencies;
+
     /**
      * This tracks the commit state for the objects, PENDING, PRE, POST, COMPLETE.
      * The key is the object and the value is the state.
@@ -152,12 +158,18 @@ public void commitAllObjectsWithChangeSet(UnitOfWorkChangeSet uowChangeSet) thro
                     commitChangedObjectsForClassWithChangeSet(uowChangeSet, theClass);
                 }
             } else {
-                // The commit order is all of the classes ordered by dependencies, this is done for deadlock avoidance.
-                List<Class<?>> commitOrder = getCommitOrder();
-                int size = commitOrder.size();
-                for (int index = 0; index < size; index++) {
-                    Class<?> theClass = commitOrder.get(index);
-                    commitAllObjectsForClassWithChangeSet(uowChangeSet, theClass);
+                ParallelCommitExecutor executor = ParallelCommitExecutor.getExecutor(this, uowChangeSet);
+                if (executor != null) {
+                    // Bulk insert of independent groups of classes in parallel.
+                    executor.commit(uowChangeSet);
+                } else {
+                    // The commit order is all of the classes ordered by dependencies, this is done for deadlock avoidance.
+                    List<Class<?>> commitOrder = getCommitOrder();
+                    int size = commitOrder.size();
+                    for (int index = 0; index < size; index++) {
+                        Class<?> theClass = commitOrder.get(index);
+                        commitAllObjectsForClassWithChangeSet(uowChangeSet, theClass);
+                    }
                 }
             }
 
@@ -220,6 +232,15 @@ protected void commitAllObjectsForClassWithChangeSet(UnitOfWorkChangeSet uowChan
      * This allows for the order of the classes to be processed optimally.
      */
     protected void commitNewObjectsForClassWithChangeSet(UnitOfWorkChangeSet uowChangeSet, Class<?> theClass) {
+        commitNewObjectsForClassWithChangeSet(uowChangeSet, theClass, null);
+    }
+
+    /**
+     * Commit all of the new objects of the class type in the change set.
+     * If a list is given the change sets of the objects are added to it, instead of being moved to the changed objects,
+     * this is used when committing in parallel.
+     */
+    protected void commitNewObjectsForClassWithChangeSet(UnitOfWorkChangeSet uowChangeSet, Class<?> theClass, List<ObjectChangeSet> inserted) {
         Map<ObjectChangeSet, ObjectChangeSet> newObjectChangesList = uowChangeSet.getNewObjectChangeSets().get(theClass);
         if (newObjectChangesList != null) { // may be no changes for that class type.
             AbstractSession session = getSession();
@@ -247,7 +268,11 @@ protected void commitNewObjectsForClassWithChangeSet(UnitOfWorkChangeSet uowChan
                     commitQuery.setModifyRow(null);
                     session.executeQuery(commitQuery);
                 }
-                uowChangeSet.putNewObjectInChangesList(changeSetToWrite, session);
+                if (inserted != null) {
+                    inserted.add(changeSetToWrite);
+                } else {
+                    uowChangeSet.putNewObjectInChangesList(changeSetToWrite, session);
+                }
             }
         }
     }
@@ -493,18 +518,67 @@ public void initializeCommitOrder() {
             descriptors.addElement(descriptorsArray[index]);
         }
 
+        Map<Class<?>, Set<Class<?>>> dependencies = new HashMap<>();
         CommitOrderCalculator calculator = new CommitOrderCalculator(getSession());
         calculator.addNodes(descriptors);
         calculator.calculateMappingDependencies();
         calculator.orderCommits();
+        addCommitOrderDependencies(calculator, dependencies);
         descriptors = calculator.getOrderedDescriptors();
 
         calculator = new CommitOrderCalculator(getSession());
         calculator.addNodes(descriptors);
         calculator.calculateSpecifiedDependencies();
         calculator.orderCommits();
+        addCommitOrderDependencies(calculator, dependencies);
 
         setCommitOrder(calculator.getOrderedClasses());
+        setCommitOrderDependencies(dependencies);
+    }
+
+    /**
+     * Record the dependencies of the calculator's nodes in both directions, by inheritance root class.
+     */
+    protected void addCommitOrderDependencies(CommitOrderCalculator calculator, Map<Class<?>, Set<Class<?>>> dependencies) {
+        for (CommitOrderDependencyNode node : calculator.getNodes()) {
+            Class<?> rootClass = getRootClass(node.getDescriptor());
+            dependencies.computeIfAbsent(rootClass, key -> new HashSet<>());
+            for (Object relatedNode : node.getRelatedNodes()) {
+                Class<?> relatedClass = getRootClass(((CommitOrderDependencyNode)relatedNode).getDescriptor());
+                dependencies.get(rootClass).add(relatedClass);
+                dependencies.computeIfAbsent(relatedClass, key -> new HashSet<>()).add(rootClass);
+            }
+        }
+    }
+
+    protected Class<?> getRootClass(ClassDescriptor descriptor) {
+        if (descriptor.hasInheritance()) {
+            return descriptor.getInheritancePolicy().getRootParentDescriptor().getJavaClass();
+        }
+        return descriptor.getJavaClass();
+    }
+
+    /**
+     * Return if the writes of the two descriptors may have to be ordered,
+     * because they share an inheritance hierarchy, or have a commit order dependency (foreign key constraint).
+     * Writes of unrelated descriptors can be executed in any order, or concurrently.
+     * If the dependencies are not known the descriptors are considered dependent.
+     */
+    public boolean isCommitOrderDependent(ClassDescriptor descriptor, ClassDescriptor otherDescriptor) {
+        Class<?> rootClass = getRootClass(descriptor);
+        Class<?> otherRootClass = getRootClass(otherDescriptor);
+        if (rootClass == otherRootClass) {
+            return true;
+        }
+        Map<Class<?>, Set<Class<?>>> dependencies = this.commitOrderDependencies;
+        if (dependencies == null) {
+            return true;
+        }
+        Set<Class<?>> classDependencies = dependencies.get(rootClass);
+        if ((classDependencies == null) || !dependencies.containsKey(otherRootClass)) {
+            return true;
+        }
+        return classDependencies.contains(otherRootClass);
     }
 
     /**
@@ -613,6 +687,32 @@ public void markShallowCommit(Object object) {
         getShallowCommits().put(object, object); // Use as set.
     }
 
+    /**
+     * Merge the commit state of a commit manager used by another thread to commit a group of objects in parallel.
+     * Its deferred calls, data modifications and objects to delete are performed at the end of this commit.
+     */
+    protected void mergeParallelCommit(CommitManager commitManager) {
+        if (commitManager.commitState != null) {
+            getCommitState().putAll(commitManager.commitState);
+        }
+        if (commitManager.shallowCommits != null) {
+            getShallowCommits().putAll(commitManager.shallowCommits);
+        }
+        if (commitManager.hasDeferredCalls()) {
+            for (Map.Entry<DatabaseTable, List<Object[]>> entry : commitManager.deferredCalls.entrySet()) {
+                getDeferredCalls().computeIfAbsent(entry.getKey(), table -> new ArrayList<>()).addAll(entry.getValue());
+            }
+        }
+        if (commitManager.hasDataModifications()) {
+            for (Map.Entry<DatabaseMapping, List<Object[]>> entry : commitManager.dataModifications.entrySet()) {
+                getDataModifications().computeIfAbsent(entry.getKey(), mapping -> new ArrayList<>()).addAll(entry.getValue());
+            }
+        }
+        if (commitManager.hasObjectsToDelete()) {
+            getObjectsToDelete().addAll(commitManager.objectsToDelete);
+        }
+    }
+
     /**
      * Reset the commits.
      * This must be done before a new commit process is begun.
@@ -636,6 +736,20 @@ public void setCommitOrder(List commitOrder) {
         this.commitOrder = commitOrder;
     }
 
+    /**
+     * Return the classes each class has a commit order dependency with, by inheritance root class.
+     */
+    public Map<Class<?>, Set<Class<?>>> getCommitOrderDependencies() {
+        return commitOrderDependencies;
+    }
+
+    /**
+     * Set the classes each class has a commit order dependency with, by inheritance root class.
+     */
+    public void setCommitOrderDependencies(Map<Class<?>, Set<Class<?>>> commitOrderDependencies) {
+        this.commitOrderDependencies = commitOrderDependencies;
+    }
+
     /**
      * Used to store data queries to be performed at the end of the commit.
      * This is done to decrease dependencies and avoid deadlock.
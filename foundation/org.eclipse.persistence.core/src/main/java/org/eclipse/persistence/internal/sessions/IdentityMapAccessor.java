@@ -27,6 +27,7 @@
 import org.eclipse.persistence.internal.helper.WriteLockManager;
 import org.eclipse.persistence.internal.identitymaps.CacheId;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.CacheRowSnapshot;
 import org.eclipse.persistence.internal.identitymaps.IdentityMap;
 import org.eclipse.persistence.internal.identitymaps.IdentityMapManager;
 import org.eclipse.persistence.logging.SessionLog;
@@ -37,11 +38,14 @@
 import org.eclipse.persistence.sessions.coordination.CommandManager;
 import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Vector;
 
 /**
@@ -743,6 +747,7 @@ public void invalidateObject(Object primaryKey, Class<?> theClass, boolean inval
         if (key != null) {
             key.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
         }
+        getIdentityMapManager().removeFromOffHeapCache(primaryKey, theClass);
         if (invalidateCluster) {
             CommandManager rcm = getSession().getCommandManager();
             if (rcm != null) {
@@ -865,6 +870,11 @@ public void invalidateClass(Class<?> myClass, boolean recurseAndInvalidateToPare
             }
         }
         invalidateQueryCache(myClass);
+        if (recurseAndInvalidateToParentRoot) {
+            getIdentityMapManager().clearOffHeapCache(getSession().getDescriptor(myClass).getRootDescriptor().getJavaClass());
+        } else {
+            getIdentityMapManager().clearOffHeapCache(myClass);
+        }
         if (session.getProject().allowExtendedCacheLogging()) {
             session.log(SessionLog.FINEST, SessionLog.CACHE, "cache_class_invalidation", new Object[] {myClass, Thread.currentThread().getId(), Thread.currentThread().getName()});
         }
@@ -879,6 +889,24 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         getIdentityMapManager().invalidateQueryCache(classThatChanged);
     }
 
+    /**
+     * INTERNAL:
+     * Invalidate/remove any results for the class from the query cache that depend on the changed attributes.
+     * @param changedAttributes the names of the attributes changed, null to invalidate any results for the class
+     */
+    public void invalidateQueryCache(Class<?> classThatChanged, Set<String> changedAttributes) {
+        getIdentityMapManager().invalidateQueryCache(classThatChanged, changedAttributes);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if any cached query results track their dependencies,
+     * if not the changed attributes do not need to be collected to invalidate the query cache.
+     */
+    public boolean hasQueryResultsDependencies() {
+        return getIdentityMapManager().hasQueryResultsDependencies();
+    }
+
     /**
      * ADVANCED:
      * Set all of the objects from all identity maps to be invalid in the cache.
@@ -1130,6 +1158,26 @@ public void updateWriteLockValue(Object primaryKey, Class<?> theClass, Object wr
         getIdentityMapManager().setWriteLockValue(primaryKey, theClass, writeLockValue);
     }
 
+    /**
+     * ADVANCED:
+     * Write the rows of the objects in the shared cache to the file.
+     * @see CacheRowSnapshot
+     */
+    @Override
+    public long writeCacheSnapshot(File file) throws IOException {
+        return new CacheRowSnapshot(getSession().getRootSession(null), file).write();
+    }
+
+    /**
+     * ADVANCED:
+     * Restore the shared cache from a file written by writeCacheSnapshot.
+     * @see CacheRowSnapshot
+     */
+    @Override
+    public long restoreCacheSnapshot(File file) throws IOException {
+        return new CacheRowSnapshot(getSession().getRootSession(null), file).restore();
+    }
+
     /**
      * INTERNAL:
      * This can be used to help debugging an object identity problem.
@@ -30,6 +30,7 @@
 import org.eclipse.persistence.internal.descriptors.PersistenceEntity;
 import org.eclipse.persistence.internal.helper.linkedlist.LinkedNode;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.IdentityMapManager;
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
 import org.eclipse.persistence.internal.sessions.remote.ObjectDescriptor;
 import org.eclipse.persistence.internal.sessions.remote.RemoteUnitOfWork;
@@ -40,6 +41,7 @@
 import org.eclipse.persistence.sessions.remote.DistributedSession;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -437,6 +439,8 @@ public void mergeChangesFromChangeSet(UnitOfWorkChangeSet uowChangeSet) {
             this.session.getIdentityMapAccessorInstance().getWriteLockManager().acquireRequiredLocks(this, uowChangeSet);
             Iterator<ObjectChangeSet> objectChangeEnum = uowChangeSet.getAllChangeSets().keySet().iterator();
             Set<Class<?>> classesChanged = new HashSet<>();
+            // Only collect the changed attributes if some query results depend on them.
+            Map<Class<?>, Set<String>> attributesChanged = this.session.getIdentityMapAccessorInstance().hasQueryResultsDependencies() ? new HashMap<>() : null;
             while (objectChangeEnum.hasNext()) {
                 ObjectChangeSet objectChangeSet = objectChangeEnum.next();
                 // Don't read the object here.  If it is null then we won't merge it at this stage, unless it
@@ -452,6 +456,9 @@ public void mergeChangesFromChangeSet(UnitOfWorkChangeSet uowChangeSet) {
                     this.session.incrementProfile(SessionProfiler.ChangeSetsNotProcessed);
                 }
                 classesChanged.add(objectChangeSet.getClassType(this.session));
+                if (attributesChanged != null) {
+                    IdentityMapManager.addChangedAttributes(attributesChanged, objectChangeSet.getClassType(this.session), objectChangeSet);
+                }
             }
             if (uowChangeSet.hasDeletedObjects()) {
                 Iterator<ObjectChangeSet> deletedObjects = uowChangeSet.getDeletedObjects().values().iterator();
@@ -459,11 +466,18 @@ public void mergeChangesFromChangeSet(UnitOfWorkChangeSet uowChangeSet) {
                     ObjectChangeSet changeSet = deletedObjects.next();
                     changeSet.removeFromIdentityMap(this.session);
                     classesChanged.add(changeSet.getClassType(this.session));
+                    if (attributesChanged != null) {
+                        attributesChanged.put(changeSet.getClassType(this.session), null);
+                    }
                 }
             }
             // Clear the query cache as well.
             for (Class<?> changedClass : classesChanged) {
-                this.session.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass);
+                if (attributesChanged == null) {
+                    this.session.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass);
+                } else {
+                    this.session.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass, attributesChanged.get(changedClass));
+                }
             }
         } catch (RuntimeException exception) {
             this.session.handleException(exception);
@@ -548,6 +562,10 @@ protected Object mergeChangesIntoDistributedCache(Object original, ObjectChangeS
                 cacheKey.setReadTime(getSystemTime());
             }
             cacheKey.updateAccess();
+            if (descriptor.getCachePolicy().hasOffHeapCache()) {
+                // The row stored off-heap no longer matches the merged object.
+                session.getIdentityMapAccessorInstance().getIdentityMapManager().removeFromOffHeapCache(primaryKey, localClassType);
+            }
         }
 
         return original;
@@ -1328,6 +1346,10 @@ protected void updateCacheKeyProperties(UnitOfWorkImpl unitOfWork, CacheKey cach
                         cacheKey.setReadTime(getSystemTime());
                     }
                     cacheKey.updateAccess();
+                    if (descriptor.getCachePolicy().hasOffHeapCache()) {
+                        // The row stored off-heap no longer matches the merged object.
+                        unitOfWork.getParentIdentityMapSession(descriptor, false, true).getIdentityMapAccessorInstance().getIdentityMapManager().removeFromOffHeapCache(cacheKey.getKey(), descriptor.getJavaClass());
+                    }
                 } finally {
                     if (locked) {
                         cacheKey.release();
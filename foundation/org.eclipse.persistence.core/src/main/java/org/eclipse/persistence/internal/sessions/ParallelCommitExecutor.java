@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.helper.DatabaseTable;
+import org.eclipse.persistence.platform.server.ServerPlatform;
+import org.eclipse.persistence.sessions.server.ClientSession;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+
+/**
+ * INTERNAL:
+ * Inserts the new objects of a unit of work commit in parallel.
+ * <p>
+ * The classes of the new objects are split into groups with no commit order dependency
+ * (foreign key constraint), inheritance hierarchy, or table in common between them.
+ * The first group is inserted by the committing thread in the unit of work's transaction,
+ * each other group by a server platform container thread, on its own connection from the client session's
+ * connection pool, in its own transaction. The classes of a group are inserted in the commit order,
+ * as in a serial commit. The batched statements of each group are executed at the end of the group,
+ * and those of the unit of work's connection once the first group has been inserted.
+ * The group transactions are committed once all the groups have been inserted and their statements executed,
+ * or all rolled back if any group failed, so the commit is not atomic.
+ * <p>
+ * Each thread inserting a group has its own commit manager, so the commit state (the objects committed,
+ * the deferred calls and data modifications) is not shared. It is merged into the unit of work's commit manager
+ * once all the groups have been inserted, and the deferred calls are then executed on the unit of work's connection.
+ * The unit of work and its change set are shared, the inserts only read the registered objects and their change sets,
+ * and the new objects are only moved to the changed objects of the change set once all the groups have been inserted.
+ * @see org.eclipse.persistence.sessions.UnitOfWork#setParallelFlushThreads(int)
+ * @since EclipseLink 5.0
+ */
+public class ParallelCommitExecutor {
+
+    protected final CommitManager commitManager;
+    protected final UnitOfWorkImpl unitOfWork;
+    protected final ClientSession clientSession;
+    protected final ConnectionPool connectionPool;
+
+    /** The groups of independent classes, in the commit order. */
+    protected final List<List<Class<?>>> groups;
+
+    protected ParallelCommitExecutor(CommitManager commitManager, UnitOfWorkImpl unitOfWork, ClientSession clientSession,
+                                     ConnectionPool connectionPool, List<List<Class<?>>> groups) {
+        this.commitManager = commitManager;
+        this.unitOfWork = unitOfWork;
+        this.clientSession = clientSession;
+        this.connectionPool = connectionPool;
+        this.groups = groups;
+    }
+
+    /**
+     * Return the executor inserting the new objects of the change set in parallel,
+     * or null if the commit must be serial.
+     */
+    public static ParallelCommitExecutor getExecutor(CommitManager commitManager, UnitOfWorkChangeSet uowChangeSet) {
+        if (!(commitManager.getSession() instanceof UnitOfWorkImpl unitOfWork) || (unitOfWork.getParallelFlushThreads() < 2)
+                || unitOfWork.isNestedUnitOfWork() || !(unitOfWork.getParent() instanceof ClientSession clientSession)) {
+            return null;
+        }
+        // Only a bulk insert, before anything is written in the client session's transaction, can be split.
+        if (!uowChangeSet.getObjectChanges().isEmpty() || clientSession.hasWriteConnection()
+                || clientSession.hasExternalTransactionController() || (clientSession.getPartitioningPolicy() != null)
+                || !clientSession.getConnectionPolicy().isPooled()) {
+            return null;
+        }
+        ConnectionPool connectionPool = clientSession.getParent().getConnectionPool(clientSession.getConnectionPolicy().getPoolName());
+        if (connectionPool == null) {
+            return null;
+        }
+        List<Class<?>> classes = new ArrayList<>();
+        for (Class<?> theClass : commitManager.getCommitOrder()) {
+            Map<ObjectChangeSet, ObjectChangeSet> newObjects = uowChangeSet.getNewObjectChangeSets().get(theClass);
+            if ((newObjects != null) && !newObjects.isEmpty()) {
+                ClassDescriptor descriptor = unitOfWork.getDescriptor(theClass);
+                // The id must be known before insert, and the connection must not be chosen by partitioning.
+                if ((descriptor == null) || descriptor.isPrimaryKeySetAfterInsert(unitOfWork) || (descriptor.getPartitioningPolicy() != null)) {
+                    return null;
+                }
+                classes.add(theClass);
+            }
+        }
+        List<List<Class<?>>> groups = buildGroups(commitManager, unitOfWork, classes, unitOfWork.getParallelFlushThreads());
+        if (groups.size() < 2) {
+            return null;
+        }
+        return new ParallelCommitExecutor(commitManager, unitOfWork, clientSession, connectionPool, groups);
+    }
+
+    /**
+     * Split the classes into at most the maximum number of groups of independent classes.
+     * Classes with a commit order dependency, or a table in common, are in the same group.
+     * If there are more independent groups than the maximum, groups are merged in turn.
+     * The classes of each group, including merged groups, are in the order of the classes given,
+     * and the groups in the order of their first class.
+     */
+    public static List<List<Class<?>>> buildGroups(CommitManager commitManager, AbstractSession session, List<Class<?>> classes, int maxGroups) {
+        int size = classes.size();
+        int[] parents = new int[size];
+        ClassDescriptor[] descriptors = new ClassDescriptor[size];
+        Map<DatabaseTable, Integer> tables = new HashMap<>();
+        for (int index = 0; index < size; index++) {
+            parents[index] = index;
+            descriptors[index] = session.getDescriptor(classes.get(index));
+            for (int other = 0; other < index; other++) {
+                if (commitManager.isCommitOrderDependent(descriptors[index], descriptors[other])) {
+                    union(parents, index, other);
+                }
+            }
+            for (DatabaseTable table : descriptors[index].getTables()) {
+                Integer other = tables.putIfAbsent(table, index);
+                if (other != null) {
+                    union(parents, index, other);
+                }
+            }
+        }
+        List<List<Class<?>>> groups = new ArrayList<>();
+        Map<Integer, List<Class<?>>> groupsByRoot = new HashMap<>();
+        for (int index = 0; index < size; index++) {
+            int root = find(parents, index);
+            List<Class<?>> group = groupsByRoot.get(root);
+            if (group == null) {
+                if (groups.size() < maxGroups) {
+                    group = new ArrayList<>();
+                    groups.add(group);
+                } else {
+                    group = groups.get(groupsByRoot.size() % maxGroups);
+                }
+                groupsByRoot.put(root, group);
+            }
+            group.add(classes.get(index));
+        }
+        return groups;
+    }
+
+    protected static int find(int[] parents, int index) {
+        while (parents[index] != index) {
+            parents[index] = parents[parents[index]];
+            index = parents[index];
+        }
+        return index;
+    }
+
+    protected static void union(int[] parents, int index, int other) {
+        int root = find(parents, index);
+        int otherRoot = find(parents, other);
+        // The smallest index is the root, so the groups are ordered by their first class.
+        if (root < otherRoot) {
+            parents[otherRoot] = root;
+        } else {
+            parents[root] = otherRoot;
+        }
+    }
+
+    /**
+     * Insert the new objects of the change set, each group of classes in parallel,
+     * and commit the transactions of the groups inserted on their own connection.
+     */
+    public void commit(UnitOfWorkChangeSet uowChangeSet) {
+        int size = this.groups.size();
+        Map<Thread, Collection<Accessor>> connections = new ConcurrentHashMap<>();
+        Map<Thread, CommitManager> commitManagers = new ConcurrentHashMap<>();
+        List<Accessor> accessors = new ArrayList<>(size - 1);
+        List<CommitManager> groupCommitManagers = new ArrayList<>(size - 1);
+        List<CompletableFuture<List<ObjectChangeSet>>> futures = new ArrayList<>(size - 1);
+        List<List<ObjectChangeSet>> inserted = new ArrayList<>(size);
+        RuntimeException failure = null;
+        this.clientSession.setParallelWriteConnections(connections);
+        this.unitOfWork.setParallelCommitManagers(commitManagers);
+        try {
+            Executor executor = getExecutor();
+            for (int index = 1; index < size; index++) {
+                Accessor accessor = this.connectionPool.acquireConnection();
+                accessors.add(accessor);
+                accessor.beginTransaction(this.clientSession);
+                CommitManager commitManager = buildCommitManager();
+                groupCommitManagers.add(commitManager);
+                List<Class<?>> group = this.groups.get(index);
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    Thread thread = Thread.currentThread();
+                    connections.put(thread, List.of(accessor));
+                    commitManagers.put(thread, commitManager);
+                    try {
+                        List<ObjectChangeSet> changeSets = commitGroup(commitManager, uowChangeSet, group);
+                        // Execute the batched statements, so a failure is raised before any transaction is committed.
+                        accessor.writesCompleted(this.clientSession);
+                        return changeSets;
+                    } finally {
+                        connections.remove(thread);
+                        commitManagers.remove(thread);
+                    }
+                }, executor));
+            }
+            // The first group is inserted by this thread, on the unit of work's connection.
+            inserted.add(commitGroup(this.commitManager, uowChangeSet, this.groups.get(0)));
+            this.clientSession.writesCompleted();
+        } catch (RuntimeException exception) {
+            failure = exception;
+        } finally {
+            for (CompletableFuture<List<ObjectChangeSet>> future : futures) {
+                try {
+                    inserted.add(future.join());
+                } catch (RuntimeException exception) {
+                    if (failure == null) {
+                        failure = unwrap(exception);
+                    }
+                }
+            }
+            this.clientSession.setParallelWriteConnections(null);
+            this.unitOfWork.setParallelCommitManagers(null);
+            failure = completeTransactions(accessors, failure);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        for (CommitManager commitManager : groupCommitManagers) {
+            this.commitManager.mergeParallelCommit(commitManager);
+        }
+        for (List<ObjectChangeSet> changeSets : inserted) {
+            for (ObjectChangeSet changeSet : changeSets) {
+                uowChangeSet.putNewObjectInChangesList(changeSet, this.unitOfWork);
+            }
+        }
+    }
+
+    /**
+     * Insert the new objects of the classes of the group, in order.
+     * Return the change sets of the objects, to be moved to the changed objects.
+     */
+    protected List<ObjectChangeSet> commitGroup(CommitManager commitManager, UnitOfWorkChangeSet uowChangeSet, List<Class<?>> group) {
+        List<ObjectChangeSet> inserted = new ArrayList<>();
+        for (Class<?> theClass : group) {
+            commitManager.commitNewObjectsForClassWithChangeSet(uowChangeSet, theClass, inserted);
+        }
+        return inserted;
+    }
+
+    /**
+     * Return the commit manager of a group inserted by another thread, with its own commit state.
+     */
+    protected CommitManager buildCommitManager() {
+        CommitManager commitManager = new CommitManager(this.unitOfWork);
+        commitManager.setCommitOrder(this.commitManager.getCommitOrder());
+        commitManager.setCommitOrderDependencies(this.commitManager.getCommitOrderDependencies());
+        commitManager.setIsActive(true);
+        return commitManager;
+    }
+
+    /**
+     * Commit the transactions of the connections if all the groups were inserted and their statements executed,
+     * otherwise roll them all back, and release the connections. Return the first failure.
+     */
+    protected RuntimeException completeTransactions(List<Accessor> accessors, RuntimeException failure) {
+        for (Accessor accessor : accessors) {
+            try {
+                if (failure == null) {
+                    accessor.commitTransaction(this.clientSession);
+                } else {
+                    accessor.rollbackTransaction(this.clientSession);
+                }
+            } catch (RuntimeException exception) {
+                if (failure == null) {
+                    failure = exception;
+                    // The following transactions are rolled back, this one was not committed.
+                    try {
+                        accessor.rollbackTransaction(this.clientSession);
+                    } catch (RuntimeException ignore) {
+                        // The commit failure is raised.
+                    }
+                }
+            } finally {
+                this.connectionPool.releaseConnection(accessor);
+            }
+        }
+        return failure;
+    }
+
+    protected RuntimeException unwrap(RuntimeException failure) {
+        if ((failure instanceof CompletionException) && (failure.getCause() instanceof RuntimeException cause)) {
+            return cause;
+        }
+        return failure;
+    }
+
+    /**
+     * Return the executor for the groups, the server platform's container threads.
+     */
+    protected Executor getExecutor() {
+        ServerPlatform serverPlatform = this.unitOfWork.getServerPlatform();
+        if (serverPlatform == null) {
+            return Runnable::run;
+        }
+        return serverPlatform::launchContainerRunnable;
+    }
+
+    /**
+     * Return the groups of independent classes, in the commit order.
+     */
+    public List<List<Class<?>>> getGroups() {
+        return groups;
+    }
+}
@@ -221,6 +221,7 @@ protected static abstract class Prop {
             addProp(new BooleanProp(PersistenceUnitProperties.VALIDATE_EXISTENCE, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.ORDER_UPDATES, "true"));
             addProp(new CommitOrderProp());
+            addProp(new ParallelFlushProp());
             addProp(new BooleanProp(PersistenceUnitProperties.JOIN_EXISTING_TRANSACTION, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.COMPOSITE_UNIT, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.COMPOSITE_UNIT_MEMBER, "false"));
@@ -556,6 +557,12 @@ protected static class CommitOrderProp extends Prop {
         }
     }
 
+    protected static class ParallelFlushProp extends Prop {
+        ParallelFlushProp() {
+            super(EntityManagerProperties.PERSISTENCE_CONTEXT_UNSAFE_PARALLEL_FLUSH, Integer.toString(1));
+        }
+    }
+
     protected static class TargetDatabaseProp extends Prop {
         TargetDatabaseProp() {
             super(PersistenceUnitProperties.TARGET_DATABASE, TargetDatabase.DEFAULT);
@@ -639,7 +646,9 @@ protected static class CacheTypeProp extends Prop {
                 {CacheType.Soft, pcg + "SoftIdentityMap"},
                 {CacheType.SoftWeak, pcg + "SoftCacheWeakIdentityMap"},
                 {CacheType.HardWeak, pcg + "HardCacheWeakIdentityMap"},
+                {CacheType.LFUWeak, pcg + "LFUCacheWeakIdentityMap"},
                 {CacheType.Full, pcg + "FullIdentityMap"},
+                {CacheType.Concurrent, pcg + "ConcurrentIdentityMap"},
                 {CacheType.NONE, pcg + "NoIdentityMap"}
             };
         }
@@ -669,7 +678,9 @@ protected static class BatchWritingProp extends Prop {
                 BatchWriting.None,
                 BatchWriting.JDBC,
                 BatchWriting.Buffered,
-                BatchWriting.OracleJDBC
+                BatchWriting.OracleJDBC,
+                BatchWriting.JDBCPipelined,
+                BatchWriting.JDBCMultiRowInsert
             };
         }
     }
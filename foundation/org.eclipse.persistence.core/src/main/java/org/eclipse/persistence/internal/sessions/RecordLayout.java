@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.persistence.internal.helper.DatabaseField;
+
+/**
+ * INTERNAL:
+ * The positions of the fields of the rows of a result, shared by all the {@link ArrayRecord} rows of a call.
+ * <p>
+ * A field is looked up in a row by its index first, which is only its position if the rows have the fields of its
+ * descriptor in order. Otherwise the position is resolved by the layout: the fields of the result are resolved to their
+ * position when the layout is built, and any other field (such as a mapping field equal to a field built from the result
+ * set's column names, or a joined descriptor's field) is resolved by comparing names once, for all the rows.
+ * Resolving a field does not lock once it has been resolved, the resolved positions are copied on write.
+ * At most {@link #MAX_RESOLVED_FIELDS} other fields are resolved, so fields built for a single lookup are not retained.
+ * @see org.eclipse.persistence.internal.databaseaccess.DatabaseCall#getRecordLayout()
+ * @since EclipseLink 5.0
+ */
+public class RecordLayout {
+
+    /** The maximum number of fields resolved by name. */
+    public static final int MAX_RESOLVED_FIELDS = 256;
+
+    protected final DatabaseField[] fields;
+
+    /** The position of each field instance looked up, -1 if not in the rows. */
+    protected volatile Map<DatabaseField, Integer> positions;
+
+    public RecordLayout(DatabaseField[] fields) {
+        this.fields = fields;
+        Map<DatabaseField, Integer> positions = new IdentityHashMap<>(fields.length * 2);
+        for (int index = 0; index < fields.length; index++) {
+            // Field can be null for fetch groups, the first position of a duplicate field is used.
+            if (fields[index] != null) {
+                positions.putIfAbsent(fields[index], index);
+            }
+        }
+        this.positions = positions;
+    }
+
+    /**
+     * Return the position of the field in the rows, or -1 if the rows do not have the field.
+     */
+    public int indexOf(DatabaseField key) {
+        Integer position = this.positions.get(key);
+        if (position != null) {
+            return position;
+        }
+        int index = -1;
+        DatabaseField[] fields = this.fields;
+        for (int fieldIndex = 0; fieldIndex < fields.length; fieldIndex++) {
+            DatabaseField field = fields[fieldIndex];
+            if ((field != null) && field.equals(key)) {
+                index = fieldIndex;
+                break;
+            }
+        }
+        synchronized (this) {
+            if (this.positions.size() < (fields.length + MAX_RESOLVED_FIELDS)) {
+                Map<DatabaseField, Integer> positions = new IdentityHashMap<>(this.positions);
+                positions.put(key, index);
+                this.positions = positions;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Return the fields of the rows.
+     */
+    public DatabaseField[] getFields() {
+        return fields;
+    }
+}
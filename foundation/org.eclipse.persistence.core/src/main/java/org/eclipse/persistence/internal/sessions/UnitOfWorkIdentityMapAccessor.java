@@ -24,6 +24,7 @@
 import org.eclipse.persistence.sessions.DataRecord;
 
 import java.util.List;
+import java.util.Set;
 import java.util.Vector;
 
 /**
@@ -59,6 +60,24 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         this.session.getParent().getIdentityMapAccessor().invalidateQueryCache(classThatChanged);
     }
 
+    /**
+     * INTERNAL:
+     * Invalidate/remove any results for the class from the query cache that depend on the changed attributes.
+     */
+    @Override
+    public void invalidateQueryCache(Class<?> classThatChanged, Set<String> changedAttributes) {
+        this.session.getParent().getIdentityMapAccessorInstance().invalidateQueryCache(classThatChanged, changedAttributes);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if any cached query results of the parent track their dependencies.
+     */
+    @Override
+    public boolean hasQueryResultsDependencies() {
+        return this.session.getParent().getIdentityMapAccessorInstance().hasQueryResultsDependencies();
+    }
+
     /**
      * ADVANCED:
      * Clear the query class associated with the passed-in read query
@@ -173,19 +192,17 @@ protected Object getAndCloneCacheKeyFromParent(Object primaryKey, Object objectT
         // in which GC could remove the object and we would end up with a null pointer
         // as well we must inspect the cacheKey without locking on it.
         if ((cacheKey != null) && (shouldReturnInvalidatedObjects || !descriptor.getCacheInvalidationPolicy().isInvalidated(cacheKey))) {
-            synchronized (cacheKey) {
-                //if the object in the cachekey is null but the key is acquired then
-                //someone must be rebuilding it or creating a new one.  Sleep until
-                // it's finished. A plain wait here would be more efficient but we may not
-                // get notified for quite some time (ie deadlock) if the other thread
-                //is building the object.  Must wait and not sleep in order for the monitor to be released
-                objectFromCache = cacheKey.getObject();
-                try {
-                    while (cacheKey.isAcquired() && (objectFromCache == null)) {
-                        cacheKey.wait(5);
-                    }
-                } catch (InterruptedException ex) {
+            //if the object in the cachekey is null but the key is acquired then
+            //someone must be rebuilding it or creating a new one.  Sleep until
+            // it's finished. A plain wait here would be more efficient but we may not
+            // get notified for quite some time (ie deadlock) if the other thread
+            //is building the object.  Must wait and not sleep in order for the lock to be released
+            objectFromCache = cacheKey.getObject();
+            try {
+                while (cacheKey.isAcquired() && (objectFromCache == null)) {
+                    cacheKey.waitWhileAcquired(5);
                 }
+            } catch (InterruptedException ex) {
             }
 
             // check for inheritance.
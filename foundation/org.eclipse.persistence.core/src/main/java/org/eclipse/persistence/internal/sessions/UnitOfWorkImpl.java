@@ -317,6 +317,12 @@ public class UnitOfWorkImpl extends AbstractSession implements org.eclipse.persi
     /** Allow updates and deletes to be ordered by id or changes to avoid possible deadlocks. */
     protected CommitOrderType commitOrder;
 
+    /** The maximum number of threads inserting the new objects of independent classes in parallel on commit. */
+    protected int parallelFlushThreads = 1;
+
+    /** The commit manager of each thread inserting a group of objects in parallel, null if not committing in parallel. */
+    protected Map<Thread, CommitManager> parallelCommitManagers;
+
     /** This stored the reference mode for this UOW.  If the reference mode is
      * weak then this unit of work will retain only weak references to non new,
      * non-deleted objects allowing for garbage collection.  If ObjectChangeTracking
@@ -1963,11 +1969,19 @@ public Collection<Accessor> getAccessors() {
      */
     @Override
     public CommitManager getCommitManager() {
+        if (this.parallelCommitManagers != null) {
+            // The thread inserts a group of objects in parallel, with its own commit state.
+            CommitManager commitManager = this.parallelCommitManagers.get(Thread.currentThread());
+            if (commitManager != null) {
+                return commitManager;
+            }
+        }
         // PERF: lazy init, not always required for release/commit with no changes.
         if (this.commitManager == null) {
             this.commitManager = new CommitManager(this);
             // Initialize the commit manager
             this.commitManager.setCommitOrder(this.parent.getCommitManager().getCommitOrder());
+            this.commitManager.setCommitOrderDependencies(this.parent.getCommitManager().getCommitOrderDependencies());
         }
         return this.commitManager;
     }
@@ -3411,6 +3425,8 @@ protected void mergeChangesIntoParent() {
                 this.parent.getIdentityMapAccessorInstance().getWriteLockManager().acquireRequiredLocks(getMergeManager(), (UnitOfWorkChangeSet)getUnitOfWorkChangeSet());
             }
             Set<Class<?>> classesChanged = new HashSet<>();
+            // Only collect the changed attributes if some query results depend on them.
+            Map<Class<?>, Set<String>> attributesChanged = (!isNestedUnitOfWork && this.parent.getIdentityMapAccessorInstance().hasQueryResultsDependencies()) ? new HashMap<>() : null;
             if (! shouldStoreBypassCache()) {
                 for (Map<ObjectChangeSet, ObjectChangeSet> objectChangesList : ((UnitOfWorkChangeSet)getUnitOfWorkChangeSet()).getObjectChanges().values()) {
                     // May be no changes for that class type.
@@ -3424,6 +3440,9 @@ protected void mergeChangesIntoParent() {
                             }
                             manager.mergeChanges(objectToWrite, changeSetToWrite, this.getParentIdentityMapSession(descriptor, false, false));
                             classesChanged.add(objectToWrite.getClass());
+                            if (attributesChanged != null) {
+                                IdentityMapManager.addChangedAttributes(attributesChanged, objectToWrite.getClass(), changeSetToWrite);
+                            }
                         }
                     }
                 }
@@ -3457,8 +3476,20 @@ protected void mergeChangesIntoParent() {
 
                 postMergeChanges(classesChanged);
 
-                for (Class<?> changedClass : classesChanged) {
-                    this.parent.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass);
+                if (attributesChanged == null) {
+                    for (Class<?> changedClass : classesChanged) {
+                        this.parent.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass);
+                    }
+                } else {
+                    // Deleted objects invalidate any results for their class.
+                    if (this.unitOfWorkChangeSet.hasDeletedObjects()) {
+                        for (ObjectChangeSet deletedChangeSet : this.unitOfWorkChangeSet.getDeletedObjects().keySet()) {
+                            attributesChanged.put(deletedChangeSet.getDescriptor().getJavaClass(), null);
+                        }
+                    }
+                    for (Class<?> changedClass : classesChanged) {
+                        this.parent.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass, attributesChanged.get(changedClass));
+                    }
                 }
                 // If change propagation enabled through RemoteCommandManager then go for it
                 if (this.parent.shouldPropagateChanges() && (this.parent.getCommandManager() != null)) {
@@ -4087,9 +4118,10 @@ public Object registerExistingObject(Object objectToRegister, ClassDescriptor de
             } else {
                 log(SessionLog.FINEST, SessionLog.CACHE, "cache_miss", new Object[] {objectToRegister.getClass(), objectToRegisterId});
             }
-            if (cacheKey != null && currentThread.hashCode() != cacheKey.CREATION_THREAD_HASHCODE) {
+            CacheKey.CreationThread creationThread = (cacheKey != null) ? cacheKey.getCreationThread() : null;
+            if (creationThread != null && currentThread.hashCode() != creationThread.getHashCode()) {
                 log(SessionLog.FINEST, SessionLog.CACHE, "cache_thread_info", new Object[]{objectToRegister.getClass(), objectToRegisterId,
-                        cacheKey.CREATION_THREAD_ID, cacheKey.CREATION_THREAD_NAME,
+                        creationThread.getId(), creationThread.getName(),
                         currentThread.getId(), currentThread.getName()});
             }
         }
@@ -6341,4 +6373,43 @@ public void setCommitOrder(CommitOrderType order) {
         this.commitOrder = order;
     }
 
+    /**
+     * ADVANCED:
+     * Return the maximum number of threads inserting the new objects of independent classes in parallel on commit.
+     */
+    @Override
+    public int getParallelFlushThreads() {
+        return parallelFlushThreads;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the maximum number of threads inserting the new objects of independent classes in parallel on commit.
+     * @see org.eclipse.persistence.sessions.UnitOfWork#setParallelFlushThreads(int)
+     */
+    @Override
+    public void setParallelFlushThreads(int threads) {
+        this.parallelFlushThreads = threads;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the commit manager of each thread inserting a group of objects in parallel,
+     * or null if not committing in parallel.
+     * @see ParallelCommitExecutor
+     */
+    public Map<Thread, CommitManager> getParallelCommitManagers() {
+        return parallelCommitManagers;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the commit manager of each thread inserting a group of objects in parallel.
+     * The commit manager of these threads is used instead of the unit of work's commit manager.
+     * The map must be thread safe.
+     */
+    public void setParallelCommitManagers(Map<Thread, CommitManager> parallelCommitManagers) {
+        this.parallelCommitManagers = parallelCommitManagers;
+    }
+
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.persistence.exceptions.RemoteCommandManagerException;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.sessions.serializers.Serializer;
+
+/**
+ * <p>
+ * <b>Purpose</b>: This class provides an implementation of an internal RCM Command.
+ * </p>
+ * <p>
+ * <b>Description</b>: This command carries several commands propagated by a
+ * {@link CommandBatcher} in one message. The commands are serialized with the
+ * command manager's serializer when propagated, and the batch payload is optionally
+ * compressed. When
+ * received, the commands are executed on the RCM in the order they were sent.
+ * As it is an internal command the batch can be sent through any transport.
+ * </p>
+ * @see CommandBatcher
+ * @since EclipseLink 5.0
+ */
+public class CommandBatch extends RCMCommand {
+
+    /** The serialized commands, each prefixed by its length. */
+    protected byte[] commandBytes;
+
+    /** The number of commands in the batch. */
+    protected int size;
+
+    /** Whether the payload is GZIP compressed. */
+    protected boolean isCompressed;
+
+    /**
+     * INTERNAL:
+     * Create a batch of the serialized commands.
+     */
+    public CommandBatch(byte[] commandBytes, int size, boolean isCompressed) {
+        this.commandBytes = commandBytes;
+        this.size = size;
+        this.isCompressed = isCompressed;
+    }
+
+    /**
+     * INTERNAL:
+     * Build a batch from the serialized commands, compressing the payload if required.
+     */
+    public static CommandBatch buildBatch(List<byte[]> serializedCommands, boolean shouldCompress) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            OutputStream stream = shouldCompress ? new GZIPOutputStream(bytes) : bytes;
+            try (DataOutputStream output = new DataOutputStream(stream)) {
+                for (byte[] serialized : serializedCommands) {
+                    output.writeInt(serialized.length);
+                    output.write(serialized);
+                }
+            }
+        } catch (IOException exception) {
+            throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(exception);
+        }
+        return new CommandBatch(bytes.toByteArray(), serializedCommands.size(), shouldCompress);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the deserialized commands of the batch.
+     */
+    public List<Command> getCommands(RemoteCommandManager rcm) {
+        Serializer serializer = getSerializer(rcm);
+        AbstractSession session = getSession(rcm);
+        List<Command> commands = new ArrayList<>(this.size);
+        try {
+            InputStream stream = new ByteArrayInputStream(this.commandBytes);
+            if (this.isCompressed) {
+                stream = new GZIPInputStream(stream);
+            }
+            try (DataInputStream input = new DataInputStream(stream)) {
+                for (int index = 0; index < this.size; index++) {
+                    byte[] serialized = new byte[input.readInt()];
+                    input.readFully(serialized);
+                    commands.add((Command)serializer.deserialize(serialized, session));
+                }
+            }
+        } catch (IOException exception) {
+            throw RemoteCommandManagerException.errorSerializeOrDeserialzeCommand(exception);
+        }
+        return commands;
+    }
+
+    /**
+     * INTERNAL:
+     * Executed on the RCM when received. Process each command of the batch in order.
+     */
+    @Override
+    public void executeWithRCM(RemoteCommandManager rcm) {
+        Object[] args = { this.size, getServiceId() };
+        rcm.logDebug("received_command_batch", args);
+        for (Command command : getCommands(rcm)) {
+            rcm.processCommandFromRemoteConnection(command);
+        }
+    }
+
+    @Override
+    public void executeWithSession(AbstractSession session) {
+        // Internal RCM commands do not implement this method
+    }
+
+    /**
+     * INTERNAL:
+     * Return the size in bytes of the batch payload.
+     */
+    public int getPayloadSize() {
+        return this.commandBytes.length;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of commands in the batch.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * INTERNAL:
+     * Return whether the payload is GZIP compressed.
+     */
+    public boolean isCompressed() {
+        return this.isCompressed;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the serializer used for the commands of a batch.
+     */
+    public static Serializer getSerializer(RemoteCommandManager rcm) {
+        Serializer serializer = rcm.getSerializer();
+        if (serializer == null) {
+            serializer = JavaSerializer.instance;
+        }
+        return serializer;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the session to serialize the commands of a batch with, if the command processor is a session.
+     */
+    public static AbstractSession getSession(RemoteCommandManager rcm) {
+        if (rcm.isCommandProcessorASession()) {
+            return (AbstractSession)rcm.getCommandProcessor();
+        }
+        return null;
+    }
+}
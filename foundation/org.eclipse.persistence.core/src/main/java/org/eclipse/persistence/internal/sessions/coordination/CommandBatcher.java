@@ -0,0 +1,479 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.ObjectReferenceChangeRecord;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.changesets.ChangeRecord;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Propagate remote commands in batches from a background thread.
+ * </p>
+ * <p>
+ * <b>Description</b>: Commands are serialized on the committing thread and placed on a
+ * bounded queue. A single sender thread drains the queue, waiting up to the batch delay
+ * for up to the batch size commands, and propagates them as one {@link CommandBatch}
+ * so the cluster receives fewer, larger messages in commit order.
+ * <p>
+ * Before sending, commands made redundant by later commands of the same batch are
+ * dropped. Only merge commands that update existing, non optimistically locked objects
+ * through direct or reference attributes are dropped, and only when every updated
+ * attribute is updated again, or the object deleted or invalidated, later in the batch.
+ * <p>
+ * If the queue is full the committing thread waits for the offer timeout and then
+ * propagates its command directly, so a slow cluster applies backpressure rather than
+ * consuming unbounded memory.
+ * </p>
+ * @see CommandBatch
+ * @see RemoteCommandManager#setCommandBatchSize(int)
+ * @since EclipseLink 5.0
+ */
+public class CommandBatcher implements Runnable {
+
+    /** Default time to wait for the queue to have space before propagating directly. */
+    public static final long DEFAULT_OFFER_TIMEOUT = 1000;
+
+    protected RemoteCommandManager rcm;
+
+    /** Maximum number of commands sent in one batch. */
+    protected int batchSize;
+
+    /** Maximum time in milliseconds to wait for a batch to fill. */
+    protected long batchDelay;
+
+    /** Time in milliseconds to wait for space in a full queue. */
+    protected long offerTimeout;
+
+    /** Whether batch payloads are compressed. */
+    protected boolean shouldCompress;
+
+    protected BlockingQueue<PendingCommand> queue;
+
+    protected final AtomicBoolean isStarted = new AtomicBoolean();
+
+    protected volatile boolean isStopped;
+
+    protected final LongAdder queuedCommands = new LongAdder();
+    protected final LongAdder sentCommands = new LongAdder();
+    protected final LongAdder coalescedCommands = new LongAdder();
+    protected final LongAdder batches = new LongAdder();
+    protected final LongAdder failedBatches = new LongAdder();
+    protected final LongAdder queueFullWaits = new LongAdder();
+    protected final LongAdder queueFullWaitTime = new LongAdder();
+    protected final LongAdder directCommands = new LongAdder();
+    protected final LongAdder uncompressedBytes = new LongAdder();
+    protected final LongAdder sentBytes = new LongAdder();
+
+    public CommandBatcher(RemoteCommandManager rcm, int batchSize, long batchDelay, int queueSize, boolean shouldCompress) {
+        this.rcm = rcm;
+        this.batchSize = batchSize;
+        this.batchDelay = batchDelay;
+        this.shouldCompress = shouldCompress;
+        this.offerTimeout = DEFAULT_OFFER_TIMEOUT;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+    }
+
+    /**
+     * INTERNAL:
+     * Queue the command to be propagated in a batch.
+     * The command bytes are the command serialized by the command manager's serializer,
+     * or null if the command manager does not use a serializer.
+     */
+    public void enqueue(Command command, byte[] commandBytes) {
+        if (commandBytes == null) {
+            commandBytes = (byte[])CommandBatch.getSerializer(this.rcm).serialize(command, CommandBatch.getSession(this.rcm));
+        }
+        PendingCommand pending = new PendingCommand(command, commandBytes);
+        if (this.isStopped) {
+            sendDirect(pending);
+            return;
+        }
+        start();
+        boolean isQueued = this.queue.offer(pending);
+        if (!isQueued) {
+            this.queueFullWaits.increment();
+            long start = System.nanoTime();
+            try {
+                isQueued = this.queue.offer(pending, this.offerTimeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            this.queueFullWaitTime.add(System.nanoTime() - start);
+        }
+        if (isQueued) {
+            this.queuedCommands.increment();
+        } else {
+            Object[] args = { this.queue.size() };
+            this.rcm.logWarning("command_batch_queue_full", args);
+            sendDirect(pending);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Start the sender thread if it has not been started.
+     */
+    protected void start() {
+        if (this.isStarted.compareAndSet(false, true)) {
+            this.rcm.getServerPlatform().launchContainerRunnable(this);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Stop the sender thread once the queued commands have been sent.
+     */
+    public void shutdown() {
+        this.isStopped = true;
+        if (!this.isStarted.get()) {
+            List<PendingCommand> pending = new ArrayList<>();
+            this.queue.drainTo(pending);
+            if (!pending.isEmpty()) {
+                sendBatch(pending);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Send batches until shutdown and the queue has been drained.
+     */
+    @Override
+    public void run() {
+        List<PendingCommand> commands = new ArrayList<>(this.batchSize);
+        while (!this.isStopped || !this.queue.isEmpty()) {
+            try {
+                PendingCommand first = this.queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                commands.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.batchDelay);
+                while (commands.size() < this.batchSize) {
+                    this.queue.drainTo(commands, this.batchSize - commands.size());
+                    long remaining = deadline - System.nanoTime();
+                    if ((commands.size() >= this.batchSize) || (remaining <= 0)) {
+                        break;
+                    }
+                    PendingCommand next = this.queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    commands.add(next);
+                }
+            } catch (InterruptedException exception) {
+                // Flush what has been collected and stop.
+                this.isStopped = true;
+                this.queue.drainTo(commands);
+            }
+            if (!commands.isEmpty()) {
+                sendBatch(commands);
+                commands.clear();
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Propagate a command that could not be queued on its own.
+     */
+    protected void sendDirect(PendingCommand pending) {
+        this.directCommands.increment();
+        this.sentCommands.increment();
+        this.sentBytes.add(pending.commandBytes.length);
+        this.uncompressedBytes.add(pending.commandBytes.length);
+        new CommandPropagator(this.rcm, pending.command, pending.commandBytes).synchronousPropagateCommand();
+    }
+
+    /**
+     * INTERNAL:
+     * Drop the redundant commands and propagate the others as one batch.
+     * Errors are logged so the sender thread keeps running.
+     */
+    protected void sendBatch(List<PendingCommand> commands) {
+        List<byte[]> serializedCommands = coalesce(commands);
+        int size = serializedCommands.size();
+        this.coalescedCommands.add(commands.size() - size);
+        if (size == 0) {
+            return;
+        }
+        try {
+            CommandBatch batch = CommandBatch.buildBatch(serializedCommands, this.shouldCompress);
+            batch.setServiceId(this.rcm.getServiceId());
+            if (this.rcm.shouldLogDebugMessage()) {
+                Object[] args = { size, batch.getPayloadSize() };
+                this.rcm.logDebug("propagating_command_batch", args);
+            }
+            for (byte[] serialized : serializedCommands) {
+                this.uncompressedBytes.add(serialized.length + 4);
+            }
+            this.sentBytes.add(batch.getPayloadSize());
+            this.batches.increment();
+            this.sentCommands.add(size);
+            new CommandPropagator(this.rcm, batch, null).synchronousPropagateCommand();
+        } catch (RuntimeException exception) {
+            this.failedBatches.increment();
+            Object[] args = { size, exception };
+            this.rcm.logWarning("command_batch_propagation_failed", args);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the serialized commands that are not made redundant by later commands,
+     * in their original order.
+     */
+    protected List<byte[]> coalesce(List<PendingCommand> commands) {
+        byte[][] kept = new byte[commands.size()][];
+        Map<List<Object>, Set<String>> laterChanges = new HashMap<>();
+        for (int index = commands.size() - 1; index >= 0; index--) {
+            PendingCommand pending = commands.get(index);
+            if (!pending.isCoveredBy(laterChanges)) {
+                kept[index] = pending.commandBytes;
+            }
+            pending.addCoverage(laterChanges);
+        }
+        List<byte[]> serializedCommands = new ArrayList<>(commands.size());
+        for (byte[] serialized : kept) {
+            if (serialized != null) {
+                serializedCommands.add(serialized);
+            }
+        }
+        return serializedCommands;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the commands waiting to be sent.
+     */
+    public int getQueueDepth() {
+        return this.queue.size();
+    }
+
+    public long getQueuedCommands() {
+        return this.queuedCommands.sum();
+    }
+
+    public long getSentCommands() {
+        return this.sentCommands.sum();
+    }
+
+    public long getCoalescedCommands() {
+        return this.coalescedCommands.sum();
+    }
+
+    public long getBatches() {
+        return this.batches.sum();
+    }
+
+    public long getFailedBatches() {
+        return this.failedBatches.sum();
+    }
+
+    public long getQueueFullWaits() {
+        return this.queueFullWaits.sum();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the total time in nanoseconds committing threads waited for a full queue.
+     */
+    public long getQueueFullWaitTime() {
+        return this.queueFullWaitTime.sum();
+    }
+
+    public long getDirectCommands() {
+        return this.directCommands.sum();
+    }
+
+    public long getUncompressedBytes() {
+        return this.uncompressedBytes.sum();
+    }
+
+    public long getSentBytes() {
+        return this.sentBytes.sum();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the average number of commands per batch.
+     */
+    public double getAverageBatchSize() {
+        long batches = getBatches();
+        if (batches == 0) {
+            return 0;
+        }
+        return (double)(getSentCommands() - getDirectCommands()) / batches;
+    }
+
+    public long getOfferTimeout() {
+        return offerTimeout;
+    }
+
+    public void setOfferTimeout(long offerTimeout) {
+        this.offerTimeout = offerTimeout;
+    }
+
+    public void resetStatistics() {
+        this.queuedCommands.reset();
+        this.sentCommands.reset();
+        this.coalescedCommands.reset();
+        this.batches.reset();
+        this.failedBatches.reset();
+        this.queueFullWaits.reset();
+        this.queueFullWaitTime.reset();
+        this.directCommands.reset();
+        this.uncompressedBytes.reset();
+        this.sentBytes.reset();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(queued=" + getQueuedCommands() + ", depth=" + getQueueDepth()
+                + ", batches=" + getBatches() + ", sent=" + getSentCommands() + ", coalesced=" + getCoalescedCommands()
+                + ", direct=" + getDirectCommands() + ", failed=" + getFailedBatches()
+                + ", queueFullWaits=" + getQueueFullWaits() + ", bytes=" + getUncompressedBytes() + "/" + getSentBytes() + ")";
+    }
+
+    /**
+     * INTERNAL:
+     * A serialized command waiting to be sent, with a summary of its changes
+     * computed on the committing thread so redundant commands can be dropped.
+     */
+    protected static class PendingCommand {
+        protected Command command;
+        protected byte[] commandBytes;
+
+        /** The attributes updated per object, or null if the command cannot be dropped. */
+        protected Map<List<Object>, Set<String>> changes;
+
+        /** The attributes per object a later command makes redundant, null meaning all attributes. */
+        protected Map<List<Object>, Set<String>> coverage;
+
+        protected PendingCommand(Command command, byte[] commandBytes) {
+            this.command = command;
+            this.commandBytes = commandBytes;
+            if (command instanceof MergeChangeSetCommand) {
+                summarize(((MergeChangeSetCommand)command).getChangeSet(null));
+            }
+        }
+
+        protected void summarize(UnitOfWorkChangeSet changeSet) {
+            if (changeSet == null) {
+                return;
+            }
+            Map<List<Object>, Set<String>> changes = new HashMap<>();
+            Map<List<Object>, Set<String>> coverage = new HashMap<>();
+            boolean isDroppable = !changeSet.hasDeletedObjects();
+            for (ObjectChangeSet objectChanges : changeSet.getAllChangeSets().keySet()) {
+                ClassDescriptor descriptor = objectChanges.getDescriptor();
+                if ((objectChanges.getId() == null) || (descriptor == null)) {
+                    isDroppable = false;
+                    continue;
+                }
+                List<Object> key = Arrays.asList(objectChanges.getClassName(), objectChanges.getId());
+                if (descriptor.getCachePolicy().getCacheSynchronizationType() == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS) {
+                    coverage.put(key, null);
+                    isDroppable = false;
+                    continue;
+                }
+                Set<String> attributes = new HashSet<>();
+                boolean isAbsolute = !objectChanges.isNew() && !descriptor.usesOptimisticLocking();
+                for (ChangeRecord record : objectChanges.getChanges()) {
+                    if ((record instanceof DirectToFieldChangeRecord) || (record instanceof ObjectReferenceChangeRecord)) {
+                        attributes.add(record.getAttribute());
+                    } else {
+                        isAbsolute = false;
+                    }
+                }
+                if (!isAbsolute) {
+                    isDroppable = false;
+                }
+                coverage.put(key, attributes);
+                changes.put(key, attributes);
+            }
+            for (ObjectChangeSet objectChanges : changeSet.getDeletedObjects().keySet()) {
+                if (objectChanges.getId() != null) {
+                    coverage.put(Arrays.asList(objectChanges.getClassName(), objectChanges.getId()), null);
+                }
+            }
+            this.coverage = coverage;
+            if (isDroppable) {
+                this.changes = changes;
+            }
+        }
+
+        /**
+         * Return whether every change of the command is made redundant by the later changes.
+         */
+        protected boolean isCoveredBy(Map<List<Object>, Set<String>> laterChanges) {
+            if (this.changes == null) {
+                return false;
+            }
+            for (Map.Entry<List<Object>, Set<String>> entry : this.changes.entrySet()) {
+                if (!laterChanges.containsKey(entry.getKey())) {
+                    return false;
+                }
+                Set<String> laterAttributes = laterChanges.get(entry.getKey());
+                if ((laterAttributes != null) && !laterAttributes.containsAll(entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Add the changes of the command that make earlier changes redundant.
+         */
+        protected void addCoverage(Map<List<Object>, Set<String>> laterChanges) {
+            if (this.coverage == null) {
+                return;
+            }
+            for (Map.Entry<List<Object>, Set<String>> entry : this.coverage.entrySet()) {
+                List<Object> key = entry.getKey();
+                if (entry.getValue() == null) {
+                    laterChanges.put(key, null);
+                } else if (!laterChanges.containsKey(key)) {
+                    laterChanges.put(key, new HashSet<>(entry.getValue()));
+                } else {
+                    Set<String> attributes = laterChanges.get(key);
+                    if (attributes != null) {
+                        attributes.addAll(entry.getValue());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -83,8 +83,10 @@
 import org.eclipse.persistence.internal.helper.NonSynchronizedVector;
 import org.eclipse.persistence.internal.history.HistoricalDatabaseTable;
 import org.eclipse.persistence.internal.identitymaps.CacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.ConcurrentIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.HardCacheWeakIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.LFUCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.NoIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.SoftCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.WeakIdentityMap;
@@ -2198,6 +2200,8 @@ protected ClassDescriptor buildClassDescriptorDescriptor() {
         identityMapClassConverter.addConversionValue("weak-reference", WeakIdentityMap.class);
         identityMapClassConverter.addConversionValue("soft-cache-weak-reference", SoftCacheWeakIdentityMap.class);
         identityMapClassConverter.addConversionValue("hard-cache-weak-reference", HardCacheWeakIdentityMap.class);
+        identityMapClassConverter.addConversionValue("concurrent", ConcurrentIdentityMap.class);
+        identityMapClassConverter.addConversionValue("lfu-cache-weak-reference", LFUCacheWeakIdentityMap.class);
         identityMapClassMapping.setConverter(identityMapClassConverter);
         identityMapClassMapping.setXPath(getPrimaryNamespaceXPath() + "caching/" + getPrimaryNamespaceXPath() + "cache-type/text()");
         identityMapClassMapping.setNullValue(SoftCacheWeakIdentityMap.class);
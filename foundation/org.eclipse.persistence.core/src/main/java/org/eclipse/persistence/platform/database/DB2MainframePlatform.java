@@ -39,6 +39,18 @@ public DB2MainframePlatform() {
         this.pingSQL = "SELECT COUNT(*) from SYSIBM.SYSDUMMY1 WHERE 1 = 0";
     }
 
+    /**
+     * INTERNAL:
+     * DB2 for z/OS does not support multi-row VALUES in an INSERT statement.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        if (this.maxMultiRowInsertParameters == null) {
+            this.maxMultiRowInsertParameters = 0;
+        }
+        return this.maxMultiRowInsertParameters;
+    }
+
     /**
      * Initialize any platform-specific operators
      */
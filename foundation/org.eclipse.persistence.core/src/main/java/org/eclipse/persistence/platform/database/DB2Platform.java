@@ -92,6 +92,18 @@ public DB2Platform() {
         this.supportsReturnGeneratedKeys = true;
     }
 
+    /**
+     * INTERNAL:
+     * Multi-row inserts are supported.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        if (this.maxMultiRowInsertParameters == null) {
+            this.maxMultiRowInsertParameters = 32767;
+        }
+        return this.maxMultiRowInsertParameters;
+    }
+
     @Override
     public void initializeConnectionData(Connection connection) throws SQLException {
         // DB2 database doesn't support NVARCHAR column types and as such doesn't support calling
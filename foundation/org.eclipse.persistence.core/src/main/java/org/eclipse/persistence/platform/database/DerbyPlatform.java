@@ -78,6 +78,18 @@ public DerbyPlatform() {
         super();
     }
 
+    /**
+     * INTERNAL:
+     * Multi-row inserts are supported, but large VALUES lists are expensive to compile, so statements are kept small.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        if (this.maxMultiRowInsertParameters == null) {
+            this.maxMultiRowInsertParameters = 1000;
+        }
+        return this.maxMultiRowInsertParameters;
+    }
+
     /**
      * INTERNAL:
      * TODO: Need to find out how can byte arrays be inlined in Derby
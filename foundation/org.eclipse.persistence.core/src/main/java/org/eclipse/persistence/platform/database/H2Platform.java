@@ -46,6 +46,18 @@ public H2Platform() {
         setPingSQL("SELECT 1");
     }
 
+    /**
+     * INTERNAL:
+     * Multi-row inserts are supported.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        if (this.maxMultiRowInsertParameters == null) {
+            this.maxMultiRowInsertParameters = 32767;
+        }
+        return this.maxMultiRowInsertParameters;
+    }
+
     /**
      * Print the pagination SQL using H2 syntax " LIMIT {@literal <max> OFFSET <first>}".
      */
@@ -61,6 +61,18 @@ public HSQLPlatform() {
         setPingSQL("CALL 1");
     }
 
+    /**
+     * INTERNAL:
+     * Multi-row inserts are supported.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        if (this.maxMultiRowInsertParameters == null) {
+            this.maxMultiRowInsertParameters = 32767;
+        }
+        return this.maxMultiRowInsertParameters;
+    }
+
     @Override
     protected Hashtable<Class<?>, FieldTypeDefinition> buildFieldTypes() {
         Hashtable<Class<?>, FieldTypeDefinition> fieldTypeMapping = super.buildFieldTypes();
@@ -98,6 +98,30 @@ public MySQLPlatform(){
         this.supportsForUpdateNoWait = false;
     }
 
+    /**
+     * INTERNAL:
+     * Multi-row inserts are supported, MySQL limits a prepared statement to 65535 parameters.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        if (this.maxMultiRowInsertParameters == null) {
+            this.maxMultiRowInsertParameters = 65535;
+        }
+        return this.maxMultiRowInsertParameters;
+    }
+
+    /**
+     * INTERNAL:
+     * Bulk updates are supported, MySQL limits a prepared statement to 65535 parameters.
+     */
+    @Override
+    public int getMaxBulkUpdateParameters() {
+        if (this.maxBulkUpdateParameters == null) {
+            this.maxBulkUpdateParameters = 65535;
+        }
+        return this.maxBulkUpdateParameters;
+    }
+
     @Override
     public void initializeConnectionData(Connection connection) throws SQLException {
         if (this.isConnectionDataInitialized) {
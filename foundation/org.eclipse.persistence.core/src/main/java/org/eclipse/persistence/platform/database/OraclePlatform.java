@@ -410,6 +410,18 @@ public int getMaxFieldNameSize() {
         return 30;
     }
 
+    /**
+     * INTERNAL:
+     * Bulk updates are supported, Oracle limits a statement to 65535 bind variables.
+     */
+    @Override
+    public int getMaxBulkUpdateParameters() {
+        if (this.maxBulkUpdateParameters == null) {
+            this.maxBulkUpdateParameters = 65535;
+        }
+        return this.maxBulkUpdateParameters;
+    }
+
     /**
      * Return the catalog information through using the native SQL catalog selects.
      * This is required because many JDBC driver do not support meta-data.
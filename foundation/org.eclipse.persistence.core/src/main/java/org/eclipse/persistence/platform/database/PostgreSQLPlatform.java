@@ -87,6 +87,18 @@ public PostgreSQLPlatform() {
         this.pingSQL = "SELECT 1";
     }
 
+    /**
+     * INTERNAL:
+     * Multi-row inserts are supported, the PostgreSQL JDBC driver limits a statement to 32767 parameters.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        if (this.maxMultiRowInsertParameters == null) {
+            this.maxMultiRowInsertParameters = 32767;
+        }
+        return this.maxMultiRowInsertParameters;
+    }
+
     /**
      * Return the JDBC type for the Java type. For some reason PostgreSQL does
      * not seem to like the JDBC Blob type (PostgreSQL 8.2).
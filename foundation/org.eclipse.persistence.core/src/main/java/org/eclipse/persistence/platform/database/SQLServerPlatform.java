@@ -92,6 +92,30 @@ public SQLServerPlatform(){
         this.supportsReturnGeneratedKeys = true;
     }
 
+    /**
+     * INTERNAL:
+     * Multi-row inserts are supported, SQL Server limits a statement to 2100 parameters.
+     */
+    @Override
+    public int getMaxMultiRowInsertParameters() {
+        if (this.maxMultiRowInsertParameters == null) {
+            this.maxMultiRowInsertParameters = 2000;
+        }
+        return this.maxMultiRowInsertParameters;
+    }
+
+    /**
+     * INTERNAL:
+     * Bulk updates are supported, SQL Server limits a statement to 2100 parameters.
+     */
+    @Override
+    public int getMaxBulkUpdateParameters() {
+        if (this.maxBulkUpdateParameters == null) {
+            this.maxBulkUpdateParameters = 2000;
+        }
+        return this.maxBulkUpdateParameters;
+    }
+
     @Override
     public Map<Object, Object> connectionProperties() {
         // All MS SQL Server properties must be of String type.
@@ -898,6 +898,14 @@ public Object execute(AbstractSession session, AbstractRecord translationRow) th
         queryToExecute = session.prepareDatabaseQuery(queryToExecute);
 
         boolean prepare = queryToExecute.shouldPrepare(translationRow, session);
+        // PERF: Dynamic expression queries differing only by their values share the same prepared query.
+        if (prepare && (!hasCustomQuery) && (!queryToExecute.isPrepared()) && ((this.argumentValues == null) || this.argumentValues.isEmpty())) {
+            DatabaseQuery plannedQuery = session.getProject().getQueryPlanCache().prepare(queryToExecute, translationRow, session);
+            if (plannedQuery != null) {
+                queryToExecute = plannedQuery;
+                translationRow = plannedQuery.getTranslationRow();
+            }
+        }
         if (prepare) {
             queryToExecute.checkPrepare(session, translationRow);
         }
@@ -14,13 +14,18 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.queries;
 
+import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.descriptors.invalidation.CacheInvalidationPolicy;
 import org.eclipse.persistence.descriptors.invalidation.NoExpiryCacheInvalidationPolicy;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.OneToOneMapping;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -40,6 +45,8 @@ public class QueryResultsCachePolicy implements Serializable, Cloneable {
     protected CacheInvalidationPolicy invalidationPolicy;
     /** Specifies the cache size. */
     protected int maximumResultSets;
+    /** Specifies the maximum estimated bytes of the cached results, 0 if only bounded by the session. */
+    protected long maximumCachedBytes;
     /** Allows the identity map class type to be set. */
     protected Class<? extends IdentityMap> cacheType;
     /** Allows the caching of null to be configured. */
@@ -48,6 +55,13 @@ public class QueryResultsCachePolicy implements Serializable, Cloneable {
     protected boolean invalidateOnChange;
     /** Stores the set of classes that should trigger the query cached results to be invalidated. */
     protected Set<Class<?>> invalidationClasses;
+    /** Allows the query cache to only be invalidated by changes to the attributes used in the query. */
+    protected boolean shouldTrackDependencies;
+    /**
+     * Stores the attributes of each class the query results depend on, null if the dependencies are not known.
+     * A class mapped to null depends on any change to the class.
+     */
+    protected Map<Class<?>, Set<String>> invalidationAttributes;
 
     /**
      * PUBLIC:
@@ -73,6 +87,8 @@ public QueryResultsCachePolicy(CacheInvalidationPolicy policy, int maximumResult
         this.isNullIgnored = false;
         this.invalidateOnChange = true;
         this.invalidationClasses = new HashSet<>();
+        this.shouldTrackDependencies = false;
+        this.invalidationAttributes = new HashMap<>();
     }
 
     @Override
@@ -80,6 +96,7 @@ public QueryResultsCachePolicy clone() {
         try {
             QueryResultsCachePolicy clone = (QueryResultsCachePolicy)super.clone();
             clone.invalidationClasses = new HashSet<>();
+            clone.invalidationAttributes = new HashMap<>();
             return clone;
         } catch (CloneNotSupportedException exception) {
             throw new InternalError(exception.toString());
@@ -103,6 +120,99 @@ public void setInvalidationClasses(Set<Class<?>> invalidationClasses) {
         this.invalidationClasses = invalidationClasses;
     }
 
+    /**
+     * PUBLIC:
+     * Return if the query results should only be invalidated by changes to the attributes the query depends on.
+     * @see #setShouldTrackDependencies(boolean)
+     */
+    public boolean shouldTrackDependencies() {
+        return shouldTrackDependencies;
+    }
+
+    /**
+     * PUBLIC:
+     * Configure if the query results should only be invalidated by changes to the attributes the query depends on.
+     * By default any change to any object of any of the query classes invalidates the query results.
+     * When dependencies are tracked the attributes used in the query's selection criteria, ordering,
+     * joins and report items are recorded when the query is prepared, and an update to an object only
+     * invalidates the results if one of the changed attributes is used by the query.
+     * New and deleted objects always invalidate the results of the queries on their class.
+     * Native SQL queries cannot be parsed, so the tables referenced in the SQL are used to
+     * compute the classes the results depend on.
+     * This requires invalidate on change to be enabled.
+     * @see #setInvalidateOnChange(boolean)
+     */
+    public void setShouldTrackDependencies(boolean shouldTrackDependencies) {
+        this.shouldTrackDependencies = shouldTrackDependencies;
+    }
+
+    /**
+     * ADVANCED:
+     * Return the attributes of each class the query results depend on, or null if not known.
+     * A class mapped to null depends on any change to the class.
+     * This is computed by the query when dependencies are tracked.
+     */
+    public Map<Class<?>, Set<String>> getInvalidationAttributes() {
+        return invalidationAttributes;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the attributes of each class the query results depend on, null if not known.
+     */
+    public void setInvalidationAttributes(Map<Class<?>, Set<String>> invalidationAttributes) {
+        this.invalidationAttributes = invalidationAttributes;
+    }
+
+    /**
+     * INTERNAL:
+     * Record the mapping as used by the query.
+     * A null mapping means the query uses something that cannot be tracked,
+     * so any change to the query classes will invalidate the results.
+     */
+    public void addInvalidationAttribute(DatabaseMapping mapping) {
+        if (this.invalidationAttributes == null) {
+            return;
+        }
+        if ((mapping == null) || (mapping.getDescriptor() == null) || mapping.getDescriptor().isAggregateDescriptor()
+                || (mapping.getDescriptor().getJavaClass() == null)) {
+            this.invalidationAttributes = null;
+            return;
+        }
+        Class<?> javaClass = mapping.getDescriptor().getJavaClass();
+        if (this.invalidationAttributes.containsKey(javaClass)) {
+            Set<String> attributes = this.invalidationAttributes.get(javaClass);
+            if (attributes != null) {
+                attributes.add(mapping.getAttributeName());
+            }
+        } else {
+            Set<String> attributes = new HashSet<>();
+            attributes.add(mapping.getAttributeName());
+            this.invalidationAttributes.put(javaClass, attributes);
+        }
+        // Relationships stored in the target table or a relation table may be changed from the target side.
+        ClassDescriptor referenceDescriptor = mapping.getReferenceDescriptor();
+        if ((referenceDescriptor != null) && !referenceDescriptor.isAggregateDescriptor()
+                && (mapping.isCollectionMapping() || (mapping.isOneToOneMapping() && !((OneToOneMapping)mapping).isForeignKeyRelationship()))) {
+            addInvalidationClass(referenceDescriptor.getJavaClass());
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Record that any change to the class will invalidate the results.
+     */
+    public void addInvalidationClass(Class<?> javaClass) {
+        if (this.invalidationAttributes == null) {
+            return;
+        }
+        if (javaClass == null) {
+            this.invalidationAttributes = null;
+            return;
+        }
+        this.invalidationAttributes.put(javaClass, null);
+    }
+
     /**
      * PUBLIC:
      * Return if null results should be cached or ignored.
@@ -255,4 +365,25 @@ public int getMaximumCachedResults() {
     public void setMaximumCachedResults(int maximumResultSets) {
         this.maximumResultSets = maximumResultSets;
     }
+
+    /**
+     * PUBLIC:
+     * Return the maximum estimated bytes of the cached results, 0 if only bounded by the session.
+     */
+    public long getMaximumCachedBytes() {
+        return maximumCachedBytes;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum estimated bytes of the cached results.
+     * This is the query's quota of the session query results cache,
+     * the least recently used results of the query are evicted when it is exceeded,
+     * and a result larger than the quota is not cached.
+     * By default the results are only bounded by the number of results and the session maximum.
+     * @see org.eclipse.persistence.sessions.Project#setQueryResultsCacheMaximumSize(long)
+     */
+    public void setMaximumCachedBytes(long maximumCachedBytes) {
+        this.maximumCachedBytes = maximumCachedBytes;
+    }
 }
@@ -20,6 +20,7 @@
 //       - 371453: JPA Multi-Tenancy in Bidirectional OneToOne Relation throws ArrayIndexOutOfBoundsException
 package org.eclipse.persistence.queries;
 
+import org.eclipse.persistence.descriptors.CacheStatistics;
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.QueryException;
@@ -32,6 +33,8 @@
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.helper.InvalidObject;
 import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.OffHeapCache;
 import org.eclipse.persistence.internal.indirection.ProxyIndirectionPolicy;
 import org.eclipse.persistence.internal.queries.DatasourceCallQueryMechanism;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
@@ -284,12 +287,27 @@ protected Object checkEarlyReturnLocal(AbstractSession session, AbstractRecord t
                     QueryMonitor.incrementReadObjectHits(this);
                 }
                 session.incrementProfile(SessionProfiler.CacheHits, this);
+                CacheStatistics statistics = this.descriptor.getCachePolicy().getStatistics();
+                if (statistics != null) {
+                    statistics.recordHit();
+                    if (statistics.shouldSampleHotKey()) {
+                        Object primaryKey = getSelectionId();
+                        if (primaryKey == null) {
+                            primaryKey = this.descriptor.getObjectBuilder().extractPrimaryKeyFromObject(cachedObject, session);
+                        }
+                        statistics.recordHotKey(primaryKey);
+                    }
+                }
             } else {
                 if (!session.isUnitOfWork()) {
                     if (QueryMonitor.shouldMonitor()) {
                         QueryMonitor.incrementReadObjectMisses(this);
                     }
                     session.incrementProfile(SessionProfiler.CacheMisses, this);
+                    CacheStatistics statistics = this.descriptor.getCachePolicy().getStatistics();
+                    if (statistics != null) {
+                        statistics.recordMiss();
+                    }
                 }
             }
             if (shouldUseWrapperPolicy()) {
@@ -548,6 +566,7 @@ protected Object executeObjectLevelReadQuery() throws DatabaseException {
                 }
             }
         } else {
+            OffHeapCache.Entry offHeapEntry = null;
             if (sopObject != null) {
                 row = new DatabaseRecord(0);
                 row.setSopObject(sopObject);
@@ -560,17 +579,38 @@ protected Object executeObjectLevelReadQuery() throws DatabaseException {
                     }
                     getJoinedAttributeManager().setDataResults(rows, session);
                 } else {
-                    row = getQueryMechanism().selectOneRow();
+                    offHeapEntry = checkOffHeapCache(session);
+                    if (offHeapEntry != null) {
+                        row = offHeapEntry.getRecord();
+                    } else {
+                        row = getQueryMechanism().selectOneRow();
+                    }
                 }
             }
 
-            this.executionTime = System.currentTimeMillis();
-            if (row != null) {
+            if (offHeapEntry != null) {
+                // The row is as of when it was read from the database.
+                this.executionTime = offHeapEntry.getReadTime();
+                long rebuildStart = System.nanoTime();
+                session.startOperationProfile(SessionProfiler.OffHeapCacheRebuild, this, SessionProfiler.ALL);
                 if (session.isUnitOfWork()) {
                     result = registerResultInUnitOfWork(row, (UnitOfWorkImpl)session, this.translationRow, true);
                 } else {
                     result = buildObject(row);
                 }
+                session.endOperationProfile(SessionProfiler.OffHeapCacheRebuild, this, SessionProfiler.ALL);
+                offHeapEntry.getCache().recordRebuild(System.nanoTime() - rebuildStart);
+            } else {
+                this.executionTime = System.currentTimeMillis();
+                if (row != null) {
+                    if (session.isUnitOfWork()) {
+                        result = registerResultInUnitOfWork(row, (UnitOfWorkImpl)session, this.translationRow, true);
+                    } else {
+                        result = buildObject(row);
+                    }
+                }
+            }
+            if (row != null) {
                 if (sopObject != null) {
                     // remove sopObject so it's not stuck in a value holder.
                     row.setSopObject(null);
@@ -599,6 +639,65 @@ protected Object executeObjectLevelReadQuery() throws DatabaseException {
         return result;
     }
 
+    /**
+     * INTERNAL:
+     * Return the row for the query's primary key from the descriptor's off-heap cache, or null.
+     * The off-heap cache is only checked when the query would have checked the shared cache,
+     * and would build the object from the full row.
+     */
+    protected OffHeapCache.Entry checkOffHeapCache(AbstractSession session) {
+        ClassDescriptor descriptor = this.descriptor;
+        if (!descriptor.getCachePolicy().hasOffHeapCache() || !shouldMaintainCache() || !shouldCheckCache()
+                || shouldRefreshIdentityMapResult() || shouldRetrieveBypassCache() || isLockQuery() || this.shouldIncludeData
+                || shouldLoadResultIntoSelectionObject() || hasJoining() || hasPartialAttributeExpressions() || (getExecutionFetchGroup() != null)
+                || (shouldCheckDescriptorForCacheUsage() && descriptor.shouldDisableCacheHits())
+                || descriptor.hasMultitenantPolicy() || descriptor.getQueryManager().hasAdditionalCriteria()
+                || (descriptor.hasSerializedObjectPolicy() && shouldUseSerializedObjectPolicy())
+                || session.isRemoteSession()) {
+            return null;
+        }
+        if (session.isUnitOfWork()) {
+            // Same as building in the unit of work, the shared cache is not used after an early transaction.
+            UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl)session;
+            if (!descriptor.getCachePolicy().shouldUseSessionCacheInUnitOfWorkEarlyTransaction()
+                    && (unitOfWork.wasTransactionBegunPrematurely() || (unitOfWork.hasCommitManager() && unitOfWork.getCommitManager().isActive())
+                        || descriptor.getCachePolicy().shouldIsolateObjectsInUnitOfWork())) {
+                return null;
+            }
+        }
+        Object primaryKey = this.selectionId;
+        if (primaryKey == null) {
+            if (this.selectionObject != null) {
+                primaryKey = descriptor.getObjectBuilder().extractPrimaryKeyFromObject(this.selectionObject, session, true);
+            } else if (getSelectionCriteria() != null) {
+                primaryKey = descriptor.getObjectBuilder().extractPrimaryKeyFromExpression(true, getSelectionCriteria(), this.translationRow, session);
+            }
+            if (primaryKey == null) {
+                return null;
+            }
+        }
+        OffHeapCache offHeapCache = session.getParentIdentityMapSession(descriptor, true, true).getIdentityMapAccessorInstance().getIdentityMapManager().getOffHeapCache(descriptor);
+        if (offHeapCache == null) {
+            return null;
+        }
+        OffHeapCache.Entry entry = offHeapCache.get(primaryKey);
+        if (entry != null) {
+            // Apply the cache invalidation policy as of when the row was read.
+            CacheKey cacheKey = new CacheKey(primaryKey);
+            cacheKey.setReadTime(entry.getReadTime());
+            if (descriptor.getCacheInvalidationPolicy().isInvalidated(cacheKey, System.currentTimeMillis())) {
+                offHeapCache.remove(primaryKey);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            session.incrementProfile(SessionProfiler.OffHeapCacheMisses, this);
+        } else {
+            session.incrementProfile(SessionProfiler.OffHeapCacheHits, this);
+        }
+        return entry;
+    }
+
     /**
      * INTERNAL:
      * Execute the query building the objects directly from the database result-set.
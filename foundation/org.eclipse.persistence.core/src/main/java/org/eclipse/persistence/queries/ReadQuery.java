@@ -14,10 +14,12 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.queries;
 
+import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
 import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.helper.DatabaseTable;
 import org.eclipse.persistence.internal.helper.NonSynchronizedVector;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
@@ -25,6 +27,7 @@
 
 import java.util.List;
 import java.util.Vector;
+import java.util.regex.Pattern;
 
 /**
  * <p><b>Purpose</b>:
@@ -319,6 +322,36 @@ protected void prepare() throws QueryException {
             if (getReferenceClass() != null) {
                 getQueryResultsCachePolicy().getInvalidationClasses().add(getReferenceClass());
             }
+            if (getQueryResultsCachePolicy().shouldTrackDependencies() && !getQueryMechanism().isExpressionQueryMechanism()) {
+                prepareQueryResultsDependencies();
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * The attributes used by a native SQL query are not known,
+     * so record the classes of the tables referenced in the SQL as its dependencies.
+     */
+    protected void prepareQueryResultsDependencies() {
+        QueryResultsCachePolicy policy = getQueryResultsCachePolicy();
+        policy.setInvalidationAttributes(null);
+        String sql = getSQLString();
+        if ((sql == null) || (getSession() == null)) {
+            return;
+        }
+        for (ClassDescriptor descriptor : getSession().getDescriptors().values()) {
+            if (descriptor.isAggregateDescriptor() || (descriptor.getJavaClass() == null)) {
+                continue;
+            }
+            for (DatabaseTable table : descriptor.getTables()) {
+                String tableName = table.getName();
+                if ((tableName != null) && !tableName.isEmpty()
+                        && Pattern.compile("\\b" + Pattern.quote(tableName) + "\\b", Pattern.CASE_INSENSITIVE).matcher(sql).find()) {
+                    policy.getInvalidationClasses().add(descriptor.getJavaClass());
+                    break;
+                }
+            }
         }
     }
 
@@ -129,6 +129,26 @@ public boolean shouldUsePreallocation() {
         return getDefaultSequence().shouldUsePreallocation();
     }
 
+    /**
+     * INTERNAL:
+     * Indicates whether any number of values can be allocated at a time.
+     * Return the value for the default sequence.
+     */
+    @Override
+    public boolean supportsAdaptivePreallocation() {
+        return getDefaultSequence().supportsAdaptivePreallocation();
+    }
+
+    /**
+     * ADVANCED:
+     * Return if the preallocation size is adapted to the allocation rate,
+     * as set on this sequence or the default sequence.
+     */
+    @Override
+    public boolean usesAdaptivePreallocation() {
+        return this.usesAdaptivePreallocation || getDefaultSequence().usesAdaptivePreallocation();
+    }
+
     /**
      * INTERNAL:
      * Indicates whether EclipseLink should internally call beginTransaction() before
@@ -59,6 +59,13 @@ public abstract class Sequence implements Serializable, Cloneable {
     // note that even if set to false sequence always overrides if shouldAcquireValueAfterInsert returns true.
     protected boolean shouldAlwaysOverrideExistingValue;
 
+    // indicates whether the preallocation size is adapted to the rate values are allocated at,
+    // between the preallocation size and the maximum preallocation size.
+    protected boolean usesAdaptivePreallocation;
+
+    // maximum adaptive preallocation size, 0 for the default (20 times the preallocation size).
+    protected int maxPreallocationSize;
+
     protected Sequence() {
         super();
         setName("SEQUENCE");
@@ -120,6 +127,58 @@ public int getInitialValue() {
         return initialValue;
     }
 
+    /**
+     * ADVANCED:
+     * Set if the preallocation size is adapted to the rate values are allocated at.
+     * The preallocation size is then the minimum size of a block of preallocated values,
+     * blocks grow up to the {@link #getMaxPreallocationSize()} under high insert rates, so the sequence
+     * is not selected for every few inserts, and shrink back when the rate drops, so fewer values are lost on restart.
+     * The next block is also allocated in the background before the current block is exhausted
+     * when sequencing uses its own connection pool.
+     * This is only used by sequences whose allocation size is not fixed in the database,
+     * such as table sequences, see {@link #supportsAdaptivePreallocation()}.
+     */
+    public void setUsesAdaptivePreallocation(boolean usesAdaptivePreallocation) {
+        this.usesAdaptivePreallocation = usesAdaptivePreallocation;
+    }
+
+    /**
+     * ADVANCED:
+     * Return if the preallocation size is adapted to the rate values are allocated at.
+     */
+    public boolean usesAdaptivePreallocation() {
+        return usesAdaptivePreallocation;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the maximum size of a block of preallocated values when using adaptive preallocation.
+     */
+    public void setMaxPreallocationSize(int maxPreallocationSize) {
+        this.maxPreallocationSize = maxPreallocationSize;
+    }
+
+    /**
+     * ADVANCED:
+     * Return the maximum size of a block of preallocated values when using adaptive preallocation,
+     * by default 20 times the preallocation size.
+     */
+    public int getMaxPreallocationSize() {
+        if (this.maxPreallocationSize == 0) {
+            return getPreallocationSize() * 20;
+        }
+        return Math.max(this.maxPreallocationSize, getPreallocationSize());
+    }
+
+    /**
+     * INTERNAL:
+     * Indicates whether any number of values can be allocated at a time, so the preallocation size can be adapted.
+     * False by default, true for table sequencing.
+     */
+    public boolean supportsAdaptivePreallocation() {
+        return false;
+    }
+
     public void setInitialValue(int initialValue) {
         this.initialValue = initialValue;
     }
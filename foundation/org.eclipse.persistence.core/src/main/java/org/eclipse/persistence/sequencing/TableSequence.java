@@ -115,6 +115,16 @@ public boolean isTable() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * The sequence table is incremented by the number of values allocated,
+     * so the preallocation size can be adapted.
+     */
+    @Override
+    public boolean supportsAdaptivePreallocation() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof TableSequence other) {
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sequencing;
+
+import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+import java.util.UUID;
+import java.util.Vector;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Sequence generating time ordered ids in memory.
+ * <p>
+ * <b>Description</b>
+ * Ids are generated without accessing the database, so they can be assigned when an object is persisted
+ * without a connection, and are ordered by creation time, so they are inserted at the end of primary key
+ * indexes, unlike random UUIDs. Two formats are supported:
+ * <ul>
+ * <li>{@link Format#LONG} - 64-bit ids: 41 bits of milliseconds since the epoch, 10 bits of node id, and
+ * 12 bits of counter (4096 ids per millisecond per node).
+ * <li>{@link Format#UUID} - version 7 UUIDs (RFC 9562): 48 bits of Unix milliseconds, a 12 bit counter, and the node id
+ * followed by 48 random bits. The UUID is returned as a String, as by {@link UUIDSequence}.
+ * </ul>
+ * Each node (application server) generating ids for the same table must have a different node id.
+ * <p>
+ * The ids generated by a sequence are strictly increasing across all threads, even if the clock goes back,
+ * or more ids than the counter holds are generated in a millisecond, in which case the following milliseconds are used.
+ * Generating an id does not lock, the last id is updated by compare and set.
+ * @see UUIDSequence
+ * @since EclipseLink 5.0
+ */
+public class TimeOrderedSequence extends Sequence {
+
+    /**
+     * The format of the generated ids.
+     */
+    public enum Format {
+        /** 64-bit long ids. */
+        LONG,
+        /** Version 7 UUIDs, as Strings. */
+        UUID
+    }
+
+    /** The default epoch of long ids, 2020-01-01T00:00:00Z. */
+    public static final long DEFAULT_EPOCH = 1577836800000L;
+
+    /** The number of bits of the node id. */
+    public static final int NODE_BITS = 10;
+
+    /** The maximum node id. */
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    protected static final int COUNTER_BITS = 12;
+    protected static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    protected Format format = Format.LONG;
+    protected int nodeId;
+    protected long epoch = DEFAULT_EPOCH;
+
+    /** The time and counter of the last id generated, the time in the high bits, shared by clones. */
+    protected AtomicLong last = new AtomicLong();
+
+    public TimeOrderedSequence() {
+        super();
+    }
+
+    public TimeOrderedSequence(String name) {
+        super(name);
+    }
+
+    public TimeOrderedSequence(String name, Format format, int nodeId) {
+        super(name);
+        setFormat(format);
+        setNodeId(nodeId);
+    }
+
+    /**
+     * PUBLIC:
+     * Return the format of the generated ids, long by default.
+     */
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the format of the generated ids.
+     */
+    public void setFormat(Format format) {
+        this.format = format;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the id of the node generating the ids, 0 by default.
+     */
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the id of the node generating the ids, between 0 and {@link #MAX_NODE_ID}.
+     * Each node generating ids for the same table must have a different node id.
+     */
+    public void setNodeId(int nodeId) {
+        if ((nodeId < 0) || (nodeId > MAX_NODE_ID)) {
+            throw ValidationException.sequenceSetupIncorrectly(getName());
+        }
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the epoch of long ids, in milliseconds since 1970-01-01T00:00:00Z.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the epoch of long ids, in milliseconds since 1970-01-01T00:00:00Z.
+     * Long ids can be generated for 69 years after the epoch.
+     */
+    public void setEpoch(long epoch) {
+        this.epoch = epoch;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof TimeOrderedSequence other) {
+            return getName().equals(other.getName()) && (this.format == other.format) && (this.nodeId == other.nodeId);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the next time and counter, strictly greater than the last one.
+     */
+    protected long nextTimeAndCounter(long time) {
+        long next = time << COUNTER_BITS;
+        while (true) {
+            long previous = this.last.get();
+            long candidate = Math.max(next, previous + 1);
+            if (this.last.compareAndSet(previous, candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the next long id.
+     */
+    public long nextLong() {
+        long timeAndCounter = nextTimeAndCounter(System.currentTimeMillis() - this.epoch);
+        return ((timeAndCounter >>> COUNTER_BITS) << (NODE_BITS + COUNTER_BITS))
+                | ((long)this.nodeId << COUNTER_BITS)
+                | (timeAndCounter & COUNTER_MASK);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the next version 7 UUID.
+     */
+    public UUID nextUUID() {
+        long timeAndCounter = nextTimeAndCounter(System.currentTimeMillis());
+        // 48 bits of time, 4 bits of version, 12 bits of counter.
+        long mostSignificantBits = ((timeAndCounter >>> COUNTER_BITS) << 16) | 0x7000L | (timeAndCounter & COUNTER_MASK);
+        // 2 bits of variant, 14 bits of node id, 48 random bits.
+        long leastSignificantBits = 0x8000000000000000L | ((long)this.nodeId << 48)
+                | (ThreadLocalRandom.current().nextLong() & 0xFFFFFFFFFFFFL);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the next id, no accessor or session is required.
+     */
+    @Override
+    public Object getGeneratedValue(Accessor accessor, AbstractSession writeSession, String seqName) {
+        if (this.format == Format.UUID) {
+            return nextUUID().toString();
+        }
+        return nextLong();
+    }
+
+    /**
+     * INTERNAL:
+     * Ids are generated in memory, so are not preallocated.
+     */
+    @Override
+    public Vector<?> getGeneratedVector(Accessor accessor, AbstractSession writeSession, String seqName, int size) {
+        return null;
+    }
+
+    @Override
+    public void onConnect() {
+    }
+
+    @Override
+    public void onDisconnect() {
+    }
+
+    @Override
+    public boolean shouldAcquireValueAfterInsert() {
+        return false;
+    }
+
+    @Override
+    public boolean shouldUseTransaction() {
+        return false;
+    }
+
+    @Override
+    public boolean shouldUsePreallocation() {
+        return false;
+    }
+}
@@ -71,6 +71,16 @@ public boolean isUnaryTable() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * The sequence table is incremented by the number of values allocated,
+     * so the preallocation size can be adapted.
+     */
+    @Override
+    public boolean supportsAdaptivePreallocation() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof UnaryTableSequence other) {
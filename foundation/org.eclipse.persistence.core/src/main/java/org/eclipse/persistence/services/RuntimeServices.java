@@ -16,23 +16,30 @@
 //     @since   EclipseLink 1.0 enh# 235168
 package org.eclipse.persistence.services;
 
+import org.eclipse.persistence.descriptors.CacheStatistics;
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
 import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
 import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
 import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.identitymaps.CacheIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.ConcurrentIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.HardCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.internal.identitymaps.LFUCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.NoIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.QueryResultsCacheBudget;
 import org.eclipse.persistence.internal.identitymaps.SoftCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.SoftIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.WeakIdentityMap;
+import org.eclipse.persistence.internal.queries.QueryPlanCache;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.internal.sessions.coordination.CommandBatcher;
 import org.eclipse.persistence.logging.AbstractSessionLog;
 import org.eclipse.persistence.logging.DefaultSessionLog;
 import org.eclipse.persistence.logging.JavaLog;
@@ -41,6 +48,9 @@
 import org.eclipse.persistence.sessions.DatabaseLogin;
 import org.eclipse.persistence.sessions.DefaultConnector;
 import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.coordination.CommandManager;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ServerSession;
 import org.eclipse.persistence.tools.profiler.PerformanceProfiler;
@@ -268,6 +278,39 @@ public List getSizeForPool(String poolName) {
         return results;
     }
 
+    /**
+     * This method will return the statistics of a concurrent connection pool, as "Name : value" strings.
+     * The list is empty if the pool does not exist or is not a concurrent connection pool.
+     * @param poolName the name of the pool to get the statistics for
+     */
+    public List<String> getConnectionPoolStatistics(String poolName) {
+        List<String> statistics = new ArrayList<>();
+        if (ClassConstants.ServerSession_Class.isAssignableFrom(getSession().getClass())) {
+            ConnectionPool connectionPool = ((ServerSession)getSession()).getConnectionPool(poolName);
+            if ((connectionPool == null) && "read".equals(poolName)) {
+                connectionPool = ((ServerSession)getSession()).getReadConnectionPool();
+            }
+            if (connectionPool instanceof ConcurrentConnectionPool) {
+                ConcurrentConnectionPool pool = (ConcurrentConnectionPool)connectionPool;
+                statistics.add("Connections : " + pool.getTotalNumberOfConnections());
+                statistics.add("In Use : " + pool.getNumberOfConnectionsInUse());
+                statistics.add("Waiting Threads : " + pool.getNumberOfWaitingThreads());
+                statistics.add("Acquires : " + pool.getAcquires());
+                statistics.add("Thread Affinity Hits : " + pool.getThreadAffinityHits());
+                statistics.add("Waits : " + pool.getWaits());
+                statistics.add("Wait Time (ms) : " + (pool.getWaitTime() / 1000000));
+                statistics.add("Handoffs : " + pool.getHandoffs());
+                statistics.add("Timeouts : " + pool.getTimeouts());
+                statistics.add("Connections Created : " + pool.getConnectionsCreated());
+                statistics.add("Connections Closed : " + pool.getConnectionsClosed());
+                statistics.add("Validations : " + pool.getValidations());
+                statistics.add("Validation Failures : " + pool.getValidationFailures());
+                statistics.add("Leaks : " + pool.getLeaks());
+            }
+        }
+        return statistics;
+    }
+
     /**
      * This method provides client with access to add a new connection pool to a EclipseLink
      * ServerSession.
@@ -739,6 +782,239 @@ public Object[][] getClassSummaryDetails() {
          return null;
      }
 
+     /**
+      * PUBLIC: Provide an instance of 2 Dimensional Array simulating tabular format information about the
+      * cache statistics of the classes in the session that record them.
+      *
+      * The 2 Dimensional array contains each item with values being row object array. Each row object array
+      * represents EclipseLink class cache statistics with respect to below attributes:
+      * ["Class Name", "Hits", "Misses", "Hit Ratio", "Puts", "Evictions", "Invalidations", "Lock Waits", "Average Lock Wait Time (ns)"]
+      *
+      */
+     public Object[][] getCacheStatistics() {
+         List<Object[]> rows = new ArrayList<>();
+         for (ClassDescriptor descriptor : getSession().getProject().getOrderedDescriptors()) {
+             CacheStatistics statistics = descriptor.getCachePolicy().getStatistics();
+             if (statistics != null) {
+                 rows.add(new Object[] {
+                     "Class Name : " + descriptor.getJavaClassName(),
+                     "Hits : " + statistics.getHits(),
+                     "Misses : " + statistics.getMisses(),
+                     "Hit Ratio : " + statistics.getHitRatio(),
+                     "Puts : " + statistics.getPuts(),
+                     "Evictions : " + statistics.getEvictions(),
+                     "Invalidations : " + statistics.getInvalidations(),
+                     "Lock Waits : " + statistics.getLockWaits(),
+                     "Average Lock Wait Time (ns) : " + statistics.getAverageLockWaitTime() });
+             }
+         }
+         return rows.toArray(new Object[rows.size()][]);
+     }
+
+     /**
+      * PUBLIC: Return the most frequently hit primary keys of the class with their sampled hit counts,
+      * most frequent first. The list is empty if the class does not track hot keys.
+      *
+      * @param className the fully qualified classname identifying the class
+      */
+     public List<String> getCacheHotKeys(String className) throws ClassNotFoundException {
+         Class<?> registeredClass = getSession().getDatasourcePlatform().getConversionManager().convertObject(className, ClassConstants.CLASS);
+         List<String> hotKeys = new ArrayList<>();
+         ClassDescriptor descriptor = getSession().getDescriptor(registeredClass);
+         if ((descriptor != null) && (descriptor.getCachePolicy().getStatistics() != null)) {
+             for (Map.Entry<Object, Long> entry : descriptor.getCachePolicy().getStatistics().getHotKeys().entrySet()) {
+                 hotKeys.add(entry.getKey() + " : " + entry.getValue());
+             }
+         }
+         return hotKeys;
+     }
+
+     /**
+      * PUBLIC: Set if the cache statistics of all the classes in the session are recorded.
+      * Disabling the recording discards the recorded statistics.
+      */
+     public void setShouldRecordCacheStatistics(boolean shouldRecordCacheStatistics) {
+         for (ClassDescriptor descriptor : getSession().getProject().getOrderedDescriptors()) {
+             if (!descriptor.isAggregateDescriptor()) {
+                 descriptor.getCachePolicy().setShouldRecordStatistics(shouldRecordCacheStatistics);
+             }
+         }
+     }
+
+     /**
+      * PUBLIC: Reset the cache statistics of all the classes in the session to 0.
+      */
+     public void resetCacheStatistics() {
+         for (ClassDescriptor descriptor : getSession().getProject().getOrderedDescriptors()) {
+             CacheStatistics statistics = descriptor.getCachePolicy().getStatistics();
+             if (statistics != null) {
+                 statistics.reset();
+             }
+         }
+     }
+
+     /**
+      * PUBLIC: Return the statistics of the session query results cache budget, as "Name : value" strings.
+      * The list is empty if the query results cache size is not bounded.
+      */
+     public List<String> getQueryResultsCacheStatistics() {
+         List<String> statistics = new ArrayList<>();
+         QueryResultsCacheBudget budget = getSession().getIdentityMapAccessorInstance().getIdentityMapManager().getQueryResultsCacheBudget();
+         if (budget != null) {
+             statistics.add("Size : " + budget.getSize());
+             statistics.add("Maximum Size : " + budget.getMaximumSize());
+             statistics.add("Results : " + budget.getEntryCount());
+             statistics.add("Hits : " + budget.getHits());
+             statistics.add("Misses : " + budget.getMisses());
+             statistics.add("Puts : " + budget.getPuts());
+             statistics.add("Evictions : " + budget.getEvictions());
+             statistics.add("Rejections : " + budget.getRejections());
+         }
+         return statistics;
+     }
+
+     /**
+      * PUBLIC: Return the queries whose cached results use the most estimated bytes, largest first,
+      * as "Query : bytes" strings. The list is empty if the query results cache size is not bounded.
+      *
+      * @param count the maximum number of queries returned
+      */
+     public List<String> getLargestQueryResultsCaches(int count) {
+         List<String> largest = new ArrayList<>();
+         QueryResultsCacheBudget budget = getSession().getIdentityMapAccessorInstance().getIdentityMapManager().getQueryResultsCacheBudget();
+         if (budget != null) {
+             for (Map.Entry<Object, Long> entry : budget.getLargestQueries(count).entrySet()) {
+                 largest.add(entry.getKey() + " : " + entry.getValue());
+             }
+         }
+         return largest;
+     }
+
+     /**
+      * PUBLIC: Reset the statistics of the session query results cache budget to 0.
+      */
+     public void resetQueryResultsCacheStatistics() {
+         QueryResultsCacheBudget budget = getSession().getIdentityMapAccessorInstance().getIdentityMapManager().getQueryResultsCacheBudget();
+         if (budget != null) {
+             budget.resetStatistics();
+         }
+     }
+
+     /**
+      * PUBLIC: Return the statistics of the session query plan cache, as "Name : value" strings.
+      */
+     public List<String> getQueryPlanCacheStatistics() {
+         List<String> statistics = new ArrayList<>();
+         QueryPlanCache planCache = getSession().getProject().getQueryPlanCache();
+         statistics.add("Size : " + planCache.size());
+         statistics.add("Maximum Size : " + planCache.getMaxSize());
+         statistics.add("Hits : " + planCache.getHits());
+         statistics.add("Misses : " + planCache.getMisses());
+         statistics.add("Evictions : " + planCache.getEvictions());
+         statistics.add("Hit Rate : " + planCache.getHitRate());
+         return statistics;
+     }
+
+     /**
+      * PUBLIC: Reset the statistics of the session query plan cache to 0.
+      */
+     public void resetQueryPlanCacheStatistics() {
+         getSession().getProject().getQueryPlanCache().resetStatistics();
+     }
+
+     /**
+      * PUBLIC: Return the statistics of the JPQL parse cache, and the total of the expression query caches
+      * of the descriptors, as "Name : value" strings.
+      */
+     public List<String> getJPQLParseCacheStatistics() {
+         List<String> statistics = new ArrayList<>();
+         ConcurrentFixedCache parseCache = getSession().getProject().getJPQLParseCache();
+         statistics.add("Size : " + parseCache.size());
+         statistics.add("Maximum Size : " + parseCache.getMaxSize());
+         statistics.add("Hits : " + parseCache.getHits());
+         statistics.add("Misses : " + parseCache.getMisses());
+         statistics.add("Evictions : " + parseCache.getEvictions());
+         statistics.add("Hit Rate : " + parseCache.getHitRate());
+         long hits = 0;
+         long misses = 0;
+         long evictions = 0;
+         for (ClassDescriptor descriptor : getSession().getProject().getOrderedDescriptors()) {
+             ConcurrentFixedCache expressionQueryCache = descriptor.getQueryManager().getExpressionQueryCache();
+             hits += expressionQueryCache.getHits();
+             misses += expressionQueryCache.getMisses();
+             evictions += expressionQueryCache.getEvictions();
+         }
+         statistics.add("Expression Query Cache Hits : " + hits);
+         statistics.add("Expression Query Cache Misses : " + misses);
+         statistics.add("Expression Query Cache Evictions : " + evictions);
+         return statistics;
+     }
+
+     /**
+      * PUBLIC: Return the JPQL queries not in the JPQL parse cache parsed the most, as "misses : query" strings,
+      * the most parsed first. These are the queries parsed again as they were evicted,
+      * the cache size can be increased to keep them.
+      */
+     public List<String> getJPQLParseCacheMostMissedQueries() {
+         List<String> queries = new ArrayList<>();
+         for (Map.Entry<Object, Integer> entry : getSession().getProject().getJPQLParseCache().getMostMissedKeys(20).entrySet()) {
+             queries.add(entry.getValue() + " : " + entry.getKey());
+         }
+         return queries;
+     }
+
+     /**
+      * PUBLIC: Reset the statistics of the JPQL parse cache and of the expression query caches of the descriptors to 0.
+      */
+     public void resetJPQLParseCacheStatistics() {
+         getSession().getProject().getJPQLParseCache().resetStatistics();
+         for (ClassDescriptor descriptor : getSession().getProject().getOrderedDescriptors()) {
+             descriptor.getQueryManager().getExpressionQueryCache().resetStatistics();
+         }
+     }
+
+     /**
+      * PUBLIC: Return the statistics of cache coordination command batching, as "Name : value" strings.
+      * The list is empty if cache coordination commands are not batched.
+      */
+     public List<String> getCacheCoordinationBatchStatistics() {
+         List<String> statistics = new ArrayList<>();
+         CommandBatcher batcher = getCommandBatcher();
+         if (batcher != null) {
+             statistics.add("Queue Depth : " + batcher.getQueueDepth());
+             statistics.add("Queued Commands : " + batcher.getQueuedCommands());
+             statistics.add("Sent Commands : " + batcher.getSentCommands());
+             statistics.add("Coalesced Commands : " + batcher.getCoalescedCommands());
+             statistics.add("Direct Commands : " + batcher.getDirectCommands());
+             statistics.add("Batches : " + batcher.getBatches());
+             statistics.add("Failed Batches : " + batcher.getFailedBatches());
+             statistics.add("Average Batch Size : " + batcher.getAverageBatchSize());
+             statistics.add("Queue Full Waits : " + batcher.getQueueFullWaits());
+             statistics.add("Queue Full Wait Time (ms) : " + (batcher.getQueueFullWaitTime() / 1000000));
+             statistics.add("Uncompressed Bytes : " + batcher.getUncompressedBytes());
+             statistics.add("Sent Bytes : " + batcher.getSentBytes());
+         }
+         return statistics;
+     }
+
+     /**
+      * PUBLIC: Reset the statistics of cache coordination command batching to 0.
+      */
+     public void resetCacheCoordinationBatchStatistics() {
+         CommandBatcher batcher = getCommandBatcher();
+         if (batcher != null) {
+             batcher.resetStatistics();
+         }
+     }
+
+     private CommandBatcher getCommandBatcher() {
+         CommandManager commandManager = getSession().getCommandManager();
+         if (commandManager instanceof RemoteCommandManager) {
+             return ((RemoteCommandManager)commandManager).getCommandBatcher();
+         }
+         return null;
+     }
+
      /**
       * INTERNAL:
       * Answer the fully qualified names of the classes mapped in the session.
@@ -833,8 +1109,12 @@ protected String getCacheTypeFor(Class<?> identityMapClass) {
              return "Cache";
          } else if (identityMapClass == FullIdentityMap.class) {
              return "Full";
+         } else if (identityMapClass == ConcurrentIdentityMap.class) {
+             return "Concurrent";
          } else if (identityMapClass == HardCacheWeakIdentityMap.class) {
              return "HardWeak";
+         } else if (identityMapClass == LFUCacheWeakIdentityMap.class) {
+             return "LFUWeak";
          } else if (identityMapClass == NoIdentityMap.class) {
              return "None";
          } else if (identityMapClass == SoftCacheWeakIdentityMap.class) {
@@ -225,6 +225,97 @@ public interface MBeanRuntimeServicesMBean {
      */
     Object[][] getClassSummaryDetails();
 
+    /**
+     *  Provide an instance of 2 Dimensional Array simulating tabular format information about the
+     * cache statistics of the classes in the session that record them.
+     *
+     * The 2 Dimensional array contains each item with values being row object array. Each row object array
+     * represents EclipseLink class cache statistics with respect to below attributes:
+     * ["Class Name", "Hits", "Misses", "Hit Ratio", "Puts", "Evictions", "Invalidations", "Lock Waits", "Average Lock Wait Time (ns)"]
+     *
+     */
+    Object[][] getCacheStatistics();
+
+    /**
+     *  Return the most frequently hit primary keys of the class with their sampled hit counts,
+     * most frequent first. The list is empty if the class does not track hot keys.
+     *
+     * @param className the fully qualified classname identifying the class
+     */
+    List<String> getCacheHotKeys(String className) throws ClassNotFoundException;
+
+    /**
+     *  Set if the cache statistics of all the classes in the session are recorded.
+     */
+    void setShouldRecordCacheStatistics(boolean shouldRecordCacheStatistics);
+
+    /**
+     *  Reset the cache statistics of all the classes in the session to 0.
+     */
+    void resetCacheStatistics();
+
+    /**
+     *  Return the statistics of the session query results cache budget, as "Name : value" strings.
+     * The list is empty if the query results cache size is not bounded.
+     */
+    List<String> getQueryResultsCacheStatistics();
+
+    /**
+     *  Return the queries whose cached results use the most estimated bytes, largest first,
+     * as "Query : bytes" strings. The list is empty if the query results cache size is not bounded.
+     *
+     * @param count the maximum number of queries returned
+     */
+    List<String> getLargestQueryResultsCaches(int count);
+
+    /**
+     *  Reset the statistics of the session query results cache budget to 0.
+     */
+    void resetQueryResultsCacheStatistics();
+
+    /**
+     *  Return the statistics of the session query plan cache, as "Name : value" strings.
+     */
+    List<String> getQueryPlanCacheStatistics();
+
+    /**
+     *  Reset the statistics of the session query plan cache to 0.
+     */
+    void resetQueryPlanCacheStatistics();
+
+    /**
+     *  Return the statistics of the JPQL parse cache, and the total of the expression query caches, as "Name : value" strings.
+     */
+    List<String> getJPQLParseCacheStatistics();
+
+    /**
+     *  Return the JPQL queries not in the JPQL parse cache parsed the most, as "misses : query" strings.
+     */
+    List<String> getJPQLParseCacheMostMissedQueries();
+
+    /**
+     *  Reset the statistics of the JPQL parse cache and of the expression query caches to 0.
+     */
+    void resetJPQLParseCacheStatistics();
+
+    /**
+     *  Return the statistics of cache coordination command batching, as "Name : value" strings.
+     * The list is empty if cache coordination commands are not batched.
+     */
+    List<String> getCacheCoordinationBatchStatistics();
+
+    /**
+     *  Reset the statistics of cache coordination command batching to 0.
+     */
+    void resetCacheCoordinationBatchStatistics();
+
+    /**
+     *  Return the statistics of a concurrent connection pool, as "Name : value" strings.
+     * The list is empty if the pool does not exist or is not a concurrent connection pool.
+     * @param poolName the name of the pool to get the statistics for
+     */
+    List<String> getConnectionPoolStatistics(String poolName);
+
     /**
      *  Provide a list of instance of ClassSummaryDetail containing information about the
      * classes in the session whose class names match the provided filter.
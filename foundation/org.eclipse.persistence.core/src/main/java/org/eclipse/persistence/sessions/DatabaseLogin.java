@@ -479,6 +479,26 @@ public int getStatementCacheSize() {
         return getPlatform().getStatementCacheSize();
     }
 
+    /**
+     * PUBLIC:
+     * If prepared statement caching is used, return the cache eviction policy,
+     * "LRU" (least recently used) or "LFU" (least frequently used).
+     * The default is "LRU".
+     */
+    public String getStatementCachePolicy() {
+        return getPlatform().getStatementCachePolicy();
+    }
+
+    /**
+     * PUBLIC:
+     * If prepared statement caching is used, return the number of most frequently used statements
+     * that are never evicted from the cache.
+     * The default is 0.
+     */
+    public int getStatementCachePinnedSize() {
+        return getPlatform().getStatementCachePinnedSize();
+    }
+
     /**
      * PUBLIC:
      * Used to help bean introspection.
@@ -950,6 +970,27 @@ public void setStatementCacheSize(int size) {
         getPlatform().setStatementCacheSize(size);
     }
 
+    /**
+     * PUBLIC:
+     * If prepared statement caching is used this configures the cache eviction policy,
+     * "LRU" (least recently used) or "LFU" (least frequently used).
+     * LFU keeps frequently used statements when many statements are used only occasionally.
+     * The default is "LRU".
+     */
+    public void setStatementCachePolicy(String policy) {
+        getPlatform().setStatementCachePolicy(policy);
+    }
+
+    /**
+     * PUBLIC:
+     * If prepared statement caching is used this configures the number of most frequently used statements
+     * that are never evicted from the cache. The pinned statements count towards the cache size.
+     * The default is 0.
+     */
+    public void setStatementCachePinnedSize(int size) {
+        getPlatform().setStatementCachePinnedSize(size);
+    }
+
     /**
      * PUBLIC:
      * Used to help bean introspection.
@@ -1026,6 +1067,83 @@ public void setUsesJDBCBatchWriting(boolean usesJDBCBatchWriting) {
         getPlatform().setUsesJDBCBatchWriting(usesJDBCBatchWriting);
     }
 
+    /**
+     * PUBLIC: Set if parameterized batches are executed asynchronously, and batches for independent tables concurrently.
+     * This requires JDBC batch writing, and a JDBC driver supporting concurrent statements on the same connection.
+     * @see #setMaxPipelinedBatches(int)
+     */
+    public void setUsesPipelinedBatchWriting(boolean usesPipelinedBatchWriting) {
+        getPlatform().setUsesPipelinedBatchWriting(usesPipelinedBatchWriting);
+    }
+
+    /**
+     * PUBLIC: Return if parameterized batches are executed asynchronously.
+     */
+    public boolean shouldUsePipelinedBatchWriting() {
+        return getPlatform().usesPipelinedBatchWriting();
+    }
+
+    /**
+     * PUBLIC: Set if parameterized batches of inserts are executed as multi-row INSERT statements.
+     * This requires JDBC batch writing, and a platform supporting multi-row inserts.
+     * @see DatabasePlatform#getMaxMultiRowInsertParameters()
+     */
+    public void setUsesMultiRowInsertBatchWriting(boolean usesMultiRowInsertBatchWriting) {
+        getPlatform().setUsesMultiRowInsertBatchWriting(usesMultiRowInsertBatchWriting);
+    }
+
+    /**
+     * PUBLIC: Return if parameterized batches of inserts are executed as multi-row INSERT statements.
+     */
+    public boolean shouldUseMultiRowInsertBatchWriting() {
+        return getPlatform().usesMultiRowInsertBatchWriting();
+    }
+
+    /**
+     * PUBLIC: Set if parameterized batches of updates of the same columns are executed as bulk UPDATE statements.
+     * This requires JDBC batch writing, and a platform supporting bulk updates.
+     * @see DatabasePlatform#getMaxBulkUpdateParameters()
+     */
+    public void setUsesBulkUpdateBatchWriting(boolean usesBulkUpdateBatchWriting) {
+        getPlatform().setUsesBulkUpdateBatchWriting(usesBulkUpdateBatchWriting);
+    }
+
+    /**
+     * PUBLIC: Return if parameterized batches of updates are executed as bulk UPDATE statements.
+     */
+    public boolean shouldUseBulkUpdateBatchWriting() {
+        return getPlatform().usesBulkUpdateBatchWriting();
+    }
+
+    /**
+     * PUBLIC: Set if the fetch size of select statements is set to the number of rows they typically return.
+     * @see DatabasePlatform#setUsesFetchSizeAutotuning(boolean)
+     */
+    public void setUsesFetchSizeAutotuning(boolean usesFetchSizeAutotuning) {
+        getPlatform().setUsesFetchSizeAutotuning(usesFetchSizeAutotuning);
+    }
+
+    /**
+     * PUBLIC: Return if the fetch size of select statements is set to the number of rows they typically return.
+     */
+    public boolean shouldUseFetchSizeAutotuning() {
+        return getPlatform().usesFetchSizeAutotuning();
+    }
+
+    /**
+     * PUBLIC: Set the maximum number of batches executing at the same time with pipelined batch writing, default 4.
+     */
+    public void setMaxPipelinedBatches(int maxPipelinedBatches) {
+        getPlatform().setMaxPipelinedBatches(maxPipelinedBatches);
+    }
+
+    /**
+     * PUBLIC: Return the maximum number of batches executing at the same time with pipelined batch writing.
+     */
+    public int getMaxPipelinedBatches() {
+        return getPlatform().getMaxPipelinedBatches();
+    }
+
     /**
      * PUBLIC:
      * EclipseLink can be configured to use database specific sql grammar not JDBC specific.
@@ -19,6 +19,8 @@
 import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
 import org.eclipse.persistence.queries.ReadQuery;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Vector;
 
@@ -523,6 +525,24 @@ public interface IdentityMapAccessor {
      */
     void updateWriteLockValue(Object primaryKey, Class<?> theClass, Object writeLockValue);
 
+    /**
+     * ADVANCED:
+     * Write the rows of the objects in the shared cache to the file, so the cache can be restored after a restart.
+     * Only classes using a version locking policy are written, as their rows can be validated when restored.
+     * @return the number of objects written
+     * @see #restoreCacheSnapshot(File)
+     */
+    long writeCacheSnapshot(File file) throws IOException;
+
+    /**
+     * ADVANCED:
+     * Restore the shared cache from a file written by {@link #writeCacheSnapshot(File)}.
+     * The versions of the objects are selected from the database in batches,
+     * only the objects that have not changed since the snapshot was written are restored.
+     * @return the number of objects restored, or -1 if the file does not exist or is not a compatible snapshot
+     */
+    long restoreCacheSnapshot(File file) throws IOException;
+
     /**
      * ADVANCED:
      * This can be used to help debugging an Object identity problem.
@@ -49,6 +49,7 @@
 import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
 import org.eclipse.persistence.internal.identitymaps.AbstractIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.internal.queries.QueryPlanCache;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.queries.AttributeGroup;
@@ -109,9 +110,15 @@ public class Project extends CoreProject<ClassDescriptor, Login, DatabaseSession
     /** PERF: Provide an JPQL parse cache to optimize dynamic JPQL. */
     protected transient ConcurrentFixedCache jpqlParseCache;
 
+    /** PERF: Provide a query plan cache to optimize dynamic expression queries differing by their values. */
+    protected transient QueryPlanCache queryPlanCache;
+
     /** Define the default setting for configuring if dates and calendars are mutable. */
     protected boolean defaultTemporalMutable = false;
 
+    /** Define the default setting for configuring if descriptors use generated accessors instead of reflection. */
+    protected boolean defaultUsesGeneratedAccessors = false;
+
     /** Indicates whether there is at least one descriptor that has at least on mapping that
      *  require a call on deleted objects to update change sets.
      */
@@ -203,6 +210,9 @@ public class Project extends CoreProject<ClassDescriptor, Login, DatabaseSession
      /** Force all queries and relationships to use deferred lock strategy during object building and L2 cache population. */
     protected boolean queryCacheForceDeferredLocks = false;
 
+    /** Maximum estimated bytes of all of the query results cached by the session, 0 if unbounded. */
+    protected long queryResultsCacheMaximumSize = 0;
+
     /**
      * PUBLIC:
      * Create a new project.
@@ -215,7 +225,7 @@ public Project() {
         this.hasIsolatedClasses = false;
         this.hasGenericHistorySupport = false;
         this.hasProxyIndirection = false;
-        this.jpqlParseCache = new ConcurrentFixedCache(200);
+        this.jpqlParseCache = new ConcurrentFixedCache(500, true);
         this.queries = new ArrayList<>();
         this.mappedSuperclassDescriptors = new HashMap<>(2);
         this.metamodelIdClassMap = new HashMap<>();
@@ -275,6 +285,27 @@ public void setQueryCacheForceDeferredLocks(boolean queryCacheForceDeferredLocks
         this.queryCacheForceDeferredLocks = queryCacheForceDeferredLocks;
     }
 
+    /**
+     * PUBLIC:
+     * Return the maximum estimated bytes of all of the query results cached by the session, 0 if unbounded.
+     */
+    public long getQueryResultsCacheMaximumSize() {
+        return queryResultsCacheMaximumSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum estimated bytes of all of the query results cached by the session.
+     * The results caches of all the queries share this budget, when it is exceeded
+     * the least recently used results of any query are evicted.
+     * By default the query results caches are only bounded by their number of results.
+     * This must be set before the session is logged in.
+     * @see org.eclipse.persistence.queries.QueryResultsCachePolicy#setMaximumCachedBytes(long)
+     */
+    public void setQueryResultsCacheMaximumSize(long queryResultsCacheMaximumSize) {
+        this.queryResultsCacheMaximumSize = queryResultsCacheMaximumSize;
+    }
+
     /**
      * PUBLIC:
      * Return the default setting for configuring if dates and calendars are mutable.
@@ -295,6 +326,28 @@ public void setDefaultTemporalMutable(boolean defaultTemporalMutable) {
         this.defaultTemporalMutable = defaultTemporalMutable;
     }
 
+    /**
+     * PUBLIC:
+     * Return the default setting for configuring if descriptors use generated accessors
+     * instead of reflection to instantiate their class and access its instance variables.
+     * By default reflection is used.
+     * @see ClassDescriptor#setUsesGeneratedAccessors(boolean)
+     */
+    public boolean getDefaultUsesGeneratedAccessors() {
+        return defaultUsesGeneratedAccessors;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the default setting for configuring if descriptors use generated accessors
+     * instead of reflection to instantiate their class and access its instance variables.
+     * By default reflection is used.
+     * @see ClassDescriptor#setUsesGeneratedAccessors(boolean)
+     */
+    public void setDefaultUsesGeneratedAccessors(boolean defaultUsesGeneratedAccessors) {
+        this.defaultUsesGeneratedAccessors = defaultUsesGeneratedAccessors;
+    }
+
     /**
      * INTERNAL:
      * Return all pre-defined not yet parsed JPQL queries.
@@ -329,7 +382,7 @@ public List<DatabaseQuery> getJPATablePerTenantQueries() {
      */
     public ConcurrentFixedCache getJPQLParseCache() {
         if (jpqlParseCache==null) {
-            jpqlParseCache = new ConcurrentFixedCache(200);
+            jpqlParseCache = new ConcurrentFixedCache(500, true);
         }
         return jpqlParseCache;
     }
@@ -338,9 +391,10 @@ public ConcurrentFixedCache getJPQLParseCache() {
      * ADVANCED:
      * Set the JPQL parse cache max size.
      * This is used to optimize dynamic JPQL.
+     * The least frequently used query is evicted, the default size is 500.
      */
     public void setJPQLParseCacheMaxSize(int maxSize) {
-        setJPQLParseCache(new ConcurrentFixedCache(maxSize));
+        setJPQLParseCache(new ConcurrentFixedCache(maxSize, true));
     }
 
     /**
@@ -361,6 +415,39 @@ protected void setJPQLParseCache(ConcurrentFixedCache jpqlParseCache) {
         this.jpqlParseCache = jpqlParseCache;
     }
 
+    /**
+     * INTERNAL:
+     * Return the query plan cache.
+     * This is used to optimize dynamic expression queries, it is disabled by default.
+     */
+    public QueryPlanCache getQueryPlanCache() {
+        if (queryPlanCache == null) {
+            queryPlanCache = new QueryPlanCache(0);
+        }
+        return queryPlanCache;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the query plan cache max size, the number of prepared dynamic expression queries cached
+     * by the shape of their selection criteria. The constants compared to attributes are replaced by parameters,
+     * so the executions of an equivalent query with different values are not prepared again.
+     * The least recently used query is evicted. By default the size is 0, the cache is disabled.
+     * @see QueryPlanCache
+     */
+    public void setQueryPlanCacheMaxSize(int maxSize) {
+        this.queryPlanCache = new QueryPlanCache(maxSize);
+    }
+
+    /**
+     * ADVANCED:
+     * Return the query plan cache max size.
+     * This is used to optimize dynamic expression queries.
+     */
+    public int getQueryPlanCacheMaxSize() {
+        return getQueryPlanCache().getMaxSize();
+    }
+
     /**
      * INTERNAL:
      * List of queries that upon initialization are copied over to the session
@@ -103,7 +103,12 @@ public class SessionEvent extends EventObject {
     public static final int MissingDescriptor = 32;
     public static final int NoRowsModified = 35;
 
-    // last event value for this class as of Jan 26th, 2004 is 41
+    // Cache preload events
+    public static final int PreCachePreload = 42;
+    public static final int CachePreloadProgress = 43;
+    public static final int PostCachePreload = 44;
+
+    // last event value for this class is 44
 
     /**
      * INTERNAL:
@@ -148,4 +148,13 @@ public void preLogout(SessionEvent event) { }
 
     @Override
     public void postLogout(SessionEvent event) { }
+
+    @Override
+    public void preCachePreload(SessionEvent event) { }
+
+    @Override
+    public void cachePreloadProgress(SessionEvent event) { }
+
+    @Override
+    public void postCachePreload(SessionEvent event) { }
 }
@@ -309,4 +309,26 @@ public interface SessionEventListener extends CoreSessionEventListener {
      * This Event is raised after the session logs out.
      */
     void postLogout(SessionEvent event);
+
+    /**
+     * PUBLIC:
+     * This Event is raised before the cache is preloaded in the background after login.
+     * The "result" of the event will be the collection of classes being preloaded.
+     */
+    default void preCachePreload(SessionEvent event) { }
+
+    /**
+     * PUBLIC:
+     * This Event is raised each time a batch of objects has been preloaded into the cache.
+     * The "result" of the event will be the total number of objects preloaded so far,
+     * the "class" property the class of the batch and the "count" property the number of objects preloaded for that class.
+     */
+    default void cachePreloadProgress(SessionEvent event) { }
+
+    /**
+     * PUBLIC:
+     * This Event is raised once the cache preload has completed, failed or been cancelled.
+     * The "result" of the event will be the total number of objects preloaded.
+     */
+    default void postCachePreload(SessionEvent event) { }
 }
@@ -29,6 +29,7 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 
@@ -761,6 +762,65 @@ public void postLogout(Session session) {
         endOperationProfile();
     }
 
+    /**
+     * INTERNAL:
+     * Raised before the cache is preloaded.
+     */
+    public void preCachePreload(Collection<Class<?>> preloadClasses) {
+        if (!hasListeners()) {
+            return;
+        }
+        startOperationProfile();
+        SessionEvent event = new SessionEvent(SessionEvent.PreCachePreload, getSession());
+        event.setResult(preloadClasses);
+        List<SessionEventListener> listeners = this.listeners;
+        int size = listeners.size();
+        for (int index = 0; index < size; index++) {
+            listeners.get(index).preCachePreload(event);
+        }
+        endOperationProfile();
+    }
+
+    /**
+     * INTERNAL:
+     * Raised after each batch of objects preloaded into the cache.
+     */
+    public void cachePreloadProgress(Class<?> preloadClass, long count, long total) {
+        if (!hasListeners()) {
+            return;
+        }
+        startOperationProfile();
+        SessionEvent event = new SessionEvent(SessionEvent.CachePreloadProgress, getSession());
+        event.setResult(total);
+        event.setProperty("class", preloadClass);
+        event.setProperty("count", count);
+        List<SessionEventListener> listeners = this.listeners;
+        int size = listeners.size();
+        for (int index = 0; index < size; index++) {
+            listeners.get(index).cachePreloadProgress(event);
+        }
+        endOperationProfile();
+    }
+
+    /**
+     * INTERNAL:
+     * Raised once the cache preload is complete.
+     */
+    public void postCachePreload(long total) {
+        if (!hasListeners()) {
+            return;
+        }
+        startOperationProfile();
+        SessionEvent event = new SessionEvent(SessionEvent.PostCachePreload, getSession());
+        event.setResult(total);
+        List<SessionEventListener> listeners = this.listeners;
+        int size = listeners.size();
+        for (int index = 0; index < size; index++) {
+            listeners.get(index).postCachePreload(event);
+        }
+        endOperationProfile();
+    }
+
     /**
      * INTERNAL:
      * Prepare unit of work.
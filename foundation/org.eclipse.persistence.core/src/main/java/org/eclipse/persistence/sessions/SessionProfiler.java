@@ -50,8 +50,16 @@ public interface SessionProfiler {
     String Disconnects = "Counter:DisconnectCalls";
     String CacheHits = "Counter:CacheHits";
     String CacheMisses = "Counter:CacheMisses";
+    String IdentityMapHits = "Counter:IdentityMapHits";
+    String IdentityMapMisses = "Counter:IdentityMapMisses";
+    String IdentityMapEvictions = "Counter:IdentityMapEvictions";
+    String OffHeapCacheHits = "Counter:OffHeapCacheHits";
+    String OffHeapCacheMisses = "Counter:OffHeapCacheMisses";
     String ChangeSetsProcessed = "Counter:ChangesProcessed";
     String ChangeSetsNotProcessed = "Counter:ChangesNotProcessed";
+    String FetchSizeTuned = "Counter:FetchSizeTuned";
+    String QueryPlanCacheHits = "Counter:QueryPlanCacheHits";
+    String QueryPlanCacheMisses = "Counter:QueryPlanCacheMisses";
 
     String DescriptorEvent = "Timer:DescriptorEvents";
     String SessionEvent = "Timer:SessionEvents";
@@ -61,6 +69,7 @@ public interface SessionProfiler {
     String StatementExecute = "Timer:StatementExecute";
     String RowFetch = "Timer:RowFetch";
     String ObjectBuilding = "Timer:ObjectBuilding";
+    String OffHeapCacheRebuild = "Timer:OffHeapCacheRebuild";
     String Register = "Timer:Register";
     String Merge = "Timer:Merge";
     String DistributedMerge = "Timer:DistributedMerge";
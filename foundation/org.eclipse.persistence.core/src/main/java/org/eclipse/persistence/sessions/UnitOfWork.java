@@ -723,4 +723,31 @@ enum CommitOrderType {
      * Set the commit order.
      */
     void setCommitOrder(CommitOrderType order);
+
+    /**
+     * ADVANCED:
+     * Return the maximum number of threads inserting the new objects of independent classes in parallel on commit,
+     * 1 (DEFAULT) if the objects are written by the committing thread.
+     * @see #setParallelFlushThreads(int)
+     */
+    int getParallelFlushThreads();
+
+    /**
+     * ADVANCED:
+     * Set the maximum number of threads inserting the new objects of independent classes in parallel on commit.
+     * <p>
+     * This is intended for bulk loading. If the commit only inserts new objects, and the classes of the objects form
+     * groups without commit order dependencies (foreign key constraints) between them, each group is inserted by its own
+     * thread, on its own connection from the client session's connection pool, in its own transaction.
+     * The inserts of each group are ordered as for a serial commit.
+     * The group transactions are committed once all the groups have been inserted, before the unit of work's transaction,
+     * or rolled back if any group fails, so the commit is <b>not atomic</b>: a failure while committing the transactions
+     * or after them leaves the inserts of the committed groups in the database.
+     * <p>
+     * Objects are only inserted in parallel by a unit of work of a server session's client session
+     * not using an external transaction controller, before anything has been written in its transaction,
+     * and if the objects' ids are not assigned by the database on insert. Otherwise the commit is serial.
+     * Descriptor event listeners of the inserted objects are called from the writing threads.
+     */
+    void setParallelFlushThreads(int threads);
 }
@@ -24,6 +24,7 @@
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.CommandBatcher;
 import org.eclipse.persistence.internal.sessions.coordination.CommandPropagator;
 import org.eclipse.persistence.internal.sessions.coordination.RCMCommand;
 import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
@@ -78,6 +79,8 @@
 public class RemoteCommandManager implements org.eclipse.persistence.sessions.coordination.CommandManager {
     public static final String DEFAULT_CHANNEL = "EclipseLinkCommandChannel";
     public static final boolean DEFAULT_ASYNCHRONOUS_MODE = true;
+    public static final long DEFAULT_COMMAND_BATCH_DELAY = 10;
+    public static final int DEFAULT_COMMAND_BATCH_QUEUE_SIZE = 10000;
 
     /** Uniquely identifies this service in the cluster */
     protected ServiceId serviceId;
@@ -106,6 +109,21 @@ public class RemoteCommandManager implements org.eclipse.persistence.sessions.co
     /** Set the Serializer to use for serialization of commands. */
     protected Serializer serializer;
 
+    /** Maximum number of commands propagated in one batch, batching is used if greater than 1 */
+    protected int commandBatchSize;
+
+    /** Maximum time in milliseconds to wait for a batch to fill */
+    protected long commandBatchDelay = DEFAULT_COMMAND_BATCH_DELAY;
+
+    /** Maximum number of commands waiting to be batched */
+    protected int commandBatchQueueSize = DEFAULT_COMMAND_BATCH_QUEUE_SIZE;
+
+    /** Determines whether command batches are compressed */
+    protected boolean shouldCompressCommandBatches;
+
+    /** Propagates commands in batches from a background thread, if batching is used */
+    protected volatile CommandBatcher commandBatcher;
+
     //** Indicates whether RCM is active. In case there's discoveryManager it mirrors discoveryManager.isDiscoveryStopped()
     protected boolean isStopped = true;
 
@@ -198,6 +216,11 @@ public void shutdown() {
             discoveryManager = newDmgr;
         }
         isStopped = true;
+        CommandBatcher batcher = this.commandBatcher;
+        if (batcher != null) {
+            this.commandBatcher = null;
+            batcher.shutdown();
+        }
         transportManager.discardConnections();
     }
 
@@ -246,6 +269,12 @@ public void propagateCommand(Object command) {
                 }
             }
 
+            // Queue the command to be propagated in a batch from the batching thread
+            if (shouldBatchCommands() && !newCommand.isInternalCommand()) {
+                getCommandBatcher().enqueue(newCommand, commandBytes);
+                return;
+            }
+
             // Propagate the command (synchronously or asynchronously)
             propagator = new CommandPropagator(this, newCommand, commandBytes);
 
@@ -606,4 +635,107 @@ public Serializer getSerializer() {
     public void setSerializer(Serializer serializer) {
         this.serializer = serializer;
     }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of commands propagated together in one batch.
+     * Batching is used if the size is greater than 1.
+     */
+    public int getCommandBatchSize() {
+        return commandBatchSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of commands propagated together in one batch.
+     * If greater than 1, commands are queued and propagated from a single background thread
+     * in batches, in the order they were committed. Commands made redundant by later commands
+     * in the same batch are not sent.
+     * By default commands are not batched.
+     */
+    public void setCommandBatchSize(int commandBatchSize) {
+        this.commandBatchSize = commandBatchSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Return whether commands are propagated in batches.
+     */
+    public boolean shouldBatchCommands() {
+        return commandBatchSize > 1;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum time in milliseconds to wait for a batch to fill before it is sent.
+     */
+    public long getCommandBatchDelay() {
+        return commandBatchDelay;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum time in milliseconds to wait for a batch to fill before it is sent.
+     * A larger delay sends fewer messages but increases the time before the cluster sees a change.
+     * The default is 10 milliseconds.
+     */
+    public void setCommandBatchDelay(long commandBatchDelay) {
+        this.commandBatchDelay = commandBatchDelay;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of commands waiting to be batched.
+     */
+    public int getCommandBatchQueueSize() {
+        return commandBatchQueueSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of commands waiting to be batched.
+     * When the queue is full, committing threads wait for space
+     * and then propagate their command directly.
+     * The default is 10000.
+     */
+    public void setCommandBatchQueueSize(int commandBatchQueueSize) {
+        this.commandBatchQueueSize = commandBatchQueueSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Return whether command batches are GZIP compressed.
+     */
+    public boolean shouldCompressCommandBatches() {
+        return shouldCompressCommandBatches;
+    }
+
+    /**
+     * PUBLIC:
+     * Set whether command batches are GZIP compressed.
+     * Compression reduces the network traffic of large change sets at the cost of CPU on both sides.
+     * By default batches are not compressed.
+     */
+    public void setShouldCompressCommandBatches(boolean shouldCompressCommandBatches) {
+        this.shouldCompressCommandBatches = shouldCompressCommandBatches;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the command batcher, creating it if commands are batched.
+     * This also provides access to the batching statistics.
+     */
+    public CommandBatcher getCommandBatcher() {
+        CommandBatcher batcher = this.commandBatcher;
+        if ((batcher == null) && shouldBatchCommands()) {
+            synchronized (this) {
+                batcher = this.commandBatcher;
+                if (batcher == null) {
+                    batcher = new CommandBatcher(this, this.commandBatchSize, this.commandBatchDelay, this.commandBatchQueueSize, this.shouldCompressCommandBatches);
+                    this.commandBatcher = batcher;
+                }
+            }
+        }
+        return batcher;
+    }
 }
@@ -261,12 +261,16 @@ protected void addDescriptorPropertyLines(NonreflectiveMethodDefinition method,
         if ((!descriptor.isChildDescriptor()) && !descriptor.isDescriptorTypeAggregate() && (!descriptor.isDescriptorForInterface())) {
             if (descriptor.shouldUseFullIdentityMap()) {
                 method.addLine("descriptor.useFullIdentityMap();");
+            } else if (descriptor.shouldUseConcurrentIdentityMap()) {
+                method.addLine("descriptor.useConcurrentIdentityMap();");
             } else if (descriptor.shouldUseCacheIdentityMap()) {
                 method.addLine("descriptor.useCacheIdentityMap();");
             } else if (descriptor.shouldUseSoftCacheWeakIdentityMap()) {
                 method.addLine("descriptor.useSoftCacheWeakIdentityMap();");
             } else if (descriptor.shouldUseHardCacheWeakIdentityMap()) {
                 method.addLine("descriptor.useHardCacheWeakIdentityMap();");
+            } else if (descriptor.shouldUseLFUCacheWeakIdentityMap()) {
+                method.addLine("descriptor.useLFUCacheWeakIdentityMap();");
             } else if (descriptor.shouldUseWeakIdentityMap()) {
                 method.addLine("descriptor.useWeakIdentityMap();");
             } else if (descriptor.shouldUseSoftIdentityMap()) {
@@ -73,6 +73,10 @@ public class ClientSession extends AbstractSession {
     protected ServerSession parent;
     protected ConnectionPolicy connectionPolicy;
     protected Map<String, Accessor> writeConnections;
+
+    /** The write connection of each thread writing in parallel in this session's transaction, null if not writing in parallel. */
+    protected Map<Thread, Collection<Accessor>> parallelWriteConnections;
+
     protected boolean isActive;
     protected Sequencing sequencing;
 
@@ -87,10 +91,11 @@ public ClientSession(ServerSession parent, ConnectionPolicy connectionPolicy) {
     public ClientSession(ServerSession parent, ConnectionPolicy connectionPolicy, Map properties) {
         super();
         // If we have table per tenant descriptors let's clone the project so
-        // that we can have a separate jpql parse cache for each tenant.
+        // that we can have a separate jpql parse cache and query plan cache for each tenant.
         if (parent.hasTablePerTenantDescriptors() || parent.getProject().getMultitenantPolicy() != null) {
             this.project = parent.getProject().clone();
             this.project.setJPQLParseCacheMaxSize(parent.getProject().getJPQLParseCache().getMaxSize());
+            this.project.setQueryPlanCacheMaxSize(parent.getProject().getQueryPlanCacheMaxSize());
         } else {
             this.project = parent.getProject();
         }
@@ -273,6 +278,13 @@ public Object executeCall(Call call, AbstractRecord translationRow, DatabaseQuer
         if ((!isInTransaction() || (query.isObjectLevelReadQuery() && ((ObjectLevelReadQuery)query).isReadOnly())) && !isExclusiveIsolatedClientSession() ) {
             return this.parent.executeCall(call, translationRow, query);
         }
+        if ((this.parallelWriteConnections != null) && (query.getAccessors() == null)) {
+            // The thread writes a group of objects in parallel on its own connection.
+            Collection<Accessor> accessors = this.parallelWriteConnections.get(Thread.currentThread());
+            if (accessors != null) {
+                query.setAccessors(accessors);
+            }
+        }
         boolean shouldReleaseConnection = false;
         if (query.getAccessors() == null) {
             // First check for a partitioning policy.
@@ -604,6 +616,26 @@ public Map<String, Accessor> getWriteConnections() {
         return this.writeConnections;
     }
 
+    /**
+     * INTERNAL:
+     * Return the write connection of each thread writing in parallel in this session's transaction,
+     * or null if not writing in parallel.
+     * @see org.eclipse.persistence.internal.sessions.ParallelCommitExecutor
+     */
+    public Map<Thread, Collection<Accessor>> getParallelWriteConnections() {
+        return parallelWriteConnections;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the write connection of each thread writing in parallel in this session's transaction.
+     * The calls of these threads are executed on their connection instead of the session's write connection.
+     * The map must be thread safe.
+     */
+    public void setParallelWriteConnections(Map<Thread, Collection<Accessor>> parallelWriteConnections) {
+        this.parallelWriteConnections = parallelWriteConnections;
+    }
+
     /**
      * INTERNAL:
      * Return the connection to be used for database modification.
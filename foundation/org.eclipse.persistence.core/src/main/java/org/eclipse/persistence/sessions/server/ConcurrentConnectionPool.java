@@ -0,0 +1,804 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.server;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.Login;
+
+/**
+ * <p>
+ * <b>Purpose</b>: A connection pool for highly concurrent access to internal connections.
+ * <p>
+ * <b>Description</b>: Unlike {@link ConnectionPool}, acquiring and releasing connections does not
+ * synchronize on the pool. A thread first tries the connection it last used, then any free connection,
+ * then creates a connection if the pool is not at its maximum size. Otherwise it waits, in arrival order,
+ * for a released connection to be handed off to it, until the wait timeout.
+ * <p>
+ * Free connections idle longer than the validation interval are validated before they are returned.
+ * Connections held longer than the leak detection threshold are logged with the stack that acquired them.
+ * <p>
+ * If shared, connections are not exclusive and concurrent reads use the least busy connection,
+ * as in {@link ReadConnectionPool}.
+ *
+ * @see ServerSession
+ * @since EclipseLink 5.0
+ */
+public class ConcurrentConnectionPool extends ConnectionPool {
+    protected static final int FREE = 0;
+    protected static final int IN_USE = 1;
+    protected static final int REMOVED = -1;
+
+    /** Maximum time in milliseconds a waiting thread sleeps before checking the pool again. */
+    protected static final long WAIT_SLICE = 100;
+
+    /** Whether connections are shared by concurrent readers. */
+    protected boolean isShared;
+
+    /** Time in milliseconds a connection can be idle before it is validated, -1 to never validate. */
+    protected long validationInterval;
+
+    /** Time in milliseconds a connection can be in use before it is reported as leaked, 0 to disable. */
+    protected long leakDetectionThreshold;
+
+    protected CopyOnWriteArrayList<PooledConnection> connections;
+    protected Map<Accessor, PooledConnection> pooledConnections;
+    protected AtomicInteger totalConnections;
+    protected AtomicInteger waiters;
+    protected SynchronousQueue<PooledConnection> handoffQueue;
+    protected ThreadLocal<WeakReference<PooledConnection>> lastUsedConnection;
+
+    protected final LongAdder acquires = new LongAdder();
+    protected final LongAdder threadAffinityHits = new LongAdder();
+    protected final LongAdder waits = new LongAdder();
+    protected final LongAdder waitTime = new LongAdder();
+    protected final LongAdder timeouts = new LongAdder();
+    protected final LongAdder handoffs = new LongAdder();
+    protected final LongAdder connectionsCreated = new LongAdder();
+    protected final LongAdder connectionsClosed = new LongAdder();
+    protected final LongAdder validations = new LongAdder();
+    protected final LongAdder validationFailures = new LongAdder();
+    protected final LongAdder leaks = new LongAdder();
+
+    /**
+     * PUBLIC:
+     * A connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool() {
+        super();
+        this.validationInterval = -1;
+    }
+
+    /**
+     * PUBLIC:
+     * A connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool(String name, Login login, ServerSession owner) {
+        super(name, login, owner);
+        this.validationInterval = -1;
+    }
+
+    /**
+     * PUBLIC:
+     * A connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool(String name, Login login, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+        super(name, login, minNumberOfConnections, maxNumberOfConnections, owner);
+        this.validationInterval = -1;
+    }
+
+    /**
+     * PUBLIC:
+     * A connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool(String name, Login login, int initialNumberOfConnections, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+        super(name, login, initialNumberOfConnections, minNumberOfConnections, maxNumberOfConnections, owner);
+        this.validationInterval = -1;
+    }
+
+    /**
+     * INTERNAL:
+     * Build a concurrent pool with the settings of the pool.
+     */
+    public static ConcurrentConnectionPool buildFrom(ConnectionPool pool, ServerSession owner) {
+        ConcurrentConnectionPool concurrentPool = new ConcurrentConnectionPool(pool.getName(), pool.getLogin(), pool.getInitialNumberOfConnections(),
+                pool.getMinNumberOfConnections(), pool.getMaxNumberOfConnections(), owner);
+        concurrentPool.setWaitTimeout(pool.getWaitTimeout());
+        concurrentPool.setFailoverConnectionPools(pool.getFailoverConnectionPools());
+        concurrentPool.setIsShared(pool instanceof ReadConnectionPool);
+        return concurrentPool;
+    }
+
+    /**
+     * INTERNAL:
+     * Wait until a connection is available and allocate the connection for the client.
+     */
+    @Override
+    public Accessor acquireConnection() throws ConcurrencyException {
+        // Check for dead database and fail-over.
+        if (this.isDead) {
+            return failover();
+        }
+        Accessor connection;
+        if (this.isShared) {
+            connection = acquireSharedConnection();
+        } else {
+            connection = acquireExclusiveConnection();
+        }
+        if ((connection != null) && this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+            Object[] args = new Object[1];
+            args[0] = this.name;
+            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "acquire_connection", args, connection);
+        }
+        return connection;
+    }
+
+    /**
+     * INTERNAL:
+     * Borrow a free connection, create one, or wait for one to be released.
+     */
+    protected Accessor acquireExclusiveConnection() {
+        this.acquires.increment();
+        // Fast path: the connection last used by this thread.
+        WeakReference<PooledConnection> reference = this.lastUsedConnection.get();
+        if (reference != null) {
+            PooledConnection pooled = reference.get();
+            if ((pooled != null) && pooled.state.compareAndSet(FREE, IN_USE)) {
+                this.threadAffinityHits.increment();
+                Accessor connection = borrow(pooled);
+                if (connection != null) {
+                    return connection;
+                }
+            }
+        }
+        Accessor connection = borrowFree();
+        if (connection != null) {
+            return connection;
+        }
+        if (reserveConnection()) {
+            return createConnection();
+        }
+        return waitForConnection();
+    }
+
+    /**
+     * INTERNAL:
+     * Borrow any free connection.
+     */
+    protected Accessor borrowFree() {
+        for (PooledConnection pooled : this.connections) {
+            if (pooled.state.compareAndSet(FREE, IN_USE)) {
+                Accessor connection = borrow(pooled);
+                if (connection != null) {
+                    return connection;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Reserve space for a new connection if the pool is not at its maximum size.
+     */
+    protected boolean reserveConnection() {
+        while (true) {
+            int total = this.totalConnections.get();
+            if (total >= this.maxNumberOfConnections) {
+                return false;
+            }
+            if (this.totalConnections.compareAndSet(total, total + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Create a new connection in use by the caller, the space for it must have been reserved.
+     */
+    protected Accessor createConnection() {
+        Accessor connection;
+        try {
+            connection = buildConnection();
+        } catch (RuntimeException failed) {
+            this.totalConnections.decrementAndGet();
+            if (!this.failoverConnectionPools.isEmpty()) {
+                this.isDead = true;
+                this.timeOfDeath = System.currentTimeMillis();
+                this.owner.logThrowable(SessionLog.WARNING, SessionLog.SQL, failed);
+                return acquireConnection();
+            } else {
+                throw failed;
+            }
+        }
+        this.connectionsCreated.increment();
+        PooledConnection pooled = new PooledConnection(connection, this.isShared ? FREE : IN_USE);
+        this.pooledConnections.put(connection, pooled);
+        this.connections.add(pooled);
+        if (!this.isShared) {
+            borrowed(pooled);
+        }
+        return connection;
+    }
+
+    /**
+     * INTERNAL:
+     * Wait for a connection to be released or for space to create one.
+     */
+    protected Accessor waitForConnection() {
+        this.waits.increment();
+        long start = System.nanoTime();
+        long deadline = (this.waitTimeout > 0) ? (start + TimeUnit.MILLISECONDS.toNanos(this.waitTimeout)) : Long.MAX_VALUE;
+        this.waiters.incrementAndGet();
+        try {
+            while (true) {
+                // Connections released before this thread started waiting are not handed off.
+                Accessor connection = borrowFree();
+                if (connection != null) {
+                    return connection;
+                }
+                if (reserveConnection()) {
+                    return createConnection();
+                }
+                checkForLeakedConnections();
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    this.timeouts.increment();
+                    throw ConcurrencyException.waitTimeoutForConnection(this.name, this.waitTimeout);
+                }
+                PooledConnection pooled = this.handoffQueue.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(WAIT_SLICE)), TimeUnit.NANOSECONDS);
+                if ((pooled != null) && pooled.state.compareAndSet(FREE, IN_USE)) {
+                    this.handoffs.increment();
+                    connection = borrow(pooled);
+                    if (connection != null) {
+                        return connection;
+                    }
+                }
+            }
+        } catch (InterruptedException exception) {
+            throw ConcurrencyException.waitFailureOnClientSession(exception);
+        } finally {
+            this.waiters.decrementAndGet();
+            this.waitTime.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Validate the connection that has been marked in use and record the borrow.
+     * Return null if the connection failed validation and was removed.
+     */
+    protected Accessor borrow(PooledConnection pooled) {
+        Accessor connection = pooled.connection;
+        // EclipseLink has encountered a problem with a connection where the database no longer responded,
+        // check the connections until one is valid, in case of a database failover.
+        boolean shouldValidate = this.checkConnections && this.owner.getLogin().isConnectionHealthValidatedOnError();
+        if (!shouldValidate && (this.validationInterval >= 0)) {
+            // PERF: Avoid validating connections that were used recently.
+            shouldValidate = (System.currentTimeMillis() - pooled.lastAccess) > this.validationInterval;
+        }
+        if (shouldValidate) {
+            this.validations.increment();
+            if (this.owner.getServerPlatform().wasFailureCommunicationBased(null, connection, this.owner)) {
+                this.validationFailures.increment();
+                remove(pooled);
+                try {
+                    //connection failed connect test
+                    connection.closeConnection();
+                } catch (Exception ex) {
+                    //ignore
+                } finally {
+                    connection.releaseCustomizer();
+                }
+                return null;
+            }
+        }
+        this.checkConnections = false;
+        borrowed(pooled);
+        return connection;
+    }
+
+    /**
+     * INTERNAL:
+     * Record the connection has been borrowed by the current thread.
+     */
+    protected void borrowed(PooledConnection pooled) {
+        pooled.borrowTime = System.currentTimeMillis();
+        pooled.borrowThread = Thread.currentThread().getName();
+        if (this.leakDetectionThreshold > 0) {
+            pooled.borrowStack = Thread.currentThread().getStackTrace();
+            pooled.isLeakReported = false;
+        }
+        this.lastUsedConnection.set(pooled.reference);
+        if (this.owner.isInProfile()) {
+            this.owner.updateProfile(MONITOR_HEADER + this.name, getNumberOfConnectionsInUse());
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Use the least busy connection, creating a new connection if all are busy and the pool is not at its maximum size.
+     */
+    protected Accessor acquireSharedConnection() {
+        this.acquires.increment();
+        PooledConnection leastBusy = null;
+        int leastCallCount = Integer.MAX_VALUE;
+        for (PooledConnection pooled : this.connections) {
+            int callCount = pooled.connection.getCallCount();
+            if (callCount < leastCallCount) {
+                leastBusy = pooled;
+                leastCallCount = callCount;
+                if (callCount == 0) {
+                    break;
+                }
+            }
+        }
+        if ((leastBusy != null) && this.checkConnections) {
+            Accessor connection = borrow(leastBusy);
+            if (connection == null) {
+                return acquireSharedConnection();
+            }
+        }
+        Accessor connection;
+        if (((leastBusy == null) || (leastCallCount != 0)) && reserveConnection()) {
+            connection = createConnection();
+            if (connection.getPool() != this) {
+                // Acquired from a fail-over pool.
+                return connection;
+            }
+        } else if (leastBusy == null) {
+            // All connections were removed concurrently, and the pool is full of reservations.
+            connection = waitForConnection();
+            if (connection.getPool() != this) {
+                // Acquired from a fail-over pool.
+                return connection;
+            }
+            // The connection was borrowed while waiting, it remains free to be shared.
+            PooledConnection pooled = this.pooledConnections.get(connection);
+            if (pooled != null) {
+                pooled.state.set(FREE);
+            }
+        } else {
+            connection = leastBusy.connection;
+        }
+        connection.incrementCallCount(getOwner());
+        return connection;
+    }
+
+    /**
+     * INTERNAL:
+     * Concurrent reads are supported if the connections are shared.
+     */
+    @Override
+    public boolean hasConnectionAvailable() {
+        if (this.isShared) {
+            return true;
+        }
+        for (PooledConnection pooled : this.connections) {
+            if (pooled.state.get() == FREE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the connection to the pool, handing it off to a waiting thread if there is one.
+     */
+    @Override
+    public void releaseConnection(Accessor connection) throws DatabaseException {
+        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+            Object[] args = new Object[1];
+            args[0] = this.name;
+            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "release_connection", args, connection);
+        }
+        PooledConnection pooled = this.pooledConnections.get(connection);
+        if (this.isShared) {
+            connection.decrementCallCount();
+            if (!connection.isValid()) {
+                this.checkConnections = true;
+                if (pooled != null) {
+                    remove(pooled);
+                }
+                try {
+                    connection.disconnect(getOwner());
+                } catch (Exception ignore) {
+                    // Invalid connection, so expect an exception.
+                }
+            }
+            return;
+        }
+        connection.reset();
+        if (pooled == null) {
+            // Not a connection of this pool, or the pool was shut down.
+            try {
+                connection.disconnect(getOwner());
+            } catch (DatabaseException ignore) {
+                // Ignore.
+            }
+            return;
+        }
+        pooled.borrowStack = null;
+        if (!connection.isValid()) {
+            this.checkConnections = true;
+            remove(pooled);
+            try {
+                connection.disconnect(this.owner);
+            } catch (DatabaseException ex) {
+                //this is an invalid connection so expect an exception.
+            }
+        } else if ((this.totalConnections.get() > this.minNumberOfConnections) && (this.waiters.get() == 0)) {
+            remove(pooled);
+            connection.disconnect(getOwner());
+        } else {
+            pooled.lastAccess = System.currentTimeMillis();
+            pooled.state.set(FREE);
+            handoff(pooled);
+        }
+        if (this.owner.isInProfile()) {
+            this.owner.updateProfile(MONITOR_HEADER + this.name, getNumberOfConnectionsInUse());
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Offer the free connection to the waiting threads until one takes it, or another thread borrows it.
+     */
+    protected void handoff(PooledConnection pooled) {
+        for (int attempt = 0; this.waiters.get() > 0; attempt++) {
+            if ((pooled.state.get() != FREE) || this.handoffQueue.offer(pooled)) {
+                return;
+            }
+            if ((attempt & 0xff) == 0xff) {
+                LockSupport.parkNanos(10000);
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Remove the connection from the pool, the caller is responsible for disconnecting it.
+     */
+    protected void remove(PooledConnection pooled) {
+        if (pooled.state.getAndSet(REMOVED) == REMOVED) {
+            return;
+        }
+        if (this.connections.remove(pooled)) {
+            this.totalConnections.decrementAndGet();
+        }
+        this.pooledConnections.remove(pooled.connection);
+        this.connectionsClosed.increment();
+    }
+
+    /**
+     * PUBLIC:
+     * Log the connections that have been in use longer than the leak detection threshold,
+     * with the stack that acquired them, and return the number of new leaks found.
+     * This is also called while threads wait for a connection.
+     */
+    public int checkForLeakedConnections() {
+        if ((this.leakDetectionThreshold <= 0) || this.isShared) {
+            return 0;
+        }
+        int found = 0;
+        long now = System.currentTimeMillis();
+        for (PooledConnection pooled : this.connections) {
+            if ((pooled.state.get() == IN_USE) && !pooled.isLeakReported && ((now - pooled.borrowTime) > this.leakDetectionThreshold)) {
+                pooled.isLeakReported = true;
+                found++;
+                this.leaks.increment();
+                StackTraceElement[] stack = pooled.borrowStack;
+                StringBuilder trace = new StringBuilder();
+                if (stack != null) {
+                    // Skip the frames of getStackTrace and the pool itself.
+                    for (int index = 3; index < stack.length; index++) {
+                        trace.append(System.lineSeparator()).append("\tat ").append(stack[index]);
+                    }
+                }
+                Object[] args = {this.name, now - pooled.borrowTime, pooled.borrowThread, trace.toString()};
+                this.owner.log(SessionLog.WARNING, SessionLog.CONNECTION, "connection_leak_detected", args);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * INTERNAL:
+     * Returns the connections currently available for use in the pool.
+     * The list is a snapshot, it is not updated by the pool.
+     */
+    @Override
+    public List<Accessor> getConnectionsAvailable() {
+        List<Accessor> available = new ArrayList<>();
+        for (PooledConnection pooled : this.connections) {
+            if (this.isShared || (pooled.state.get() == FREE)) {
+                available.add(pooled.connection);
+            }
+        }
+        return available;
+    }
+
+    /**
+     * Return a snapshot of the connections that are being used.
+     */
+    @Override
+    protected List<Accessor> getConnectionsUsed() {
+        List<Accessor> used = new ArrayList<>();
+        if (!this.isShared) {
+            for (PooledConnection pooled : this.connections) {
+                if (pooled.state.get() == IN_USE) {
+                    used.add(pooled.connection);
+                }
+            }
+        }
+        return used;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the total number of connections currently in use.
+     */
+    @Override
+    public int getTotalNumberOfConnections() {
+        return this.connections.size();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of connections borrowed from the pool.
+     */
+    public int getNumberOfConnectionsInUse() {
+        if (this.isShared) {
+            int inUse = 0;
+            for (PooledConnection pooled : this.connections) {
+                if (pooled.connection.getCallCount() > 0) {
+                    inUse++;
+                }
+            }
+            return inUse;
+        }
+        return getConnectionsUsed().size();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of threads waiting for a connection.
+     */
+    public int getNumberOfWaitingThreads() {
+        return this.waiters.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Reset the connections on shutDown and when the pool is started.
+     */
+    @Override
+    public void resetConnections() {
+        super.resetConnections();
+        this.connections = new CopyOnWriteArrayList<>();
+        this.pooledConnections = new ConcurrentHashMap<>();
+        this.totalConnections = new AtomicInteger();
+        this.waiters = new AtomicInteger();
+        this.handoffQueue = new SynchronousQueue<>(true);
+        this.lastUsedConnection = new ThreadLocal<>();
+    }
+
+    /**
+     * INTERNAL:
+     * Disconnect all connections.
+     */
+    @Override
+    public synchronized void shutDown() {
+        setIsConnected(false);
+        for (PooledConnection pooled : this.connections) {
+            try {
+                pooled.connection.disconnect(getOwner());
+            } catch (DatabaseException exception) {
+                // Ignore.
+            }
+        }
+        resetConnections();
+    }
+
+    /**
+     * INTERNAL:
+     * Allocate the initial connections.
+     */
+    @Override
+    public synchronized void startUp() {
+        if (isConnected()) {
+            return;
+        }
+        for (int index = getInitialNumberOfConnections(); index > 0; index--) {
+            if (!reserveConnection()) {
+                break;
+            }
+            Accessor connection;
+            try {
+                connection = buildConnection();
+            } catch (RuntimeException failed) {
+                this.totalConnections.decrementAndGet();
+                throw failed;
+            }
+            this.connectionsCreated.increment();
+            PooledConnection pooled = new PooledConnection(connection, FREE);
+            this.pooledConnections.put(connection, pooled);
+            this.connections.add(pooled);
+        }
+        setIsConnected(true);
+    }
+
+    /**
+     * PUBLIC:
+     * Return whether connections are shared by concurrent readers, as in {@link ReadConnectionPool}.
+     */
+    public boolean isShared() {
+        return isShared;
+    }
+
+    /**
+     * PUBLIC:
+     * Set whether connections are shared by concurrent readers, as in {@link ReadConnectionPool}.
+     * This requires that the JDBC connection supports concurrent read access.
+     * This must be set before the pool is started.
+     */
+    public void setIsShared(boolean isShared) {
+        this.isShared = isShared;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the time in milliseconds a free connection can be idle before it is validated when acquired.
+     * The default is -1, connections are only validated after a communication failure.
+     */
+    public long getValidationInterval() {
+        return validationInterval;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the time in milliseconds a free connection can be idle before it is validated when acquired.
+     * Connections used more recently are returned without validation.
+     * A value of 0 validates every connection acquired, -1 only validates after a communication failure.
+     */
+    public void setValidationInterval(long validationInterval) {
+        this.validationInterval = validationInterval;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the time in milliseconds a connection can be in use before it is reported as leaked.
+     */
+    public long getLeakDetectionThreshold() {
+        return leakDetectionThreshold;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the time in milliseconds a connection can be in use before it is reported as leaked.
+     * Leaked connections are logged with the stack that acquired them,
+     * which is captured on each acquire while leak detection is enabled.
+     * The default is 0, leak detection is disabled.
+     */
+    public void setLeakDetectionThreshold(long leakDetectionThreshold) {
+        this.leakDetectionThreshold = leakDetectionThreshold;
+    }
+
+    public long getAcquires() {
+        return this.acquires.sum();
+    }
+
+    public long getThreadAffinityHits() {
+        return this.threadAffinityHits.sum();
+    }
+
+    public long getWaits() {
+        return this.waits.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Return the total time in nanoseconds threads waited for a connection.
+     */
+    public long getWaitTime() {
+        return this.waitTime.sum();
+    }
+
+    public long getTimeouts() {
+        return this.timeouts.sum();
+    }
+
+    public long getHandoffs() {
+        return this.handoffs.sum();
+    }
+
+    public long getConnectionsCreated() {
+        return this.connectionsCreated.sum();
+    }
+
+    public long getConnectionsClosed() {
+        return this.connectionsClosed.sum();
+    }
+
+    public long getValidations() {
+        return this.validations.sum();
+    }
+
+    public long getValidationFailures() {
+        return this.validationFailures.sum();
+    }
+
+    public long getLeaks() {
+        return this.leaks.sum();
+    }
+
+    /**
+     * PUBLIC:
+     * Reset the statistics of the pool to 0.
+     */
+    public void resetStatistics() {
+        this.acquires.reset();
+        this.threadAffinityHits.reset();
+        this.waits.reset();
+        this.waitTime.reset();
+        this.timeouts.reset();
+        this.handoffs.reset();
+        this.connectionsCreated.reset();
+        this.connectionsClosed.reset();
+        this.validations.reset();
+        this.validationFailures.reset();
+        this.leaks.reset();
+    }
+
+    /**
+     * INTERNAL:
+     * A connection of the pool and its state.
+     */
+    protected static class PooledConnection {
+        protected final Accessor connection;
+        protected final AtomicInteger state;
+        protected final WeakReference<PooledConnection> reference;
+        protected volatile long lastAccess;
+        protected volatile long borrowTime;
+        protected volatile String borrowThread;
+        protected volatile StackTraceElement[] borrowStack;
+        protected volatile boolean isLeakReported;
+
+        protected PooledConnection(Accessor connection, int state) {
+            this.connection = connection;
+            this.state = new AtomicInteger(state);
+            this.reference = new WeakReference<>(this);
+            this.lastAccess = System.currentTimeMillis();
+        }
+    }
+}
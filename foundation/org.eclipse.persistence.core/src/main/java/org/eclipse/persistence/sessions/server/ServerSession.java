@@ -28,6 +28,7 @@
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
 import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
 import org.eclipse.persistence.internal.sequencing.SequencingServer;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
@@ -44,6 +45,7 @@
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -1027,6 +1029,36 @@ protected void updateStandardConnectionPools() {
                 setReadConnectionPool(this.readConnectionPool.getLogin());
             }
         }
+
+        if (ConcurrencyUtil.SINGLETON.isVirtualThreadMode()) {
+            useConcurrentConnectionPools();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Replace the internal connection pools with concurrent connection pools with the same settings.
+     * Used in virtual thread mode, as threads waiting for a connection of a {@link ConcurrentConnectionPool}
+     * do not wait on the pool's monitor. Custom pool subclasses are left as they are.
+     */
+    protected void useConcurrentConnectionPools() {
+        Map<ConnectionPool, ConnectionPool> replacedPools = new IdentityHashMap<>();
+        for (Map.Entry<String, ConnectionPool> entry : this.connectionPools.entrySet()) {
+            ConnectionPool pool = entry.getValue();
+            if ((pool.getClass() == ConnectionPool.class) || (pool.getClass() == ReadConnectionPool.class)) {
+                ConnectionPool concurrentPool = ConcurrentConnectionPool.buildFrom(pool, this);
+                entry.setValue(concurrentPool);
+                replacedPools.put(pool, concurrentPool);
+            }
+        }
+        ConnectionPool pool = this.readConnectionPool;
+        if (pool != null) {
+            if (replacedPools.containsKey(pool)) {
+                this.readConnectionPool = replacedPools.get(pool);
+            } else if ((pool.getClass() == ConnectionPool.class) || (pool.getClass() == ReadConnectionPool.class)) {
+                this.readConnectionPool = ConcurrentConnectionPool.buildFrom(pool, this);
+            }
+        }
     }
 
     /**
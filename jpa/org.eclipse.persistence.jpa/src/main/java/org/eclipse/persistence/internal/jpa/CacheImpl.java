@@ -28,6 +28,7 @@
 import jakarta.persistence.Cache;
 import jakarta.persistence.PersistenceException;
 
+import org.eclipse.persistence.descriptors.CacheStatistics;
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
@@ -494,6 +495,40 @@ public Object getId(Object object) {
         }
     }
 
+    /**
+     * Returns the cache usage statistics of the Class type, or null if they are not recorded.
+     * @see JpaCache#getStatistics(Class)
+     */
+    @Override
+    public CacheStatistics getStatistics(Class<?> cls) {
+        getEntityManagerFactory().verifyOpen();
+        return getDescriptorForClass(cls).getCachePolicy().getStatistics();
+    }
+
+    /**
+     * Sets if the cache usage statistics of the Class type are recorded.
+     * @see JpaCache#setShouldRecordStatistics(Class, boolean)
+     */
+    @Override
+    public void setShouldRecordStatistics(Class<?> cls, boolean shouldRecordStatistics) {
+        getEntityManagerFactory().verifyOpen();
+        getDescriptorForClass(cls).getCachePolicy().setShouldRecordStatistics(shouldRecordStatistics);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the descriptor of the Class type, an IllegalArgumentException is thrown if it is not a persistent type.
+     */
+    protected ClassDescriptor getDescriptorForClass(Class<?> cls) {
+        ClassDescriptor descriptor = getSession().getDescriptor(cls);
+        if (descriptor == null) {
+            throw new IllegalArgumentException(ExceptionLocalization.buildMessage(
+                    "cache_impl_class_has_no_descriptor_is_not_a_persistent_type",
+                    new Object[] {cls}));
+        }
+        return descriptor;
+    }
+
     @Override
     public <T> T unwrap(Class<T> cls) {
         if (cls.equals(JpaCache.class)){
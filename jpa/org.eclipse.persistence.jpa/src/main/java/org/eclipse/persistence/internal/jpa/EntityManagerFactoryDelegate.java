@@ -156,6 +156,9 @@ public class EntityManagerFactoryDelegate implements EntityManagerFactory, Persi
     /** Order updates by id to avoid potential deadlocks. Default is true. */
     protected CommitOrderType commitOrder = CommitOrderType.ID;
 
+    /** Default maximum number of threads inserting new objects in parallel on commit. */
+    protected int parallelFlushThreads = 1;
+
     protected boolean commitWithoutPersistRules;
 
     /** Pointer to the EntityManagerFactoryImpl that created me */
@@ -456,6 +459,10 @@ protected void processProperties(Map properties) {
         if (commitOrder != null) {
             this.commitOrder = CommitOrderType.valueOf(commitOrder.toUpperCase(Locale.ROOT));
         }
+        String parallelFlushThreads = PropertiesHandler.getPropertyValueLogDebug(EntityManagerProperties.PERSISTENCE_CONTEXT_UNSAFE_PARALLEL_FLUSH, properties, this.session, true);
+        if (parallelFlushThreads != null) {
+            this.parallelFlushThreads = EntityManagerImpl.parseParallelFlushThreads(parallelFlushThreads);
+        }
         String flushClearCache = PropertiesHandler.getPropertyValueLogDebug(EntityManagerProperties.FLUSH_CLEAR_CACHE, properties, this.session, true);
         if (flushClearCache != null) {
             this.flushClearCache = flushClearCache;
@@ -816,6 +823,20 @@ public void setCommitOrder(CommitOrderType commitOrder) {
         this.commitOrder = commitOrder;
     }
 
+    /**
+     * Return the maximum number of threads inserting new objects in parallel on commit.
+     */
+    public int getParallelFlushThreads() {
+        return parallelFlushThreads;
+    }
+
+    /**
+     * Set the maximum number of threads inserting new objects in parallel on commit.
+     */
+    public void setParallelFlushThreads(int parallelFlushThreads) {
+        this.parallelFlushThreads = parallelFlushThreads;
+    }
+
     @Override
     public void addNamedQuery(String name, Query query) {
         DatabaseQuery unwrapped = (DatabaseQuery) query.unwrap(DatabaseQuery.class).clone();
@@ -832,6 +832,20 @@ public void setCommitOrder(CommitOrderType commitOrder) {
         delegate.setCommitOrder(commitOrder);
     }
 
+    /**
+     * Return the maximum number of threads inserting new objects in parallel on commit.
+     */
+    public int getParallelFlushThreads() {
+        return delegate.getParallelFlushThreads();
+    }
+
+    /**
+     * Set the maximum number of threads inserting new objects in parallel on commit.
+     */
+    public void setParallelFlushThreads(int parallelFlushThreads) {
+        delegate.setParallelFlushThreads(parallelFlushThreads);
+    }
+
     @Override
     public void addNamedQuery(String name, Query query) {
         QueryImpl queryImpl = query.unwrap(QueryImpl.class);
@@ -259,6 +259,9 @@ protected enum OperationType {FIND, REFRESH, LOCK}
     /** Allow updates to be ordered by id to avoid possible deadlocks. */
     protected org.eclipse.persistence.sessions.UnitOfWork.CommitOrderType commitOrder;
 
+    /** The maximum number of threads inserting new objects in parallel on commit. */
+    protected int parallelFlushThreads;
+
     protected boolean commitWithoutPersistRules;
 
     /** Tracks if this EntityManager should automatically associate with the transaction or not*/
@@ -339,6 +342,14 @@ void process(String name, Object value, EntityManagerImpl em) {
                     em.extendedPersistenceContext.setCommitOrder(em.commitOrder);
                 }
             }});
+            put(EntityManagerProperties.PERSISTENCE_CONTEXT_UNSAFE_PARALLEL_FLUSH, new PropertyProcessor() {
+            @Override
+            void process(String name, Object value, EntityManagerImpl em) {
+                em.parallelFlushThreads = parseParallelFlushThreads(getPropertiesHandlerProperty(name, String.valueOf(value)));
+                if (em.hasActivePersistenceContext()) {
+                    em.extendedPersistenceContext.setParallelFlushThreads(em.parallelFlushThreads);
+                }
+            }});
             put(EntityManagerProperties.FLUSH_CLEAR_CACHE, new PropertyProcessor() {
             @Override
             void process(String name, Object value, EntityManagerImpl em) {
@@ -502,6 +513,7 @@ public EntityManagerImpl(EntityManagerFactoryDelegate factory, Map properties, S
         this.flushClearCache = factory.getFlushClearCache();
         this.shouldValidateExistence = factory.shouldValidateExistence();
         this.commitOrder = factory.getCommitOrder();
+        this.parallelFlushThreads = factory.getParallelFlushThreads();
         this.isOpen = true;
         this.cacheStoreBypass = false;
         this.syncType = syncType;
@@ -2204,6 +2216,7 @@ public RepeatableWriteUnitOfWork getActivePersistenceContext(Object txn) {
             this.extendedPersistenceContext.setFlushClearCache(this.flushClearCache);
             this.extendedPersistenceContext.setShouldValidateExistence(this.shouldValidateExistence);
             this.extendedPersistenceContext.setCommitOrder(this.commitOrder);
+            this.extendedPersistenceContext.setParallelFlushThreads(this.parallelFlushThreads);
             this.extendedPersistenceContext.setShouldCascadeCloneToJoinedRelationship(true);
             this.extendedPersistenceContext.setShouldStoreByPassCache(this.cacheStoreBypass);
             if (txn != null) {
@@ -2380,6 +2393,17 @@ protected static String getPropertiesHandlerProperty(String name, String value)
         return PropertiesHandler.getPropertyValue(name, value);
     }
 
+    /**
+     * Return the maximum number of threads inserting new objects in parallel on commit.
+     */
+    protected static int parseParallelFlushThreads(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException invalid) {
+            throw ValidationException.invalidValueForProperty(value, EntityManagerProperties.PERSISTENCE_CONTEXT_UNSAFE_PARALLEL_FLUSH, invalid);
+        }
+    }
+
     protected void setEntityTransactionWrapper() {
         transaction = new EntityTransactionWrapper(this);
     }
@@ -209,6 +209,7 @@
 import org.eclipse.persistence.internal.databaseaccess.BatchWritingMechanism;
 import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
 import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
+import org.eclipse.persistence.internal.databaseaccess.StatementCache;
 import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
 import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy.LockOnChange;
 import org.eclipse.persistence.internal.helper.ClassConstants;
@@ -217,6 +218,8 @@
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.helper.JPAClassLoaderHolder;
 import org.eclipse.persistence.internal.helper.JPAConversionManager;
+import org.eclipse.persistence.internal.identitymaps.CachePreloader;
+import org.eclipse.persistence.internal.identitymaps.CacheRowSnapshot;
 import org.eclipse.persistence.internal.identitymaps.IdentityMap;
 import org.eclipse.persistence.internal.jpa.deployment.BeanValidationInitializationHelper;
 import org.eclipse.persistence.internal.jpa.deployment.PersistenceUnitProcessor;
@@ -292,6 +295,7 @@
 import org.eclipse.persistence.sessions.serializers.JavaSerializer;
 import org.eclipse.persistence.sessions.serializers.Serializer;
 import org.eclipse.persistence.sessions.server.ConnectionPolicy;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ExternalConnectionPool;
 import org.eclipse.persistence.sessions.server.ReadConnectionPool;
@@ -827,6 +831,10 @@ public Object handleException(RuntimeException exception) {
 
                             // Generate the DDL using the correct connection.
                             writeDDL(deployProperties, getDatabaseSession(deployProperties), classLoaderToUse);
+
+                            // Warm the cache, once the tables exist.
+                            restoreCacheSnapshot(deployProperties);
+                            startCachePreload(deployProperties);
                         }
                     }
                     // Initialize platform specific identity sequences.
@@ -1496,7 +1504,47 @@ protected static Object buildObjectForClass(Class<?> clazz, Class<?> mustBeImple
     protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
         String queryCache = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.QUERY_CACHE, m, session);
         if ((queryCache != null) && queryCache.equalsIgnoreCase("true")) {
-            session.getProject().setDefaultQueryResultsCachePolicy(new QueryResultsCachePolicy());
+            QueryResultsCachePolicy queryCachePolicy = new QueryResultsCachePolicy();
+            String trackDependencies = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.QUERY_CACHE_TRACK_DEPENDENCIES, m, session);
+            if ((trackDependencies != null) && trackDependencies.equalsIgnoreCase("true")) {
+                queryCachePolicy.setShouldTrackDependencies(true);
+            }
+            session.getProject().setDefaultQueryResultsCachePolicy(queryCachePolicy);
+        }
+        String queryCacheMaxSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.QUERY_CACHE_MAX_SIZE, m, session);
+        if (queryCacheMaxSize != null) {
+            try {
+                session.getProject().setQueryResultsCacheMaximumSize(Long.parseLong(queryCacheMaxSize.trim()));
+            } catch (NumberFormatException exception) {
+                session.handleException(ValidationException.invalidValueForProperty(queryCacheMaxSize, PersistenceUnitProperties.QUERY_CACHE_MAX_SIZE, exception));
+            }
+        }
+        String queryPlanCacheSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.QUERY_PLAN_CACHE_SIZE, m, session);
+        if (queryPlanCacheSize != null) {
+            try {
+                session.getProject().setQueryPlanCacheMaxSize(Integer.parseInt(queryPlanCacheSize.trim()));
+            } catch (NumberFormatException exception) {
+                session.handleException(ValidationException.invalidValueForProperty(queryPlanCacheSize, PersistenceUnitProperties.QUERY_PLAN_CACHE_SIZE, exception));
+            }
+        }
+        String jpqlParseCacheSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.JPQL_PARSE_CACHE_SIZE, m, session);
+        if (jpqlParseCacheSize != null) {
+            try {
+                session.getProject().setJPQLParseCacheMaxSize(Integer.parseInt(jpqlParseCacheSize.trim()));
+            } catch (NumberFormatException exception) {
+                session.handleException(ValidationException.invalidValueForProperty(jpqlParseCacheSize, PersistenceUnitProperties.JPQL_PARSE_CACHE_SIZE, exception));
+            }
+        }
+        String expressionQueryCacheSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.EXPRESSION_QUERY_CACHE_SIZE, m, session);
+        if (expressionQueryCacheSize != null) {
+            try {
+                int maxSize = Integer.parseInt(expressionQueryCacheSize.trim());
+                for (ClassDescriptor descriptor : session.getProject().getDescriptors().values()) {
+                    descriptor.getQueryManager().setExpressionQueryCacheMaxSize(maxSize);
+                }
+            } catch (NumberFormatException exception) {
+                session.handleException(ValidationException.invalidValueForProperty(expressionQueryCacheSize, PersistenceUnitProperties.EXPRESSION_QUERY_CACHE_SIZE, exception));
+            }
         }
         String queryCacheForceDeferredLocks = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CACHE_QUERY_FORCE_DEFERRED_LOCKS, m, session);
         if ((queryCacheForceDeferredLocks != null) && queryCacheForceDeferredLocks.equalsIgnoreCase("true")) {
@@ -1508,10 +1556,22 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
         Map typeMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_TYPE_, m, session);
         Map sizeMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_SIZE_, m, session);
         Map sharedMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_SHARED_, m, session);
-        if(typeMap.isEmpty() && sizeMap.isEmpty() && sharedMap.isEmpty()) {
+        Map preloadMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_PRELOAD_, m, session);
+        Map statisticsMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_STATISTICS_, m, session);
+        if(typeMap.isEmpty() && sizeMap.isEmpty() && sharedMap.isEmpty() && preloadMap.isEmpty() && statisticsMap.isEmpty()) {
             return;
         }
 
+        int hotKeySize = 0;
+        String hotKeySizeString = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CACHE_STATISTICS_HOT_KEYS, m, session);
+        if (hotKeySizeString != null) {
+            try {
+                hotKeySize = Integer.parseInt(hotKeySizeString.trim());
+            } catch (NumberFormatException exception) {
+                this.session.handleException(ValidationException.invalidValueForProperty(hotKeySizeString, PersistenceUnitProperties.CACHE_STATISTICS_HOT_KEYS, exception));
+            }
+        }
+
         String defaultTypeName = (String)typeMap.remove(PersistenceUnitProperties.DEFAULT);
         if (defaultTypeName != null) {
             // Always use the EclipseLink class loader, otherwise can have loader/redeployment issues.
@@ -1535,8 +1595,13 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
                         ? CacheIsolationType.SHARED : CacheIsolationType.ISOLATED);
             }
 
+            // The default preload applies to each descriptor, as there is no project level setting.
+            String defaultPreloadString = (String)preloadMap.remove(PersistenceUnitProperties.DEFAULT);
+            String defaultStatisticsString = (String)statisticsMap.remove(PersistenceUnitProperties.DEFAULT);
+
             Iterator<ClassDescriptor> it = session.getDescriptors().values().iterator();
-            while (it.hasNext() && (!typeMap.isEmpty() || !sizeMap.isEmpty() || !sharedMap.isEmpty())) {
+            while (it.hasNext() && (!typeMap.isEmpty() || !sizeMap.isEmpty() || !sharedMap.isEmpty() || !preloadMap.isEmpty() || defaultPreloadString != null
+                    || !statisticsMap.isEmpty() || defaultStatisticsString != null)) {
                 ClassDescriptor descriptor = it.next();
 
                 if (descriptor.isDescriptorTypeAggregate()) {
@@ -1580,12 +1645,112 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
                     boolean shared = Boolean.parseBoolean(sharedString);
                     descriptor.setCacheIsolation(shared ? CacheIsolationType.SHARED : CacheIsolationType.ISOLATED);
                 }
+
+                name = entityName;
+                String preloadString = (String)preloadMap.remove(name);
+                if (preloadString == null) {
+                    name = className;
+                    preloadString = (String)preloadMap.remove(name);
+                }
+                if (preloadString == null) {
+                    preloadString = defaultPreloadString;
+                }
+                if (preloadString != null) {
+                    descriptor.getCachePolicy().setShouldPreload(Boolean.parseBoolean(preloadString));
+                }
+
+                name = entityName;
+                String statisticsString = (String)statisticsMap.remove(name);
+                if (statisticsString == null) {
+                    name = className;
+                    statisticsString = (String)statisticsMap.remove(name);
+                }
+                if (statisticsString == null) {
+                    statisticsString = defaultStatisticsString;
+                }
+                if (statisticsString != null) {
+                    descriptor.getCachePolicy().setStatisticsHotKeySize(hotKeySize);
+                    descriptor.getCachePolicy().setShouldRecordStatistics(Boolean.parseBoolean(statisticsString));
+                }
             }
         } catch (NumberFormatException exception) {
             this.session.handleException(ValidationException.invalidValueForProperty(value, PersistenceUnitProperties.CACHE_SIZE_, exception));
         }
     }
 
+    /**
+     * Restore the shared cache from the eclipselink.cache.snapshot file,
+     * and write the file again when the session logs out.
+     */
+    protected void restoreCacheSnapshot(Map m) {
+        if (isCompositeMember() || isComposite()) {
+            return;
+        }
+        String fileName = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CACHE_SNAPSHOT, m, session);
+        if (fileName == null) {
+            return;
+        }
+        CacheRowSnapshot snapshot = new CacheRowSnapshot(session, new File(fileName));
+        try {
+            snapshot.restore();
+        } catch (Exception exception) {
+            session.log(SessionLog.WARNING, SessionLog.CACHE, "cache_snapshot_read_failed", new Object[] {fileName, exception});
+        }
+        session.getEventManager().addListener(snapshot);
+    }
+
+    /**
+     * Start the background preload of the entities configured to be preloaded,
+     * using the eclipselink.cache.preload-* properties.
+     */
+    protected void startCachePreload(Map m) {
+        if (isCompositeMember() || isComposite()) {
+            return;
+        }
+        boolean shouldPreload = false;
+        for (ClassDescriptor descriptor : session.getDescriptors().values()) {
+            if (CachePreloader.shouldPreload(descriptor)) {
+                shouldPreload = true;
+                break;
+            }
+        }
+        if (!shouldPreload) {
+            return;
+        }
+        CachePreloader preloader = new CachePreloader(session);
+        String value = null;
+        String property = null;
+        try {
+            property = PersistenceUnitProperties.CACHE_PRELOAD_THREADS;
+            value = getConfigPropertyAsStringLogDebug(property, m, session);
+            if (value != null) {
+                preloader.setThreads(Integer.parseInt(value));
+            }
+            property = PersistenceUnitProperties.CACHE_PRELOAD_BATCH_SIZE;
+            value = getConfigPropertyAsStringLogDebug(property, m, session);
+            if (value != null) {
+                preloader.setBatchSize(Integer.parseInt(value));
+            }
+            property = PersistenceUnitProperties.CACHE_PRELOAD_DELAY;
+            value = getConfigPropertyAsStringLogDebug(property, m, session);
+            if (value != null) {
+                preloader.setDelay(Long.parseLong(value));
+            }
+            property = PersistenceUnitProperties.CACHE_PRELOAD_SNAPSHOT_SIZE;
+            value = getConfigPropertyAsStringLogDebug(property, m, session);
+            if (value != null) {
+                preloader.setSnapshotSize(Integer.parseInt(value));
+            }
+        } catch (NumberFormatException exception) {
+            this.session.handleException(ValidationException.invalidValueForProperty(value, property, exception));
+        }
+        String snapshot = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CACHE_PRELOAD_SNAPSHOT, m, session);
+        if (snapshot != null) {
+            preloader.setSnapshotFile(new File(snapshot));
+        }
+        preloader.start();
+    }
+
     /**
      * Process all properties under "eclipselink.connection-pool.".
      * This allows for named connection pools.
@@ -1596,6 +1761,21 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
         if (connectionsMap.isEmpty()) {
             return;
         }
+        // Concurrent pools are built first so the other settings are applied to them.
+        Set<String> concurrentPools = new HashSet<>();
+        for (Map.Entry<String, Object> entry : connectionsMap.entrySet()) {
+            String key = entry.getKey();
+            if (key.equals(PersistenceUnitProperties.CONNECTION_POOL_CONCURRENT)) {
+                if (Boolean.parseBoolean((String)entry.getValue())) {
+                    concurrentPools.add("default");
+                }
+            } else if (key.endsWith('.' + PersistenceUnitProperties.CONNECTION_POOL_CONCURRENT)) {
+                if (Boolean.parseBoolean((String)entry.getValue())) {
+                    String poolName = key.substring(0, key.indexOf('.'));
+                    concurrentPools.add(poolName.equals("write") ? "default" : poolName);
+                }
+            }
+        }
         for (Map.Entry<String, Object> entry : connectionsMap.entrySet()) {
             String poolName = "default";
             String attribute = null;
@@ -1618,6 +1798,8 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
                     if ((pool == null) || (pool == serverSession.getDefaultConnectionPool())) {
                         if (this.session.getDatasourceLogin().shouldUseExternalConnectionPooling()) {
                             pool = new ExternalConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
+                        } else if (concurrentPools.contains(poolName)) {
+                            pool = new ConcurrentConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
                         } else {
                             pool = new ConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
                         }
@@ -1628,6 +1810,8 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
                     if (pool == null) {
                         if (this.session.getDatasourceLogin().shouldUseExternalConnectionPooling()) {
                             pool = new ExternalConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
+                        } else if (concurrentPools.contains(poolName)) {
+                            pool = new ConcurrentConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
                         } else {
                             pool = new ConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
                         }
@@ -1638,12 +1822,17 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
                     if (pool == null) {
                         if (this.session.getDatasourceLogin().shouldUseExternalConnectionPooling()) {
                             pool = new ExternalConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
+                        } else if (concurrentPools.contains(poolName)) {
+                            pool = new ConcurrentConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
                         } else {
                             pool = new ConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
                         }
                         serverSession.addConnectionPool(pool);
                     }
                 }
+                if (concurrentPools.contains(poolName) && !(pool instanceof ConcurrentConnectionPool) && !(pool instanceof ExternalConnectionPool)) {
+                    pool = replaceWithConcurrentConnectionPool(serverSession, poolName, pool);
+                }
                 if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_INITIAL)) {
                     pool.setInitialNumberOfConnections(Integer.parseInt((String)entry.getValue()));
                 } else if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_MIN)) {
@@ -1677,9 +1866,19 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
                     } else {
                         pool.addFailoverConnectionPool((String)entry.getValue());
                     }
+                } else if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_VALIDATION_INTERVAL)) {
+                    if (pool instanceof ConcurrentConnectionPool) {
+                        ((ConcurrentConnectionPool)pool).setValidationInterval(Long.parseLong((String)entry.getValue()));
+                    }
+                } else if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_LEAK_DETECTION_THRESHOLD)) {
+                    if (pool instanceof ConcurrentConnectionPool) {
+                        ((ConcurrentConnectionPool)pool).setLeakDetectionThreshold(Long.parseLong((String)entry.getValue()));
+                    }
                 } else if (poolName.equals("read") && attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_SHARED)) {
                     boolean shared = Boolean.parseBoolean((String)entry.getValue());
-                    if (shared) {
+                    if (pool instanceof ConcurrentConnectionPool) {
+                        ((ConcurrentConnectionPool)pool).setIsShared(shared);
+                    } else if (shared) {
                         ReadConnectionPool readPool = new ReadConnectionPool(poolName, serverSession.getDatasourceLogin(), serverSession);
                         readPool.setInitialNumberOfConnections(pool.getInitialNumberOfConnections());
                         readPool.setMinNumberOfConnections(pool.getMinNumberOfConnections());
@@ -1695,6 +1894,24 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
         }
     }
 
+    /**
+     * Replace the connection pool with a concurrent connection pool with the same settings.
+     */
+    protected ConnectionPool replaceWithConcurrentConnectionPool(ServerSession serverSession, String poolName, ConnectionPool pool) {
+        ConcurrentConnectionPool concurrentPool = ConcurrentConnectionPool.buildFrom(pool, serverSession);
+        if (poolName.equals("read")) {
+            serverSession.setReadConnectionPool(concurrentPool);
+        } else if (poolName.equals("sequence")) {
+            getDatabaseSession().getSequencingControl().setConnectionPool(concurrentPool);
+        } else {
+            if (serverSession.getReadConnectionPool() == pool) {
+                serverSession.setReadConnectionPool(concurrentPool);
+            }
+            serverSession.addConnectionPool(concurrentPool);
+        }
+        return concurrentPool;
+    }
+
     protected void updateConnectionPolicy(ServerSession serverSession, Map m) {
         String isLazyString = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.EXCLUSIVE_CONNECTION_IS_LAZY, m, session);
         if(isLazyString != null) {
@@ -2349,6 +2566,28 @@ protected void updateCacheCoordination(Map m, ClassLoader loader) {
                 if (threadPoolSize != null) {
                     this.session.getServerPlatform().setThreadPoolSize(Integer.parseInt(threadPoolSize));
                 }
+                String batchSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_BATCH_SIZE, m, this.session);
+                if (batchSize != null) {
+                    property = PersistenceUnitProperties.COORDINATION_BATCH_SIZE;
+                    value = batchSize;
+                    rcm.setCommandBatchSize(Integer.parseInt(batchSize));
+                }
+                String batchDelay = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_BATCH_DELAY, m, this.session);
+                if (batchDelay != null) {
+                    property = PersistenceUnitProperties.COORDINATION_BATCH_DELAY;
+                    value = batchDelay;
+                    rcm.setCommandBatchDelay(Long.parseLong(batchDelay));
+                }
+                String batchQueueSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_BATCH_QUEUE_SIZE, m, this.session);
+                if (batchQueueSize != null) {
+                    property = PersistenceUnitProperties.COORDINATION_BATCH_QUEUE_SIZE;
+                    value = batchQueueSize;
+                    rcm.setCommandBatchQueueSize(Integer.parseInt(batchQueueSize));
+                }
+                String batchCompress = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_BATCH_COMPRESS, m, this.session);
+                if (batchCompress != null) {
+                    rcm.setShouldCompressCommandBatches(batchCompress.equalsIgnoreCase("true"));
+                }
                 String channel = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_CHANNEL, m, this.session);
                 if (channel != null) {
                     rcm.setChannel(channel);
@@ -2904,6 +3143,7 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateAllowExtendedThreadLoggingThreadDump(m);
             updateAllowQueryResultsCacheValidation(m);
             updateTemporalMutableSetting(m);
+            updateGeneratedAccessorsSetting(m);
             updateTableCreationSettings(m);
             updateIndexForeignKeys(m);
             if (!session.hasBroker()) {
@@ -2941,6 +3181,7 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateConcurrencyManagerNoOfThreadsAllowedToDoWriteLockManagerAcquireRequiredLocksInParallel(m);
             updateConcurrencySemaphoreMaxTimePermit(m);
             updateConcurrencySemaphoreLogTimeout(m);
+            updateConcurrencyManagerVirtualThreadMode(m);
             // Customizers should be processed last
             processDescriptorCustomizers(m, loader);
             processSessionCustomizer(m, loader);
@@ -3236,11 +3477,17 @@ protected void updateBatchWritingSetting(Map persistenceProperties, ClassLoader
         String batchWritingSettingString = PropertiesHandler.getPropertyValueLogDebug(PersistenceUnitProperties.BATCH_WRITING, persistenceProperties, this.session);
         if (batchWritingSettingString != null) {
              this.session.getPlatform().setUsesBatchWriting(batchWritingSettingString != BatchWriting.None);
+            this.session.getPlatform().setUsesPipelinedBatchWriting(batchWritingSettingString == BatchWriting.JDBCPipelined);
+            this.session.getPlatform().setUsesMultiRowInsertBatchWriting(batchWritingSettingString == BatchWriting.JDBCMultiRowInsert);
             switch (batchWritingSettingString) {
                 case BatchWriting.JDBC -> {
                     this.session.getPlatform().setUsesJDBCBatchWriting(true);
                     this.session.getPlatform().setUsesNativeBatchWriting(false);
                 }
+                case BatchWriting.JDBCPipelined, BatchWriting.JDBCMultiRowInsert -> {
+                    this.session.getPlatform().setUsesJDBCBatchWriting(true);
+                    this.session.getPlatform().setUsesNativeBatchWriting(false);
+                }
                 case BatchWriting.Buffered -> {
                     this.session.getPlatform().setUsesJDBCBatchWriting(false);
                     this.session.getPlatform().setUsesNativeBatchWriting(false);
@@ -3281,6 +3528,33 @@ protected void updateBatchWritingSetting(Map persistenceProperties, ClassLoader
                 session.handleException(ValidationException.invalidValueForProperty(sizeString, PersistenceUnitProperties.BATCH_WRITING_SIZE, invalid));
             }
         }
+        // Set pipeline depth.
+        String depthString = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.BATCH_WRITING_PIPELINE_DEPTH, persistenceProperties, this.session);
+        if (depthString != null) {
+            try {
+                this.session.getPlatform().setMaxPipelinedBatches(Integer.parseInt(depthString));
+            } catch (NumberFormatException invalid) {
+                session.handleException(ValidationException.invalidValueForProperty(depthString, PersistenceUnitProperties.BATCH_WRITING_PIPELINE_DEPTH, invalid));
+            }
+        }
+        // Set bulk updates.
+        String bulkUpdateString = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.BATCH_WRITING_BULK_UPDATE, persistenceProperties, this.session);
+        if (bulkUpdateString != null) {
+            this.session.getPlatform().setUsesBulkUpdateBatchWriting(bulkUpdateString.equalsIgnoreCase("true"));
+        }
+        // Set fetch size autotuning.
+        String fetchSizeAutotuningString = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.JDBC_FETCH_SIZE_AUTOTUNING, persistenceProperties, this.session);
+        if (fetchSizeAutotuningString != null) {
+            this.session.getPlatform().setUsesFetchSizeAutotuning(fetchSizeAutotuningString.equalsIgnoreCase("true"));
+        }
+        String memoryBudgetString = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.JDBC_FETCH_SIZE_AUTOTUNING_MEMORY_BUDGET, persistenceProperties, this.session);
+        if (memoryBudgetString != null) {
+            try {
+                this.session.getPlatform().setFetchSizeAutotuningMemoryBudget(Long.parseLong(memoryBudgetString));
+            } catch (NumberFormatException invalid) {
+                session.handleException(ValidationException.invalidValueForProperty(memoryBudgetString, PersistenceUnitProperties.JDBC_FETCH_SIZE_AUTOTUNING_MEMORY_BUDGET, invalid));
+            }
+        }
     }
 
     /**
@@ -3402,6 +3676,16 @@ protected void updateSequencing(Map m){
                this.session.handleException(ValidationException.invalidBooleanValueForProperty(useTable, PersistenceUnitProperties.SEQUENCING_SEQUENCE_DEFAULT));
            }
         }
+        String adaptive = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.SEQUENCING_ADAPTIVE_PREALLOCATION, m, session);
+        if (adaptive != null) {
+           if (adaptive.equalsIgnoreCase("true")) {
+               this.session.getPlatform().setDefaultSequenceAdaptivePreallocation(true);
+           } else if (adaptive.equalsIgnoreCase("false")) {
+               this.session.getPlatform().setDefaultSequenceAdaptivePreallocation(false);
+           } else {
+               this.session.handleException(ValidationException.invalidBooleanValueForProperty(adaptive, PersistenceUnitProperties.SEQUENCING_ADAPTIVE_PREALLOCATION));
+           }
+        }
     }
 
     protected void updateSequencingStart(Map m) {
@@ -3598,6 +3882,26 @@ protected void updateCacheStatementSettings(Map m){
                 session.handleException(ValidationException.invalidCacheStatementsSize(cacheStatementsSize,e.getMessage()));
             }
         }
+
+        // Set statement cache policy if specified.
+        String cacheStatementsPolicy = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CACHE_STATEMENTS_POLICY, m, session);
+        if (cacheStatementsPolicy != null) {
+            if (cacheStatementsPolicy.equalsIgnoreCase(StatementCache.LRU) || cacheStatementsPolicy.equalsIgnoreCase(StatementCache.LFU)) {
+                session.getProject().getLogin().setStatementCachePolicy(cacheStatementsPolicy.toUpperCase(Locale.ROOT));
+            } else {
+                session.handleException(ValidationException.invalidValueForProperty(cacheStatementsPolicy, PersistenceUnitProperties.CACHE_STATEMENTS_POLICY, null));
+            }
+        }
+
+        // Set the number of pinned statements if specified.
+        String cacheStatementsPinned = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CACHE_STATEMENTS_PINNED, m, session);
+        if (cacheStatementsPinned != null) {
+            try {
+                session.getProject().getLogin().setStatementCachePinnedSize(Integer.parseInt(cacheStatementsPinned));
+            } catch (NumberFormatException e) {
+                session.handleException(ValidationException.invalidValueForProperty(cacheStatementsPinned, PersistenceUnitProperties.CACHE_STATEMENTS_PINNED, e));
+            }
+        }
     }
 
     /**
@@ -3685,6 +3989,23 @@ protected void updateTemporalMutableSetting(Map m) {
         }
     }
 
+    /**
+     * Enable or disable the default generated accessors setting.
+     * The method needs to be called in deploy stage.
+     */
+    protected void updateGeneratedAccessorsSetting(Map m) {
+        String generatedAccessors = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.GENERATED_ACCESSORS, m, session);
+        if (generatedAccessors != null) {
+            if (generatedAccessors.equalsIgnoreCase("true")) {
+               session.getProject().setDefaultUsesGeneratedAccessors(true);
+            } else if (generatedAccessors.equalsIgnoreCase("false")) {
+               session.getProject().setDefaultUsesGeneratedAccessors(false);
+            } else {
+                session.handleException(ValidationException.invalidBooleanValueForProperty(generatedAccessors, PersistenceUnitProperties.GENERATED_ACCESSORS));
+            }
+        }
+    }
+
     /**
      * Copy named queries defined in EclipseLink descriptor into the session if it was indicated to do so.
      */
@@ -3923,6 +4244,13 @@ private void updateConcurrencySemaphoreLogTimeout(Map persistenceProperties) {
         }
     }
 
+    private void updateConcurrencyManagerVirtualThreadMode(Map persistenceProperties) {
+        String virtualThreadMode = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CONCURRENCY_MANAGER_VIRTUAL_THREAD_MODE, persistenceProperties, session);
+        if (virtualThreadMode != null) {
+            ConcurrencyUtil.SINGLETON.setVirtualThreadMode(Boolean.parseBoolean(virtualThreadMode));
+        }
+    }
+
     /**
      * Enable or disable extended logging of JPA L2 cache usage.
      * The method needs to be called in deploy stage.
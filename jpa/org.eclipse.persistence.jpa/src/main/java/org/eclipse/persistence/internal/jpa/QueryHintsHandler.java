@@ -283,6 +283,7 @@ protected static abstract class Hint {
             addHint(new PartitioningHint());
             addHint(new QueryCacheHint());
             addHint(new QueryCacheSizeHint());
+            addHint(new QueryCacheMaxBytesHint());
             addHint(new QueryCacheExpiryHint());
             addHint(new QueryCacheExpiryTimeOfDayHint());
             addHint(new MaintainCacheHint());
@@ -316,6 +317,7 @@ protected static abstract class Hint {
             addHint(new QueryCacheTypeHint());
             addHint(new QueryCacheIgnoreNullHint());
             addHint(new QueryCacheInvalidateOnChangeHint());
+            addHint(new QueryCacheTrackDependenciesHint());
             addHint(new QueryCacheRandomizedExpiryHint());
             // 325167: Make reserved # bind parameter char generic to enable native SQL pass through
             addHint(new ParameterDelimiterHint());
@@ -1376,6 +1378,33 @@ DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, Cla
         }
     }
 
+    /**
+     * Define the query cache track dependencies hint.
+     * Only reset the query cache if unset (as other query cache properties may be set first).
+     */
+    protected static class QueryCacheTrackDependenciesHint extends Hint {
+        QueryCacheTrackDependenciesHint() {
+            super(QueryHints.QUERY_RESULTS_CACHE_TRACK_DEPENDENCIES, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.FALSE, Boolean.FALSE},
+                {HintValues.TRUE, Boolean.TRUE}
+            };
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isReadQuery()) {
+                if (((ReadQuery)query).getQueryResultsCachePolicy() == null) {
+                    ((ReadQuery)query).cacheQueryResults();
+                }
+                ((ReadQuery)query).getQueryResultsCachePolicy().setShouldTrackDependencies((Boolean) valueToApply);
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
     /**
      * Define the query cache randomized expiry hint.
      * Only reset the query cache if unset (as other query cache properties may be set first).
@@ -1434,6 +1463,34 @@ DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, Cla
         }
     }
 
+    /**
+     * Define the query cache maximum bytes hint.
+     * Only reset the query cache if unset (as other query cache properties may be set first).
+     */
+    protected static class QueryCacheMaxBytesHint extends Hint {
+        QueryCacheMaxBytesHint() {
+            super(QueryHints.QUERY_RESULTS_CACHE_MAX_BYTES, "");
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isReadQuery()) {
+                ReadQuery readQuery = (ReadQuery)query;
+                if (readQuery.getQueryResultsCachePolicy() == null) {
+                    readQuery.cacheQueryResults();
+                }
+                try {
+                    readQuery.getQueryResultsCachePolicy().setMaximumCachedBytes(Long.parseLong(String.valueOf(valueToApply)));
+                } catch (NumberFormatException exception) {
+                    throw QueryException.queryHintContainedInvalidIntegerValue(QueryHints.QUERY_RESULTS_CACHE_MAX_BYTES, valueToApply, exception);
+                }
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
     /**
      * Define the query cache expiry hint.
      * Only reset the query cache if unset (as other query cache properties may be set first).
@@ -1485,12 +1542,16 @@ DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, Cla
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.SoftCacheWeakIdentityMap_Class);
                 } else if (valueToApply.equals(CacheType.FULL.name())) {
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.FullIdentityMap_Class);
+                } else if (valueToApply.equals(CacheType.CONCURRENT.name())) {
+                    readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.ConcurrentIdentityMap_Class);
                 } else if (valueToApply.equals(CacheType.WEAK.name())) {
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.WeakIdentityMap_Class);
                 }  else if (valueToApply.equals(CacheType.SOFT.name())) {
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.SoftIdentityMap_Class);
                 } else if (valueToApply.equals(CacheType.HARD_WEAK.name())) {
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.HardCacheWeakIdentityMap_Class);
+                } else if (valueToApply.equals(CacheType.LFU_WEAK.name())) {
+                    readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.LFUCacheWeakIdentityMap_Class);
                 } else if (valueToApply.equals(CacheType.CACHE.name())) {
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.CacheIdentityMap_Class);
                 } else if (valueToApply.equals(CacheType.NONE.name())) {
@@ -113,6 +113,7 @@
 import org.eclipse.persistence.annotations.CacheIndex;
 import org.eclipse.persistence.annotations.CacheIndexes;
 import org.eclipse.persistence.annotations.CacheInterceptor;
+import org.eclipse.persistence.annotations.CachePreload;
 import org.eclipse.persistence.annotations.ExistenceChecking;
 import org.eclipse.persistence.annotations.FetchGroup;
 import org.eclipse.persistence.annotations.FetchGroups;
@@ -126,6 +127,7 @@
 import org.eclipse.persistence.annotations.SerializedObject;
 import org.eclipse.persistence.annotations.UuidGenerator;
 import org.eclipse.persistence.annotations.UuidGenerators;
+import org.eclipse.persistence.descriptors.CachePolicy;
 import org.eclipse.persistence.internal.jpa.metadata.MetadataDescriptor;
 import org.eclipse.persistence.internal.jpa.metadata.MetadataLogger;
 import org.eclipse.persistence.internal.jpa.metadata.MetadataProject;
@@ -995,6 +997,31 @@ protected void processCachingMetadata() {
         processCache();
         processCacheInterceptor();
         processCacheIndexes();
+        processCachePreload();
+    }
+
+    /**
+     * INTERNAL:
+     * Process a cache preload annotation. The preload of an inheritance root
+     * reads its subclasses, so the annotation is ignored on a subclass.
+     */
+    protected void processCachePreload() {
+        if (isAnnotationPresent(CachePreload.class) && !getDescriptor().isInheritanceSubclass()) {
+            CachePolicy cachePolicy = getDescriptor().getClassDescriptor().getCachePolicy();
+            // Entity settings override those on a mapped superclass.
+            if (!cachePolicy.shouldPreload()) {
+                MetadataAnnotation preload = getAnnotation(CachePreload.class);
+                cachePolicy.setShouldPreload(true);
+                Integer size = preload.getAttributeInteger("size");
+                if (size != null) {
+                    cachePolicy.setPreloadSize(size);
+                }
+                String query = preload.getAttributeString("query");
+                if ((query != null) && !query.isEmpty()) {
+                    cachePolicy.setPreloadQueryName(query);
+                }
+            }
+        }
     }
 
     /**
@@ -245,12 +245,16 @@ public void process(MetadataDescriptor descriptor, MetadataClass javaClass) {
             classDescriptor.useSoftCacheWeakIdentityMap();
         } else if (m_type.equals(CacheType.FULL.name())) {
             classDescriptor.getCachePolicy().useFullIdentityMap();
+        } else if (m_type.equals(CacheType.CONCURRENT.name())) {
+            classDescriptor.getCachePolicy().useConcurrentIdentityMap();
         } else if (m_type.equals(CacheType.WEAK.name())) {
             classDescriptor.getCachePolicy().useWeakIdentityMap();
         }  else if (m_type.equals(CacheType.SOFT.name())) {
             classDescriptor.getCachePolicy().useSoftIdentityMap();
         } else if (m_type.equals(CacheType.HARD_WEAK.name())) {
             classDescriptor.getCachePolicy().useHardCacheWeakIdentityMap();
+        } else if (m_type.equals(CacheType.LFU_WEAK.name())) {
+            classDescriptor.getCachePolicy().useLFUCacheWeakIdentityMap();
         } else if (m_type.equals(CacheType.CACHE.name())) {
             classDescriptor.useCacheIdentityMap();
         } else if (m_type.equals(CacheType.NONE.name())) {
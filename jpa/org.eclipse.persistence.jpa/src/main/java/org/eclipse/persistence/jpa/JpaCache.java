@@ -16,6 +16,8 @@
 
 import jakarta.persistence.Cache;
 
+import org.eclipse.persistence.descriptors.CacheStatistics;
+
 /**
  * Extends JPA Cache interface with additional EclipseLink API.
  * @author James Sutherland
@@ -162,4 +164,18 @@ public interface JpaCache extends Cache {
      */
     Object getId(Object object);
 
+    /**
+     * Returns the cache usage statistics of the Class type, or null if they are not recorded.
+     * The statistics include the hits, misses, puts, evictions, invalidations and lock waits
+     * of the cache, and optionally the most frequently hit ids.
+     * @see org.eclipse.persistence.config.PersistenceUnitProperties#CACHE_STATISTICS_
+     */
+    CacheStatistics getStatistics(Class<?> cls);
+
+    /**
+     * Sets if the cache usage statistics of the Class type are recorded.
+     * Disabling the recording discards the recorded statistics.
+     */
+    void setShouldRecordStatistics(Class<?> cls, boolean shouldRecordStatistics);
+
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.identitymaps;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.internal.identitymaps.CacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.ConcurrentIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.HardCacheWeakIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.internal.identitymaps.LFUCacheWeakIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.SoftCacheWeakIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.SoftIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.WeakIdentityMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the shared cache identity maps under concurrent reads of already built objects.
+ * Every thread reads random cached objects, which is the common case for a warm shared cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdentityMapBenchmark {
+
+    private static final int SIZE = 10000;
+
+    @Param({"Full", "SoftWeak", "HardWeak", "Cache", "Concurrent", "LFUWeak"})
+    public String mapType;
+
+    private IdentityMap map;
+    private Long[] keys;
+
+    @Setup
+    public void prepare() {
+        map = buildMap(mapType, SIZE);
+        keys = new Long[SIZE];
+        for (int index = 0; index < SIZE; index++) {
+            keys[index] = (long) index;
+            map.put(keys[index], new Object(), null, 0);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void get1(Blackhole bh) {
+        get(bh);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void get8(Blackhole bh) {
+        get(bh);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void get64(Blackhole bh) {
+        get(bh);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void readLock1(Blackhole bh) {
+        readLock(bh);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void readLock8(Blackhole bh) {
+        readLock(bh);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void readLock64(Blackhole bh) {
+        readLock(bh);
+    }
+
+    /**
+     * Cache hit as done by a read object query checking the cache.
+     */
+    private void get(Blackhole bh) {
+        bh.consume(map.get(keys[ThreadLocalRandom.current().nextInt(SIZE)]));
+    }
+
+    /**
+     * Cache hit as done by a unit of work registering (cloning) the object.
+     */
+    private void readLock(Blackhole bh) {
+        CacheKey cacheKey = map.acquireReadLockOnCacheKey(keys[ThreadLocalRandom.current().nextInt(SIZE)]);
+        bh.consume(cacheKey.getObject());
+        cacheKey.releaseReadLock();
+    }
+
+    static IdentityMap buildMap(String mapType, int size) {
+        switch (mapType) {
+            case "Full":
+                return new FullIdentityMap(size, null, null, false);
+            case "Weak":
+                return new WeakIdentityMap(size, null, null, false);
+            case "Soft":
+                return new SoftIdentityMap(size, null, null, false);
+            case "SoftWeak":
+                return new SoftCacheWeakIdentityMap(size, null, null, false);
+            case "HardWeak":
+                return new HardCacheWeakIdentityMap(size, null, null, false);
+            case "Cache":
+                return new CacheIdentityMap(size, null, null, false);
+            case "Concurrent":
+                return new ConcurrentIdentityMap(size, null, null, false);
+            case "LFUWeak":
+                return new LFUCacheWeakIdentityMap(size, null, null, false);
+            default:
+                throw new IllegalArgumentException(mapType);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.identitymaps;
+
+import java.lang.ref.Reference;
+
+import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+
+/**
+ * Reports the retained heap of each identity map type in bytes per cached entry.
+ * The primary keys and the cached object are allocated up front and shared, so only the cache key,
+ * its references and the map structure are measured.
+ * Run the main method with the core and perf test classes on the class path, optionally passing
+ * the number of entries and the map types to measure (as in {@link IdentityMapBenchmark}).
+ */
+public class IdentityMapFootprint {
+
+    private static final String[] MAP_TYPES = {"Full", "Weak", "Soft", "SoftWeak", "HardWeak", "Cache", "Concurrent", "LFUWeak"};
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int size = (args.length > 0) ? Integer.parseInt(args[0]) : 100000;
+        String[] mapTypes = MAP_TYPES;
+        if (args.length > 1) {
+            mapTypes = new String[args.length - 1];
+            System.arraycopy(args, 1, mapTypes, 0, mapTypes.length);
+        }
+        Long[] keys = new Long[size];
+        for (int index = 0; index < size; index++) {
+            keys[index] = (long) index;
+        }
+        Object object = new Object();
+        // Warm up so class loading and lazy static state are not measured.
+        for (String mapType : mapTypes) {
+            measure(mapType, keys, object);
+        }
+        System.out.printf("%-12s %14s%n", "Map type", "Bytes/entry");
+        for (String mapType : mapTypes) {
+            double best = Double.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                best = Math.min(best, measure(mapType, keys, object));
+            }
+            System.out.printf("%-12s %14.1f%n", mapType, best);
+        }
+    }
+
+    /**
+     * Return the heap retained by a map of the given type holding all the keys, per entry.
+     */
+    static double measure(String mapType, Long[] keys, Object object) {
+        long before = usedHeap();
+        IdentityMap map = IdentityMapBenchmark.buildMap(mapType, keys.length);
+        for (Long key : keys) {
+            map.put(key, object, null, 0);
+        }
+        long after = usedHeap();
+        Reference.reachabilityFence(map);
+        return (double) (after - before) / keys.length;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // Repeat until the heap settles, a single collection may leave garbage behind.
+        for (int count = 0; count < 5; count++) {
+            System.gc();
+            long current = runtime.totalMemory() - runtime.freeMemory();
+            if (current >= used) {
+                return current;
+            }
+            used = current;
+        }
+        return used;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial implementation
+package org.eclipse.persistence.testing.perf.rows;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.RecordLayout;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.performance.emulateddb.EmulatedResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares reading the rows of a result from the emulated driver and looking up their values by the mapping fields,
+ * as object building does, for the Vector backed rows, the array backed rows, and the array backed rows sharing the
+ * layout of the call. The result fields are built from the column names, in another order than the mapping fields,
+ * as for custom SQL. Run with {@code -prof gc} to compare the allocation per row ({@code gc.alloc.rate.norm} / ROWS).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RowFetchBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final String[] COLUMNS = {"ID", "STATUS", "CUSTOMER_ID", "TOTAL", "CURRENCY", "CREATED", "UPDATED", "VERSION"};
+
+    @Param({"DatabaseRecord", "ArrayRecord", "ArrayRecordLayout"})
+    public String rowType;
+
+    private AbstractSession session;
+    private DatabaseAccessor accessor;
+    private List<DatabaseRecord> rows;
+    private Vector<DatabaseField> fields;
+    private DatabaseField[] fieldsArray;
+    private DatabaseField[] mappingFields;
+
+    @Setup
+    public void prepare() {
+        session = (AbstractSession) new Project(new DatabaseLogin()).createDatabaseSession();
+        accessor = new DatabaseAccessor();
+        accessor.setDatasourcePlatform(new DatabasePlatform());
+        fields = new Vector<>();
+        for (int index = COLUMNS.length - 1; index >= 0; index--) {
+            fields.add(new DatabaseField("ORDERS." + COLUMNS[index]));
+        }
+        fieldsArray = fields.toArray(new DatabaseField[0]);
+        mappingFields = new DatabaseField[COLUMNS.length];
+        for (int index = 0; index < COLUMNS.length; index++) {
+            mappingFields[index] = new DatabaseField("ORDERS." + COLUMNS[index]);
+            mappingFields[index].setIndex(index);
+        }
+        rows = new ArrayList<>(ROWS);
+        for (int row = 0; row < ROWS; row++) {
+            DatabaseRecord record = new DatabaseRecord();
+            for (int index = 0; index < fieldsArray.length; index++) {
+                record.add(fieldsArray[index], (index % 2 == 0) ? (Object) (long) row : "value" + index);
+            }
+            rows.add(record);
+        }
+    }
+
+    @Benchmark
+    public void fetchRows(Blackhole bh) throws SQLException {
+        ResultSet resultSet = new EmulatedResultSet(rows);
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        // The layout is built once per call.
+        RecordLayout layout = rowType.equals("ArrayRecordLayout") ? new RecordLayout(fieldsArray) : null;
+        while (resultSet.next()) {
+            AbstractRecord row;
+            if (rowType.equals("DatabaseRecord")) {
+                Vector<Object> values = new Vector<>(fieldsArray.length);
+                for (int index = 0; index < fieldsArray.length; index++) {
+                    values.add(accessor.getObject(resultSet, fieldsArray[index], metaData, index + 1, accessor.getPlatform(), false, session));
+                }
+                row = new DatabaseRecord(fields, values);
+            } else {
+                row = accessor.fetchRow(fields, fieldsArray, layout, resultSet, metaData, session);
+            }
+            for (DatabaseField field : mappingFields) {
+                bh.consume(row.get(field));
+            }
+        }
+    }
+}